@@ -35,7 +35,9 @@ import hera.api.model.Subscription;
 import hera.api.model.Transaction;
 import hera.api.model.TxHash;
 import hera.api.model.TxReceipt;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A query related apis.
@@ -265,6 +267,19 @@ public interface QueryApi {
    */
   Block getBlock(long height);
 
+  /**
+   * Get blocks from {@code fromHeight} to {@code toHeight} (inclusive) in height order. Up to
+   * {@code parallelism} blocks are fetched concurrently and no more than {@code prefetch} blocks
+   * are fetched ahead of the consumer.
+   *
+   * @param fromHeight  a height to start from
+   * @param toHeight    a height to end with
+   * @param parallelism a maximum number of concurrent requests
+   * @param prefetch    a maximum number of blocks fetched ahead
+   * @return an iterator of blocks. A block is null if no matching one
+   */
+  Iterator<Block> getBlocks(long fromHeight, long toHeight, int parallelism, int prefetch);
+
   /**
    * Subscribe block metadata stream which is triggered everytime new block is generated.
    *
@@ -319,6 +334,27 @@ public interface QueryApi {
    */
   TxReceipt getTxReceipt(TxHash txHash);
 
+  /**
+   * Wait tx receipt until the transaction is included in a block.
+   *
+   * @param txHash a transaction hash
+   * @param timeout a time to wait
+   * @param unit a unit of {@code timeout}
+   * @return a receipt of transaction. null if not arrived within {@code timeout}.
+   */
+  TxReceipt awaitReceipt(TxHash txHash, long timeout, TimeUnit unit);
+
+  /**
+   * Wait tx receipts until the transactions are included in blocks.
+   *
+   * @param txHashes transaction hashes
+   * @param timeout a time to wait for all the receipts
+   * @param unit a unit of {@code timeout}
+   * @return receipts in the same order as {@code txHashes}. null for one not arrived within
+   *         {@code timeout}.
+   */
+  List<TxReceipt> awaitReceipts(List<TxHash> txHashes, long timeout, TimeUnit unit);
+
   /**
    * Get contract tx receipt.
    *
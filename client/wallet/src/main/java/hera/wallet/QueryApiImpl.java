@@ -34,7 +34,9 @@ import hera.api.model.Transaction;
 import hera.api.model.TxHash;
 import hera.api.model.TxReceipt;
 import hera.client.AergoClient;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -277,6 +279,17 @@ class QueryApiImpl extends AbstractApi implements QueryApi {
     }
   }
 
+  @Override
+  public Iterator<Block> getBlocks(final long fromHeight, final long toHeight,
+      final int parallelism, final int prefetch) {
+    try {
+      return getClient().getBlockOperation().getBlocks(fromHeight, toHeight, parallelism,
+          prefetch);
+    } catch (Exception e) {
+      throw converter.convert(e);
+    }
+  }
+
   @Override
   public Subscription<BlockMetadata> subscribeNewBlockMetadata(
       final StreamObserver<BlockMetadata> observer) {
@@ -325,6 +338,25 @@ class QueryApiImpl extends AbstractApi implements QueryApi {
     }
   }
 
+  @Override
+  public TxReceipt awaitReceipt(final TxHash txHash, final long timeout, final TimeUnit unit) {
+    try {
+      return getClient().getTransactionOperation().awaitReceipt(txHash, timeout, unit);
+    } catch (Exception e) {
+      throw converter.convert(e);
+    }
+  }
+
+  @Override
+  public List<TxReceipt> awaitReceipts(final List<TxHash> txHashes, final long timeout,
+      final TimeUnit unit) {
+    try {
+      return getClient().getTransactionOperation().awaitReceipts(txHashes, timeout, unit);
+    } catch (Exception e) {
+      throw converter.convert(e);
+    }
+  }
+
   @Override
   public ContractTxReceipt getContractTxReceipt(final TxHash contractTxHash) {
     try {
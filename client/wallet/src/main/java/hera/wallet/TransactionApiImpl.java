@@ -7,6 +7,7 @@ package hera.wallet;
 import hera.api.model.AccountAddress;
 import hera.api.model.Aer;
 import hera.api.model.BytesValue;
+import hera.api.model.CommitResult;
 import hera.api.model.ContractAddress;
 import hera.api.model.ContractDefinition;
 import hera.api.model.ContractInvocation;
@@ -210,6 +211,16 @@ class TransactionApiImpl extends AbstractApi implements TransactionApi {
     }
   }
 
+  @Override
+  public List<CommitResult> commit(final List<Transaction> signedTransactions) {
+    try {
+      // nonce can't be refreshed for signed ones
+      return getClient().getTransactionOperation().commit(signedTransactions);
+    } catch (Exception e) {
+      throw converter.convert(e);
+    }
+  }
+
   @Override
   public TxHash deploy(final ContractDefinition contractDefinition, final Fee fee) {
     try {
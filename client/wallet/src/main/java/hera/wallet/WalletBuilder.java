@@ -8,12 +8,18 @@ import hera.annotation.ApiAudience;
 import hera.annotation.ApiStability;
 import hera.api.model.Time;
 import hera.api.model.TryCountAndInterval;
+import hera.client.AccountCacheInvalidation;
 import hera.client.AergoClient;
 import hera.client.AergoClientBuilder;
+import hera.client.CircuitBreakerConfig;
 import hera.client.ClientConfiguer;
+import hera.client.OverflowPolicy;
 import hera.keystore.InMemoryKeyStore;
 import hera.keystore.KeyStore;
+import hera.strategy.BalancingStrategy;
+import hera.strategy.MetricsRegistry;
 import java.io.InputStream;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -44,6 +50,18 @@ public class WalletBuilder implements ClientConfiguer<WalletBuilder> {
     return this;
   }
 
+  @Override
+  public WalletBuilder withEndpoints(final String... endpoints) {
+    clientBuilder.withEndpoints(endpoints);
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withBalancing(final BalancingStrategy balancingStrategy) {
+    clientBuilder.withBalancing(balancingStrategy);
+    return this;
+  }
+
   @Override
   public WalletBuilder withNonBlockingConnect() {
     clientBuilder.withNonBlockingConnect();
@@ -56,18 +74,119 @@ public class WalletBuilder implements ClientConfiguer<WalletBuilder> {
     return this;
   }
 
+  @Override
+  public WalletBuilder withSharedEventLoop() {
+    clientBuilder.withSharedEventLoop();
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withSharedEventLoop(final int eventLoopThreads,
+      final int executorThreads) {
+    clientBuilder.withSharedEventLoop(eventLoopThreads, executorThreads);
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withChannelPool(final int size) {
+    clientBuilder.withChannelPool(size);
+    return this;
+  }
+
   @Override
   public WalletBuilder withTimeout(final long timeout, final TimeUnit unit) {
     clientBuilder.withTimeout(timeout, unit);
     return this;
   }
 
+  @Override
+  public WalletBuilder withBlockCache(final long maximumBytes, final int confirmationDepth) {
+    clientBuilder.withBlockCache(maximumBytes, confirmationDepth);
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withAccountCache(final long maximumSize,
+      final AccountCacheInvalidation invalidation) {
+    clientBuilder.withAccountCache(maximumSize, invalidation);
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withStreamBuffer(final int size, final OverflowPolicy overflowPolicy) {
+    clientBuilder.withStreamBuffer(size, overflowPolicy);
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withStreamExecutor(final Executor executor) {
+    clientBuilder.withStreamExecutor(executor);
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withMetrics() {
+    clientBuilder.withMetrics();
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withMetrics(final MetricsRegistry registry) {
+    clientBuilder.withMetrics(registry);
+    return this;
+  }
+
   @Override
   public WalletBuilder withRetry(final int count, final long interval, final TimeUnit unit) {
     clientBuilder.withRetry(count, interval, unit);
     return this;
   }
 
+  @Override
+  public WalletBuilder withBackoffRetry(final int count, final long initialBackoff,
+      final long maxBackoff, final TimeUnit unit) {
+    clientBuilder.withBackoffRetry(count, initialBackoff, maxBackoff, unit);
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withRetryBudget(final double ratio, final int capacity) {
+    clientBuilder.withRetryBudget(ratio, capacity);
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withHedging(final long delay, final TimeUnit unit,
+      final String... methodNames) {
+    clientBuilder.withHedging(delay, unit, methodNames);
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withPercentileHedging(final double percentile, final long initialDelay,
+      final TimeUnit unit, final String... methodNames) {
+    clientBuilder.withPercentileHedging(percentile, initialDelay, unit, methodNames);
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withCoalescing(final String... methodNames) {
+    clientBuilder.withCoalescing(methodNames);
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withCircuitBreaker() {
+    clientBuilder.withCircuitBreaker();
+    return this;
+  }
+
+  @Override
+  public WalletBuilder withCircuitBreaker(final CircuitBreakerConfig config) {
+    clientBuilder.withCircuitBreaker(config);
+    return this;
+  }
+
   @Override
   public WalletBuilder withPlainText() {
     clientBuilder.withPlainText();
@@ -4,6 +4,7 @@
 
 package hera.wallet;
 
+import static java.util.Arrays.asList;
 import static java.util.UUID.randomUUID;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -53,7 +54,9 @@ import hera.api.model.TxHash;
 import hera.api.model.TxReceipt;
 import hera.client.AergoClient;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
 
@@ -468,6 +471,23 @@ public class QueryApiImplTest extends AbstractTestCase {
     assertNotNull(block);
   }
 
+  @Test
+  public void testBlocks() {
+    // given
+    final BlockOperation mockOperation = mock(BlockOperation.class);
+    when(mockOperation.getBlocks(anyLong(), anyLong(), anyInt(), anyInt()))
+        .thenReturn(Collections.<Block>emptyIterator());
+    final AergoClient mockClient = mock(AergoClient.class);
+    when(mockClient.getBlockOperation()).thenReturn(mockOperation);
+    final ClientProvider mockClientProvider = mock(ClientProvider.class);
+    when(mockClientProvider.getClient()).thenReturn(mockClient);
+
+    // then
+    final QueryApi queryApi = new QueryApiImpl(mockClientProvider);
+    final Iterator<Block> blocks = queryApi.getBlocks(anyHeight, anyHeight + 10, 2, 4);
+    assertNotNull(blocks);
+  }
+
   @SuppressWarnings("unchecked")
   @Test
   public void testSubscribeBlockMetadata() {
@@ -570,6 +590,41 @@ public class QueryApiImplTest extends AbstractTestCase {
     assertNotNull(txReceipt);
   }
 
+  @Test
+  public void testAwaitReceipt() {
+    // given
+    final TransactionOperation mockOperation = mock(TransactionOperation.class);
+    when(mockOperation.awaitReceipt(any(TxHash.class), anyLong(), any(TimeUnit.class)))
+        .thenReturn(TxReceipt.newBuilder().build());
+    final AergoClient mockClient = mock(AergoClient.class);
+    when(mockClient.getTransactionOperation()).thenReturn(mockOperation);
+    final ClientProvider mockClientProvider = mock(ClientProvider.class);
+    when(mockClientProvider.getClient()).thenReturn(mockClient);
+
+    // then
+    final QueryApi queryApi = new QueryApiImpl(mockClientProvider);
+    final TxReceipt txReceipt = queryApi.awaitReceipt(anyTxHash, 1L, TimeUnit.SECONDS);
+    assertNotNull(txReceipt);
+  }
+
+  @Test
+  public void testAwaitReceipts() {
+    // given
+    final TransactionOperation mockOperation = mock(TransactionOperation.class);
+    when(mockOperation.awaitReceipts(ArgumentMatchers.<TxHash>anyList(), anyLong(),
+        any(TimeUnit.class))).thenReturn(asList(TxReceipt.newBuilder().build()));
+    final AergoClient mockClient = mock(AergoClient.class);
+    when(mockClient.getTransactionOperation()).thenReturn(mockOperation);
+    final ClientProvider mockClientProvider = mock(ClientProvider.class);
+    when(mockClientProvider.getClient()).thenReturn(mockClient);
+
+    // then
+    final QueryApi queryApi = new QueryApiImpl(mockClientProvider);
+    final List<TxReceipt> txReceipts = queryApi.awaitReceipts(asList(anyTxHash), 1L,
+        TimeUnit.SECONDS);
+    assertEquals(1, txReceipts.size());
+  }
+
   @Test
   public void testGetContractTxReceipt() {
     // given
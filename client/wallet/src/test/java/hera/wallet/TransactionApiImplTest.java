@@ -4,7 +4,9 @@
 
 package hera.wallet;
 
+import static java.util.Arrays.asList;
 import static java.util.UUID.randomUUID;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -19,6 +21,7 @@ import hera.api.TransactionOperation;
 import hera.api.model.AccountAddress;
 import hera.api.model.Aer;
 import hera.api.model.BytesValue;
+import hera.api.model.CommitResult;
 import hera.api.model.ContractAddress;
 import hera.api.model.ContractDefinition;
 import hera.api.model.ContractInvocation;
@@ -32,6 +35,7 @@ import hera.client.TxRequester;
 import hera.key.AergoKey;
 import hera.key.AergoKeyGenerator;
 import hera.key.Signer;
+import java.util.List;
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
 
@@ -244,6 +248,25 @@ public class TransactionApiImplTest extends AbstractTestCase {
     assertNotNull(txHash);
   }
 
+  @Test
+  public void testBatchCommit() {
+    // given
+    final TransactionOperation mockOperation = mock(TransactionOperation.class);
+    when(mockOperation.commit(ArgumentMatchers.<Transaction>anyList()))
+        .thenReturn(asList(CommitResult.newBuilder().build()));
+    final AergoClient mockClient = mock(AergoClient.class);
+    when(mockClient.getTransactionOperation()).thenReturn(mockOperation);
+    final ClientProvider mockClientProvider = mock(ClientProvider.class);
+    when(mockClientProvider.getClient()).thenReturn(mockClient);
+
+    // then
+    final AergoKey signer = new AergoKeyGenerator().create();
+    final TransactionApi transactionApi = new TransactionApiImpl(mockClientProvider, signer,
+        txRequester);
+    final List<CommitResult> commitResults = transactionApi.commit(asList(anyTransaction));
+    assertEquals(1, commitResults.size());
+  }
+
   @Test
   public void testDeploy() {
     // given
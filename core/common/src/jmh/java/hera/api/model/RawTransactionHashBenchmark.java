@@ -0,0 +1,117 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.api.model;
+
+import static hera.util.NumberUtils.positiveToByteArray;
+import static hera.util.Sha256Utils.digest;
+
+import hera.api.model.Aer.Unit;
+import hera.util.LittleEndianDataOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compare hashing a transaction before and after signing. Run with {@code -prof gc} to see
+ * allocations.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class RawTransactionHashBenchmark {
+
+  @State(Scope.Thread)
+  public static class BenchmarkContext {
+
+    @Param({"32", "1048576"})
+    protected int payloadSize;
+
+    protected RawTransaction rawTransaction;
+
+    protected Signature signature;
+
+    /**
+     * Make a transaction with a random payload of {@code payloadSize}.
+     */
+    @Setup(Level.Trial)
+    public synchronized void setUp() {
+      final Random random = new Random(0L);
+      final byte[] payload = new byte[payloadSize];
+      random.nextBytes(payload);
+      final byte[] sign = new byte[71];
+      random.nextBytes(sign);
+      final AccountAddress accountAddress =
+          new AccountAddress("AmLo9CGR3xFZPVKZ5moSVRNW1kyscY9rVkCvgrpwNJjRUPUWadC5");
+      this.rawTransaction = RawTransaction.newBuilder(ChainIdHash.of(BytesValue.EMPTY))
+          .from(accountAddress)
+          .to(accountAddress)
+          .amount("10000", Unit.AERGO)
+          .nonce(1L)
+          .fee(Fee.of(30000L))
+          .payload(BytesValue.of(payload))
+          .build();
+      this.signature = Signature.of(BytesValue.of(sign));
+    }
+  }
+
+  /**
+   * Serialize a transaction twice into a byte array as it used to be.
+   *
+   * @param context a benchmark context
+   *
+   * @return a hash with a signature
+   * @throws IOException never
+   */
+  @Benchmark
+  public TxHash serialize(final BenchmarkContext context) throws IOException {
+    serializedHash(context.rawTransaction, BytesValue.EMPTY);
+    return serializedHash(context.rawTransaction, context.signature.getSign());
+  }
+
+  @Benchmark
+  public TxHash calculateHashes(final BenchmarkContext context) {
+    context.rawTransaction.calculateHash();
+    return context.rawTransaction.calculateHash(context.signature);
+  }
+
+  /**
+   * Hash a transaction once keeping a digest state for a hash with a signature.
+   *
+   * @param context a benchmark context
+   *
+   * @return a hash with a signature
+   */
+  @Benchmark
+  public TxHash calculateSigningHash(final BenchmarkContext context) {
+    final RawTransaction.SigningHash signingHash = context.rawTransaction.calculateSigningHash();
+    signingHash.getHash();
+    return signingHash.withSignature(context.signature);
+  }
+
+  protected TxHash serializedHash(final RawTransaction rawTransaction, final BytesValue sign)
+      throws IOException {
+    final ByteArrayOutputStream raw = new ByteArrayOutputStream();
+    final LittleEndianDataOutputStream dataOut = new LittleEndianDataOutputStream(raw);
+    dataOut.writeLong(rawTransaction.getNonce());
+    dataOut.write(rawTransaction.getSender().getBytesValue().getValue());
+    dataOut.write(rawTransaction.getRecipient().getBytesValue().getValue());
+    dataOut.write(positiveToByteArray(rawTransaction.getAmount().getValue()));
+    dataOut.write(rawTransaction.getPayload().getValue());
+    dataOut.writeLong(rawTransaction.getFee().getLimit());
+    dataOut.write(positiveToByteArray(rawTransaction.getFee().getPrice().getValue()));
+    dataOut.writeInt(rawTransaction.getTxType().getIntValue());
+    dataOut.write(rawTransaction.getChainIdHash().getBytesValue().getValue());
+    dataOut.write(sign.getValue());
+    dataOut.close();
+    return TxHash.of(BytesValue.of(digest(raw.toByteArray())));
+  }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.api.model;
+
+import static hera.util.NumberUtils.positiveToByteArray;
+
+import hera.api.model.Aer.Unit;
+import hera.util.Base58Utils;
+import hera.util.LittleEndianDataOutputStream;
+import hera.util.Sha256Utils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compare looking up a sha-256 digest on every call with reusing one, on its own and as part of
+ * encoding an account address and hashing a transaction. A variant with lookup does the same work
+ * as it used to be, looking up a digest for each hash.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Sha256DigestBenchmark {
+
+  protected static final int CHECKSUM_LEN = 4;
+
+  @State(Scope.Thread)
+  public static class BenchmarkContext {
+
+    protected byte[] message;
+
+    protected BytesValue rawAddress;
+
+    protected String encodedAddress;
+
+    protected RawTransaction rawTransaction;
+
+    /**
+     * Make a message, an address and a transaction.
+     */
+    @Setup(Level.Trial)
+    public synchronized void setUp() {
+      final Random random = new Random(0L);
+      this.message = new byte[200];
+      random.nextBytes(message);
+      final AccountAddress accountAddress =
+          new AccountAddress("AmLo9CGR3xFZPVKZ5moSVRNW1kyscY9rVkCvgrpwNJjRUPUWadC5");
+      this.rawAddress = accountAddress.getBytesValue();
+      this.encodedAddress = accountAddress.getEncoded();
+      this.rawTransaction = RawTransaction.newBuilder(ChainIdHash.of(BytesValue.EMPTY))
+          .from(accountAddress)
+          .to(accountAddress)
+          .amount("10000", Unit.AERGO)
+          .nonce(1L)
+          .fee(Fee.of(30000L))
+          .build();
+    }
+  }
+
+  @Benchmark
+  public byte[] digestWithLookup(final BenchmarkContext context) throws NoSuchAlgorithmException {
+    return MessageDigest.getInstance("SHA-256").digest(context.message);
+  }
+
+  @Benchmark
+  public byte[] digest(final BenchmarkContext context) {
+    return Sha256Utils.digest(context.message);
+  }
+
+  /**
+   * Encode an address to base58 with a checksum looking up a digest for each hash.
+   *
+   * @param context a benchmark context
+   *
+   * @return an encoded address
+   * @throws NoSuchAlgorithmException never
+   */
+  @Benchmark
+  public String encodeAccountAddressWithLookup(final BenchmarkContext context)
+      throws NoSuchAlgorithmException {
+    final byte[] raw = context.rawAddress.getValue();
+    final byte[] withPrefix = new byte[raw.length + 1];
+    withPrefix[0] = AccountAddress.ADDRESS_PREFIX;
+    System.arraycopy(raw, 0, withPrefix, 1, raw.length);
+    final byte[] withCheckSum = Arrays.copyOf(withPrefix, withPrefix.length + CHECKSUM_LEN);
+    System.arraycopy(checkSumWithLookup(withPrefix), 0, withCheckSum, withPrefix.length,
+        CHECKSUM_LEN);
+    return Base58Utils.encode(withCheckSum);
+  }
+
+  @Benchmark
+  public String encodeAccountAddress(final BenchmarkContext context) {
+    return new AccountAddress(context.rawAddress).getEncoded();
+  }
+
+  /**
+   * Decode an address from base58 with a checksum looking up a digest for each hash.
+   *
+   * @param context a benchmark context
+   *
+   * @return a decoded address
+   * @throws IOException never
+   * @throws NoSuchAlgorithmException never
+   */
+  @Benchmark
+  public AccountAddress decodeAccountAddressWithLookup(final BenchmarkContext context)
+      throws IOException, NoSuchAlgorithmException {
+    final byte[] withCheckSum = Base58Utils.decode(context.encodedAddress);
+    final byte[] withPrefix = Arrays.copyOf(withCheckSum, withCheckSum.length - CHECKSUM_LEN);
+    final byte[] checkSum = Arrays.copyOfRange(withCheckSum, withPrefix.length,
+        withCheckSum.length);
+    if (!Arrays.equals(checkSum, checkSumWithLookup(withPrefix))) {
+      throw new IllegalArgumentException("Checksum is mismatch");
+    }
+    return new AccountAddress(BytesValue.of(Arrays.copyOfRange(withPrefix, 1,
+        withPrefix.length)));
+  }
+
+  @Benchmark
+  public AccountAddress decodeAccountAddress(final BenchmarkContext context) {
+    return new AccountAddress(context.encodedAddress);
+  }
+
+  /**
+   * Serialize a transaction into a byte array and hash it with a digest looked up.
+   *
+   * @param context a benchmark context
+   *
+   * @return a hash of a transaction
+   * @throws IOException never
+   * @throws NoSuchAlgorithmException never
+   */
+  @Benchmark
+  public TxHash calculateHashWithLookup(final BenchmarkContext context)
+      throws IOException, NoSuchAlgorithmException {
+    final RawTransaction rawTransaction = context.rawTransaction;
+    final ByteArrayOutputStream raw = new ByteArrayOutputStream();
+    final LittleEndianDataOutputStream dataOut = new LittleEndianDataOutputStream(raw);
+    dataOut.writeLong(rawTransaction.getNonce());
+    dataOut.write(rawTransaction.getSender().getBytesValue().getValue());
+    dataOut.write(rawTransaction.getRecipient().getBytesValue().getValue());
+    dataOut.write(positiveToByteArray(rawTransaction.getAmount().getValue()));
+    dataOut.write(rawTransaction.getPayload().getValue());
+    dataOut.writeLong(rawTransaction.getFee().getLimit());
+    dataOut.write(positiveToByteArray(rawTransaction.getFee().getPrice().getValue()));
+    dataOut.writeInt(rawTransaction.getTxType().getIntValue());
+    dataOut.write(rawTransaction.getChainIdHash().getBytesValue().getValue());
+    dataOut.close();
+    final byte[] hash = MessageDigest.getInstance("SHA-256").digest(raw.toByteArray());
+    return TxHash.of(BytesValue.of(hash));
+  }
+
+  @Benchmark
+  public TxHash calculateHash(final BenchmarkContext context) {
+    return context.rawTransaction.calculateHash();
+  }
+
+  protected byte[] checkSumWithLookup(final byte[] withPrefix) throws NoSuchAlgorithmException {
+    final byte[] hashed = MessageDigest.getInstance("SHA-256").digest(withPrefix);
+    return Arrays.copyOf(MessageDigest.getInstance("SHA-256").digest(hashed), CHECKSUM_LEN);
+  }
+
+}
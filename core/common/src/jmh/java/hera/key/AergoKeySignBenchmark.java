@@ -0,0 +1,57 @@
+package hera.key;
+
+import static hera.util.Sha256Utils.digest;
+
+import hera.util.pki.ECDSAKeyGenerator;
+import hera.util.pki.ECDSASigningEngine;
+import java.math.BigInteger;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compare generating a raw signature with a signer built on every signature and with a reusable
+ * engine. Both multiply a base point with the same fixed-point comb multiplier, so an engine saves
+ * only constructing a signer, key parameters and a k calculator with its digests per signature.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class AergoKeySignBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkContext {
+    protected AergoKey key = new AergoKeyGenerator().create();
+
+    protected BigInteger d =
+        ((org.bouncycastle.jce.interfaces.ECPrivateKey) key.getPrivateKey()).getD();
+
+    protected ECDSASigningEngine engine = new ECDSASigningEngine(d, ECDSAKeyGenerator.ecParams);
+
+    protected byte[] message = digest("message to sign".getBytes());
+  }
+
+  /**
+   * Sign with a signer built on every signature as it used to be.
+   *
+   * @param context a benchmark context
+   *
+   * @return signature components
+   */
+  @Benchmark
+  public BigInteger[] signWithSigner(final BenchmarkContext context) {
+    final ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+    signer.init(true, new ECPrivateKeyParameters(context.d, ECDSAKeyGenerator.ecParams));
+    return signer.generateSignature(context.message);
+  }
+
+  @Benchmark
+  public BigInteger[] signWithEngine(final BenchmarkContext context) {
+    return context.engine.generateSignature(context.message);
+  }
+
+}
@@ -5,11 +5,8 @@
 package hera;
 
 import static hera.util.ValidationUtils.assertNotNull;
-import static java.util.Collections.unmodifiableMap;
 import static org.slf4j.LoggerFactory.getLogger;
 
-import java.util.HashMap;
-import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.slf4j.Logger;
@@ -18,15 +15,13 @@ import org.slf4j.Logger;
 @EqualsAndHashCode
 class ContextConc implements Context {
 
-  protected static final Map<Key<?>, Object> EMPTY_KEY_VALUE_MAP = unmodifiableMap(
-      new HashMap<Key<?>, Object>());
-
   @ToString.Exclude
   protected final transient Logger logger = getLogger(getClass());
 
   protected final String scope;
 
-  protected final Map<Key<?>, Object> key2Value;
+  // shared with a parent except a path to a new entry
+  protected final HashTrie key2Value;
 
   <T> ContextConc(final Context parent, final String scope) {
     this.scope = scope;
@@ -34,19 +29,15 @@ class ContextConc implements Context {
       final ContextConc fromParent = (ContextConc) parent;
       this.key2Value = fromParent.key2Value;
     } else {
-      this.key2Value = EMPTY_KEY_VALUE_MAP;
+      this.key2Value = HashTrie.EMPTY;
     }
   }
 
   <T> ContextConc(final Context parent, final Key<T> key, final T value) {
     this.scope = parent.getScope();
-    final Map<Key<?>, Object> map = new HashMap<>();
-    if (parent instanceof ContextConc) {
-      final ContextConc fromParent = (ContextConc) parent;
-      map.putAll(fromParent.key2Value);
-    }
-    map.put(key, value);
-    this.key2Value = unmodifiableMap(map);
+    final HashTrie fromParent = parent instanceof ContextConc ? ((ContextConc) parent).key2Value
+        : HashTrie.EMPTY;
+    this.key2Value = fromParent.with(key, value);
   }
 
   @Override
@@ -0,0 +1,262 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable hash array mapped trie. Adding an entry copies only nodes on a path to it, which
+ * is at most 7 nodes of at most 32 entries, and shares all the others with an original one. A
+ * lookup visits as many nodes, and a single one for a small trie.
+ */
+final class HashTrie {
+
+  public static final HashTrie EMPTY = new HashTrie(BitmapNode.EMPTY, 0);
+
+  protected static final int BITS = 5;
+
+  protected static final int MASK = (1 << BITS) - 1;
+
+  protected final Node root;
+
+  protected final int size;
+
+  private HashTrie(final Node root, final int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  protected static int hashOf(final Object key) {
+    final int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Get a value mapped to {@code key}.
+   *
+   * @param key a key
+   * @return a value. null if not mapped
+   */
+  public Object get(final Object key) {
+    return root.get(0, hashOf(key), key);
+  }
+
+  /**
+   * Get a trie with {@code key} mapped to {@code value}.
+   *
+   * @param key a key
+   * @param value a value
+   * @return a trie with an entry added or replaced
+   */
+  public HashTrie with(final Object key, final Object value) {
+    final Added added = new Added();
+    final Node newRoot = root.with(0, hashOf(key), key, value, added);
+    if (newRoot == root) {
+      return this;
+    }
+    return new HashTrie(newRoot, added.value ? size + 1 : size);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Copy entries to a new map. It's for debugging and comparing, not for lookups.
+   *
+   * @return a map holding all the entries
+   */
+  public Map<Object, Object> toMap() {
+    final Map<Object, Object> map = new HashMap<>();
+    root.copyTo(map);
+    return map;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof HashTrie)) {
+      return false;
+    }
+    final HashTrie other = (HashTrie) obj;
+    return size == other.size && toMap().equals(other.toMap());
+  }
+
+  @Override
+  public int hashCode() {
+    return toMap().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return toMap().toString();
+  }
+
+  private static class Added {
+
+    protected boolean value = false;
+  }
+
+  private abstract static class Node {
+
+    abstract Object get(int shift, int hash, Object key);
+
+    abstract Node with(int shift, int hash, Object key, Object value, Added added);
+
+    abstract void copyTo(Map<Object, Object> map);
+  }
+
+  // an array holds a key and a value per bit set. a null key means a value is a sub node
+  private static final class BitmapNode extends Node {
+
+    protected static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+    protected final int bitmap;
+
+    protected final Object[] array;
+
+    BitmapNode(final int bitmap, final Object[] array) {
+      this.bitmap = bitmap;
+      this.array = array;
+    }
+
+    protected int indexOf(final int bit) {
+      return 2 * Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    @Override
+    Object get(final int shift, final int hash, final Object key) {
+      final int bit = 1 << ((hash >>> shift) & MASK);
+      if (0 == (bitmap & bit)) {
+        return null;
+      }
+      final int index = indexOf(bit);
+      final Object k = array[index];
+      final Object v = array[index + 1];
+      if (null == k) {
+        return ((Node) v).get(shift + BITS, hash, key);
+      }
+      return key.equals(k) ? v : null;
+    }
+
+    @Override
+    Node with(final int shift, final int hash, final Object key, final Object value,
+        final Added added) {
+      final int bit = 1 << ((hash >>> shift) & MASK);
+      final int index = indexOf(bit);
+      if (0 == (bitmap & bit)) {
+        final Object[] newArray = new Object[array.length + 2];
+        System.arraycopy(array, 0, newArray, 0, index);
+        newArray[index] = key;
+        newArray[index + 1] = value;
+        System.arraycopy(array, index, newArray, index + 2, array.length - index);
+        added.value = true;
+        return new BitmapNode(bitmap | bit, newArray);
+      }
+
+      final Object k = array[index];
+      final Object v = array[index + 1];
+      if (null == k) {
+        final Node sub = ((Node) v).with(shift + BITS, hash, key, value, added);
+        return sub == v ? this : copyWith(index, null, sub);
+      }
+      if (key.equals(k)) {
+        return value == v ? this : copyWith(index, k, value);
+      }
+      added.value = true;
+      final Node sub = pair(shift + BITS, hashOf(k), k, v, hash, key, value);
+      return copyWith(index, null, sub);
+    }
+
+    protected BitmapNode copyWith(final int index, final Object key, final Object value) {
+      final Object[] newArray = array.clone();
+      newArray[index] = key;
+      newArray[index + 1] = value;
+      return new BitmapNode(bitmap, newArray);
+    }
+
+    @Override
+    void copyTo(final Map<Object, Object> map) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (null == array[i]) {
+          ((Node) array[i + 1]).copyTo(map);
+        } else {
+          map.put(array[i], array[i + 1]);
+        }
+      }
+    }
+
+    // hashes differ in bits not yet consumed unless equal, so they split within 32 bits
+    protected static Node pair(final int shift, final int hash1, final Object key1,
+        final Object value1, final int hash2, final Object key2, final Object value2) {
+      if (hash1 == hash2) {
+        return new CollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+      }
+      final Added ignored = new Added();
+      return EMPTY.with(shift, hash1, key1, value1, ignored)
+          .with(shift, hash2, key2, value2, ignored);
+    }
+  }
+
+  // keys of the same hash
+  private static final class CollisionNode extends Node {
+
+    protected final int hash;
+
+    protected final Object[] array;
+
+    CollisionNode(final int hash, final Object[] array) {
+      this.hash = hash;
+      this.array = array;
+    }
+
+    @Override
+    Object get(final int shift, final int hash, final Object key) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (key.equals(array[i])) {
+          return array[i + 1];
+        }
+      }
+      return null;
+    }
+
+    @Override
+    Node with(final int shift, final int hash, final Object key, final Object value,
+        final Added added) {
+      if (hash != this.hash) {
+        final int bit = 1 << ((this.hash >>> shift) & MASK);
+        return new BitmapNode(bit, new Object[] {null, this})
+            .with(shift, hash, key, value, added);
+      }
+      for (int i = 0; i < array.length; i += 2) {
+        if (key.equals(array[i])) {
+          if (value == array[i + 1]) {
+            return this;
+          }
+          final Object[] newArray = array.clone();
+          newArray[i + 1] = value;
+          return new CollisionNode(hash, newArray);
+        }
+      }
+      final Object[] newArray = new Object[array.length + 2];
+      System.arraycopy(array, 0, newArray, 0, array.length);
+      newArray[array.length] = key;
+      newArray[array.length + 1] = value;
+      added.value = true;
+      return new CollisionNode(hash, newArray);
+    }
+
+    @Override
+    void copyTo(final Map<Object, Object> map) {
+      for (int i = 0; i < array.length; i += 2) {
+        map.put(array[i], array[i + 1]);
+      }
+    }
+  }
+
+}
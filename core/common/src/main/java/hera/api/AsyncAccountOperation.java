@@ -0,0 +1,76 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.api;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.api.model.AccountAddress;
+import hera.api.model.AccountState;
+import hera.api.model.AccountTotalVote;
+import hera.api.model.ElectedCandidate;
+import hera.api.model.Name;
+import hera.api.model.StakeInfo;
+import java.util.List;
+
+/**
+ * Provide non-blocking account related operations. Every operation returns immediately and the
+ * result is delivered through a returned future.
+ */
+@ApiAudience.Public
+@ApiStability.Unstable
+public interface AsyncAccountOperation {
+
+  /**
+   * Get account state by address.
+   *
+   * @param address an account address
+   * @return a future of an account state
+   */
+  ListenableFuture<AccountState> getState(AccountAddress address);
+
+  /**
+   * Get owner of name at current block.
+   *
+   * @param name an name of account
+   * @return a future of an account address binded with name. null if it has no owner
+   */
+  ListenableFuture<AccountAddress> getNameOwner(Name name);
+
+  /**
+   * Get owner of name at specific block.
+   *
+   * @param name        an name of account
+   * @param blockNumber a block number
+   * @return a future of an account address binded with name. null if it has no owner
+   */
+  ListenableFuture<AccountAddress> getNameOwner(Name name, long blockNumber);
+
+  /**
+   * Get staking information of {@code accountAddress}.
+   *
+   * @param accountAddress an account address to check staking information
+   * @return a future of a staking information
+   */
+  ListenableFuture<StakeInfo> getStakeInfo(AccountAddress accountAddress);
+
+  /**
+   * Get votes which {@code accountAddress} votes for.
+   *
+   * @param accountAddress an account address
+   * @return a future of voting info
+   */
+  ListenableFuture<AccountTotalVote> getVotesOf(AccountAddress accountAddress);
+
+  /**
+   * Get elected candidates for {@code voteId} for current round.
+   *
+   * @param voteId    an vote id
+   * @param showCount a show count
+   * @return a future of list of {@link ElectedCandidate}
+   */
+  ListenableFuture<List<ElectedCandidate>> listElected(String voteId, int showCount);
+
+}
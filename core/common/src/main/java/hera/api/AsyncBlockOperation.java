@@ -0,0 +1,73 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.api;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.api.model.Block;
+import hera.api.model.BlockHash;
+import hera.api.model.BlockMetadata;
+import java.util.List;
+
+/**
+ * Provide non-blocking block related operations. Every operation returns immediately and the
+ * result is delivered through a returned future.
+ */
+@ApiAudience.Public
+@ApiStability.Unstable
+public interface AsyncBlockOperation {
+
+  /**
+   * Get block meta data by hash.
+   *
+   * @param blockHash block hash
+   * @return a future of block meta data. null if no matching one.
+   */
+  ListenableFuture<BlockMetadata> getBlockMetadata(BlockHash blockHash);
+
+  /**
+   * Get block meta data by height.
+   *
+   * @param height block's height
+   * @return a future of block meta data. null if no matching one.
+   */
+  ListenableFuture<BlockMetadata> getBlockMetadata(long height);
+
+  /**
+   * Get list of block meta data of {@code size} backward starting from block for provided hash.
+   *
+   * @param blockHash block hash
+   * @param size      block list size whose upper bound is 1000
+   * @return a future of list of block meta data. empty list if no matching one.
+   */
+  ListenableFuture<List<BlockMetadata>> listBlockMetadatas(BlockHash blockHash, int size);
+
+  /**
+   * Get list of block meta data of {@code size} backward starting from block for provided height.
+   *
+   * @param height block's height
+   * @param size   block list size whose upper bound is 1000
+   * @return a future of list of block meta data. empty list if no matching one.
+   */
+  ListenableFuture<List<BlockMetadata>> listBlockMetadatas(long height, int size);
+
+  /**
+   * Get block by hash.
+   *
+   * @param blockHash block hash
+   * @return a future of block. null if no matching one.
+   */
+  ListenableFuture<Block> getBlock(BlockHash blockHash);
+
+  /**
+   * Get block by height.
+   *
+   * @param height block's height
+   * @return a future of block. null if no matching one.
+   */
+  ListenableFuture<Block> getBlock(long height);
+
+}
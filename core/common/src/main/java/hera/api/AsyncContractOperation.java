@@ -0,0 +1,60 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.api;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.api.model.ContractAddress;
+import hera.api.model.ContractInterface;
+import hera.api.model.ContractInvocation;
+import hera.api.model.ContractResult;
+import hera.api.model.ContractTxReceipt;
+import hera.api.model.Event;
+import hera.api.model.EventFilter;
+import hera.api.model.TxHash;
+import java.util.List;
+
+/**
+ * Provide non-blocking contract related operations. Every operation returns immediately and the
+ * result is delivered through a returned future.
+ */
+@ApiAudience.Public
+@ApiStability.Unstable
+public interface AsyncContractOperation {
+
+  /**
+   * Get contract tx receipt.
+   *
+   * @param txHash a contract transaction hash
+   * @return a future of a receipt of transaction. null if no matching one.
+   */
+  ListenableFuture<ContractTxReceipt> getContractTxReceipt(TxHash txHash);
+
+  /**
+   * Get smart contract interface.
+   *
+   * @param contractAddress contract address
+   * @return a future of contract interface. null if no matching one.
+   */
+  ListenableFuture<ContractInterface> getContractInterface(ContractAddress contractAddress);
+
+  /**
+   * Query the smart contract state by calling smart contract function.
+   *
+   * @param contractInvocation {@link ContractInvocation}
+   * @return a future of contract result
+   */
+  ListenableFuture<ContractResult> query(ContractInvocation contractInvocation);
+
+  /**
+   * List events with a filter.
+   *
+   * @param filter an event filter
+   * @return a future of event list
+   */
+  ListenableFuture<List<Event>> listEvents(EventFilter filter);
+
+}
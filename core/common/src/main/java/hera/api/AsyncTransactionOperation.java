@@ -0,0 +1,47 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.api;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.api.model.Transaction;
+import hera.api.model.TxHash;
+import hera.api.model.TxReceipt;
+
+/**
+ * Provide non-blocking transaction related operations. Every operation returns immediately and
+ * the result is delivered through a returned future.
+ */
+@ApiAudience.Public
+@ApiStability.Unstable
+public interface AsyncTransactionOperation {
+
+  /**
+   * Get transaction.
+   *
+   * @param txHash transaction's hash
+   * @return a future of transaction. null if no matching one.
+   */
+  ListenableFuture<Transaction> getTransaction(TxHash txHash);
+
+  /**
+   * Get tx receipt.
+   *
+   * @param txHash transaction's hash
+   * @return a future of tx receipt. null if no matching one.
+   */
+  ListenableFuture<TxReceipt> getTxReceipt(TxHash txHash);
+
+  /**
+   * Commit a signed transaction. A returned future fails with
+   * {@link hera.exception.HerajException} if commit fails.
+   *
+   * @param transaction signed transaction
+   * @return a future of transaction hash
+   */
+  ListenableFuture<TxHash> commit(Transaction transaction);
+
+}
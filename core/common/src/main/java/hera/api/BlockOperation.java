@@ -11,6 +11,7 @@ import hera.api.model.BlockHash;
 import hera.api.model.BlockMetadata;
 import hera.api.model.StreamObserver;
 import hera.api.model.Subscription;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -72,6 +73,21 @@ public interface BlockOperation {
    */
   Block getBlock(long height);
 
+  /**
+   * Get blocks from {@code fromHeight} to {@code toHeight} (inclusive) in height order. Up to
+   * {@code parallelism} blocks are fetched and converted concurrently, and no more than
+   * {@code prefetch} blocks are fetched ahead of the consumer, which bounds memory when the
+   * consumer is slower than the network. Fetching stops when the consumer stops iterating.
+   *
+   * @param fromHeight  a height to start from
+   * @param toHeight    a height to end with
+   * @param parallelism a maximum number of concurrent requests
+   * @param prefetch    a maximum number of blocks fetched ahead. Must be not less than
+   *                    {@code parallelism}
+   * @return an iterator of blocks. A block is null if no matching one
+   */
+  Iterator<Block> getBlocks(long fromHeight, long toHeight, int parallelism, int prefetch);
+
   /**
    * Subscribe block metadata stream which is triggered everytime new block is generated.
    *
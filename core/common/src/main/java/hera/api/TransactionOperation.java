@@ -9,12 +9,15 @@ import hera.annotation.ApiStability;
 import hera.api.model.AccountAddress;
 import hera.api.model.Aer;
 import hera.api.model.BytesValue;
+import hera.api.model.CommitResult;
 import hera.api.model.Fee;
 import hera.api.model.Name;
 import hera.api.model.Transaction;
 import hera.api.model.TxHash;
 import hera.api.model.TxReceipt;
 import hera.key.Signer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Provide transaction related operations.
@@ -41,6 +44,30 @@ public interface TransactionOperation {
    */
   TxReceipt getTxReceipt(TxHash txHash);
 
+  /**
+   * Wait a tx receipt until the transaction is included in a block. Waiting transactions share a
+   * single block subscription and a receipt is fetched only when its transaction appears in a
+   * block.
+   *
+   * @param txHash a transaction hash
+   * @param timeout a time to wait
+   * @param unit a unit of {@code timeout}
+   * @return a tx receipt. null if not arrived within {@code timeout}.
+   */
+  TxReceipt awaitReceipt(TxHash txHash, long timeout, TimeUnit unit);
+
+  /**
+   * Wait tx receipts until the transactions are included in blocks. See
+   * {@link #awaitReceipt(TxHash, long, TimeUnit)}.
+   *
+   * @param txHashes transaction hashes
+   * @param timeout a time to wait for all the receipts
+   * @param unit a unit of {@code timeout}
+   * @return tx receipts in the same order as {@code txHashes}. null for one not arrived within
+   *         {@code timeout}.
+   */
+  List<TxReceipt> awaitReceipts(List<TxHash> txHashes, long timeout, TimeUnit unit);
+
   /**
    * Commit transaction.
    *
@@ -49,6 +76,15 @@ public interface TransactionOperation {
    */
   TxHash commit(Transaction transaction);
 
+  /**
+   * Commit transactions in a single request. A failure of some transactions doesn't affect the
+   * others. Check {@link CommitResult#isSuccess()} of each result.
+   *
+   * @param transactions transactions to commit
+   * @return commit results in the same order as {@code transactions}
+   */
+  List<CommitResult> commit(List<Transaction> transactions);
+
   /**
    * Send aergo.
    *
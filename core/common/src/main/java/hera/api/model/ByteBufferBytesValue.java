@@ -0,0 +1,83 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.api.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+
+/**
+ * A {@link BytesValue} viewing a read-only buffer. Nothing is copied on creation and a raw bytes
+ * is copied only when asked by {@link #getValue()}.
+ */
+class ByteBufferBytesValue extends BytesValue {
+
+  protected static final int CHUNK_SIZE = 4096;
+
+  protected final ByteBuffer buffer;
+
+  ByteBufferBytesValue(final ByteBuffer buffer) {
+    this.buffer = buffer.slice().asReadOnlyBuffer();
+  }
+
+  @Override
+  public byte[] getValue() {
+    final byte[] copied = new byte[buffer.remaining()];
+    buffer.duplicate().get(copied);
+    return copied;
+  }
+
+  @Override
+  public int length() {
+    return buffer.remaining();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return !buffer.hasRemaining();
+  }
+
+  @Override
+  public ByteBuffer asReadOnlyBuffer() {
+    return buffer.duplicate();
+  }
+
+  @Override
+  public void writeTo(final OutputStream out) throws IOException {
+    final ByteBuffer source = buffer.duplicate();
+    final byte[] chunk = new byte[Math.min(CHUNK_SIZE, source.remaining())];
+    while (source.hasRemaining()) {
+      final int size = Math.min(chunk.length, source.remaining());
+      source.get(chunk, 0, size);
+      out.write(chunk, 0, size);
+    }
+  }
+
+  @Override
+  public void writeTo(final MessageDigest digest) {
+    digest.update(buffer.duplicate());
+  }
+
+  @Override
+  public int hashCode() {
+    int h = this.hash;
+    final int limit = buffer.limit();
+    if (h == 0 && limit > 0) {
+      // same as one of an array-backed value
+      for (int i = buffer.position(); i < limit; ++i) {
+        h = 31 * h + buffer.get(i);
+      }
+      this.hash = h;
+    }
+    return h;
+  }
+
+  @Override
+  public String toString() {
+    return new String(getValue());
+  }
+
+}
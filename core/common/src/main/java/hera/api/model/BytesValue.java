@@ -13,8 +13,12 @@ import hera.api.encode.Decoder;
 import hera.api.encode.Encoder;
 import hera.exception.HerajException;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
 import java.util.Arrays;
 
 @ApiAudience.Public
@@ -44,10 +48,27 @@ public class BytesValue {
     return new BytesValue(encoded, decoder);
   }
 
+  /**
+   * Create {@code BytesValue} viewing {@code buffer} without copying. Bytes between position and
+   * limit of {@code buffer} are viewed. The content of {@code buffer} must not be modified after.
+   *
+   * @param buffer a buffer holding a raw bytes value
+   * @return created {@link BytesValue}
+   */
+  public static BytesValue wrap(final ByteBuffer buffer) {
+    assertNotNull(buffer, "Buffer must not null");
+    return new ByteBufferBytesValue(buffer);
+  }
+
   protected transient int hash;
 
+  // null for a variant keeping its bytes by itself
   protected final byte[] value;
 
+  BytesValue() {
+    this.value = null;
+  }
+
   /**
    * Create {@code BytesValue} with a raw bytes array.
    *
@@ -90,6 +111,34 @@ public class BytesValue {
     return 0 == value.length;
   }
 
+  /**
+   * Get a read-only view of a raw bytes without copying.
+   *
+   * @return a read-only buffer of a raw bytes
+   */
+  public ByteBuffer asReadOnlyBuffer() {
+    return ByteBuffer.wrap(value).asReadOnlyBuffer();
+  }
+
+  /**
+   * Write a raw bytes to {@code out} without copying it to a new array.
+   *
+   * @param out an output stream to write to
+   * @throws IOException on writing failure
+   */
+  public void writeTo(final OutputStream out) throws IOException {
+    out.write(value);
+  }
+
+  /**
+   * Update {@code digest} with a raw bytes without copying it to a new array.
+   *
+   * @param digest a message digest to update
+   */
+  public void writeTo(final MessageDigest digest) {
+    digest.update(value);
+  }
+
   @Override
   public int hashCode() {
     int h = this.hash;
@@ -104,14 +153,17 @@ public class BytesValue {
 
   @Override
   public boolean equals(final Object obj) {
-    if (null == obj) {
-      return false;
+    if (this == obj) {
+      return true;
     }
-    if (!obj.getClass().equals(getClass())) {
+    if (!(obj instanceof BytesValue)) {
       return false;
     }
     final BytesValue other = (BytesValue) obj;
-    return Arrays.equals(this.value, other.value);
+    if (null != this.value && null != other.value) {
+      return Arrays.equals(this.value, other.value);
+    }
+    return asReadOnlyBuffer().equals(other.asReadOnlyBuffer());
   }
 
   @Override
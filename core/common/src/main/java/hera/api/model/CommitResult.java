@@ -0,0 +1,44 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.api.model;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.util.StringUtils;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A result of committing a transaction. A batch commit results in one {@code CommitResult} per
+ * transaction so that some of them can fail while the others are accepted.
+ */
+@ApiAudience.Public
+@ApiStability.Unstable
+@Getter
+@ToString
+@EqualsAndHashCode
+@Builder(builderMethodName = "newBuilder")
+public class CommitResult {
+
+  @NonNull
+  @Default
+  protected final TxHash txHash = TxHash.of(BytesValue.EMPTY);
+
+  @Default
+  protected final boolean success = false;
+
+  @NonNull
+  @Default
+  protected final String status = StringUtils.EMPTY_STRING;
+
+  @NonNull
+  @Default
+  protected final String message = StringUtils.EMPTY_STRING;
+
+}
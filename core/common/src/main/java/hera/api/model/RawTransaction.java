@@ -5,7 +5,6 @@
 package hera.api.model;
 
 import static hera.util.NumberUtils.positiveToByteArray;
-import static hera.util.Sha256Utils.digest;
 
 import hera.annotation.ApiAudience;
 import hera.annotation.ApiStability;
@@ -29,9 +28,9 @@ import hera.api.transaction.dsl.UnstakeTransaction;
 import hera.api.transaction.dsl.UpdateNameTransaction;
 import hera.api.transaction.dsl.VoteTransaction;
 import hera.exception.HerajException;
-import hera.util.LittleEndianDataOutputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import hera.util.Sha256Utils;
+import java.math.BigInteger;
+import java.security.MessageDigest;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -148,16 +147,8 @@ public class RawTransaction {
    * @return a hash of transaction
    */
   public TxHash calculateHash() {
-    try {
-      final ByteArrayOutputStream raw = new ByteArrayOutputStream();
-      final LittleEndianDataOutputStream dataOut = makeStream(raw);
-      dataOut.flush();
-      dataOut.close();
-      final byte[] digested = digest(raw.toByteArray());
-      return TxHash.of(BytesValue.of(digested));
-    } catch (final IOException e) {
-      throw new HerajException(e);
-    }
+    final MessageDigest digest = startDigest();
+    return TxHash.of(BytesValue.of(digest.digest()));
   }
 
   /**
@@ -167,33 +158,111 @@ public class RawTransaction {
    * @return a hash of transaction
    */
   public TxHash calculateHash(final Signature signature) {
+    final MessageDigest digest = startDigest();
+    signature.getSign().writeTo(digest);
+    return TxHash.of(BytesValue.of(digest.digest()));
+  }
+
+  /**
+   * Calculate a hash of transaction to sign, keeping a digest state of it so a hash with a
+   * signature is calculated without digesting the transaction again.
+   *
+   * @return a hash of transaction to sign
+   */
+  public SigningHash calculateSigningHash() {
+    final MessageDigest digest = startDigest();
     try {
-      final ByteArrayOutputStream raw = new ByteArrayOutputStream();
-      final LittleEndianDataOutputStream dataOut = makeStream(raw);
-      dataOut.write(signature.getSign().getValue());
-      dataOut.flush();
-      dataOut.close();
-      final byte[] digested = digest(raw.toByteArray());
-      return TxHash.of(BytesValue.of(digested));
-    } catch (final IOException e) {
+      final MessageDigest state = (MessageDigest) digest.clone();
+      return new SigningHash(TxHash.of(BytesValue.of(digest.digest())), state);
+    } catch (final CloneNotSupportedException e) {
       throw new HerajException(e);
     }
   }
 
-  protected LittleEndianDataOutputStream makeStream(final ByteArrayOutputStream raw)
-      throws IOException {
-    final LittleEndianDataOutputStream dataOut = new LittleEndianDataOutputStream(raw);
+  // a digest of a thread is reused
+  protected MessageDigest startDigest() {
+    final MessageDigest digest = Sha256Utils.getDigest();
+    update(digest);
+    return digest;
+  }
+
+  // write fields straight into digest without intermediate arrays
+  protected void update(final MessageDigest digest) {
     // WARNING : follow the stream order with server
-    dataOut.writeLong(getNonce());
-    dataOut.write(getSender().getBytesValue().getValue());
-    dataOut.write(getRecipient().getBytesValue().getValue());
-    dataOut.write(positiveToByteArray(getAmount().getValue()));
-    dataOut.write(getPayload().getValue());
-    dataOut.writeLong(getFee().getLimit());
-    dataOut.write(positiveToByteArray(getFee().getPrice().getValue()));
-    dataOut.writeInt(getTxType().getIntValue());
-    dataOut.write(getChainIdHash().getBytesValue().getValue());
-    return dataOut;
+    updateLong(digest, getNonce());
+    getSender().getBytesValue().writeTo(digest);
+    getRecipient().getBytesValue().writeTo(digest);
+    updatePositive(digest, getAmount().getValue());
+    getPayload().writeTo(digest);
+    updateLong(digest, getFee().getLimit());
+    updatePositive(digest, getFee().getPrice().getValue());
+    updateInt(digest, getTxType().getIntValue());
+    getChainIdHash().getBytesValue().writeTo(digest);
+  }
+
+  // in a little endian order
+  protected static void updateLong(final MessageDigest digest, final long value) {
+    for (int i = 0; i < 8; ++i) {
+      digest.update((byte) (value >> (8 * i)));
+    }
+  }
+
+  // in a little endian order
+  protected static void updateInt(final MessageDigest digest, final int value) {
+    for (int i = 0; i < 4; ++i) {
+      digest.update((byte) (value >> (8 * i)));
+    }
+  }
+
+  // the same as NumberUtils#positiveToByteArray
+  protected static void updatePositive(final MessageDigest digest, final BigInteger value) {
+    if (null == value) {
+      return;
+    }
+    if (value.bitLength() >= Long.SIZE) {
+      digest.update(positiveToByteArray(value));
+      return;
+    }
+    final long longValue = value.longValue();
+    final int length = 0L == longValue ? 1 : (value.bitLength() + 7) >>> 3;
+    for (int i = length - 1; i >= 0; --i) {
+      digest.update((byte) (longValue >> (8 * i)));
+    }
+  }
+
+  /**
+   * A hash of transaction to sign keeping a digest state of it. It's thread-safe.
+   */
+  @ApiAudience.Public
+  @ApiStability.Unstable
+  public static class SigningHash {
+
+    @Getter
+    protected final TxHash hash;
+
+    // never updated, only cloned
+    protected final MessageDigest state;
+
+    SigningHash(final TxHash hash, final MessageDigest state) {
+      this.hash = hash;
+      this.state = state;
+    }
+
+    /**
+     * Calculate a hash of transaction with a signature.
+     *
+     * @param signature a signature
+     * @return a hash of transaction
+     */
+    public TxHash withSignature(final Signature signature) {
+      try {
+        final MessageDigest digest = (MessageDigest) state.clone();
+        signature.getSign().writeTo(digest);
+        return TxHash.of(BytesValue.of(digest.digest()));
+      } catch (final CloneNotSupportedException e) {
+        throw new HerajException(e);
+      }
+    }
   }
 
 }
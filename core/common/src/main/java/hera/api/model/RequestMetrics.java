@@ -0,0 +1,76 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.api.model;
+
+import static java.util.Collections.emptyMap;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A snapshot of metrics of a request method. Latencies are in nanoseconds and percentiles are
+ * estimated from a histogram, so they are accurate up to a bucket of it.
+ */
+@ApiAudience.Public
+@ApiStability.Unstable
+@Getter
+@ToString
+@EqualsAndHashCode
+@Builder(builderMethodName = "newBuilder")
+public class RequestMetrics {
+
+  @NonNull
+  protected final String methodName;
+
+  @Default
+  protected final long callCount = 0L;
+
+  @Default
+  protected final long errorCount = 0L;
+
+  /**
+   * Error counts by a reason. A reason is a name of a grpc status code or a commit status if any,
+   * a simple name of an exception otherwise.
+   */
+  @NonNull
+  @Default
+  protected final Map<String, Long> errorCounts = emptyMap();
+
+  @Default
+  protected final long inFlight = 0L;
+
+  @Default
+  protected final long totalLatency = 0L;
+
+  @Default
+  protected final long maxLatency = 0L;
+
+  @Default
+  protected final long p50Latency = 0L;
+
+  @Default
+  protected final long p90Latency = 0L;
+
+  @Default
+  protected final long p99Latency = 0L;
+
+  /**
+   * Get a mean latency of finished requests in nanoseconds.
+   *
+   * @return a mean latency. 0 if no request is finished
+   */
+  public long getMeanLatency() {
+    final long finished = callCount - inFlight;
+    return 0L < finished ? totalLatency / finished : 0L;
+  }
+
+}
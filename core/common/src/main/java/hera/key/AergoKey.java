@@ -19,6 +19,7 @@ import hera.api.model.Hash;
 import hera.api.model.KeyFormat;
 import hera.api.model.RawTransaction;
 import hera.api.model.Signature;
+import hera.api.model.StreamObserver;
 import hera.api.model.Transaction;
 import hera.api.model.TxHash;
 import hera.exception.HerajException;
@@ -28,6 +29,9 @@ import hera.util.pki.ECDSASignature;
 import java.math.BigInteger;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.slf4j.Logger;
@@ -35,7 +39,7 @@ import org.slf4j.Logger;
 @ApiAudience.Public
 @ApiStability.Unstable
 @EqualsAndHashCode
-public class AergoKey implements KeyPair, Signer {
+public class AergoKey implements KeyPair, BatchSigner {
 
   /**
    * Create a key pair with encoded encrypted private key and passphrase.
@@ -148,13 +152,14 @@ public class AergoKey implements KeyPair, Signer {
   public Transaction sign(final RawTransaction rawTransaction) {
     try {
       logger.debug("Sign raw transaction: {}", rawTransaction);
-      final TxHash withoutSignature = rawTransaction.calculateHash();
+      final RawTransaction.SigningHash signingHash = rawTransaction.calculateSigningHash();
+      final TxHash withoutSignature = signingHash.getHash();
       final ECDSASignature ecdsaSignature =
           ecdsakey.sign(withoutSignature.getBytesValue().getValue());
       final Signature signature = serialize(ecdsaSignature);
       logger.trace("Raw signature: {}", ecdsaSignature);
       logger.trace("Serialized signature: {}", signature);
-      final TxHash withSignature = rawTransaction.calculateHash(signature);
+      final TxHash withSignature = signingHash.withSignature(signature);
       final Transaction transaction = Transaction.newBuilder()
           .rawTransaction(rawTransaction)
           .signature(signature)
@@ -168,6 +173,25 @@ public class AergoKey implements KeyPair, Signer {
     }
   }
 
+  @Override
+  public List<Transaction> signAll(final List<RawTransaction> rawTransactions) {
+    return signAll(rawTransactions, ParallelBatch.getDefaultExecutor());
+  }
+
+  @Override
+  public List<Transaction> signAll(final List<RawTransaction> rawTransactions,
+      final Executor executor) {
+    logger.debug("Sign raw transactions in parallel");
+    return new ParallelSigning(this, executor).signAll(rawTransactions);
+  }
+
+  @Override
+  public void signAll(final Iterator<RawTransaction> rawTransactions, final Executor executor,
+      final StreamObserver<Transaction> observer) {
+    logger.debug("Sign raw transaction stream in parallel");
+    new ParallelSigning(this, executor).signAll(rawTransactions, observer);
+  }
+
   @Override
   public Signature signMessage(final BytesValue message) {
     try {
@@ -4,13 +4,20 @@
 
 package hera.key;
 
-import static hera.key.AccountAddressSpec.recoverPublicKey;
 import static hera.key.SignatureSpec.deserialize;
+import static hera.util.ValidationUtils.assertNotNull;
+import static hera.util.ValidationUtils.assertTrue;
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import hera.annotation.ApiAudience;
 import hera.annotation.ApiStability;
+import hera.api.function.Function1;
 import hera.api.model.AccountAddress;
+import hera.api.model.Block;
 import hera.api.model.BytesValue;
 import hera.api.model.Hash;
 import hera.api.model.Signature;
@@ -21,12 +28,14 @@ import hera.util.Sha256Utils;
 import hera.util.pki.ECDSAKeyGenerator;
 import hera.util.pki.ECDSASignature;
 import hera.util.pki.ECDSAVerifier;
-import java.security.PublicKey;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
 import org.slf4j.Logger;
 
 @ApiAudience.Public
 @ApiStability.Unstable
-public class AergoSignVerifier implements Verifier {
+public class AergoSignVerifier implements BatchVerifier {
 
   // minimum length of a DER encoded signature which both R and S are 1 byte each.
   // <header-magic> + <1-byte> + <int-marker> + 0x01 + <r.byte> + <int-marker> + 0x01 + <s.byte>
@@ -36,6 +45,38 @@ public class AergoSignVerifier implements Verifier {
 
   protected final ECDSAVerifier ecdsaVerifier = new ECDSAVerifier(ECDSAKeyGenerator.ecParams);
 
+  // decoded public keys keep a multiplication table for reuse
+  protected final LoadingCache<AccountAddress, ECPublicKeyParameters> publicKeys;
+
+  /**
+   * AergoSignVerifier constructor. Capacity of a public key cache is set as 1000.
+   */
+  public AergoSignVerifier() {
+    this(1000);
+  }
+
+  /**
+   * AergoSignVerifier constructor.
+   *
+   * @param capacity a number of decoded public keys to hold
+   */
+  public AergoSignVerifier(final int capacity) {
+    assertTrue(capacity > 0, "Capacity must > 0");
+    this.publicKeys = CacheBuilder.newBuilder()
+        .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+        .maximumSize(capacity)
+        .build(new CacheLoader<AccountAddress, ECPublicKeyParameters>() {
+          @Override
+          public ECPublicKeyParameters load(final AccountAddress key) {
+            logger.debug("Recover public key from {}", key);
+            final byte[] rawAddress = key.getBytesValue().getValue();
+            return new ECPublicKeyParameters(
+                ECDSAKeyGenerator.ecParams.getCurve().decodePoint(rawAddress),
+                ECDSAKeyGenerator.ecParams);
+          }
+        });
+  }
+
   @Override
   public boolean verify(final Transaction transaction) {
     try {
@@ -68,7 +109,7 @@ public class AergoSignVerifier implements Verifier {
     try {
       logger.debug("Verify with address: {}, hashed message: {}, signature: {}", accountAddress,
           hashedMessage, signature);
-      final PublicKey publicKey = recoverPublicKey(accountAddress);
+      final ECPublicKeyParameters publicKey = getPublicKey(accountAddress);
       final ECDSASignature ecdsaSignature = deserialize(signature);
       return ecdsaVerifier.verify(publicKey, hashedMessage.getBytesValue().getValue(),
           ecdsaSignature);
@@ -79,4 +120,45 @@ public class AergoSignVerifier implements Verifier {
     }
   }
 
+  @Override
+  public List<Boolean> verifyAll(final List<Transaction> transactions) {
+    return verifyAll(transactions, ParallelBatch.getDefaultExecutor());
+  }
+
+  @Override
+  public List<Boolean> verifyAll(final List<Transaction> transactions,
+      final Executor executor) {
+    logger.debug("Verify transactions in parallel");
+    return ParallelBatch.map(transactions, new Function1<Transaction, Boolean>() {
+      @Override
+      public Boolean apply(final Transaction transaction) {
+        try {
+          return verify(transaction);
+        } catch (RuntimeException e) {
+          logger.debug("Verifying {} failed by {}", transaction.getHash(), e.toString());
+          return false;
+        }
+      }
+    }, executor);
+  }
+
+  @Override
+  public List<Boolean> verifyAll(final Block block) {
+    return verifyAll(block, ParallelBatch.getDefaultExecutor());
+  }
+
+  @Override
+  public List<Boolean> verifyAll(final Block block, final Executor executor) {
+    assertNotNull(block, "Block must not null");
+    return verifyAll(block.getTransactions(), executor);
+  }
+
+  protected ECPublicKeyParameters getPublicKey(final AccountAddress accountAddress) {
+    try {
+      return publicKeys.getUnchecked(accountAddress);
+    } catch (UncheckedExecutionException e) {
+      throw new HerajException(e.getCause());
+    }
+  }
+
 }
@@ -0,0 +1,51 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.key;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.api.model.RawTransaction;
+import hera.api.model.StreamObserver;
+import hera.api.model.Transaction;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+@ApiAudience.Public
+@ApiStability.Unstable
+public interface BatchSigner extends Signer {
+
+  /**
+   * Sign to raw transactions in parallel on a shared fork join pool sized to the number of
+   * processors.
+   *
+   * @param rawTransactions raw transactions to sign
+   * @return signed transactions in the same order as {@code rawTransactions}
+   */
+  List<Transaction> signAll(List<RawTransaction> rawTransactions);
+
+  /**
+   * Sign to raw transactions in parallel on {@code executor}.
+   *
+   * @param rawTransactions raw transactions to sign
+   * @param executor an executor to sign on
+   * @return signed transactions in the same order as {@code rawTransactions}
+   */
+  List<Transaction> signAll(List<RawTransaction> rawTransactions, Executor executor);
+
+  /**
+   * Sign to raw transactions in parallel on {@code executor} and pass signed ones to
+   * {@code observer} in the same order. Only a bounded number of transactions are held at a time,
+   * so it fits a batch too large to keep in memory. It returns after {@code observer} has received
+   * {@link StreamObserver#onCompleted()} or {@link StreamObserver#onError(Throwable)}.
+   *
+   * @param rawTransactions raw transactions to sign
+   * @param executor an executor to sign on
+   * @param observer an observer receiving signed transactions
+   */
+  void signAll(Iterator<RawTransaction> rawTransactions, Executor executor,
+      StreamObserver<Transaction> observer);
+
+}
@@ -0,0 +1,55 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.key;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.api.model.Block;
+import hera.api.model.Transaction;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+@ApiAudience.Public
+@ApiStability.Unstable
+public interface BatchVerifier extends Verifier {
+
+  /**
+   * Check if each of {@code transactions} is valid in parallel on a shared fork join pool sized
+   * to the number of processors. A transaction failed to be verified is reported as invalid.
+   *
+   * @param transactions transactions to verify
+   * @return if valid for each transaction in the same order as {@code transactions}
+   */
+  List<Boolean> verifyAll(List<Transaction> transactions);
+
+  /**
+   * Check if each of {@code transactions} is valid in parallel on {@code executor}. A transaction
+   * failed to be verified is reported as invalid.
+   *
+   * @param transactions transactions to verify
+   * @param executor an executor to verify on
+   * @return if valid for each transaction in the same order as {@code transactions}
+   */
+  List<Boolean> verifyAll(List<Transaction> transactions, Executor executor);
+
+  /**
+   * Check if each transaction in {@code block} is valid in parallel on a shared fork join pool
+   * sized to the number of processors.
+   *
+   * @param block a block holding transactions to verify
+   * @return if valid for each transaction in the same order as in {@code block}
+   */
+  List<Boolean> verifyAll(Block block);
+
+  /**
+   * Check if each transaction in {@code block} is valid in parallel on {@code executor}.
+   *
+   * @param block a block holding transactions to verify
+   * @param executor an executor to verify on
+   * @return if valid for each transaction in the same order as in {@code block}
+   */
+  List<Boolean> verifyAll(Block block, Executor executor);
+
+}
@@ -0,0 +1,96 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.key;
+
+import static hera.util.ValidationUtils.assertNotNull;
+import static java.util.Collections.unmodifiableList;
+
+import hera.api.function.Function1;
+import hera.exception.HerajException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A helper applying a function to many elements on an executor. A list is split into chunks of
+ * consecutive elements, one task per chunk, and results are kept in the same order.
+ */
+class ParallelBatch {
+
+  protected static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+  // chunks per processor to balance uneven tasks
+  protected static final int CHUNKS_PER_PROCESSOR = 4;
+
+  private static class DefaultExecutorHolder {
+    // workers of a fork join pool are daemon
+    static final Executor INSTANCE = new ForkJoinPool(PARALLELISM);
+  }
+
+  static Executor getDefaultExecutor() {
+    return DefaultExecutorHolder.INSTANCE;
+  }
+
+  static <T, R> List<R> map(final List<T> elements, final Function1<T, R> function,
+      final Executor executor) {
+    assertNotNull(elements, "Elements must not null");
+    assertNotNull(function, "Function must not null");
+    assertNotNull(executor, "Executor must not null");
+    final int size = elements.size();
+    final Object[] results = new Object[size];
+    final int chunks = PARALLELISM * CHUNKS_PER_PROCESSOR;
+    final int chunkSize = Math.max(1, (size + chunks - 1) / chunks);
+    final List<FutureTask<Void>> tasks = new ArrayList<>();
+    for (int from = 0; from < size; from += chunkSize) {
+      final int begin = from;
+      final int end = Math.min(size, from + chunkSize);
+      final FutureTask<Void> task = new FutureTask<>(new Callable<Void>() {
+        @Override
+        public Void call() {
+          for (int i = begin; i < end; ++i) {
+            results[i] = function.apply(elements.get(i));
+          }
+          return null;
+        }
+      });
+      executor.execute(task);
+      tasks.add(task);
+    }
+    try {
+      for (final FutureTask<Void> task : tasks) {
+        await(task);
+      }
+    } catch (RuntimeException e) {
+      for (final FutureTask<Void> task : tasks) {
+        task.cancel(false);
+      }
+      throw e;
+    }
+    @SuppressWarnings("unchecked")
+    final List<R> mapped = (List<R>) Arrays.asList(results);
+    return unmodifiableList(mapped);
+  }
+
+  static <T> T await(final FutureTask<T> task) {
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HerajException(e);
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof HerajException) {
+        throw (HerajException) cause;
+      }
+      throw new HerajException(cause);
+    }
+  }
+
+}
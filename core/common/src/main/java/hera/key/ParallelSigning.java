@@ -0,0 +1,85 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.key;
+
+import static hera.key.ParallelBatch.await;
+import static hera.util.ValidationUtils.assertNotNull;
+
+import hera.api.function.Function1;
+import hera.api.model.RawTransaction;
+import hera.api.model.StreamObserver;
+import hera.api.model.Transaction;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A helper signing many raw transactions with a {@link Signer} on an executor. A list is signed
+ * in chunks by {@link ParallelBatch}. A stream is signed one task per transaction with a bounded
+ * number of tasks in flight.
+ */
+class ParallelSigning {
+
+  protected static final int STREAMING_WINDOW = 64 * ParallelBatch.PARALLELISM;
+
+  protected final Signer signer;
+
+  protected final Executor executor;
+
+  ParallelSigning(final Signer signer, final Executor executor) {
+    assertNotNull(signer, "Signer must not null");
+    assertNotNull(executor, "Executor must not null");
+    this.signer = signer;
+    this.executor = executor;
+  }
+
+  List<Transaction> signAll(final List<RawTransaction> rawTransactions) {
+    assertNotNull(rawTransactions, "Raw transactions must not null");
+    return ParallelBatch.map(rawTransactions, new Function1<RawTransaction, Transaction>() {
+      @Override
+      public Transaction apply(final RawTransaction rawTransaction) {
+        return signer.sign(rawTransaction);
+      }
+    }, executor);
+  }
+
+  void signAll(final Iterator<RawTransaction> rawTransactions,
+      final StreamObserver<Transaction> observer) {
+    assertNotNull(rawTransactions, "Raw transactions must not null");
+    assertNotNull(observer, "Observer must not null");
+    final Queue<FutureTask<Transaction>> inFlight = new ArrayDeque<>();
+    try {
+      while (rawTransactions.hasNext()) {
+        if (inFlight.size() >= STREAMING_WINDOW) {
+          observer.onNext(await(inFlight.poll()));
+        }
+        final RawTransaction rawTransaction = rawTransactions.next();
+        final FutureTask<Transaction> task = new FutureTask<>(new Callable<Transaction>() {
+          @Override
+          public Transaction call() {
+            return signer.sign(rawTransaction);
+          }
+        });
+        executor.execute(task);
+        inFlight.add(task);
+      }
+      while (!inFlight.isEmpty()) {
+        observer.onNext(await(inFlight.poll()));
+      }
+    } catch (RuntimeException e) {
+      for (final FutureTask<Transaction> task : inFlight) {
+        task.cancel(false);
+      }
+      observer.onError(e);
+      return;
+    }
+    observer.onCompleted();
+  }
+
+}
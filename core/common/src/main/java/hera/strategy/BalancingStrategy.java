@@ -0,0 +1,65 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import hera.Strategy;
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.api.model.HostnameAndPort;
+import java.util.List;
+
+/**
+ * A strategy choosing a node to send a request among multiple endpoints.
+ */
+@ApiAudience.Public
+@ApiStability.Unstable
+public interface BalancingStrategy extends Strategy {
+
+  /**
+   * Select a node to send a request. Unhealthy nodes are excluded from {@code candidates} unless
+   * every node is unhealthy.
+   *
+   * @param candidates nodes to select from. Never empty
+   * @return a selected node
+   */
+  Node select(List<? extends Node> candidates);
+
+  /**
+   * A status of an endpoint seen by a client.
+   */
+  interface Node {
+
+    /**
+     * Get an endpoint of a node.
+     *
+     * @return an endpoint
+     */
+    HostnameAndPort getEndpoint();
+
+    /**
+     * Check if a node is considered healthy.
+     *
+     * @return true if healthy
+     */
+    boolean isHealthy();
+
+    /**
+     * Get the number of requests sent to a node but not completed yet.
+     *
+     * @return the number of outstanding requests
+     */
+    int getOutstandingRequests();
+
+    /**
+     * Get the best block height of a node fetched by the last health check. 0 if it's not
+     * fetched yet.
+     *
+     * @return the best block height
+     */
+    long getBestHeight();
+
+  }
+
+}
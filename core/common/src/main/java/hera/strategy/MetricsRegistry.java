@@ -0,0 +1,54 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.api.model.RequestMetrics;
+import java.util.Map;
+
+/**
+ * A registry recording request metrics by a request method name. Implement it to export metrics
+ * to a monitoring system. Every method is called on a requesting thread, so it must be
+ * thread-safe and cheap.
+ */
+@ApiAudience.Public
+@ApiStability.Unstable
+public interface MetricsRegistry {
+
+  /**
+   * Record a start of a request.
+   *
+   * @param methodName a request method name
+   */
+  void onStart(String methodName);
+
+  /**
+   * Record a success of a request.
+   *
+   * @param methodName a request method name
+   * @param elapsedNanos an elapsed time of a request in nanoseconds
+   */
+  void onSuccess(String methodName, long elapsedNanos);
+
+  /**
+   * Record a failure of a request.
+   *
+   * @param methodName a request method name
+   * @param reason a reason of a failure. A name of a grpc status code or a commit status if any, a
+   *        simple name of an exception otherwise
+   * @param elapsedNanos an elapsed time of a request in nanoseconds
+   */
+  void onFailure(String methodName, String reason, long elapsedNanos);
+
+  /**
+   * Get a snapshot of metrics by a request method name. A registry not keeping metrics by itself
+   * returns an empty map.
+   *
+   * @return metrics by a request method name
+   */
+  Map<String, RequestMetrics> snapshot();
+
+}
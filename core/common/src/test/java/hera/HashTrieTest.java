@@ -0,0 +1,97 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+public class HashTrieTest extends AbstractTestCase {
+
+  @RequiredArgsConstructor
+  @EqualsAndHashCode(exclude = "hash")
+  private static class FixedHashKey {
+
+    protected final String name;
+
+    protected final int hash;
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  @Test
+  public void shouldBehaveAsMap() {
+    final Random random = new Random(0L);
+    final Map<Object, Object> expected = new HashMap<>();
+    HashTrie trie = HashTrie.EMPTY;
+    for (int i = 0; i < 5000; ++i) {
+      final Integer key = random.nextInt(2000);
+      final Integer value = random.nextInt();
+      expected.put(key, value);
+      trie = trie.with(key, value);
+    }
+
+    assertEquals(expected.size(), trie.size());
+    assertEquals(expected, trie.toMap());
+    for (final Map.Entry<Object, Object> entry : expected.entrySet()) {
+      assertEquals(entry.getValue(), trie.get(entry.getKey()));
+    }
+    assertNull(trie.get(-1));
+  }
+
+  @Test
+  public void shouldKeepOriginal() {
+    final HashTrie parent = HashTrie.EMPTY.with("key", "parent");
+    final HashTrie child = parent.with("key", "child").with("other", "child");
+
+    assertEquals("parent", parent.get("key"));
+    assertNull(parent.get("other"));
+    assertEquals(1, parent.size());
+    assertEquals("child", child.get("key"));
+    assertEquals(2, child.size());
+  }
+
+  @Test
+  public void shouldReturnSameOnSameValue() {
+    final Object value = new Object();
+    final HashTrie trie = HashTrie.EMPTY.with("key", value);
+    assertSame(trie, trie.with("key", value));
+  }
+
+  @Test
+  public void shouldHandleCollision() {
+    final FixedHashKey first = new FixedHashKey("first", 42);
+    final FixedHashKey second = new FixedHashKey("second", 42);
+    final FixedHashKey third = new FixedHashKey("third", 42 | (1 << 25));
+
+    final HashTrie trie = HashTrie.EMPTY.with(first, 1).with(second, 2).with(third, 3)
+        .with(second, 4);
+
+    assertEquals(3, trie.size());
+    assertEquals(1, trie.get(first));
+    assertEquals(4, trie.get(second));
+    assertEquals(3, trie.get(third));
+    assertNull(trie.get(new FixedHashKey("fourth", 42)));
+  }
+
+  @Test
+  public void shouldEqualByEntries() {
+    final HashTrie trie = HashTrie.EMPTY.with("a", 1).with("b", 2);
+    final HashTrie other = HashTrie.EMPTY.with("b", 2).with("a", 1);
+    assertEquals(trie, other);
+    assertEquals(trie.hashCode(), other.hashCode());
+  }
+
+}
@@ -5,8 +5,12 @@
 package hera.api.model;
 
 import static java.util.UUID.randomUUID;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import org.junit.Test;
 
@@ -33,4 +37,38 @@ public class BytesValueTest {
     assertEquals(value1, value2);
   }
 
-}
\ No newline at end of file
+  @Test
+  public void testWrap() throws Exception {
+    final byte[] rawBytes = randomUUID().toString().getBytes();
+    final ByteBuffer buffer = ByteBuffer.allocate(rawBytes.length + 2);
+    buffer.put((byte) 0).put(rawBytes).put((byte) 0);
+    buffer.position(1).limit(1 + rawBytes.length);
+
+    final BytesValue wrapped = BytesValue.wrap(buffer);
+    final BytesValue copied = new BytesValue(rawBytes);
+
+    assertEquals(copied, wrapped);
+    assertEquals(wrapped, copied);
+    assertEquals(copied.hashCode(), wrapped.hashCode());
+    assertEquals(rawBytes.length, wrapped.length());
+    assertArrayEquals(rawBytes, wrapped.getValue());
+    assertEquals(1, buffer.position());
+  }
+
+  @Test
+  public void testWriteTo() throws Exception {
+    final byte[] rawBytes = randomUUID().toString().getBytes();
+    final BytesValue[] values = {new BytesValue(rawBytes),
+        BytesValue.wrap(ByteBuffer.wrap(rawBytes).asReadOnlyBuffer())};
+    for (final BytesValue value : values) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      value.writeTo(out);
+      assertArrayEquals(rawBytes, out.toByteArray());
+
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      value.writeTo(digest);
+      assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(rawBytes), digest.digest());
+    }
+  }
+
+}
@@ -4,14 +4,20 @@
 
 package hera.api.model;
 
+import static hera.util.NumberUtils.positiveToByteArray;
+import static hera.util.Sha256Utils.digest;
 import static hera.util.ValidationUtils.assertNotNull;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.UUID.randomUUID;
+import static org.junit.Assert.assertEquals;
 
 import hera.AbstractTestCase;
 import hera.api.model.Aer.Unit;
 import hera.key.AergoKey;
 import hera.key.AergoKeyGenerator;
+import hera.util.LittleEndianDataOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 import org.junit.Test;
@@ -48,6 +54,75 @@ public class RawTransactionTest extends AbstractTestCase {
     assertNotNull(hash);
   }
 
+  @Test
+  public void testCalculateHashSameAsSerialized() throws IOException {
+    final String[] amounts = new String[] {"0", "1", "255", "256", "9223372036854775807",
+        "9223372036854775808", "1000000000000000000000000"};
+    for (final String amount : amounts) {
+      final RawTransaction rawTransaction = RawTransaction.newBuilder(chainIdHash)
+          .from(accountAddress)
+          .to(accountAddress)
+          .amount(amount, Unit.AER)
+          .nonce(Long.MAX_VALUE - 1L)
+          .fee(new Fee(Aer.of(amount), 30000L))
+          .payload(BytesValue.of(randomUUID().toString().getBytes()))
+          .build();
+      final Signature signature = Signature.of(BytesValue.of(randomUUID().toString().getBytes()));
+
+      assertEquals(serializedHash(rawTransaction, BytesValue.EMPTY),
+          rawTransaction.calculateHash());
+      assertEquals(serializedHash(rawTransaction, signature.getSign()),
+          rawTransaction.calculateHash(signature));
+    }
+
+    // fee without a price
+    final RawTransaction withoutPrice = RawTransaction.newBuilder(chainIdHash)
+        .from(accountAddress)
+        .to(accountAddress)
+        .amount("10000", Unit.AER)
+        .nonce(1L)
+        .fee(Fee.of(5))
+        .build();
+    assertEquals(serializedHash(withoutPrice, BytesValue.EMPTY), withoutPrice.calculateHash());
+  }
+
+  @Test
+  public void testCalculateSigningHash() {
+    final RawTransaction rawTransaction = RawTransaction.newBuilder(chainIdHash)
+        .from(accountAddress)
+        .to(accountAddress)
+        .amount("10000", Unit.AER)
+        .nonce(1L)
+        .fee(Fee.of(5))
+        .build();
+    final Signature signature = Signature.of(BytesValue.of(randomUUID().toString().getBytes()));
+
+    final RawTransaction.SigningHash signingHash = rawTransaction.calculateSigningHash();
+    assertEquals(rawTransaction.calculateHash(), signingHash.getHash());
+    assertEquals(rawTransaction.calculateHash(signature), signingHash.withSignature(signature));
+    assertEquals(rawTransaction.calculateHash(Signature.EMPTY),
+        signingHash.withSignature(Signature.EMPTY));
+  }
+
+  // serialize as a server does
+  protected TxHash serializedHash(final RawTransaction rawTransaction, final BytesValue sign)
+      throws IOException {
+    final ByteArrayOutputStream raw = new ByteArrayOutputStream();
+    final LittleEndianDataOutputStream dataOut = new LittleEndianDataOutputStream(raw);
+    dataOut.writeLong(rawTransaction.getNonce());
+    dataOut.write(rawTransaction.getSender().getBytesValue().getValue());
+    dataOut.write(rawTransaction.getRecipient().getBytesValue().getValue());
+    dataOut.write(positiveToByteArray(rawTransaction.getAmount().getValue()));
+    dataOut.write(rawTransaction.getPayload().getValue());
+    dataOut.writeLong(rawTransaction.getFee().getLimit());
+    dataOut.write(positiveToByteArray(rawTransaction.getFee().getPrice().getValue()));
+    dataOut.writeInt(rawTransaction.getTxType().getIntValue());
+    dataOut.write(rawTransaction.getChainIdHash().getBytesValue().getValue());
+    dataOut.write(sign.getValue());
+    dataOut.close();
+    return TxHash.of(BytesValue.of(digest(raw.toByteArray())));
+  }
+
   @Test
   public void testPlainTransaction() {
     final AergoKey aergoKey = new AergoKeyGenerator().create();
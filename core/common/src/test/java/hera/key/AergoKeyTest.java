@@ -21,6 +21,8 @@ import hera.api.model.Signature;
 import hera.api.model.Transaction;
 import hera.util.IoUtils;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Test;
 
 public class AergoKeyTest extends AbstractTestCase {
@@ -66,6 +68,27 @@ public class AergoKeyTest extends AbstractTestCase {
     }
   }
 
+  @Test
+  public void testSignAll() throws Exception {
+    final AergoSignVerifier verifier = new AergoSignVerifier();
+    final AergoKey key = new AergoKeyGenerator().create();
+    final List<RawTransaction> rawTransactions = new ArrayList<>();
+    for (int i = 0; i < N_TEST; ++i) {
+      rawTransactions.add(RawTransaction.newBuilder(chainIdHash)
+          .from(key.getAddress())
+          .to(key.getAddress())
+          .amount("10000", Unit.AER)
+          .nonce(i + 1L)
+          .build());
+    }
+    final List<Transaction> signedTransactions = key.signAll(rawTransactions);
+    assertEquals(rawTransactions.size(), signedTransactions.size());
+    for (int i = 0; i < N_TEST; ++i) {
+      assertEquals(key.sign(rawTransactions.get(i)), signedTransactions.get(i));
+      assertTrue(verifier.verify(signedTransactions.get(i)));
+    }
+  }
+
   @Test
   public void testSignAndVerifyMessageInBytesValue() throws Exception {
     final AergoSignVerifier verifier = new AergoSignVerifier();
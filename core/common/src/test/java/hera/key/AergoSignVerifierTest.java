@@ -0,0 +1,119 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.key;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import hera.AbstractTestCase;
+import hera.api.model.Aer.Unit;
+import hera.api.model.Block;
+import hera.api.model.BlockHeader;
+import hera.api.model.BytesValue;
+import hera.api.model.ChainIdHash;
+import hera.api.model.RawTransaction;
+import hera.api.model.Signature;
+import hera.api.model.Transaction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Test;
+
+public class AergoSignVerifierTest extends AbstractTestCase {
+
+  protected final ChainIdHash chainIdHash = ChainIdHash.of(BytesValue.EMPTY);
+
+  protected final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  protected Transaction newSigned(final AergoKey key, final long nonce) {
+    final RawTransaction rawTransaction = RawTransaction.newBuilder(chainIdHash)
+        .from(key.getAddress())
+        .to(key.getAddress())
+        .amount("10000", Unit.AER)
+        .nonce(nonce)
+        .build();
+    return key.sign(rawTransaction);
+  }
+
+  @Test
+  public void shouldVerifyAll() {
+    // given
+    final AergoKey key = new AergoKeyGenerator().create();
+    final AergoKey other = new AergoKeyGenerator().create();
+    final List<Transaction> transactions = new ArrayList<>();
+    final List<Boolean> expected = new ArrayList<>();
+    for (int i = 0; i < N_TEST; ++i) {
+      final Transaction signed = newSigned(key, i + 1L);
+      if (0 == i % 10) {
+        // signed by another key
+        transactions.add(Transaction.newBuilder()
+            .rawTransaction(signed.getRawTransaction())
+            .signature(newSigned(other, i + 1L).getSignature())
+            .hash(signed.getHash())
+            .build());
+        expected.add(false);
+      } else {
+        transactions.add(signed);
+        expected.add(true);
+      }
+    }
+
+    // when
+    final List<Boolean> actual = new AergoSignVerifier().verifyAll(transactions, executor);
+
+    // then
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void shouldVerifyAllInBlock() {
+    // given
+    final AergoKey key = new AergoKeyGenerator().create();
+    final Block block = Block.newBuilder()
+        .blockHeader(BlockHeader.newBuilder().blockNumber(1L).build())
+        .transactions(asList(newSigned(key, 1L), newSigned(key, 2L)))
+        .build();
+
+    // when
+    final List<Boolean> actual = new AergoSignVerifier().verifyAll(block);
+
+    // then
+    assertEquals(asList(true, true), actual);
+  }
+
+  @Test
+  public void shouldReportInvalidOnFailure() {
+    // given
+    final AergoKey key = new AergoKeyGenerator().create();
+    final Transaction signed = newSigned(key, 1L);
+    final Transaction malformed = Transaction.newBuilder()
+        .rawTransaction(signed.getRawTransaction())
+        .signature(Signature.of(BytesValue.of(new byte[] {1, 2, 3})))
+        .hash(signed.getHash())
+        .build();
+
+    // when
+    final List<Boolean> actual = new AergoSignVerifier().verifyAll(asList(signed, malformed));
+
+    // then
+    assertEquals(asList(true, false), actual);
+  }
+
+  @Test
+  public void shouldReuseDecodedPublicKey() {
+    final AergoKey key = new AergoKeyGenerator().create();
+    final AergoSignVerifier verifier = new AergoSignVerifier(1);
+    assertSame(verifier.getPublicKey(key.getAddress()), verifier.getPublicKey(key.getAddress()));
+  }
+
+}
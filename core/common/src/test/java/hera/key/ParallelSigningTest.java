@@ -0,0 +1,169 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.key;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import hera.AbstractTestCase;
+import hera.api.model.AccountAddress;
+import hera.api.model.Aer.Unit;
+import hera.api.model.BytesValue;
+import hera.api.model.ChainIdHash;
+import hera.api.model.Hash;
+import hera.api.model.RawTransaction;
+import hera.api.model.Signature;
+import hera.api.model.StreamObserver;
+import hera.api.model.Transaction;
+import hera.exception.HerajException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Test;
+
+public class ParallelSigningTest extends AbstractTestCase {
+
+  private static class RecordingObserver implements StreamObserver<Transaction> {
+
+    protected final List<Transaction> received = new ArrayList<>();
+
+    protected Throwable error;
+
+    protected boolean completed = false;
+
+    @Override
+    public void onNext(final Transaction value) {
+      received.add(value);
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      this.error = t;
+    }
+
+    @Override
+    public void onCompleted() {
+      this.completed = true;
+    }
+  }
+
+  protected final ChainIdHash chainIdHash = ChainIdHash.of(BytesValue.EMPTY);
+
+  protected final AergoKey key = new AergoKeyGenerator().create();
+
+  protected final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  protected List<RawTransaction> newRawTransactions(final int size) {
+    final List<RawTransaction> rawTransactions = new ArrayList<>();
+    for (int i = 0; i < size; ++i) {
+      rawTransactions.add(RawTransaction.newBuilder(chainIdHash)
+          .from(key.getAddress())
+          .to(key.getAddress())
+          .amount("10000", Unit.AER)
+          .nonce(i + 1L)
+          .build());
+    }
+    return rawTransactions;
+  }
+
+  @Test
+  public void shouldSignAllInOrder() {
+    // given
+    final List<RawTransaction> rawTransactions = newRawTransactions(N_TEST);
+
+    // when
+    final List<Transaction> signed = new ParallelSigning(key, executor).signAll(rawTransactions);
+
+    // then
+    assertEquals(rawTransactions.size(), signed.size());
+    for (int i = 0; i < rawTransactions.size(); ++i) {
+      assertEquals(key.sign(rawTransactions.get(i)), signed.get(i));
+    }
+  }
+
+  @Test
+  public void shouldSignEmpty() {
+    final List<RawTransaction> empty = Collections.emptyList();
+    assertTrue(new ParallelSigning(key, directExecutor()).signAll(empty).isEmpty());
+  }
+
+  @Test
+  public void shouldStreamInOrder() {
+    // given
+    final List<RawTransaction> rawTransactions =
+        newRawTransactions(ParallelSigning.STREAMING_WINDOW + 3);
+    final RecordingObserver observer = new RecordingObserver();
+
+    // when
+    new ParallelSigning(key, executor).signAll(rawTransactions.iterator(), observer);
+
+    // then
+    assertTrue(observer.completed);
+    assertNull(observer.error);
+    assertEquals(rawTransactions.size(), observer.received.size());
+    for (int i = 0; i < rawTransactions.size(); ++i) {
+      assertEquals(rawTransactions.get(i), observer.received.get(i).getRawTransaction());
+    }
+  }
+
+  @Test
+  public void shouldFailOnSignerError() {
+    // given
+    final Signer failing = new Signer() {
+      @Override
+      public Transaction sign(final RawTransaction rawTransaction) {
+        if (3L == rawTransaction.getNonce()) {
+          throw new HerajException("Signing failed");
+        }
+        return key.sign(rawTransaction);
+      }
+
+      @Override
+      public Signature signMessage(final BytesValue message) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Signature signMessage(final Hash hashedMessage) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public AccountAddress getPrincipal() {
+        return key.getAddress();
+      }
+    };
+    final List<RawTransaction> rawTransactions = newRawTransactions(10);
+    final RecordingObserver observer = new RecordingObserver();
+
+    // when
+    new ParallelSigning(failing, executor).signAll(rawTransactions.iterator(), observer);
+    try {
+      new ParallelSigning(failing, executor).signAll(rawTransactions);
+      fail();
+    } catch (HerajException e) {
+      // then
+      assertEquals("Signing failed", e.getMessage());
+    }
+
+    // then
+    assertFalse(observer.completed);
+    assertTrue(observer.error instanceof HerajException);
+    assertEquals(2, observer.received.size());
+  }
+
+}
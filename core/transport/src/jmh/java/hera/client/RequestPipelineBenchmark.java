@@ -0,0 +1,92 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static hera.client.ClientContextKeys.GRPC_REQUEST_METRICS;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_RETRY_BUDGET;
+import static java.util.Arrays.asList;
+
+import hera.Context;
+import hera.EmptyContext;
+import hera.RequestMethod;
+import hera.exception.HerajException;
+import hera.strategy.HistogramMetricsRegistry;
+import hera.strategy.MetricsStrategy;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A benchmark of a request pipeline without a network. Run with {@code -prof gc} to see
+ * {@code gc.alloc.rate.norm}, bytes allocated per call.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class RequestPipelineBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkContext {
+
+    protected final Context context = EmptyContext.getInstance()
+        .withValue(GRPC_REQUEST_METRICS, new MetricsStrategy(new HistogramMetricsRegistry()))
+        .withValue(GRPC_REQUEST_RETRY_BUDGET,
+            new RetryBudget(RetryBudget.DEFAULT_RATIO, RetryBudget.DEFAULT_CAPACITY));
+
+    protected final AbstractTemplate template =
+        new AbstractTemplate(new UnmodifiableContextStorage(context)) {
+        };
+
+    protected final RequestMethod<Object> succeeding = new RequestMethod<Object>() {
+
+      @Override
+      public String getName() {
+        return "succeeding";
+      }
+
+      @Override
+      protected Object runInternal(final List<Object> parameters) {
+        return parameters.get(0);
+      }
+    };
+
+    protected final RequestMethod<Object> failing = new RequestMethod<Object>() {
+
+      @Override
+      public String getName() {
+        return "failing";
+      }
+
+      @Override
+      protected Object runInternal(final List<Object> parameters) {
+        throw new IllegalStateException("Failing");
+      }
+    };
+
+    protected final List<Object> parameters = asList((Object) "parameter");
+  }
+
+  @Benchmark
+  public Object request(final BenchmarkContext context) {
+    return context.template.request(context.succeeding, context.parameters);
+  }
+
+  /**
+   * Request failing on a caller thread, whose error already has a stack trace of a caller.
+   *
+   * @param context a benchmark context
+   * @return an error
+   */
+  @Benchmark
+  public Object requestFailing(final BenchmarkContext context) {
+    try {
+      return context.template.request(context.failing, context.parameters);
+    } catch (HerajException e) {
+      return e;
+    }
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.catchingAsync;
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.util.ValidationUtils.assertNotNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.Context;
+import hera.ContextHolder;
+import hera.ContextStorage;
+import hera.RequestMethod;
+import hera.exception.HerajException;
+import hera.exception.TransportExceptionConverter;
+import hera.util.ExceptionConverter;
+import java.util.List;
+import org.slf4j.Logger;
+
+abstract class AbstractAsyncTemplate {
+
+  protected final transient Logger logger = getLogger(getClass());
+
+  // not final for test
+  protected AsyncDecoratingRequester requester = new AsyncDecoratingRequester();
+
+  protected final ExceptionConverter<HerajException> exceptionConverter =
+      new TransportExceptionConverter();
+
+  protected final ContextStorage<Context> contextStorage;
+
+  protected final ScopedContexts scopedContexts;
+
+  AbstractAsyncTemplate(final ContextStorage<Context> contextStorage) {
+    assertNotNull(contextStorage, "ContextStorage must not null");
+    this.contextStorage = contextStorage;
+    this.scopedContexts = new ScopedContexts(contextStorage);
+  }
+
+  protected <R> ListenableFuture<R> request(final RequestMethod<ListenableFuture<R>> requestMethod,
+      final List<Object> parameters) {
+    final Context previous = ContextHolder.current();
+    try {
+      final Context context = scopedContexts.get(requestMethod.getName());
+      logger.trace("Attach context {} to Thread {}", context, Thread.currentThread());
+      ContextHolder.attach(context);
+      final ListenableFuture<R> future = requester.requestAsync(
+          requestMethod.toInvocation(parameters));
+      return catchingAsync(future, Exception.class, new AsyncFunction<Exception, R>() {
+        @Override
+        public ListenableFuture<R> apply(final Exception e) {
+          return immediateFailedFuture(exceptionConverter.convert(e));
+        }
+      }, directExecutor());
+    } catch (Exception e) {
+      return immediateFailedFuture(exceptionConverter.convert(e));
+    } finally {
+      // restore a previous one not to lose a context of an outer request
+      ContextHolder.attach(previous);
+      logger.trace("Restore context {} to Thread {}", previous, Thread.currentThread());
+    }
+  }
+
+}
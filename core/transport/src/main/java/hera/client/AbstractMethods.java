@@ -4,16 +4,31 @@
 
 package hera.client;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static hera.client.ClientContextKeys.GRPC_CLIENT;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_TIMEOUT;
+import static hera.client.ClientContextKeys.GRPC_STREAM_BUFFER_SIZE;
+import static hera.client.ClientContextKeys.GRPC_STREAM_EXECUTOR;
+import static hera.client.ClientContextKeys.GRPC_STREAM_OVERFLOW_POLICY;
 import static hera.client.ClientContextKeys.GRPC_VALUE_CHAIN_ID_HASH_HOLDER;
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import hera.Context;
 import hera.ContextHolder;
 import hera.api.model.ChainIdHash;
+import hera.api.model.Time;
 import hera.exception.HerajException;
+import hera.strategy.InvocationStrategy;
+import hera.strategy.TimeoutStrategy;
+import hera.transport.ModelConverter;
+import io.grpc.StatusRuntimeException;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import types.AergoRPCServiceGrpc.AergoRPCServiceBlockingStub;
+import types.AergoRPCServiceGrpc.AergoRPCServiceFutureStub;
 import types.AergoRPCServiceGrpc.AergoRPCServiceStub;
 
 abstract class AbstractMethods {
@@ -30,6 +45,24 @@ abstract class AbstractMethods {
     return grpcClient.getBlockingStub();
   }
 
+  protected AergoRPCServiceFutureStub getFutureStub() {
+    final Context current = ContextHolder.current();
+    final GrpcClient grpcClient = current.get(GRPC_CLIENT);
+    if (null == grpcClient) {
+      throw new HerajException("No grpc client in context");
+    }
+    logger.trace("GrpcClient: {}", grpcClient);
+    final AergoRPCServiceFutureStub futureStub = grpcClient.getFutureStub();
+
+    // future stub can't be wrapped by an invocation, so apply timeout as a grpc deadline
+    final InvocationStrategy timeoutStrategy = current.get(GRPC_REQUEST_TIMEOUT);
+    if (timeoutStrategy instanceof TimeoutStrategy) {
+      final Time timeout = ((TimeoutStrategy) timeoutStrategy).getTimeout();
+      return futureStub.withDeadlineAfter(timeout.getValue(), timeout.getUnit());
+    }
+    return futureStub;
+  }
+
   protected AergoRPCServiceStub getStreamStub() {
     final Context current = ContextHolder.current();
     final GrpcClient grpcClient = current.get(GRPC_CLIENT);
@@ -40,6 +73,20 @@ abstract class AbstractMethods {
     return grpcClient.getStreamStub();
   }
 
+  protected <RpcModelT, DomainModelT> GrpcStreamObserverAdaptor<RpcModelT, DomainModelT>
+      newStreamObserver(final io.grpc.Context.CancellableContext cancellableContext,
+      final hera.api.model.StreamObserver<DomainModelT> observer,
+      final ModelConverter<DomainModelT, RpcModelT> converter) {
+    final Context current = ContextHolder.current();
+    final Integer bufferSize = current.get(GRPC_STREAM_BUFFER_SIZE);
+    final OverflowPolicy overflowPolicy = current.get(GRPC_STREAM_OVERFLOW_POLICY);
+    final Executor executor = current.get(GRPC_STREAM_EXECUTOR);
+    return new GrpcStreamObserverAdaptor<>(cancellableContext, observer, converter,
+        null != bufferSize ? bufferSize : GrpcStreamObserverAdaptor.DEFAULT_BUFFER_SIZE,
+        null != overflowPolicy ? overflowPolicy : OverflowPolicy.BLOCK,
+        null != executor ? executor : directExecutor());
+  }
+
   protected ChainIdHash getChainIdHash() {
     final Context current = ContextHolder.current();
     final ChainIdHashHolder chainIdHashHolder = current.get(GRPC_VALUE_CHAIN_ID_HASH_HOLDER);
@@ -50,4 +97,29 @@ abstract class AbstractMethods {
     return chainIdHashHolder.get();
   }
 
+  /**
+   * Recover a future failed by {@link StatusRuntimeException} whose message contains
+   * {@code message} with {@code fallback}. It's an asynchronous version of catching
+   * {@link StatusRuntimeException} on a blocking stub.
+   *
+   * @param <T> a type of future value
+   * @param future a future to recover
+   * @param message a message to check
+   * @param fallback a fallback value
+   * @return a recovered future
+   */
+  protected <T> ListenableFuture<T> withFallback(final ListenableFuture<T> future,
+      final String message, final T fallback) {
+    return Futures.catching(future, StatusRuntimeException.class,
+        new Function<StatusRuntimeException, T>() {
+          @Override
+          public T apply(final StatusRuntimeException e) {
+            if (null == e.getMessage() || !e.getMessage().contains(message)) {
+              throw e;
+            }
+            return fallback;
+          }
+        }, directExecutor());
+  }
+
 }
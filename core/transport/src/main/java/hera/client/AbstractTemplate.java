@@ -31,9 +31,12 @@ abstract class AbstractTemplate {
 
   protected final ContextStorage<Context> contextStorage;
 
+  protected final ScopedContexts scopedContexts;
+
   AbstractTemplate(final ContextStorage<Context> contextStorage) {
     assertNotNull(contextStorage, "ContextStorage must not null");
     this.contextStorage = contextStorage;
+    this.scopedContexts = new ScopedContexts(contextStorage);
   }
 
   protected <R> R request(final RequestMethod<R> requestMethod) {
@@ -41,17 +44,18 @@ abstract class AbstractTemplate {
   }
 
   protected <R> R request(final RequestMethod<R> requestMethod, final List<Object> parameters) {
+    final Context previous = ContextHolder.current();
     try {
-      final Context context = contextStorage.get()
-          .withScope(requestMethod.getName());
+      final Context context = scopedContexts.get(requestMethod.getName());
       logger.trace("Attach context {} to Thread {}", context, Thread.currentThread());
       ContextHolder.attach(context);
       return requester.request(requestMethod.toInvocation(parameters));
     } catch (Exception e) {
       throw exceptionConverter.convert(e);
     } finally {
-      final Context removed = ContextHolder.remove();
-      logger.trace("Remove context {} from Thread {}", removed, Thread.currentThread());
+      // restore a previous one not to lose a context of an outer request
+      ContextHolder.attach(previous);
+      logger.trace("Restore context {} to Thread {}", previous, Thread.currentThread());
     }
   }
 
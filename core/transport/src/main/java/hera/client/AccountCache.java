@@ -0,0 +1,324 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.util.ValidationUtils.assertNotNull;
+import static hera.util.ValidationUtils.assertTrue;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.api.AsyncBlockOperation;
+import hera.api.BlockOperation;
+import hera.api.model.AccountAddress;
+import hera.api.model.AccountState;
+import hera.api.model.Block;
+import hera.api.model.BlockHash;
+import hera.api.model.BlockMetadata;
+import hera.api.model.BytesValue;
+import hera.api.model.Name;
+import hera.api.model.StreamObserver;
+import hera.api.model.Subscription;
+import hera.api.model.Transaction;
+import hera.api.model.Transaction.TxType;
+import lombok.ToString;
+import org.slf4j.Logger;
+
+/**
+ * A bounded cache of account states and name owners valid as of the best block seen.
+ *
+ * <p>
+ * A cache subscribes block metadatas on a first lookup and serves nothing until a first block
+ * metadata arrives. Every lookup starts with {@link #begin()} returning a stamp and a fetched
+ * value is put with the stamp. A value fetched while a new block arrives is dropped, so a value
+ * older than the best block is never put. Entries are invalidated by {@link
+ * AccountCacheInvalidation}. If a stream fails or skips a height, all the entries are dropped and
+ * a stream is subscribed again on a next lookup.
+ * </p>
+ */
+@ToString
+class AccountCache {
+
+  public static final long NOT_SERVING = -1L;
+
+  @ToString.Exclude
+  protected final transient Logger logger = getLogger(getClass());
+
+  protected final long maximumSize;
+
+  protected final AccountCacheInvalidation invalidation;
+
+  @ToString.Exclude
+  protected final Cache<AccountAddress, AccountState> states;
+
+  @ToString.Exclude
+  protected final Cache<Name, AccountAddress> owners;
+
+  // a generation if serving, otherwise NOT_SERVING
+  @ToString.Exclude
+  protected volatile long stamp = NOT_SERVING;
+
+  @ToString.Exclude
+  protected final Object lock = new Object();
+
+  // guarded by lock
+  @ToString.Exclude
+  protected BlockOperation blockOperation;
+  @ToString.Exclude
+  protected AsyncBlockOperation asyncBlockOperation;
+  @ToString.Exclude
+  protected Subscription<BlockMetadata> subscription;
+  protected long bestHeight = 0L;
+  protected long generation = 0L;
+  protected int unsettled = 0;
+  protected long epoch = 0L;
+  protected boolean closed = false;
+
+  AccountCache(final long maximumSize, final AccountCacheInvalidation invalidation) {
+    assertTrue(0 < maximumSize, "Maximum size must be positive");
+    assertNotNull(invalidation, "Invalidation must not null");
+    this.maximumSize = maximumSize;
+    this.invalidation = invalidation;
+    this.states = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    this.owners = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+  }
+
+  /**
+   * Bind block operations of a client to subscribe block metadatas and to fetch blocks.
+   *
+   * @param blockOperation a block operation
+   * @param asyncBlockOperation an async block operation
+   */
+  public void bind(final BlockOperation blockOperation,
+      final AsyncBlockOperation asyncBlockOperation) {
+    assertNotNull(blockOperation, "Block operation must not null");
+    assertNotNull(asyncBlockOperation, "Async block operation must not null");
+    synchronized (lock) {
+      this.blockOperation = blockOperation;
+      this.asyncBlockOperation = asyncBlockOperation;
+    }
+  }
+
+  /**
+   * Begin a lookup. Subscribe block metadatas if not yet. A failure of subscribing is logged and
+   * a lookup falls through to a request.
+   *
+   * @return a stamp to put a fetched value with. {@link #NOT_SERVING} if a cache can't serve now
+   */
+  public long begin() {
+    final long current = stamp;
+    if (NOT_SERVING != current) {
+      return current;
+    }
+    synchronized (lock) {
+      try {
+        subscribeIfNeeded();
+      } catch (Exception e) {
+        logger.info("Subscribing block metadata failed: {}", e.toString());
+        return NOT_SERVING;
+      }
+      return stamp;
+    }
+  }
+
+  public AccountState getState(final long stamp, final AccountAddress accountAddress) {
+    return NOT_SERVING != stamp ? states.getIfPresent(accountAddress) : null;
+  }
+
+  public AccountAddress getNameOwner(final long stamp, final Name name) {
+    return NOT_SERVING != stamp ? owners.getIfPresent(name) : null;
+  }
+
+  public void put(final long stamp, final AccountState accountState) {
+    if (NOT_SERVING == stamp || null == accountState) {
+      return;
+    }
+    synchronized (lock) {
+      if (stamp == this.stamp) {
+        states.put(accountState.getAddress(), accountState);
+      }
+    }
+  }
+
+  public void put(final long stamp, final Name name, final AccountAddress owner) {
+    if (NOT_SERVING == stamp || null == owner) {
+      return;
+    }
+    synchronized (lock) {
+      if (stamp == this.stamp) {
+        owners.put(name, owner);
+      }
+    }
+  }
+
+  /**
+   * Unsubscribe block metadatas and drop all the entries. A closed cache never serves.
+   */
+  public void close() {
+    synchronized (lock) {
+      closed = true;
+      if (null != subscription) {
+        subscription.unsubscribe();
+      }
+      reset();
+    }
+  }
+
+  // must be called with lock
+  protected void subscribeIfNeeded() {
+    if (closed || null != subscription || null == blockOperation) {
+      return;
+    }
+    logger.debug("Subscribe block metadata to invalidate account cache");
+    final long current = epoch;
+    subscription = blockOperation.subscribeBlockMetadata(new StreamObserver<BlockMetadata>() {
+
+      @Override
+      public void onNext(final BlockMetadata value) {
+        onBlockMetadata(current, value);
+      }
+
+      @Override
+      public void onError(final Throwable t) {
+        logger.info("Block metadata subscription failed: {}", t.toString());
+        onClosed(current);
+      }
+
+      @Override
+      public void onCompleted() {
+        onClosed(current);
+      }
+    });
+  }
+
+  // must be called with lock
+  protected void reset() {
+    subscription = null;
+    bestHeight = 0L;
+    unsettled = 0;
+    ++epoch;
+    invalidateAll();
+  }
+
+  // must be called with lock
+  protected void invalidateAll() {
+    ++generation;
+    stamp = NOT_SERVING;
+    states.invalidateAll();
+    owners.invalidateAll();
+  }
+
+  // must be called with lock
+  protected void settle() {
+    stamp = 0 == unsettled ? generation : NOT_SERVING;
+  }
+
+  protected void onBlockMetadata(final long expected, final BlockMetadata blockMetadata) {
+    final long height = blockMetadata.getBlockHeader().getBlockNumber();
+    final BlockHash blockHash = blockMetadata.getBlockHash();
+    final AsyncBlockOperation operation;
+    synchronized (lock) {
+      if (expected != epoch) {
+        return;
+      }
+      logger.trace("New block metadata of height: {}", height);
+      if (0L != bestHeight && height != bestHeight + 1) {
+        logger.debug("Height jumped from {} to {}, drop all", bestHeight, height);
+        invalidateAll();
+      }
+      bestHeight = height;
+      ++generation;
+      // a fee may go to a block producer
+      final AccountAddress coinbase = blockMetadata.getBlockHeader().getCoinbaseAccount();
+      if (null != coinbase) {
+        states.invalidate(coinbase);
+      }
+      if (0 != blockMetadata.getTxCount()) {
+        if (AccountCacheInvalidation.EVERY_BLOCK == invalidation) {
+          invalidateAll();
+        } else {
+          ++unsettled;
+        }
+      }
+      settle();
+      if (AccountCacheInvalidation.EVERY_BLOCK == invalidation
+          || 0 == blockMetadata.getTxCount()) {
+        return;
+      }
+      operation = asyncBlockOperation;
+    }
+    fetch(operation, expected, blockHash);
+  }
+
+  protected void fetch(final AsyncBlockOperation operation, final long expected,
+      final BlockHash blockHash) {
+    logger.trace("Fetch block of hash: {} to find touched accounts", blockHash);
+    final ListenableFuture<Block> future;
+    try {
+      future = operation.getBlock(blockHash);
+    } catch (Exception e) {
+      logger.debug("Fetching block of hash: {} failed: {}", blockHash, e.toString());
+      onBlock(expected, null);
+      return;
+    }
+    Futures.addCallback(future, new FutureCallback<Block>() {
+
+      @Override
+      public void onSuccess(final Block block) {
+        onBlock(expected, block);
+      }
+
+      @Override
+      public void onFailure(final Throwable t) {
+        logger.debug("Fetching block of hash: {} failed: {}", blockHash, t.toString());
+        onBlock(expected, null);
+      }
+    }, directExecutor());
+  }
+
+  protected void onBlock(final long expected, final Block block) {
+    synchronized (lock) {
+      if (expected != epoch) {
+        return;
+      }
+      --unsettled;
+      if (null == block) {
+        invalidateAll();
+      } else {
+        for (final Transaction transaction : block.getTransactions()) {
+          if (!isTransfer(transaction)) {
+            logger.trace("Non-transfer tx: {}, drop all", transaction.getHash());
+            invalidateAll();
+            break;
+          }
+          states.invalidate(transaction.getSender());
+          states.invalidate(transaction.getRecipient());
+        }
+      }
+      settle();
+    }
+  }
+
+  protected boolean isTransfer(final Transaction transaction) {
+    final TxType txType = transaction.getTxType();
+    final boolean emptyPayload = BytesValue.EMPTY.equals(transaction.getPayload());
+    return (TxType.TRANSFER == txType || TxType.NORMAL == txType) && emptyPayload;
+  }
+
+  protected void onClosed(final long expected) {
+    synchronized (lock) {
+      if (expected != epoch) {
+        return;
+      }
+      // subscribed again on a next lookup
+      reset();
+    }
+  }
+
+}
@@ -0,0 +1,31 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+
+/**
+ * A way an account cache drops entries which a new block may have changed. Either way, an entry is
+ * valid as of the best block seen from a block metadata stream.
+ */
+@ApiAudience.Public
+@ApiStability.Unstable
+public enum AccountCacheInvalidation {
+
+  /**
+   * Drop all the entries on every block having any transaction. A block is never fetched.
+   */
+  EVERY_BLOCK,
+
+  /**
+   * Fetch every block having any transaction and drop only states of a sender and a recipient of
+   * a transfer in it. Any other transaction drops all the entries. Note that a transfer to a
+   * contract runs its default function which may send aergo to others without being seen. Use
+   * {@link #EVERY_BLOCK} if such contracts are involved.
+   */
+  TOUCHED_ACCOUNTS
+
+}
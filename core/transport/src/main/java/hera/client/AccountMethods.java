@@ -4,6 +4,7 @@
 
 package hera.client;
 
+import static hera.client.ClientContextKeys.GRPC_VALUE_ACCOUNT_CACHE;
 import static hera.client.Methods.ACCOUNT_CREATENAMETX;
 import static hera.client.Methods.ACCOUNT_LIST_ELECTED;
 import static hera.client.Methods.ACCOUNT_NAMEOWNER;
@@ -17,6 +18,7 @@ import static hera.client.Methods.ACCOUNT_VOTETX;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.google.protobuf.ByteString;
+import hera.ContextHolder;
 import hera.RequestMethod;
 import hera.api.model.AccountAddress;
 import hera.api.model.AccountState;
@@ -70,6 +72,10 @@ class AccountMethods extends AbstractMethods {
 
   protected final TransactionMethods transactionMethods = new TransactionMethods();
 
+  protected AccountCache getAccountCache() {
+    return ContextHolder.current().get(GRPC_VALUE_ACCOUNT_CACHE);
+  }
+
   @Getter
   protected final RequestMethod<AccountState> accountState = new RequestMethod<AccountState>() {
 
@@ -86,6 +92,17 @@ class AccountMethods extends AbstractMethods {
       final AccountAddress accountAddress = (AccountAddress) parameters.get(0);
       logger.debug("GetState with address: {}", accountAddress);
 
+      final AccountCache accountCache = getAccountCache();
+      long stamp = AccountCache.NOT_SERVING;
+      if (null != accountCache) {
+        stamp = accountCache.begin();
+        final AccountState cached = accountCache.getState(stamp, accountAddress);
+        if (null != cached) {
+          logger.trace("Cache hit: {}", cached);
+          return cached;
+        }
+      }
+
       final Rpc.SingleBytes rpcAddress = Rpc.SingleBytes.newBuilder()
           .setValue(accountAddressConverter.convertToRpcModel(accountAddress))
           .build();
@@ -93,10 +110,14 @@ class AccountMethods extends AbstractMethods {
 
       final Blockchain.State rpcState = getBlockingStub().getState(rpcAddress);
       final AccountState withoutAddress = accountStateConverter.convertToDomainModel(rpcState);
-      return AccountState.newBuilder().address(accountAddress)
+      final AccountState accountState = AccountState.newBuilder().address(accountAddress)
           .nonce(withoutAddress.getNonce())
           .balance(withoutAddress.getBalance())
           .build();
+      if (null != accountCache) {
+        accountCache.put(stamp, accountState);
+      }
+      return accountState;
     }
   };
 
@@ -186,6 +207,18 @@ class AccountMethods extends AbstractMethods {
       final long blockNumber = (long) parameters.get(1);
       logger.debug("Get name owner with name: {}, blockNumber: {}", name, blockNumber);
 
+      // an owner at a specific block isn't cached
+      final AccountCache accountCache = 0L == blockNumber ? getAccountCache() : null;
+      long stamp = AccountCache.NOT_SERVING;
+      if (null != accountCache) {
+        stamp = accountCache.begin();
+        final AccountAddress cached = accountCache.getNameOwner(stamp, name);
+        if (null != cached) {
+          logger.trace("Cache hit: {}", cached);
+          return cached;
+        }
+      }
+
       final Rpc.Name rpcName = Rpc.Name.newBuilder()
           .setName(name.getValue())
           .setBlockNo(blockNumber)
@@ -195,7 +228,12 @@ class AccountMethods extends AbstractMethods {
       final Rpc.NameInfo rpcNameInfo = getBlockingStub().getNameInfo(rpcName);
       final AccountAddress converted = accountAddressConverter
           .convertToDomainModel(rpcNameInfo.getOwner());
-      return BytesValue.EMPTY.equals(converted.getBytesValue()) ? null : converted;
+      final AccountAddress owner = BytesValue.EMPTY.equals(converted.getBytesValue()) ? null
+          : converted;
+      if (null != accountCache) {
+        accountCache.put(stamp, name, owner);
+      }
+      return owner;
     }
 
   };
@@ -7,13 +7,47 @@ package hera.client;
 import hera.annotation.ApiAudience;
 import hera.annotation.ApiStability;
 import hera.api.AergoApi;
+import hera.api.AsyncAccountOperation;
+import hera.api.AsyncBlockOperation;
+import hera.api.AsyncContractOperation;
+import hera.api.AsyncTransactionOperation;
 import hera.api.model.ChainIdHash;
+import hera.api.model.RequestMetrics;
 import java.io.Closeable;
+import java.util.Map;
 
 @ApiAudience.Public
 @ApiStability.Unstable
 public interface AergoClient extends AergoApi, Closeable {
 
+  /**
+   * Get non-blocking account operation.
+   *
+   * @return {@code AsyncAccountOperation}
+   */
+  AsyncAccountOperation getAsyncAccountOperation();
+
+  /**
+   * Get non-blocking block operation.
+   *
+   * @return {@code AsyncBlockOperation}
+   */
+  AsyncBlockOperation getAsyncBlockOperation();
+
+  /**
+   * Get non-blocking transaction operation.
+   *
+   * @return {@code AsyncTransactionOperation}
+   */
+  AsyncTransactionOperation getAsyncTransactionOperation();
+
+  /**
+   * Get non-blocking contract operation.
+   *
+   * @return {@code AsyncContractOperation}
+   */
+  AsyncContractOperation getAsyncContractOperation();
+
   /**
    * Get cached chain id hash. null if no cached one.
    *
@@ -28,6 +62,15 @@ public interface AergoClient extends AergoApi, Closeable {
    */
   void cacheChainIdHash(ChainIdHash chainIdHash);
 
+  /**
+   * Get a snapshot of request metrics by a request method name. Empty if metrics are not enabled
+   * or a registry doesn't keep them by itself.
+   *
+   * @return request metrics by a request method name
+   * @see ClientConfiguer#withMetrics()
+   */
+  Map<String, RequestMetrics> getMetrics();
+
   void close();
 
 }
@@ -5,12 +5,27 @@
 package hera.client;
 
 import static hera.client.ClientContextKeys.GRPC_CLIENT;
+import static hera.client.ClientContextKeys.GRPC_CONNECTION_BALANCING;
 import static hera.client.ClientContextKeys.GRPC_CONNECTION_ENDPOINT;
 import static hera.client.ClientContextKeys.GRPC_CONNECTION_NEGOTIATION;
+import static hera.client.ClientContextKeys.GRPC_CONNECTION_POOL_SIZE;
 import static hera.client.ClientContextKeys.GRPC_CONNECTION_STRATEGY;
 import static hera.client.ClientContextKeys.GRPC_FAILOVER_HANDLER_CHAIN;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_COALESCING;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_HEDGING;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_METRICS;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_RETRY_BUDGET;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_SCHEDULER;
 import static hera.client.ClientContextKeys.GRPC_REQUEST_TIMEOUT;
+import static hera.client.ClientContextKeys.GRPC_STREAM_BUFFER_SIZE;
+import static hera.client.ClientContextKeys.GRPC_STREAM_EXECUTOR;
+import static hera.client.ClientContextKeys.GRPC_STREAM_OVERFLOW_POLICY;
+import static hera.client.ClientContextKeys.GRPC_VALUE_ACCOUNT_CACHE;
+import static hera.client.ClientContextKeys.GRPC_VALUE_BLOCK_CACHE;
 import static hera.client.ClientContextKeys.GRPC_VALUE_CHAIN_ID_HASH_HOLDER;
+import static hera.client.ClientContextKeys.GRPC_VALUE_METRICS_REGISTRY;
+import static hera.util.ValidationUtils.assertNotNull;
+import static hera.util.ValidationUtils.assertTrue;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import hera.Context;
@@ -22,18 +37,30 @@ import hera.annotation.ApiStability;
 import hera.api.model.HostnameAndPort;
 import hera.api.model.Time;
 import hera.exception.HerajException;
+import hera.strategy.BalancingStrategy;
+import hera.strategy.HistogramMetricsRegistry;
+import hera.strategy.MetricsRegistry;
+import hera.strategy.MetricsStrategy;
 import hera.strategy.NettyConnectStrategy;
 import hera.strategy.OkHttpConnectStrategy;
 import hera.strategy.PlainTextChannelStrategy;
+import hera.strategy.RoundRobinBalancingStrategy;
+import hera.strategy.SharedNettyConnectStrategy;
 import hera.strategy.TimeoutStrategy;
 import hera.strategy.TlsChannelStrategy;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 
@@ -45,6 +72,29 @@ public class AergoClientBuilder implements ClientConfiguer<AergoClientBuilder> {
 
   protected final Map<Object, Object> key2Value = new HashMap<>();
   protected final List<ComparableFailoverHandler> failoverHandlers = new ArrayList<>();
+  protected final List<HostnameAndPort> endpoints = new ArrayList<>();
+
+  // a retry budget is made per client
+  protected int backoffRetryCount = 0;
+  protected Time initialBackoff;
+  protected Time maxBackoff;
+  protected double retryBudgetRatio = RetryBudget.DEFAULT_RATIO;
+  protected int retryBudgetCapacity = RetryBudget.DEFAULT_CAPACITY;
+
+  // a hedging budget is made per client
+  protected Set<String> hedgingMethods;
+  protected Time hedgingDelay;
+  protected double hedgingPercentile = 0.0;
+
+  // in-flight requests are coalesced per client
+  protected Set<String> coalescingMethods;
+
+  // an account cache is made per client
+  protected long accountCacheSize = 0L;
+  protected AccountCacheInvalidation accountCacheInvalidation;
+
+  // breakers are made per client
+  protected CircuitBreakerConfig circuitBreakerConfig;
 
   {
     // add built-in holders
@@ -62,7 +112,25 @@ public class AergoClientBuilder implements ClientConfiguer<AergoClientBuilder> {
 
   @Override
   public AergoClientBuilder withEndpoint(final String endpoint) {
-    this.key2Value.put(GRPC_CONNECTION_ENDPOINT, HostnameAndPort.of(endpoint));
+    return withEndpoints(endpoint);
+  }
+
+  @Override
+  public AergoClientBuilder withEndpoints(final String... endpoints) {
+    assertNotNull(endpoints, "Endpoints must not null");
+    assertTrue(0 < endpoints.length, "Endpoints must not empty");
+    this.endpoints.clear();
+    for (final String endpoint : endpoints) {
+      this.endpoints.add(HostnameAndPort.of(endpoint));
+    }
+    this.key2Value.put(GRPC_CONNECTION_ENDPOINT, this.endpoints.get(0));
+    return this;
+  }
+
+  @Override
+  public AergoClientBuilder withBalancing(final BalancingStrategy balancingStrategy) {
+    assertNotNull(balancingStrategy, "Balancing strategy must not null");
+    this.key2Value.put(GRPC_CONNECTION_BALANCING, balancingStrategy);
     return this;
   }
 
@@ -78,6 +146,27 @@ public class AergoClientBuilder implements ClientConfiguer<AergoClientBuilder> {
     return this;
   }
 
+  @Override
+  public AergoClientBuilder withSharedEventLoop() {
+    this.key2Value.put(GRPC_CONNECTION_STRATEGY, new SharedNettyConnectStrategy());
+    return this;
+  }
+
+  @Override
+  public AergoClientBuilder withSharedEventLoop(final int eventLoopThreads,
+      final int executorThreads) {
+    this.key2Value.put(GRPC_CONNECTION_STRATEGY,
+        new SharedNettyConnectStrategy(eventLoopThreads, executorThreads));
+    return this;
+  }
+
+  @Override
+  public AergoClientBuilder withChannelPool(final int size) {
+    assertTrue(0 < size, "Channel pool size must be positive");
+    this.key2Value.put(GRPC_CONNECTION_POOL_SIZE, size);
+    return this;
+  }
+
   @Override
   public AergoClientBuilder withPlainText() {
     this.key2Value.put(GRPC_CONNECTION_NEGOTIATION, new PlainTextChannelStrategy());
@@ -112,12 +201,137 @@ public class AergoClientBuilder implements ClientConfiguer<AergoClientBuilder> {
     return this;
   }
 
+  @Override
+  public AergoClientBuilder withBlockCache(final long maximumBytes, final int confirmationDepth) {
+    this.key2Value.put(GRPC_VALUE_BLOCK_CACHE, new BlockCache(maximumBytes, confirmationDepth));
+    return this;
+  }
+
+  @Override
+  public AergoClientBuilder withAccountCache(final long maximumSize,
+      final AccountCacheInvalidation invalidation) {
+    assertTrue(0L < maximumSize, "Maximum size must be positive");
+    assertNotNull(invalidation, "Invalidation must not null");
+    this.accountCacheSize = maximumSize;
+    this.accountCacheInvalidation = invalidation;
+    return this;
+  }
+
+  @Override
+  public AergoClientBuilder withStreamBuffer(final int size,
+      final OverflowPolicy overflowPolicy) {
+    assertTrue(0 < size, "Stream buffer size must be positive");
+    assertNotNull(overflowPolicy, "Overflow policy must not null");
+    this.key2Value.put(GRPC_STREAM_BUFFER_SIZE, size);
+    this.key2Value.put(GRPC_STREAM_OVERFLOW_POLICY, overflowPolicy);
+    return this;
+  }
+
+  @Override
+  public AergoClientBuilder withStreamExecutor(final Executor executor) {
+    assertNotNull(executor, "Stream executor must not null");
+    this.key2Value.put(GRPC_STREAM_EXECUTOR, executor);
+    return this;
+  }
+
+  @Override
+  public AergoClientBuilder withMetrics() {
+    return withMetrics(new HistogramMetricsRegistry());
+  }
+
+  @Override
+  public AergoClientBuilder withMetrics(final MetricsRegistry registry) {
+    assertNotNull(registry, "Metrics registry must not null");
+    this.key2Value.put(GRPC_VALUE_METRICS_REGISTRY, registry);
+    this.key2Value.put(GRPC_REQUEST_METRICS, new MetricsStrategy(registry));
+    return this;
+  }
+
   @Override
   public AergoClientBuilder withRetry(int count, long interval, TimeUnit unit) {
     this.failoverHandlers.add(new JustRetryFailoverHandler(count, Time.of(interval, unit)));
     return this;
   }
 
+  @Override
+  public AergoClientBuilder withBackoffRetry(final int count, final long initialBackoff,
+      final long maxBackoff, final TimeUnit unit) {
+    assertTrue(0 < count, "Retry count must be positive");
+    assertTrue(0L < initialBackoff, "Initial backoff must be positive");
+    assertTrue(initialBackoff <= maxBackoff, "Max backoff must not be less than initial one");
+    assertNotNull(unit, "Time unit must not null");
+    this.backoffRetryCount = count;
+    this.initialBackoff = Time.of(initialBackoff, unit);
+    this.maxBackoff = Time.of(maxBackoff, unit);
+    return this;
+  }
+
+  @Override
+  public AergoClientBuilder withRetryBudget(final double ratio, final int capacity) {
+    assertTrue(0.0 < ratio, "Retry budget ratio must be positive");
+    assertTrue(0 < capacity, "Retry budget capacity must be positive");
+    this.retryBudgetRatio = ratio;
+    this.retryBudgetCapacity = capacity;
+    return this;
+  }
+
+  @Override
+  public AergoClientBuilder withHedging(final long delay, final TimeUnit unit,
+      final String... methodNames) {
+    return configureHedging(0.0, delay, unit, methodNames);
+  }
+
+  @Override
+  public AergoClientBuilder withPercentileHedging(final double percentile,
+      final long initialDelay, final TimeUnit unit, final String... methodNames) {
+    assertTrue(0.0 < percentile && percentile < 1.0, "Percentile must be in (0, 1)");
+    return configureHedging(percentile, initialDelay, unit, methodNames);
+  }
+
+  protected AergoClientBuilder configureHedging(final double percentile, final long delay,
+      final TimeUnit unit, final String... methodNames) {
+    assertTrue(0L <= delay, "Hedging delay must not negative");
+    assertNotNull(unit, "Time unit must not null");
+    assertNotNull(methodNames, "Method names must not null");
+    final Set<String> names = 0 == methodNames.length ? HedgingStrategy.DEFAULT_METHODS
+        : new HashSet<>(Arrays.asList(methodNames));
+    for (final String name : names) {
+      if (!Methods.READ_ONLY_METHODS.contains(name)) {
+        throw new HerajException("Can't hedge a method changing a state: " + name);
+      }
+    }
+    this.hedgingMethods = names;
+    this.hedgingDelay = Time.of(delay, unit);
+    this.hedgingPercentile = percentile;
+    return this;
+  }
+
+  @Override
+  public AergoClientBuilder withCoalescing(final String... methodNames) {
+    assertNotNull(methodNames, "Method names must not null");
+    final Set<String> names = 0 == methodNames.length ? Methods.READ_ONLY_METHODS
+        : new HashSet<>(Arrays.asList(methodNames));
+    for (final String name : names) {
+      if (!Methods.READ_ONLY_METHODS.contains(name)) {
+        throw new HerajException("Can't coalesce a method changing a state: " + name);
+      }
+    }
+    this.coalescingMethods = names;
+    return this;
+  }
+
+  @Override
+  public AergoClientBuilder withCircuitBreaker() {
+    return withCircuitBreaker(CircuitBreakerConfig.DEFAULT);
+  }
+
+  @Override
+  public AergoClientBuilder withCircuitBreaker(final CircuitBreakerConfig config) {
+    assertNotNull(config, "Circuit breaker config must not null");
+    this.circuitBreakerConfig = config;
+    return this;
+  }
+
   /**
    * Build {@link AergoClient} with the current context.
    *
@@ -140,12 +354,68 @@ public class AergoClientBuilder implements ClientConfiguer<AergoClientBuilder> {
       context = context.withValue(key, entry.getValue());
     }
 
-    // failover handlers have priority
-    final FailoverHandlerChain failoverHandlerChain = new FailoverHandlerChain(failoverHandlers);
-    context = context.withValue(GRPC_FAILOVER_HANDLER_CHAIN, failoverHandlerChain);
+    // deadlines and asynchronous retries of all the requests are tracked by a scheduler owned
+    // by a client
+    final ScheduledExecutorService scheduler = TimeoutStrategy.newScheduler();
+    context = context.withValue(GRPC_REQUEST_SCHEDULER, scheduler);
+    final Object timeoutStrategy = key2Value.get(GRPC_REQUEST_TIMEOUT);
+    if (timeoutStrategy instanceof TimeoutStrategy) {
+      context = context.withValue(GRPC_REQUEST_TIMEOUT,
+          ((TimeoutStrategy) timeoutStrategy).withScheduler(scheduler));
+    }
+
+    if (null != hedgingMethods) {
+      context = context.withValue(GRPC_REQUEST_HEDGING, new HedgingStrategy(hedgingMethods,
+          hedgingDelay, hedgingPercentile,
+          new RetryBudget(RetryBudget.DEFAULT_RATIO, RetryBudget.DEFAULT_CAPACITY), scheduler));
+    }
+
+    // a block metadata stream and a lookup may go to different nodes with multiple endpoints
+    if (null != accountCacheInvalidation && 1 < endpoints.size()) {
+      logger.warn("Account cache disabled with multiple endpoints: {}", endpoints);
+    } else if (null != accountCacheInvalidation) {
+      context = context.withValue(GRPC_VALUE_ACCOUNT_CACHE,
+          new AccountCache(accountCacheSize, accountCacheInvalidation));
+    }
+
+    if (null != coalescingMethods) {
+      context = context.withValue(GRPC_REQUEST_COALESCING,
+          new CoalescingStrategy(coalescingMethods));
+    }
 
     // init grpc client
-    context = context.withValue(GRPC_CLIENT, new GrpcClientImpl());
+    final List<ComparableFailoverHandler> handlers = new ArrayList<>(failoverHandlers);
+    CircuitBreakerFailoverHandler circuitBreaker = null;
+    if (null != circuitBreakerConfig) {
+      circuitBreaker = new CircuitBreakerFailoverHandler(circuitBreakerConfig,
+          Math.max(0, endpoints.size() - 1));
+      handlers.add(circuitBreaker);
+    }
+    if (1 < endpoints.size()) {
+      final BalancingStrategy balancingStrategy = context.getOrDefault(GRPC_CONNECTION_BALANCING,
+          new RoundRobinBalancingStrategy());
+      context = context.withValue(GRPC_CLIENT, new BalancingGrpcClient(endpoints,
+          balancingStrategy, BalancingGrpcClient.DEFAULT_PROBE_INTERVAL, circuitBreaker));
+      handlers.add(new SwitchNodeFailoverHandler(endpoints.size() - 1));
+    } else if (null != circuitBreaker) {
+      final HostnameAndPort endpoint = context.getOrDefault(GRPC_CONNECTION_ENDPOINT,
+          HostnameAndPort.of("localhost:7845"));
+      context = context.withValue(GRPC_CLIENT, new GrpcClientImpl(null,
+          Collections.singletonList(circuitBreaker.interceptorFor(endpoint))));
+    } else {
+      context = context.withValue(GRPC_CLIENT, new GrpcClientImpl());
+    }
+
+    if (0 < backoffRetryCount) {
+      final RetryBudget retryBudget = new RetryBudget(retryBudgetRatio, retryBudgetCapacity);
+      context = context.withValue(GRPC_REQUEST_RETRY_BUDGET, retryBudget);
+      handlers.add(new BackoffRetryFailoverHandler(backoffRetryCount, initialBackoff, maxBackoff,
+          retryBudget));
+    }
+
+    // failover handlers have priority
+    final FailoverHandlerChain failoverHandlerChain = new FailoverHandlerChain(handlers);
+    context = context.withValue(GRPC_FAILOVER_HANDLER_CHAIN, failoverHandlerChain);
 
     return context;
   }
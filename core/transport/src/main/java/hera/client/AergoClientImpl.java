@@ -6,19 +6,33 @@
 package hera.client;
 
 import static hera.client.ClientContextKeys.GRPC_CLIENT;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_HEDGING;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_SCHEDULER;
+import static hera.client.ClientContextKeys.GRPC_VALUE_ACCOUNT_CACHE;
 import static hera.client.ClientContextKeys.GRPC_VALUE_CHAIN_ID_HASH_HOLDER;
+import static hera.client.ClientContextKeys.GRPC_VALUE_METRICS_REGISTRY;
 import static hera.util.ValidationUtils.assertNotNull;
+import static java.util.Collections.emptyMap;
 
 import hera.Context;
 import hera.ContextStorage;
 import hera.api.AccountOperation;
+import hera.api.AsyncAccountOperation;
+import hera.api.AsyncBlockOperation;
+import hera.api.AsyncContractOperation;
+import hera.api.AsyncTransactionOperation;
 import hera.api.BlockOperation;
 import hera.api.BlockchainOperation;
 import hera.api.ContractOperation;
 import hera.api.KeyStoreOperation;
 import hera.api.TransactionOperation;
 import hera.api.model.ChainIdHash;
+import hera.api.model.RequestMetrics;
 import hera.exception.HerajException;
+import hera.strategy.InvocationStrategy;
+import hera.strategy.MetricsRegistry;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
 import lombok.Getter;
 
 class AergoClientImpl implements AergoClient {
@@ -28,6 +42,10 @@ class AergoClientImpl implements AergoClient {
   AergoClientImpl(final ContextStorage<Context> contextStorage) {
     assertNotNull(contextStorage, "ContextStorage must not null");
     this.contextStorage = contextStorage;
+    final AccountCache accountCache = contextStorage.get().get(GRPC_VALUE_ACCOUNT_CACHE);
+    if (null != accountCache) {
+      accountCache.bind(new BlockTemplate(contextStorage), new AsyncBlockTemplate(contextStorage));
+    }
   }
 
   @Getter(lazy = true)
@@ -48,6 +66,21 @@ class AergoClientImpl implements AergoClient {
   @Getter(lazy = true)
   private final ContractOperation contractOperation = new ContractTemplate(contextStorage);
 
+  @Getter(lazy = true)
+  private final AsyncAccountOperation asyncAccountOperation =
+      new AsyncAccountTemplate(contextStorage);
+
+  @Getter(lazy = true)
+  private final AsyncBlockOperation asyncBlockOperation = new AsyncBlockTemplate(contextStorage);
+
+  @Getter(lazy = true)
+  private final AsyncTransactionOperation asyncTransactionOperation =
+      new AsyncTransactionTemplate(contextStorage);
+
+  @Getter(lazy = true)
+  private final AsyncContractOperation asyncContractOperation =
+      new AsyncContractTemplate(contextStorage);
+
   @Override
   public ChainIdHash getCachedChainIdHash() {
     final Context context = contextStorage.get();
@@ -69,6 +102,16 @@ class AergoClientImpl implements AergoClient {
     chainIdHashHolder.put(chainIdHash);
   }
 
+  @Override
+  public Map<String, RequestMetrics> getMetrics() {
+    final Context context = contextStorage.get();
+    final MetricsRegistry registry = context.get(GRPC_VALUE_METRICS_REGISTRY);
+    if (null == registry) {
+      return emptyMap();
+    }
+    return registry.snapshot();
+  }
+
   @Override
   public void close() {
     try {
@@ -77,7 +120,19 @@ class AergoClientImpl implements AergoClient {
       if (null == grpcClient) {
         throw new HerajException("No grpc client");
       }
+      final AccountCache accountCache = context.get(GRPC_VALUE_ACCOUNT_CACHE);
+      if (null != accountCache) {
+        accountCache.close();
+      }
+      final InvocationStrategy hedgingStrategy = context.get(GRPC_REQUEST_HEDGING);
+      if (hedgingStrategy instanceof HedgingStrategy) {
+        ((HedgingStrategy) hedgingStrategy).close();
+      }
       grpcClient.close();
+      final ScheduledExecutorService scheduler = context.get(GRPC_REQUEST_SCHEDULER);
+      if (null != scheduler) {
+        scheduler.shutdownNow();
+      }
     } catch (HerajException e) {
       throw e;
     } catch (Exception e) {
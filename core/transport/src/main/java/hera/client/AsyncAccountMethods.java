@@ -0,0 +1,253 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.transform;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.client.Methods.ACCOUNT_LIST_ELECTED;
+import static hera.client.Methods.ACCOUNT_NAMEOWNER;
+import static hera.client.Methods.ACCOUNT_STAKEINFO;
+import static hera.client.Methods.ACCOUNT_STATE;
+import static hera.client.Methods.ACCOUNT_VOTESOF;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.protobuf.ByteString;
+import hera.RequestMethod;
+import hera.api.model.AccountAddress;
+import hera.api.model.AccountState;
+import hera.api.model.AccountTotalVote;
+import hera.api.model.BytesValue;
+import hera.api.model.ElectedCandidate;
+import hera.api.model.Name;
+import hera.api.model.StakeInfo;
+import hera.transport.AccountAddressConverterFactory;
+import hera.transport.AccountStateConverterFactory;
+import hera.transport.AccountTotalVoteConverterFactory;
+import hera.transport.ElectedCandidateConverterFactory;
+import hera.transport.ModelConverter;
+import hera.transport.StakeInfoConverterFactory;
+import java.util.LinkedList;
+import java.util.List;
+import lombok.Getter;
+import org.slf4j.Logger;
+import types.Blockchain;
+import types.Rpc;
+
+class AsyncAccountMethods extends AbstractMethods {
+
+  protected final transient Logger logger = getLogger(getClass());
+
+  protected final ModelConverter<AccountAddress, ByteString> accountAddressConverter =
+      new AccountAddressConverterFactory().create();
+
+  protected final ModelConverter<AccountState, Blockchain.State> accountStateConverter =
+      new AccountStateConverterFactory().create();
+
+  protected final ModelConverter<StakeInfo, Rpc.Staking> stakingInfoConverter =
+      new StakeInfoConverterFactory().create();
+
+  protected final ModelConverter<ElectedCandidate, Rpc.Vote> electedCandidateConverter =
+      new ElectedCandidateConverterFactory().create();
+
+  protected final ModelConverter<AccountTotalVote, Rpc.AccountVoteInfo> accountTotalVoteConverter =
+      new AccountTotalVoteConverterFactory().create();
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<AccountState>> accountState =
+      new RequestMethod<ListenableFuture<AccountState>>() {
+
+        @Getter
+        protected final String name = ACCOUNT_STATE;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, AccountAddress.class);
+        }
+
+        @Override
+        protected ListenableFuture<AccountState> runInternal(final List<Object> parameters)
+            throws Exception {
+          final AccountAddress accountAddress = (AccountAddress) parameters.get(0);
+          logger.debug("GetState asynchronously with address: {}", accountAddress);
+
+          final Rpc.SingleBytes rpcAddress = Rpc.SingleBytes.newBuilder()
+              .setValue(accountAddressConverter.convertToRpcModel(accountAddress))
+              .build();
+          logger.trace("AergoService getstate arg: {}", rpcAddress);
+
+          final ListenableFuture<Blockchain.State> rpcState = getFutureStub().getState(rpcAddress);
+          return transform(rpcState, new Function<Blockchain.State, AccountState>() {
+            @Override
+            public AccountState apply(final Blockchain.State rpcState) {
+              final AccountState withoutAddress =
+                  accountStateConverter.convertToDomainModel(rpcState);
+              return AccountState.newBuilder().address(accountAddress)
+                  .nonce(withoutAddress.getNonce())
+                  .balance(withoutAddress.getBalance())
+                  .build();
+            }
+          }, directExecutor());
+        }
+      };
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<AccountAddress>> nameOwner =
+      new RequestMethod<ListenableFuture<AccountAddress>>() {
+
+        @Getter
+        protected final String name = ACCOUNT_NAMEOWNER;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, Name.class);
+          validateType(parameters, 1, Long.class);
+          validateValue(((Long) parameters.get(1)) >= 0, "Block number must >= 0");
+        }
+
+        @Override
+        protected ListenableFuture<AccountAddress> runInternal(final List<Object> parameters)
+            throws Exception {
+          final Name name = (Name) parameters.get(0);
+          final long blockNumber = (long) parameters.get(1);
+          logger.debug("Get name owner asynchronously with name: {}, blockNumber: {}", name,
+              blockNumber);
+
+          final Rpc.Name rpcName = Rpc.Name.newBuilder()
+              .setName(name.getValue())
+              .setBlockNo(blockNumber)
+              .build();
+          logger.trace("AergoService getNameInfo arg: {}", rpcName);
+
+          final ListenableFuture<Rpc.NameInfo> rpcNameInfo = getFutureStub().getNameInfo(rpcName);
+          return transform(rpcNameInfo, new Function<Rpc.NameInfo, AccountAddress>() {
+            @Override
+            public AccountAddress apply(final Rpc.NameInfo rpcNameInfo) {
+              final AccountAddress converted = accountAddressConverter
+                  .convertToDomainModel(rpcNameInfo.getOwner());
+              return BytesValue.EMPTY.equals(converted.getBytesValue()) ? null : converted;
+            }
+          }, directExecutor());
+        }
+      };
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<StakeInfo>> stakeInfo =
+      new RequestMethod<ListenableFuture<StakeInfo>>() {
+
+        @Getter
+        protected final String name = ACCOUNT_STAKEINFO;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, AccountAddress.class);
+        }
+
+        @Override
+        protected ListenableFuture<StakeInfo> runInternal(final List<Object> parameters)
+            throws Exception {
+          final AccountAddress accountAddress = (AccountAddress) parameters.get(0);
+          logger.debug("Get staking information asynchronously with address: {}",
+              accountAddress);
+
+          final Rpc.AccountAddress rpcAddress = Rpc.AccountAddress.newBuilder()
+              .setValue(accountAddressConverter.convertToRpcModel(accountAddress))
+              .build();
+          logger.trace("AergoService getStaking arg: {}", rpcAddress);
+
+          final ListenableFuture<Rpc.Staking> rpcStakeInfo = getFutureStub().getStaking(rpcAddress);
+          return transform(rpcStakeInfo, new Function<Rpc.Staking, StakeInfo>() {
+            @Override
+            public StakeInfo apply(final Rpc.Staking rpcStakeInfo) {
+              final StakeInfo withoutAddress =
+                  stakingInfoConverter.convertToDomainModel(rpcStakeInfo);
+              return StakeInfo.newBuilder().address(accountAddress)
+                  .amount(withoutAddress.getAmount())
+                  .blockNumber(withoutAddress.getBlockNumber())
+                  .build();
+            }
+          }, directExecutor());
+        }
+      };
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<List<ElectedCandidate>>> listElected =
+      new RequestMethod<ListenableFuture<List<ElectedCandidate>>>() {
+
+        @Getter
+        protected final String name = ACCOUNT_LIST_ELECTED;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, String.class);
+          validateType(parameters, 1, Integer.class);
+        }
+
+        @Override
+        protected ListenableFuture<List<ElectedCandidate>> runInternal(
+            final List<Object> parameters) throws Exception {
+          final String voteId = (String) parameters.get(0);
+          final int showCount = (int) parameters.get(1);
+          logger.debug("Get votes status asynchronously with voteId: {}, showCount: {}", voteId,
+              showCount);
+
+          final Rpc.VoteParams rpcVoteParams = Rpc.VoteParams.newBuilder()
+              .setId(voteId)
+              .setCount(showCount)
+              .build();
+          logger.trace("AergoService getVotes arg: {}", rpcVoteParams);
+
+          final ListenableFuture<Rpc.VoteList> rpcVoteList =
+              getFutureStub().getVotes(rpcVoteParams);
+          return transform(rpcVoteList, new Function<Rpc.VoteList, List<ElectedCandidate>>() {
+            @Override
+            public List<ElectedCandidate> apply(final Rpc.VoteList rpcVoteList) {
+              final List<ElectedCandidate> electedCandidates = new LinkedList<>();
+              for (final Rpc.Vote rpcCandidate : rpcVoteList.getVotesList()) {
+                electedCandidates.add(electedCandidateConverter.convertToDomainModel(rpcCandidate));
+              }
+              return electedCandidates;
+            }
+          }, directExecutor());
+        }
+      };
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<AccountTotalVote>> voteOf =
+      new RequestMethod<ListenableFuture<AccountTotalVote>>() {
+
+        @Getter
+        protected final String name = ACCOUNT_VOTESOF;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, AccountAddress.class);
+        }
+
+        @Override
+        protected ListenableFuture<AccountTotalVote> runInternal(final List<Object> parameters)
+            throws Exception {
+          final AccountAddress accountAddress = (AccountAddress) parameters.get(0);
+          logger.debug("Get votes asynchronously with address: {}", accountAddress);
+
+          final Rpc.AccountAddress rpcAddress = Rpc.AccountAddress.newBuilder()
+              .setValue(accountAddressConverter.convertToRpcModel(accountAddress))
+              .build();
+          logger.trace("AergoService getAccountVotes arg: {}", rpcAddress);
+
+          final ListenableFuture<Rpc.AccountVoteInfo> rpcAccountVoteTotal =
+              getFutureStub().getAccountVotes(rpcAddress);
+          return transform(rpcAccountVoteTotal,
+              new Function<Rpc.AccountVoteInfo, AccountTotalVote>() {
+                @Override
+                public AccountTotalVote apply(final Rpc.AccountVoteInfo rpcAccountVoteTotal) {
+                  return accountTotalVoteConverter.convertToDomainModel(rpcAccountVoteTotal);
+                }
+              }, directExecutor());
+        }
+      };
+
+}
@@ -0,0 +1,59 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.Context;
+import hera.ContextStorage;
+import hera.api.AsyncAccountOperation;
+import hera.api.model.AccountAddress;
+import hera.api.model.AccountState;
+import hera.api.model.AccountTotalVote;
+import hera.api.model.ElectedCandidate;
+import hera.api.model.Name;
+import hera.api.model.StakeInfo;
+import java.util.Arrays;
+import java.util.List;
+
+class AsyncAccountTemplate extends AbstractAsyncTemplate implements AsyncAccountOperation {
+
+  protected final AsyncAccountMethods accountMethods = new AsyncAccountMethods();
+
+  AsyncAccountTemplate(final ContextStorage<Context> contextStorage) {
+    super(contextStorage);
+  }
+
+  @Override
+  public ListenableFuture<AccountState> getState(final AccountAddress address) {
+    return request(accountMethods.getAccountState(), Arrays.<Object>asList(address));
+  }
+
+  @Override
+  public ListenableFuture<AccountAddress> getNameOwner(final Name name) {
+    return getNameOwner(name, 0L);
+  }
+
+  @Override
+  public ListenableFuture<AccountAddress> getNameOwner(final Name name, final long blockNumber) {
+    return request(accountMethods.getNameOwner(), Arrays.<Object>asList(name, blockNumber));
+  }
+
+  @Override
+  public ListenableFuture<StakeInfo> getStakeInfo(final AccountAddress accountAddress) {
+    return request(accountMethods.getStakeInfo(), Arrays.<Object>asList(accountAddress));
+  }
+
+  @Override
+  public ListenableFuture<AccountTotalVote> getVotesOf(final AccountAddress accountAddress) {
+    return request(accountMethods.getVoteOf(), Arrays.<Object>asList(accountAddress));
+  }
+
+  @Override
+  public ListenableFuture<List<ElectedCandidate>> listElected(final String voteId,
+      final int showCount) {
+    return request(accountMethods.getListElected(), Arrays.<Object>asList(voteId, showCount));
+  }
+
+}
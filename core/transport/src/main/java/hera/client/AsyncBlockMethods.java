@@ -0,0 +1,256 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.transform;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.client.Methods.BLOCK_BY_HASH;
+import static hera.client.Methods.BLOCK_BY_HEIGHT;
+import static hera.client.Methods.BLOCK_LIST_METADATAS_BY_HASH;
+import static hera.client.Methods.BLOCK_LIST_METADATAS_BY_HEIGHT;
+import static hera.client.Methods.BLOCK_METADATA_BY_HASH;
+import static hera.client.Methods.BLOCK_METADATA_BY_HEIGHT;
+import static hera.util.TransportUtils.copyFrom;
+
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.RequestMethod;
+import hera.api.model.Block;
+import hera.api.model.BlockHash;
+import hera.api.model.BlockMetadata;
+import hera.transport.BlockConverterFactory;
+import hera.transport.BlockMetadataConverterFactory;
+import hera.transport.ModelConverter;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import lombok.Getter;
+import types.Blockchain;
+import types.Rpc;
+
+class AsyncBlockMethods extends AbstractMethods {
+
+  protected final ModelConverter<BlockMetadata, Rpc.BlockMetadata> blockMetadataConverter =
+      new BlockMetadataConverterFactory().create();
+
+  protected final ModelConverter<Block, Blockchain.Block> blockConverter =
+      new BlockConverterFactory().create();
+
+  protected final Function<Rpc.BlockMetadata, BlockMetadata> blockMetadataFunction =
+      new Function<Rpc.BlockMetadata, BlockMetadata>() {
+        @Override
+        public BlockMetadata apply(final Rpc.BlockMetadata rpcBlockMetadata) {
+          return blockMetadataConverter.convertToDomainModel(rpcBlockMetadata);
+        }
+      };
+
+  protected final Function<Rpc.BlockMetadataList, List<BlockMetadata>> blockMetadatasFunction =
+      new Function<Rpc.BlockMetadataList, List<BlockMetadata>>() {
+        @Override
+        public List<BlockMetadata> apply(final Rpc.BlockMetadataList rpcMetadatas) {
+          final List<BlockMetadata> blockMetadatas = new LinkedList<>();
+          for (final Rpc.BlockMetadata rpcBlockMetadata : rpcMetadatas.getBlocksList()) {
+            blockMetadatas.add(blockMetadataConverter.convertToDomainModel(rpcBlockMetadata));
+          }
+          return blockMetadatas;
+        }
+      };
+
+  protected final Function<Blockchain.Block, Block> blockFunction =
+      new Function<Blockchain.Block, Block>() {
+        @Override
+        public Block apply(final Blockchain.Block rpcBlock) {
+          return blockConverter.convertToDomainModel(rpcBlock);
+        }
+      };
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<BlockMetadata>> blockMetadataByHash =
+      new RequestMethod<ListenableFuture<BlockMetadata>>() {
+
+        @Getter
+        protected final String name = BLOCK_METADATA_BY_HASH;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, BlockHash.class);
+        }
+
+        @Override
+        protected ListenableFuture<BlockMetadata> runInternal(final List<Object> parameters) {
+          final BlockHash blockHash = (BlockHash) parameters.get(0);
+          logger.debug("Get block metadata asynchronously with hash: {}", blockHash);
+
+          final Rpc.SingleBytes rpcBlockHash = Rpc.SingleBytes.newBuilder()
+              .setValue(copyFrom(blockHash.getBytesValue()))
+              .build();
+          logger.trace("AergoService getBlockMetadata arg: {}", rpcBlockHash);
+
+          final ListenableFuture<BlockMetadata> converted = transform(
+              getFutureStub().getBlockMetadata(rpcBlockHash), blockMetadataFunction,
+              directExecutor());
+          return withFallback(converted, "not found", null);
+        }
+      };
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<BlockMetadata>> blockMetadataByHeight =
+      new RequestMethod<ListenableFuture<BlockMetadata>>() {
+
+        @Getter
+        protected final String name = BLOCK_METADATA_BY_HEIGHT;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, Long.class);
+          validateValue(((long) parameters.get(0)) >= 0, "Height must >= 0");
+        }
+
+        @Override
+        protected ListenableFuture<BlockMetadata> runInternal(final List<Object> parameters) {
+          final long height = (long) parameters.get(0);
+          logger.debug("Get block metadata asynchronously with height: {}", height);
+
+          final Rpc.SingleBytes rpcHeight = Rpc.SingleBytes.newBuilder()
+              .setValue(copyFrom(height))
+              .build();
+          logger.trace("AergoService getBlockMetadata arg: {}", rpcHeight);
+
+          final ListenableFuture<BlockMetadata> converted = transform(
+              getFutureStub().getBlockMetadata(rpcHeight), blockMetadataFunction,
+              directExecutor());
+          return withFallback(converted, "not found", null);
+        }
+      };
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<List<BlockMetadata>>> listBlockMetadatasByHash =
+      new RequestMethod<ListenableFuture<List<BlockMetadata>>>() {
+
+        @Getter
+        protected final String name = BLOCK_LIST_METADATAS_BY_HASH;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, BlockHash.class);
+          validateType(parameters, 1, Integer.class);
+          validateValue(((int) parameters.get(1)) > 1, "Size must >= 1");
+        }
+
+        @Override
+        protected ListenableFuture<List<BlockMetadata>> runInternal(
+            final List<Object> parameters) {
+          final BlockHash blockHash = (BlockHash) parameters.get(0);
+          final int size = (int) parameters.get(1);
+          logger.debug("List block meta datas asynchronously with hash: {}, size: {}", blockHash,
+              size);
+
+          final Rpc.ListParams rpcHashAndSize = Rpc.ListParams.newBuilder()
+              .setHash(copyFrom(blockHash.getBytesValue()))
+              .setSize(size)
+              .build();
+          logger.trace("AergoService listBlockMetadata arg: {}", rpcHashAndSize);
+
+          final ListenableFuture<List<BlockMetadata>> converted = transform(
+              getFutureStub().listBlockMetadata(rpcHashAndSize), blockMetadatasFunction,
+              directExecutor());
+          return withFallback(converted, "not found", Collections.<BlockMetadata>emptyList());
+        }
+      };
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<List<BlockMetadata>>> listBlockMetadatasByHeight =
+      new RequestMethod<ListenableFuture<List<BlockMetadata>>>() {
+
+        @Getter
+        protected final String name = BLOCK_LIST_METADATAS_BY_HEIGHT;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, Long.class);
+          validateType(parameters, 1, Integer.class);
+          validateValue(((long) parameters.get(0)) >= 0, "Height must >= 0");
+          validateValue(((int) parameters.get(1)) > 1, "Size must >= 1");
+        }
+
+        @Override
+        protected ListenableFuture<List<BlockMetadata>> runInternal(
+            final List<Object> parameters) {
+          final long height = (long) parameters.get(0);
+          final int size = (int) parameters.get(1);
+          logger.debug("List block meta datas asynchronously with height: {}, size: {}", height,
+              size);
+
+          final Rpc.ListParams rpcHeightAndSize = Rpc.ListParams.newBuilder()
+              .setHeight(height)
+              .setSize(size)
+              .build();
+          logger.trace("AergoService listBlockMetadata arg: {}", rpcHeightAndSize);
+
+          final ListenableFuture<List<BlockMetadata>> converted = transform(
+              getFutureStub().listBlockMetadata(rpcHeightAndSize), blockMetadatasFunction,
+              directExecutor());
+          return withFallback(converted, "not found", Collections.<BlockMetadata>emptyList());
+        }
+      };
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<Block>> blockByHash =
+      new RequestMethod<ListenableFuture<Block>>() {
+
+        @Getter
+        protected final String name = BLOCK_BY_HASH;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, BlockHash.class);
+        }
+
+        @Override
+        protected ListenableFuture<Block> runInternal(final List<Object> parameters) {
+          final BlockHash blockHash = (BlockHash) parameters.get(0);
+          logger.debug("Get block asynchronously with hash: {}", blockHash);
+
+          final Rpc.SingleBytes rpcBlockHash = Rpc.SingleBytes.newBuilder()
+              .setValue(copyFrom(blockHash.getBytesValue()))
+              .build();
+          logger.trace("AergoService getBlock arg: {}", rpcBlockHash);
+
+          final ListenableFuture<Block> converted = transform(
+              getFutureStub().getBlock(rpcBlockHash), blockFunction, directExecutor());
+          return withFallback(converted, "not found", null);
+        }
+      };
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<Block>> blockByHeight =
+      new RequestMethod<ListenableFuture<Block>>() {
+
+        @Getter
+        protected final String name = BLOCK_BY_HEIGHT;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, Long.class);
+          validateValue(((long) parameters.get(0)) >= 0, "Height must >= 0");
+        }
+
+        @Override
+        protected ListenableFuture<Block> runInternal(final List<Object> parameters) {
+          final long height = (long) parameters.get(0);
+          logger.debug("Get block asynchronously with height: {}", height);
+
+          final Rpc.SingleBytes rpcHeight = Rpc.SingleBytes.newBuilder()
+              .setValue(copyFrom(height))
+              .build();
+          logger.trace("AergoService getBlock arg: {}", rpcHeight);
+
+          final ListenableFuture<Block> converted = transform(
+              getFutureStub().getBlock(rpcHeight), blockFunction, directExecutor());
+          return withFallback(converted, "not found", null);
+        }
+      };
+
+}
@@ -0,0 +1,59 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.Context;
+import hera.ContextStorage;
+import hera.api.AsyncBlockOperation;
+import hera.api.model.Block;
+import hera.api.model.BlockHash;
+import hera.api.model.BlockMetadata;
+import java.util.Arrays;
+import java.util.List;
+
+class AsyncBlockTemplate extends AbstractAsyncTemplate implements AsyncBlockOperation {
+
+  protected final AsyncBlockMethods blockMethods = new AsyncBlockMethods();
+
+  AsyncBlockTemplate(final ContextStorage<Context> contextStorage) {
+    super(contextStorage);
+  }
+
+  @Override
+  public ListenableFuture<BlockMetadata> getBlockMetadata(final BlockHash blockHash) {
+    return request(blockMethods.getBlockMetadataByHash(), Arrays.<Object>asList(blockHash));
+  }
+
+  @Override
+  public ListenableFuture<BlockMetadata> getBlockMetadata(final long height) {
+    return request(blockMethods.getBlockMetadataByHeight(), Arrays.<Object>asList(height));
+  }
+
+  @Override
+  public ListenableFuture<List<BlockMetadata>> listBlockMetadatas(final BlockHash blockHash,
+      final int size) {
+    return request(blockMethods.getListBlockMetadatasByHash(),
+        Arrays.<Object>asList(blockHash, size));
+  }
+
+  @Override
+  public ListenableFuture<List<BlockMetadata>> listBlockMetadatas(final long height,
+      final int size) {
+    return request(blockMethods.getListBlockMetadatasByHeight(),
+        Arrays.<Object>asList(height, size));
+  }
+
+  @Override
+  public ListenableFuture<Block> getBlock(final BlockHash blockHash) {
+    return request(blockMethods.getBlockByHash(), Arrays.<Object>asList(blockHash));
+  }
+
+  @Override
+  public ListenableFuture<Block> getBlock(final long height) {
+    return request(blockMethods.getBlockByHeight(), Arrays.<Object>asList(height));
+  }
+
+}
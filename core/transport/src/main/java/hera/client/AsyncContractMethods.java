@@ -0,0 +1,224 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.transform;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.client.Methods.CONTRACT_INTERFACE;
+import static hera.client.Methods.CONTRACT_LIST_EVENT;
+import static hera.client.Methods.CONTRACT_QUERY;
+import static hera.client.Methods.CONTRACT_TXRECEIPT;
+import static hera.util.TransportUtils.copyFrom;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.protobuf.ByteString;
+import hera.RequestMethod;
+import hera.api.model.AccountAddress;
+import hera.api.model.BytesValue;
+import hera.api.model.ContractAddress;
+import hera.api.model.ContractInterface;
+import hera.api.model.ContractInvocation;
+import hera.api.model.ContractResult;
+import hera.api.model.ContractTxReceipt;
+import hera.api.model.Event;
+import hera.api.model.EventFilter;
+import hera.api.model.TxHash;
+import hera.api.transaction.ContractInvocationPayloadConverter;
+import hera.api.transaction.PayloadConverter;
+import hera.transport.AccountAddressConverterFactory;
+import hera.transport.ContractInterfaceConverterFactory;
+import hera.transport.ContractResultConverterFactory;
+import hera.transport.ContractTxReceiptConverterFactory;
+import hera.transport.EventConverterFactory;
+import hera.transport.EventFilterConverterFactory;
+import hera.transport.ModelConverter;
+import java.util.LinkedList;
+import java.util.List;
+import lombok.Getter;
+import org.slf4j.Logger;
+import types.Blockchain;
+import types.Rpc;
+
+class AsyncContractMethods extends AbstractMethods {
+
+  protected final transient Logger logger = getLogger(getClass());
+
+  protected final ModelConverter<AccountAddress, ByteString> accountAddressConverter =
+      new AccountAddressConverterFactory().create();
+
+  protected final ModelConverter<ContractTxReceipt, Blockchain.Receipt> receiptConverter =
+      new ContractTxReceiptConverterFactory().create();
+
+  protected final ModelConverter<ContractInterface, Blockchain.ABI> contractInterfaceConverter =
+      new ContractInterfaceConverterFactory().create();
+
+  protected final ModelConverter<ContractResult, Rpc.SingleBytes> contractResultConverter =
+      new ContractResultConverterFactory().create();
+
+  protected final ModelConverter<EventFilter, Blockchain.FilterInfo> eventFilterConverter =
+      new EventFilterConverterFactory().create();
+
+  protected final ModelConverter<Event, Blockchain.Event> eventConverter =
+      new EventConverterFactory().create();
+
+  protected final PayloadConverter<ContractInvocation> payloadConverter =
+      new ContractInvocationPayloadConverter();
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<ContractTxReceipt>> contractTxReceipt =
+      new RequestMethod<ListenableFuture<ContractTxReceipt>>() {
+
+        @Getter
+        protected final String name = CONTRACT_TXRECEIPT;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, TxHash.class);
+        }
+
+        @Override
+        protected ListenableFuture<ContractTxReceipt> runInternal(final List<Object> parameters)
+            throws Exception {
+          final TxHash txHash = (TxHash) parameters.get(0);
+          logger.debug("Get receipt asynchronously with txHash: {}", txHash);
+
+          final Rpc.SingleBytes rpcDeployTxHash = Rpc.SingleBytes.newBuilder()
+              .setValue(copyFrom(txHash.getBytesValue()))
+              .build();
+          logger.trace("AergoService getReceipt arg: {}", rpcDeployTxHash);
+
+          final ListenableFuture<ContractTxReceipt> converted = transform(
+              getFutureStub().getReceipt(rpcDeployTxHash),
+              new Function<Blockchain.Receipt, ContractTxReceipt>() {
+                @Override
+                public ContractTxReceipt apply(final Blockchain.Receipt rpcReceipt) {
+                  return receiptConverter.convertToDomainModel(rpcReceipt);
+                }
+              }, directExecutor());
+          return withFallback(converted, "not found", null);
+        }
+      };
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<ContractInterface>> contractInterface =
+      new RequestMethod<ListenableFuture<ContractInterface>>() {
+
+        @Getter
+        protected final String name = CONTRACT_INTERFACE;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, ContractAddress.class);
+        }
+
+        @Override
+        protected ListenableFuture<ContractInterface> runInternal(final List<Object> parameters)
+            throws Exception {
+          final ContractAddress contractAddress = (ContractAddress) parameters.get(0);
+          logger.debug("Get contract interface asynchronously with contract address: {}",
+              contractAddress);
+
+          final Rpc.SingleBytes rpcContractAddress = Rpc.SingleBytes.newBuilder()
+              .setValue(accountAddressConverter.convertToRpcModel(contractAddress))
+              .build();
+          logger.trace("AergoService getABI arg: {}", rpcContractAddress);
+
+          final ListenableFuture<ContractInterface> converted = transform(
+              getFutureStub().getABI(rpcContractAddress),
+              new Function<Blockchain.ABI, ContractInterface>() {
+                @Override
+                public ContractInterface apply(final Blockchain.ABI rpcAbi) {
+                  final ContractInterface withoutAddress =
+                      contractInterfaceConverter.convertToDomainModel(rpcAbi);
+                  return ContractInterface.newBuilder()
+                      .address(contractAddress)
+                      .version(withoutAddress.getVersion())
+                      .language(withoutAddress.getLanguage())
+                      .functions(withoutAddress.getFunctions())
+                      .stateVariables(withoutAddress.getStateVariables())
+                      .build();
+                }
+              }, directExecutor());
+          return withFallback(converted, "cannot find contract", null);
+        }
+      };
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<ContractResult>> query =
+      new RequestMethod<ListenableFuture<ContractResult>>() {
+
+        @Getter
+        protected final String name = CONTRACT_QUERY;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, ContractInvocation.class);
+        }
+
+        @Override
+        protected ListenableFuture<ContractResult> runInternal(final List<Object> parameters)
+            throws Exception {
+          final ContractInvocation contractInvocation = (ContractInvocation) parameters.get(0);
+          logger.debug("Query contract asynchronously with invocation: {}", contractInvocation);
+
+          final ByteString rpcContractAddress = accountAddressConverter
+              .convertToRpcModel(contractInvocation.getAddress());
+          final BytesValue rpcContractInvocation =
+              payloadConverter.convertToPayload(contractInvocation);
+          final Blockchain.Query rpcQuery = Blockchain.Query.newBuilder()
+              .setContractAddress(rpcContractAddress)
+              .setQueryinfo(copyFrom(rpcContractInvocation))
+              .build();
+          logger.trace("AergoService queryContract arg: {}", rpcQuery);
+
+          return transform(getFutureStub().queryContract(rpcQuery),
+              new Function<Rpc.SingleBytes, ContractResult>() {
+                @Override
+                public ContractResult apply(final Rpc.SingleBytes rawQueryResult) {
+                  return contractResultConverter.convertToDomainModel(rawQueryResult);
+                }
+              }, directExecutor());
+        }
+      };
+
+  @Getter
+  protected final RequestMethod<ListenableFuture<List<Event>>> listEvent =
+      new RequestMethod<ListenableFuture<List<Event>>>() {
+
+        @Getter
+        protected final String name = CONTRACT_LIST_EVENT;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, EventFilter.class);
+        }
+
+        @Override
+        protected ListenableFuture<List<Event>> runInternal(final List<Object> parameters)
+            throws Exception {
+          final EventFilter eventFilter = (EventFilter) parameters.get(0);
+          logger.debug("List event asynchronously with filter: {}", eventFilter);
+
+          final Blockchain.FilterInfo rpcEventFilter =
+              eventFilterConverter.convertToRpcModel(eventFilter);
+          logger.trace("AergoService listEvents arg: {}", rpcEventFilter);
+
+          return transform(getFutureStub().listEvents(rpcEventFilter),
+              new Function<Rpc.EventList, List<Event>>() {
+                @Override
+                public List<Event> apply(final Rpc.EventList rpcEventList) {
+                  final List<Event> domainEvents = new LinkedList<>();
+                  for (final Blockchain.Event rpcEvent : rpcEventList.getEventsList()) {
+                    domainEvents.add(eventConverter.convertToDomainModel(rpcEvent));
+                  }
+                  return domainEvents;
+                }
+              }, directExecutor());
+        }
+      };
+
+}
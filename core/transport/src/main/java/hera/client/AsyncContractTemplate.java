@@ -0,0 +1,52 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.Context;
+import hera.ContextStorage;
+import hera.api.AsyncContractOperation;
+import hera.api.model.ContractAddress;
+import hera.api.model.ContractInterface;
+import hera.api.model.ContractInvocation;
+import hera.api.model.ContractResult;
+import hera.api.model.ContractTxReceipt;
+import hera.api.model.Event;
+import hera.api.model.EventFilter;
+import hera.api.model.TxHash;
+import java.util.Arrays;
+import java.util.List;
+
+class AsyncContractTemplate extends AbstractAsyncTemplate implements AsyncContractOperation {
+
+  protected final AsyncContractMethods contractMethods = new AsyncContractMethods();
+
+  AsyncContractTemplate(final ContextStorage<Context> contextStorage) {
+    super(contextStorage);
+  }
+
+  @Override
+  public ListenableFuture<ContractTxReceipt> getContractTxReceipt(final TxHash txHash) {
+    return request(contractMethods.getContractTxReceipt(), Arrays.<Object>asList(txHash));
+  }
+
+  @Override
+  public ListenableFuture<ContractInterface> getContractInterface(
+      final ContractAddress contractAddress) {
+    return request(contractMethods.getContractInterface(),
+        Arrays.<Object>asList(contractAddress));
+  }
+
+  @Override
+  public ListenableFuture<ContractResult> query(final ContractInvocation contractInvocation) {
+    return request(contractMethods.getQuery(), Arrays.<Object>asList(contractInvocation));
+  }
+
+  @Override
+  public ListenableFuture<List<Event>> listEvents(final EventFilter filter) {
+    return request(contractMethods.getListEvent(), Arrays.<Object>asList(filter));
+  }
+
+}
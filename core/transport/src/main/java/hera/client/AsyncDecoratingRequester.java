@@ -0,0 +1,179 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.catchingAsync;
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_SCHEDULER;
+import static hera.util.ValidationUtils.assertNotNull;
+
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.Context;
+import hera.ContextHolder;
+import hera.EmptyContext;
+import hera.FailoverHandler;
+import hera.Invocation;
+import hera.RequestMethod;
+import hera.strategy.TimeoutStrategy;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A requester for an invocation returning {@link ListenableFuture}. Before and after strategies
+ * are applied as in {@link DecoratingRequester}, but hedging and coalescing aren't. Timeout is
+ * applied as a grpc deadline when making a future stub so no thread is bound to an in-flight
+ * request. A failover handler chain is applied on a failure of a future without blocking a grpc
+ * thread, and a retry is delayed on a scheduler of a client.
+ */
+class AsyncDecoratingRequester extends DecoratingRequester {
+
+  AsyncDecoratingRequester() {
+
+  }
+
+  /**
+   * Request an asynchronous invocation.
+   *
+   * @param <T> a type of future value
+   * @param invocation an invocation returning a future
+   * @return a future holding a result of an invocation (with failover applied)
+   */
+  public <T> ListenableFuture<T> requestAsync(final Invocation<ListenableFuture<T>> invocation) {
+    assertNotNull(invocation, "Invocation must not null");
+    logger.debug("Request asynchronously with invocation: {}", invocation);
+
+    final Context context = ContextHolder.current();
+    final Invocation<ListenableFuture<T>> decorated = withDecorated(invocation);
+    logger.trace("Decorated: {}", decorated);
+
+    ListenableFuture<T> future;
+    try {
+      future = decorated.invoke();
+    } catch (Exception e) {
+      future = immediateFailedFuture(e);
+    }
+
+    final ScheduledExecutorService scheduler = getScheduler(context);
+    final Invocation<ListenableFuture<T>> contextual =
+        new ContextualInvocation<>(context, decorated);
+    // cancelling a result cancels a pending request or retry
+    return catchingAsync(future, Throwable.class, new AsyncFunction<Throwable, T>() {
+      @Override
+      public ListenableFuture<T> apply(final Throwable error) {
+        logger.debug("Failure: {}", error.toString());
+        if (!(error instanceof Exception)) {
+          return immediateFailedFuture(error);
+        }
+
+        // failover handlers are working on a context of a request
+        final Context previous = ContextHolder.attach(context);
+        try {
+          return handleFailoverAsync(contextual, error, scheduler);
+        } finally {
+          detach(previous);
+        }
+      }
+    }, directExecutor());
+  }
+
+  /**
+   * Handle a failure of an asynchronous invocation without blocking a current thread, which is a
+   * grpc one completing a future in most cases. A blocking failover handler is run on a dedicated
+   * executor.
+   *
+   * @param <T> a type of future value
+   * @param invocation a failed asynchronous invocation
+   * @param error an error of {@code invocation}
+   * @param scheduler a scheduler to delay a retry
+   * @return a future holding a result of failover
+   */
+  protected <T> ListenableFuture<T> handleFailoverAsync(
+      final Invocation<ListenableFuture<T>> invocation, final Throwable error,
+      final ScheduledExecutorService scheduler) {
+    final FailoverHandler failoverHandler = getFailoverHandler();
+    if (null == failoverHandler) {
+      return immediateFailedFuture(error);
+    }
+    logger.trace("Handle failover asynchronously by {}", failoverHandler);
+    if (failoverHandler instanceof FailoverHandlerChain) {
+      return ((FailoverHandlerChain) failoverHandler).handleAsync(invocation, error, scheduler);
+    }
+    return AwaitingInvocation.handleBlocking(failoverHandler, invocation, error);
+  }
+
+  @Override
+  protected <R> Invocation<R> withTimeout(final Invocation<R> invocation) {
+    // timeout is applied as a deadline of a future stub
+    return invocation;
+  }
+
+  @Override
+  protected <R> Invocation<R> withHedging(final Invocation<R> invocation) {
+    // hedging works on a blocking invocation
+    return invocation;
+  }
+
+  @Override
+  protected <R> Invocation<R> withCoalescing(final Invocation<R> invocation) {
+    // coalescing works on a blocking invocation
+    return invocation;
+  }
+
+  protected ScheduledExecutorService getScheduler(final Context context) {
+    final ScheduledExecutorService scheduler = context.get(GRPC_REQUEST_SCHEDULER);
+    return null != scheduler ? scheduler : TimeoutStrategy.sharedScheduler();
+  }
+
+  protected static void detach(final Context previous) {
+    if (previous instanceof EmptyContext) {
+      ContextHolder.remove();
+    } else {
+      ContextHolder.attach(previous);
+    }
+  }
+
+  /**
+   * An invocation made with a context of a request attached. A retry may be made on a grpc or a
+   * scheduler thread, which doesn't have one.
+   */
+  @RequiredArgsConstructor
+  @ToString
+  private static class ContextualInvocation<T> implements Invocation<T> {
+
+    protected final Context context;
+
+    protected final Invocation<T> delegate;
+
+    @Override
+    public RequestMethod<T> getRequestMethod() {
+      return delegate.getRequestMethod();
+    }
+
+    @Override
+    public List<Object> getParameters() {
+      return delegate.getParameters();
+    }
+
+    @Override
+    public T invoke() throws Exception {
+      final Context previous = ContextHolder.attach(context);
+      try {
+        return delegate.invoke();
+      } finally {
+        detach(previous);
+      }
+    }
+
+    @Override
+    public Invocation<T> withParameters(final List<Object> parameters) {
+      return new ContextualInvocation<>(context, delegate.withParameters(parameters));
+    }
+  }
+
+}
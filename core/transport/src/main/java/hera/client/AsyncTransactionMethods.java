@@ -0,0 +1,180 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static com.google.common.util.concurrent.Futures.transform;
+import static com.google.common.util.concurrent.Futures.transformAsync;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.api.model.BytesValue.of;
+import static hera.client.Methods.TRANSACTION_COMMIT;
+import static hera.client.Methods.TRANSACTION_TX;
+import static hera.client.Methods.TRANSACTION_TXRECEIPT;
+import static hera.util.TransportUtils.copyFrom;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.RequestMethod;
+import hera.api.model.Transaction;
+import hera.api.model.TxHash;
+import hera.api.model.TxReceipt;
+import hera.exception.CommitException;
+import hera.transport.ModelConverter;
+import hera.transport.TransactionConverterFactory;
+import hera.transport.TransactionInBlockConverterFactory;
+import hera.transport.TxReceiptConverterFactory;
+import java.util.List;
+import lombok.Getter;
+import org.slf4j.Logger;
+import types.AergoRPCServiceGrpc.AergoRPCServiceFutureStub;
+import types.Blockchain;
+import types.Rpc;
+
+class AsyncTransactionMethods extends AbstractMethods {
+
+  protected final transient Logger logger = getLogger(getClass());
+
+  protected final ModelConverter<Transaction, Blockchain.Tx> transactionConverter =
+      new TransactionConverterFactory().create();
+
+  protected final ModelConverter<Transaction, Blockchain.TxInBlock> transactionInBlockConverter =
+      new TransactionInBlockConverterFactory().create();
+
+  protected final ModelConverter<TxReceipt, Blockchain.Receipt> txReceiptConverter =
+      new TxReceiptConverterFactory().create();
+
+  @Getter
+  private final RequestMethod<ListenableFuture<Transaction>> transaction =
+      new RequestMethod<ListenableFuture<Transaction>>() {
+
+        @Getter
+        protected final String name = TRANSACTION_TX;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, TxHash.class);
+        }
+
+        @Override
+        protected ListenableFuture<Transaction> runInternal(final List<Object> parameters)
+            throws Exception {
+          final TxHash txHash = (TxHash) parameters.get(0);
+          logger.debug("Get transaction asynchronously with txHash: {}", txHash);
+
+          final Rpc.SingleBytes rpcTxHash = Rpc.SingleBytes.newBuilder()
+              .setValue(copyFrom(txHash.getBytesValue()))
+              .build();
+          logger.trace("AergoService getBlockTX arg: {}", rpcTxHash);
+
+          // resolve a stub in a current thread since a fallback runs on a grpc callback thread
+          final AergoRPCServiceFutureStub futureStub = getFutureStub();
+          final ListenableFuture<Transaction> inBlock = withFallback(
+              transform(futureStub.getBlockTX(rpcTxHash),
+                  new Function<Blockchain.TxInBlock, Transaction>() {
+                    @Override
+                    public Transaction apply(final Blockchain.TxInBlock rpcTxInBlock) {
+                      return transactionInBlockConverter.convertToDomainModel(rpcTxInBlock);
+                    }
+                  }, directExecutor()),
+              "not found", null);
+
+          return transformAsync(inBlock, new AsyncFunction<Transaction, Transaction>() {
+            @Override
+            public ListenableFuture<Transaction> apply(final Transaction found) {
+              if (null != found) {
+                return immediateFuture(found);
+              }
+
+              logger.trace("AergoService getTX arg: {}", rpcTxHash);
+              return withFallback(transform(futureStub.getTX(rpcTxHash),
+                  new Function<Blockchain.Tx, Transaction>() {
+                    @Override
+                    public Transaction apply(final Blockchain.Tx rpcTx) {
+                      return transactionConverter.convertToDomainModel(rpcTx);
+                    }
+                  }, directExecutor()), "not found", null);
+            }
+          }, directExecutor());
+        }
+      };
+
+  @Getter
+  private final RequestMethod<ListenableFuture<TxReceipt>> txReceipt =
+      new RequestMethod<ListenableFuture<TxReceipt>>() {
+
+        @Getter
+        protected final String name = TRANSACTION_TXRECEIPT;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, TxHash.class);
+        }
+
+        @Override
+        protected ListenableFuture<TxReceipt> runInternal(final List<Object> parameters)
+            throws Exception {
+          final TxHash txHash = (TxHash) parameters.get(0);
+          logger.debug("Get receipt asynchronously with txHash: {}", txHash);
+
+          final Rpc.SingleBytes rpcTxHash = Rpc.SingleBytes.newBuilder()
+              .setValue(copyFrom(txHash.getBytesValue()))
+              .build();
+          logger.trace("AergoService getReceipt arg: {}", rpcTxHash);
+
+          final ListenableFuture<TxReceipt> converted = transform(
+              getFutureStub().getReceipt(rpcTxHash),
+              new Function<Blockchain.Receipt, TxReceipt>() {
+                @Override
+                public TxReceipt apply(final Blockchain.Receipt rpcTxReceipt) {
+                  return txReceiptConverter.convertToDomainModel(rpcTxReceipt);
+                }
+              }, directExecutor());
+          return withFallback(converted, "not found", null);
+        }
+      };
+
+  @Getter
+  private final RequestMethod<ListenableFuture<TxHash>> commit =
+      new RequestMethod<ListenableFuture<TxHash>>() {
+
+        @Getter
+        protected final String name = TRANSACTION_COMMIT;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, Transaction.class);
+        }
+
+        @Override
+        protected ListenableFuture<TxHash> runInternal(final List<Object> parameters)
+            throws Exception {
+          final Transaction transaction = (Transaction) parameters.get(0);
+          logger.debug("Commit transaction asynchronously with transaction: {}", transaction);
+
+          final Blockchain.Tx rpcTx = transactionConverter.convertToRpcModel(transaction);
+          final Blockchain.TxList rpcTxList = Blockchain.TxList.newBuilder()
+              .addTxs(rpcTx)
+              .build();
+          logger.trace("AergoService commitTX arg: {}", rpcTxList);
+
+          return transform(getFutureStub().commitTX(rpcTxList),
+              new Function<Rpc.CommitResultList, TxHash>() {
+                @Override
+                public TxHash apply(final Rpc.CommitResultList rpcCommitResultList) {
+                  final Rpc.CommitResult rpcCommitResult =
+                      rpcCommitResultList.getResultsList().get(0);
+                  if (Rpc.CommitStatus.TX_OK != rpcCommitResult.getError()) {
+                    throw new CommitException(rpcCommitResult.getError(),
+                        rpcCommitResult.getDetail());
+                  }
+                  return new TxHash(of(rpcCommitResult.getHash().toByteArray()));
+                }
+              }, directExecutor());
+        }
+      };
+
+}
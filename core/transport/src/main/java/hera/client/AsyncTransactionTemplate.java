@@ -0,0 +1,40 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.Context;
+import hera.ContextStorage;
+import hera.api.AsyncTransactionOperation;
+import hera.api.model.Transaction;
+import hera.api.model.TxHash;
+import hera.api.model.TxReceipt;
+import java.util.Arrays;
+
+class AsyncTransactionTemplate extends AbstractAsyncTemplate implements
+    AsyncTransactionOperation {
+
+  protected final AsyncTransactionMethods transactionMethods = new AsyncTransactionMethods();
+
+  AsyncTransactionTemplate(final ContextStorage<Context> contextStorage) {
+    super(contextStorage);
+  }
+
+  @Override
+  public ListenableFuture<Transaction> getTransaction(final TxHash txHash) {
+    return request(transactionMethods.getTransaction(), Arrays.<Object>asList(txHash));
+  }
+
+  @Override
+  public ListenableFuture<TxReceipt> getTxReceipt(final TxHash txHash) {
+    return request(transactionMethods.getTxReceipt(), Arrays.<Object>asList(txHash));
+  }
+
+  @Override
+  public ListenableFuture<TxHash> commit(final Transaction transaction) {
+    return request(transactionMethods.getCommit(), Arrays.<Object>asList(transaction));
+  }
+
+}
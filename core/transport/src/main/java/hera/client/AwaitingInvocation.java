@@ -0,0 +1,142 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import hera.Context;
+import hera.ContextHolder;
+import hera.EmptyContext;
+import hera.FailoverHandler;
+import hera.Invocation;
+import hera.RequestMethod;
+import hera.Response;
+import hera.exception.HerajException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * An invocation awaiting a result of an asynchronous one. It's used to make an asynchronous
+ * invocation compatible with a blocking {@link FailoverHandler}.
+ */
+@RequiredArgsConstructor
+@ToString
+class AwaitingInvocation<T> implements Invocation<T> {
+
+  protected static final int MAX_BLOCKING_HANDLERS = 16;
+
+  /**
+   * A bounded executor running blocking failover handlers. Awaited futures are completed on grpc
+   * threads, so a blocking handler never waits for a thread of its own.
+   */
+  private static class BlockingExecutorHolder {
+    private static final Executor INSTANCE = newBlockingExecutor();
+
+    private static Executor newBlockingExecutor() {
+      final ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_BLOCKING_HANDLERS,
+          MAX_BLOCKING_HANDLERS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+          new ThreadFactoryBuilder().setNameFormat("heraj-failover-%d").setDaemon(true).build());
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+
+  protected final Invocation<ListenableFuture<T>> delegate;
+
+  /**
+   * Handle {@code error} of an asynchronous invocation with a blocking {@code failoverHandler} on a
+   * dedicated executor, not to block a thread completing a future. A context of a caller is
+   * attached while handling.
+   *
+   * @param <T> a type of future value
+   * @param failoverHandler a blocking failover handler
+   * @param invocation a failed asynchronous invocation
+   * @param error an error of {@code invocation}
+   * @return a future holding a result of failover
+   */
+  static <T> ListenableFuture<T> handleBlocking(final FailoverHandler failoverHandler,
+      final Invocation<ListenableFuture<T>> invocation, final Throwable error) {
+    if (!(error instanceof Exception)) {
+      return immediateFailedFuture(error);
+    }
+    final Context context = ContextHolder.current();
+    final ListenableFutureTask<T> task = ListenableFutureTask.create(new Callable<T>() {
+      @Override
+      public T call() throws Exception {
+        final Context previous = ContextHolder.attach(context);
+        try {
+          final Response<T> response = failoverHandler.handle(
+              new AwaitingInvocation<>(invocation), Response.<T>fail((Exception) error));
+          if (null != response.getError()) {
+            throw response.getError();
+          }
+          return response.getValue();
+        } finally {
+          if (previous instanceof EmptyContext) {
+            ContextHolder.remove();
+          } else {
+            ContextHolder.attach(previous);
+          }
+        }
+      }
+    });
+    BlockingExecutorHolder.INSTANCE.execute(task);
+    return task;
+  }
+
+  @Override
+  public RequestMethod<T> getRequestMethod() {
+    final RequestMethod<ListenableFuture<T>> requestMethod = delegate.getRequestMethod();
+    return new RequestMethod<T>() {
+      @Override
+      public String getName() {
+        return requestMethod.getName();
+      }
+
+      @Override
+      protected T runInternal(final List<Object> parameters) throws Exception {
+        return await(requestMethod.invoke(parameters));
+      }
+    };
+  }
+
+  @Override
+  public List<Object> getParameters() {
+    return delegate.getParameters();
+  }
+
+  @Override
+  public T invoke() throws Exception {
+    return await(delegate.invoke());
+  }
+
+  @Override
+  public Invocation<T> withParameters(final List<Object> parameters) {
+    return new AwaitingInvocation<>(delegate.withParameters(parameters));
+  }
+
+  protected static <T> T await(final ListenableFuture<T> future) throws Exception {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof Exception) {
+        throw (Exception) cause;
+      }
+      throw new HerajException(cause);
+    }
+  }
+
+}
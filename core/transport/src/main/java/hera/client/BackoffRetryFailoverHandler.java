@@ -0,0 +1,202 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.catchingAsync;
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.Futures.scheduleAsync;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.client.Methods.READ_ONLY_METHODS;
+import static hera.util.ValidationUtils.assertNotNull;
+import static hera.util.ValidationUtils.assertTrue;
+import static java.util.Collections.unmodifiableSet;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.util.concurrent.AsyncCallable;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.Invocation;
+import hera.Response;
+import hera.api.model.Time;
+import hera.exception.HerajException;
+import io.grpc.Status;
+import io.grpc.StatusException;
+import io.grpc.StatusRuntimeException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.ToString;
+import org.slf4j.Logger;
+
+/**
+ * A failover handler retrying a read-only request failed with a retryable grpc status. A request
+ * changing a state isn't retried since a failed one may have reached a node. A delay before each
+ * retry grows exponentially with decorrelated jitter, so clients failed at the same time don't
+ * retry in lockstep. Every retry takes a token from a {@link RetryBudget} shared by a client, and
+ * no retry is made once it's exhausted. For an asynchronous invocation, a retry is scheduled after
+ * a backoff instead of sleeping.
+ */
+@ToString
+class BackoffRetryFailoverHandler extends ComparableFailoverHandler {
+
+  /**
+   * Grpc statuses retryable by default. A node is down or overloaded or a request is aborted by a
+   * concurrent one.
+   */
+  public static final Set<Status.Code> DEFAULT_RETRYABLE_CODES = unmodifiableSet(EnumSet.of(
+      Status.Code.UNAVAILABLE, Status.Code.RESOURCE_EXHAUSTED, Status.Code.ABORTED));
+
+  protected static final int MAX_CAUSE_DEPTH = 8;
+
+  @ToString.Exclude
+  protected final transient Logger logger = getLogger(getClass());
+
+  @Getter
+  protected final int priority = 3;
+
+  protected final int count;
+
+  protected final long initialBackoff; // milliseconds
+
+  protected final long maxBackoff; // milliseconds
+
+  protected final RetryBudget retryBudget;
+
+  protected final Set<Status.Code> retryableCodes;
+
+  BackoffRetryFailoverHandler(final int count, final Time initialBackoff,
+      final Time maxBackoff, final RetryBudget retryBudget) {
+    this(count, initialBackoff, maxBackoff, retryBudget, DEFAULT_RETRYABLE_CODES);
+  }
+
+  BackoffRetryFailoverHandler(final int count, final Time initialBackoff,
+      final Time maxBackoff, final RetryBudget retryBudget,
+      final Set<Status.Code> retryableCodes) {
+    assertTrue(0 < count, "Retry count must be positive");
+    assertNotNull(initialBackoff, "Initial backoff must not null");
+    assertNotNull(maxBackoff, "Max backoff must not null");
+    assertTrue(0L < initialBackoff.toMilliseconds(), "Initial backoff must be positive");
+    assertTrue(initialBackoff.toMilliseconds() <= maxBackoff.toMilliseconds(),
+        "Max backoff must not be less than initial one");
+    assertNotNull(retryBudget, "Retry budget must not null");
+    assertNotNull(retryableCodes, "Retryable codes must not null");
+    this.count = count;
+    this.initialBackoff = initialBackoff.toMilliseconds();
+    this.maxBackoff = maxBackoff.toMilliseconds();
+    this.retryBudget = retryBudget;
+    this.retryableCodes = retryableCodes;
+  }
+
+  @Override
+  public <T> Response<T> handle(final Invocation<T> invocation, final Response<T> response) {
+    logger.debug("Handle {} with {}", response.getError(), this);
+
+    if (!isRetryable(invocation)) {
+      return response;
+    }
+
+    Response<T> next = response;
+    int countDown = this.count;
+    long backoff = this.initialBackoff;
+    while (null != next.getError() && 0 < countDown && isRetryable(next.getError())) {
+      if (!retryBudget.tryWithdraw()) {
+        logger.debug("Retry budget exhausted, give up retrying {}", invocation);
+        break;
+      }
+      backoff = nextBackoff(backoff);
+      try {
+        logger.debug("Retry {} after backoff {}ms (count left: {})", invocation, backoff,
+            countDown);
+        Thread.sleep(backoff);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new HerajException("Interrupted while backing off", e);
+      }
+
+      try {
+        final T ret = invocation.invoke();
+        next = Response.success(ret);
+      } catch (Exception e) {
+        next = Response.fail(e);
+      }
+      --countDown;
+    }
+    return next;
+  }
+
+  @Override
+  protected <T> ListenableFuture<T> handleAsync(final Invocation<ListenableFuture<T>> invocation,
+      final Throwable error, final ScheduledExecutorService scheduler) {
+    logger.debug("Handle {} asynchronously with {}", error, this);
+    if (!isRetryable(invocation)) {
+      return immediateFailedFuture(error);
+    }
+    return retryAsync(invocation, error, scheduler, this.count, this.initialBackoff);
+  }
+
+  protected <T> ListenableFuture<T> retryAsync(final Invocation<ListenableFuture<T>> invocation,
+      final Throwable error, final ScheduledExecutorService scheduler, final int countDown,
+      final long previous) {
+    if (0 >= countDown || !isRetryable(error)) {
+      return immediateFailedFuture(error);
+    }
+    if (!retryBudget.tryWithdraw()) {
+      logger.debug("Retry budget exhausted, give up retrying {}", invocation);
+      return immediateFailedFuture(error);
+    }
+    final long backoff = nextBackoff(previous);
+    logger.debug("Retry {} after backoff {}ms (count left: {})", invocation, backoff, countDown);
+    final ListenableFuture<T> retried = scheduleAsync(new AsyncCallable<T>() {
+      @Override
+      public ListenableFuture<T> call() {
+        return invokeAsync(invocation);
+      }
+    }, backoff, TimeUnit.MILLISECONDS, scheduler);
+    return catchingAsync(retried, Throwable.class, new AsyncFunction<Throwable, T>() {
+      @Override
+      public ListenableFuture<T> apply(final Throwable next) {
+        return retryAsync(invocation, next, scheduler, countDown - 1, backoff);
+      }
+    }, directExecutor());
+  }
+
+  // decorrelated jitter: random between initial one and 3 times of previous one, capped
+  protected long nextBackoff(final long previous) {
+    final long upper = Math.min(maxBackoff, previous * 3);
+    if (upper <= initialBackoff) {
+      return initialBackoff;
+    }
+    return ThreadLocalRandom.current().nextLong(initialBackoff, upper + 1);
+  }
+
+  protected boolean isRetryable(final Invocation<?> invocation) {
+    final String methodName = invocation.getRequestMethod().getName();
+    if (!READ_ONLY_METHODS.contains(methodName)) {
+      logger.debug("Method {} isn't read-only, not to retry", methodName);
+      return false;
+    }
+    return true;
+  }
+
+  protected boolean isRetryable(final Throwable error) {
+    Throwable cause = error;
+    for (int i = 0; null != cause && i < MAX_CAUSE_DEPTH; ++i) {
+      if (cause instanceof StatusRuntimeException) {
+        final Status status = ((StatusRuntimeException) cause).getStatus();
+        // retrying on an open circuit just fails fast again
+        return !(status.getCause() instanceof CircuitOpenException)
+            && retryableCodes.contains(status.getCode());
+      } else if (cause instanceof StatusException) {
+        return retryableCodes.contains(((StatusException) cause).getStatus().getCode());
+      }
+      cause = cause.getCause();
+    }
+    return false;
+  }
+
+}
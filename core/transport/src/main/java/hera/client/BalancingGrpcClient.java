@@ -0,0 +1,201 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static hera.client.ClientContextKeys.GRPC_CLIENT;
+import static hera.util.ValidationUtils.assertNotNull;
+import static hera.util.ValidationUtils.assertTrue;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import hera.Context;
+import hera.ContextHolder;
+import hera.api.model.BlockchainStatus;
+import hera.api.model.HostnameAndPort;
+import hera.api.model.Time;
+import hera.exception.HerajException;
+import hera.strategy.BalancingStrategy;
+import hera.strategy.BalancingStrategy.Node;
+import hera.strategy.TimeoutStrategy;
+import io.grpc.ClientInterceptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import types.AergoRPCServiceGrpc.AergoRPCServiceBlockingStub;
+import types.AergoRPCServiceGrpc.AergoRPCServiceFutureStub;
+import types.AergoRPCServiceGrpc.AergoRPCServiceStub;
+
+/**
+ * A grpc client spreading requests over multiple endpoints with a {@link BalancingStrategy}.
+ * Every node is probed by {@link BlockchainMethods#getBlockchainStatus()} in the background,
+ * which brings an ejected node back and keeps the best height of each node up to date.
+ */
+class BalancingGrpcClient implements GrpcClient {
+
+  protected static final Time DEFAULT_PROBE_INTERVAL = Time.of(5000L, TimeUnit.MILLISECONDS);
+
+  protected static final Time PROBE_TIMEOUT = Time.of(3000L, TimeUnit.MILLISECONDS);
+
+  protected final transient Logger logger = getLogger(getClass());
+
+  protected final List<GrpcNode> nodes;
+
+  protected final BalancingStrategy balancingStrategy;
+
+  protected final Time probeInterval;
+
+  // not final for mock
+  protected BlockchainMethods blockchainMethods = new BlockchainMethods();
+
+  protected final Object lock = new Object();
+  protected volatile ScheduledExecutorService prober;
+
+  BalancingGrpcClient(final List<HostnameAndPort> endpoints,
+      final BalancingStrategy balancingStrategy) {
+    this(endpoints, balancingStrategy, DEFAULT_PROBE_INTERVAL);
+  }
+
+  BalancingGrpcClient(final List<HostnameAndPort> endpoints,
+      final BalancingStrategy balancingStrategy, final Time probeInterval) {
+    this(endpoints, balancingStrategy, probeInterval, null);
+  }
+
+  /**
+   * BalancingGrpcClient constructor.
+   *
+   * @param endpoints endpoints to spread requests over
+   * @param balancingStrategy a balancing strategy
+   * @param probeInterval an interval of probing nodes
+   * @param circuitBreaker a circuit breaker applied to each node. null if not used
+   */
+  BalancingGrpcClient(final List<HostnameAndPort> endpoints,
+      final BalancingStrategy balancingStrategy, final Time probeInterval,
+      final CircuitBreakerFailoverHandler circuitBreaker) {
+    assertNotNull(endpoints, "Endpoints must not null");
+    assertTrue(!endpoints.isEmpty(), "Endpoints must not empty");
+    assertNotNull(balancingStrategy, "Balancing strategy must not null");
+    assertNotNull(probeInterval, "Probe interval must not null");
+    final List<GrpcNode> nodes = new ArrayList<>(endpoints.size());
+    for (final HostnameAndPort endpoint : endpoints) {
+      final List<ClientInterceptor> outer = null != circuitBreaker
+          ? singletonList(circuitBreaker.interceptorFor(endpoint))
+          : Collections.<ClientInterceptor>emptyList();
+      nodes.add(new GrpcNode(endpoint, outer));
+    }
+    this.nodes = unmodifiableList(nodes);
+    this.balancingStrategy = balancingStrategy;
+    this.probeInterval = probeInterval;
+  }
+
+  List<GrpcNode> getNodes() {
+    return nodes;
+  }
+
+  @Override
+  public AergoRPCServiceBlockingStub getBlockingStub() {
+    return select().getClient().getBlockingStub();
+  }
+
+  @Override
+  public AergoRPCServiceFutureStub getFutureStub() {
+    return select().getClient().getFutureStub();
+  }
+
+  @Override
+  public AergoRPCServiceStub getStreamStub() {
+    return select().getClient().getStreamStub();
+  }
+
+  protected GrpcNode select() {
+    startProbing();
+
+    // endpoints with an open circuit are excluded on a retry
+    final Set<HostnameAndPort> excluded = CircuitBreakerFailoverHandler.EXCLUDED_ENDPOINTS.get();
+    final List<GrpcNode> available = new ArrayList<>(nodes.size());
+    for (final GrpcNode node : nodes) {
+      if (null == excluded || !excluded.contains(node.getEndpoint())) {
+        available.add(node);
+      }
+    }
+    final List<GrpcNode> routable = available.isEmpty() ? nodes : available;
+
+    final List<GrpcNode> healthy = new ArrayList<>(routable.size());
+    for (final GrpcNode node : routable) {
+      if (node.isHealthy()) {
+        healthy.add(node);
+      }
+    }
+    final List<GrpcNode> candidates = healthy.isEmpty() ? routable : healthy;
+    final Node selected = balancingStrategy.select(candidates);
+    if (!(selected instanceof GrpcNode)) {
+      throw new HerajException("Balancing strategy must select one of candidates");
+    }
+    logger.trace("Selected node: {}", selected);
+    return (GrpcNode) selected;
+  }
+
+  protected void startProbing() {
+    if (null == prober) {
+      synchronized (lock) {
+        if (null == prober) {
+          // keep a client context to probe with it
+          final Context context = ContextHolder.current();
+          final ScheduledExecutorService prober = new ScheduledThreadPoolExecutor(1,
+              new ThreadFactoryBuilder().setNameFormat("heraj-probe-%d").setDaemon(true).build());
+          prober.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+              probe(context);
+            }
+          }, 0L, probeInterval.getValue(), probeInterval.getUnit());
+          this.prober = prober;
+        }
+      }
+    }
+  }
+
+  protected void probe(final Context context) {
+    final TimeoutStrategy timeoutStrategy = new TimeoutStrategy(PROBE_TIMEOUT);
+    for (final GrpcNode node : nodes) {
+      ContextHolder.attach(context.withValue(GRPC_CLIENT, node.getClient()));
+      try {
+        final BlockchainStatus blockchainStatus = timeoutStrategy
+            .apply(blockchainMethods.getBlockchainStatus().toInvocation())
+            .invoke();
+        logger.trace("Probed {}: {}", node, blockchainStatus);
+        node.markHealthy(blockchainStatus.getBestHeight());
+      } catch (Exception e) {
+        logger.debug("Fail to probe {} by {}", node, e.toString());
+        node.markUnhealthy();
+      } finally {
+        ContextHolder.remove();
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    if (null != prober) {
+      prober.shutdownNow();
+    }
+    for (final GrpcNode node : nodes) {
+      node.getClient().close();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("BalancingGrpcClient(nodes=%s, balancingStrategy=%s)", nodes,
+        balancingStrategy);
+  }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static hera.util.ValidationUtils.assertTrue;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import hera.api.model.Block;
+import hera.api.model.BlockHash;
+import hera.api.model.BlockMetadata;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.slf4j.Logger;
+
+/**
+ * A bounded cache of blocks and block metadatas weighted by their approximate size in bytes.
+ *
+ * <p>
+ * Blocks and block metadatas are keyed by their hash, so a reorg never makes an entry wrong. A
+ * height is mapped to a hash only if it's behind the confirmation depth from the best height
+ * seen so far. Recent heights are always requested to a node, so a reorg on them is never hidden
+ * by a cache.
+ * </p>
+ */
+@ToString
+class BlockCache {
+
+  protected static final int BLOCK_OVERHEAD = 512;
+
+  protected static final int TRANSACTION_OVERHEAD = 256;
+
+  protected static final int METADATA_OVERHEAD = 384;
+
+  protected static final int HEIGHT_OVERHEAD = 96;
+
+  @ToString.Exclude
+  protected final transient Logger logger = getLogger(getClass());
+
+  protected final long maximumBytes;
+
+  protected final int confirmationDepth;
+
+  @ToString.Exclude
+  protected final AtomicLong bestHeight = new AtomicLong(0L);
+
+  @ToString.Exclude
+  protected final Cache<CacheKey, Object> cache;
+
+  BlockCache(final long maximumBytes, final int confirmationDepth) {
+    assertTrue(0 < maximumBytes, "Maximum bytes must be positive");
+    assertTrue(0 <= confirmationDepth, "Confirmation depth must >= 0");
+    this.maximumBytes = maximumBytes;
+    this.confirmationDepth = confirmationDepth;
+    this.cache = CacheBuilder.newBuilder()
+        .maximumWeight(maximumBytes)
+        .weigher(new Weigher<CacheKey, Object>() {
+          @Override
+          public int weigh(final CacheKey key, final Object value) {
+            return weightOf(value);
+          }
+        })
+        .build();
+  }
+
+  protected static int weightOf(final Object value) {
+    if (value instanceof SizedBlock) {
+      return ((SizedBlock) value).weight;
+    } else if (value instanceof BlockMetadata) {
+      return METADATA_OVERHEAD;
+    }
+    return HEIGHT_OVERHEAD;
+  }
+
+  public Block getBlock(final BlockHash blockHash) {
+    final SizedBlock sized = (SizedBlock) cache.getIfPresent(new CacheKey(Kind.BLOCK, blockHash));
+    return null != sized ? sized.block : null;
+  }
+
+  public Block getBlock(final long height) {
+    final BlockHash blockHash = getFinalHash(height);
+    return null != blockHash ? getBlock(blockHash) : null;
+  }
+
+  public BlockMetadata getBlockMetadata(final BlockHash blockHash) {
+    return (BlockMetadata) cache.getIfPresent(new CacheKey(Kind.METADATA, blockHash));
+  }
+
+  public BlockMetadata getBlockMetadata(final long height) {
+    final BlockHash blockHash = getFinalHash(height);
+    return null != blockHash ? getBlockMetadata(blockHash) : null;
+  }
+
+  public void put(final Block block) {
+    if (null == block) {
+      return;
+    }
+    // estimate by a count not to decode transactions
+    put(block, (long) block.getTransactions().size() * TRANSACTION_OVERHEAD);
+  }
+
+  /**
+   * Put a block whose transactions take {@code sizeInBytes}. Estimating a size by reading
+   * transactions would decode them all, so provide a size known without it if any, eg. a size of
+   * a serialized block.
+   *
+   * @param block a block
+   * @param sizeInBytes an approximate size of transactions in bytes
+   */
+  public void put(final Block block, final long sizeInBytes) {
+    if (null == block) {
+      return;
+    }
+    final int weight = (int) Math.min(BLOCK_OVERHEAD + sizeInBytes, Integer.MAX_VALUE);
+    cache.put(new CacheKey(Kind.BLOCK, block.getHash()), new SizedBlock(block, weight));
+    observe(block.getBlockNumber(), block.getHash());
+  }
+
+  public void put(final BlockMetadata blockMetadata) {
+    if (null == blockMetadata) {
+      return;
+    }
+    cache.put(new CacheKey(Kind.METADATA, blockMetadata.getBlockHash()), blockMetadata);
+    observe(blockMetadata.getBlockHeader().getBlockNumber(), blockMetadata.getBlockHash());
+  }
+
+  protected BlockHash getFinalHash(final long height) {
+    return (BlockHash) cache.getIfPresent(new CacheKey(Kind.HEIGHT, height));
+  }
+
+  protected void observe(final long height, final BlockHash blockHash) {
+    long best = bestHeight.get();
+    while (height > best && !bestHeight.compareAndSet(best, height)) {
+      best = bestHeight.get();
+    }
+    // a height seen is a lower bound of the best height, which makes finality conservative
+    if (height + confirmationDepth <= bestHeight.get()) {
+      logger.trace("Height {} is final with {}", height, blockHash);
+      cache.put(new CacheKey(Kind.HEIGHT, height), blockHash);
+    }
+  }
+
+  private enum Kind {
+    BLOCK,
+    METADATA,
+    HEIGHT
+  }
+
+  @RequiredArgsConstructor
+  private static class SizedBlock {
+
+    protected final Block block;
+
+    protected final int weight;
+  }
+
+  @RequiredArgsConstructor
+  @EqualsAndHashCode
+  private static class CacheKey {
+
+    protected final Kind kind;
+
+    protected final Object key;
+  }
+
+}
@@ -4,6 +4,7 @@
 
 package hera.client;
 
+import static hera.client.ClientContextKeys.GRPC_VALUE_BLOCK_CACHE;
 import static hera.client.Methods.BLOCK_BY_HASH;
 import static hera.client.Methods.BLOCK_BY_HEIGHT;
 import static hera.client.Methods.BLOCK_LIST_METADATAS_BY_HASH;
@@ -15,6 +16,7 @@ import static hera.client.Methods.BLOCK_SUBSCRIBE_BLOCKMETADATA;
 import static hera.util.TransportUtils.copyFrom;
 import static java.util.Collections.emptyList;
 
+import hera.ContextHolder;
 import hera.RequestMethod;
 import hera.api.model.Block;
 import hera.api.model.BlockHash;
@@ -41,6 +43,10 @@ class BlockMethods extends AbstractMethods {
   protected final ModelConverter<Block, Blockchain.Block> blockConverter =
       new BlockConverterFactory().create();
 
+  protected BlockCache getBlockCache() {
+    return ContextHolder.current().get(GRPC_VALUE_BLOCK_CACHE);
+  }
+
   @Getter
   protected final RequestMethod<BlockMetadata> blockMetadataByHash =
       new RequestMethod<BlockMetadata>() {
@@ -58,6 +64,15 @@ class BlockMethods extends AbstractMethods {
           final BlockHash blockHash = (BlockHash) parameters.get(0);
           logger.debug("Get block metadata with hash: {}", blockHash);
 
+          final BlockCache blockCache = getBlockCache();
+          if (null != blockCache) {
+            final BlockMetadata cached = blockCache.getBlockMetadata(blockHash);
+            if (null != cached) {
+              logger.trace("Cache hit: {}", cached);
+              return cached;
+            }
+          }
+
           final Rpc.SingleBytes rpcBlockHash = Rpc.SingleBytes.newBuilder()
               .setValue(copyFrom(blockHash.getBytesValue()))
               .build();
@@ -66,7 +81,12 @@ class BlockMethods extends AbstractMethods {
           try {
             final Rpc.BlockMetadata rpcBlockMetadata = getBlockingStub()
                 .getBlockMetadata(rpcBlockHash);
-            return blockMetadataConverter.convertToDomainModel(rpcBlockMetadata);
+            final BlockMetadata blockMetadata = blockMetadataConverter
+                .convertToDomainModel(rpcBlockMetadata);
+            if (null != blockCache) {
+              blockCache.put(blockMetadata);
+            }
+            return blockMetadata;
           } catch (StatusRuntimeException e) {
             if (!e.getMessage().contains("not found")) {
               throw e;
@@ -94,6 +114,15 @@ class BlockMethods extends AbstractMethods {
           final long height = (long) parameters.get(0);
           logger.debug("Get block metadata with height: {}", height);
 
+          final BlockCache blockCache = getBlockCache();
+          if (null != blockCache) {
+            final BlockMetadata cached = blockCache.getBlockMetadata(height);
+            if (null != cached) {
+              logger.trace("Cache hit: {}", cached);
+              return cached;
+            }
+          }
+
           final Rpc.SingleBytes rpcHeight = Rpc.SingleBytes.newBuilder()
               .setValue(copyFrom(height))
               .build();
@@ -102,7 +131,12 @@ class BlockMethods extends AbstractMethods {
           try {
             final Rpc.BlockMetadata rpcBlockMetadata = getBlockingStub()
                 .getBlockMetadata(rpcHeight);
-            return blockMetadataConverter.convertToDomainModel(rpcBlockMetadata);
+            final BlockMetadata blockMetadata = blockMetadataConverter
+                .convertToDomainModel(rpcBlockMetadata);
+            if (null != blockCache) {
+              blockCache.put(blockMetadata);
+            }
+            return blockMetadata;
           } catch (StatusRuntimeException e) {
             if (!e.getMessage().contains("not found")) {
               throw e;
@@ -218,6 +252,15 @@ class BlockMethods extends AbstractMethods {
       final BlockHash blockHash = (BlockHash) parameters.get(0);
       logger.debug("Get block with hash: {}", blockHash);
 
+      final BlockCache blockCache = getBlockCache();
+      if (null != blockCache) {
+        final Block cached = blockCache.getBlock(blockHash);
+        if (null != cached) {
+          logger.trace("Cache hit: {}", cached);
+          return cached;
+        }
+      }
+
       final Rpc.SingleBytes rpcBlockHash = Rpc.SingleBytes.newBuilder()
           .setValue(copyFrom(blockHash.getBytesValue()))
           .build();
@@ -225,7 +268,11 @@ class BlockMethods extends AbstractMethods {
 
       try {
         final Blockchain.Block rpcBlock = getBlockingStub().getBlock(rpcBlockHash);
-        return blockConverter.convertToDomainModel(rpcBlock);
+        final Block block = blockConverter.convertToDomainModel(rpcBlock);
+        if (null != blockCache) {
+          blockCache.put(block, rpcBlock.getSerializedSize());
+        }
+        return block;
       } catch (StatusRuntimeException e) {
         if (!e.getMessage().contains("not found")) {
           throw e;
@@ -253,6 +300,15 @@ class BlockMethods extends AbstractMethods {
       final long height = (long) parameters.get(0);
       logger.debug("Get block with height: {}", height);
 
+      final BlockCache blockCache = getBlockCache();
+      if (null != blockCache) {
+        final Block cached = blockCache.getBlock(height);
+        if (null != cached) {
+          logger.trace("Cache hit: {}", cached);
+          return cached;
+        }
+      }
+
       final Rpc.SingleBytes rpcHeight = Rpc.SingleBytes.newBuilder()
           .setValue(copyFrom(height))
           .build();
@@ -260,7 +316,11 @@ class BlockMethods extends AbstractMethods {
 
       try {
         final Blockchain.Block rpcBlock = getBlockingStub().getBlock(rpcHeight);
-        return blockConverter.convertToDomainModel(rpcBlock);
+        final Block block = blockConverter.convertToDomainModel(rpcBlock);
+        if (null != blockCache) {
+          blockCache.put(block, rpcBlock.getSerializedSize());
+        }
+        return block;
       } catch (StatusRuntimeException e) {
         if (!e.getMessage().contains("not found")) {
           throw e;
@@ -292,11 +352,11 @@ class BlockMethods extends AbstractMethods {
               .get(0);
           logger.debug("Subscribe block metadata stream with observer: {}", observer);
 
-          final Context.CancellableContext cancellableContext = Context.current()
+          final Context.CancellableContext cancellableContext = Context.current().fork()
               .withCancellation();
           final Rpc.Empty blockMetadataStreamRequest = Rpc.Empty.newBuilder().build();
           final io.grpc.stub.StreamObserver<Rpc.BlockMetadata> adaptor =
-              new GrpcStreamObserverAdaptor<>(cancellableContext, observer, blockMetadataConverter);
+              newStreamObserver(cancellableContext, observer, blockMetadataConverter);
           cancellableContext.run(new Runnable() {
             @Override
             public void run() {
@@ -327,11 +387,11 @@ class BlockMethods extends AbstractMethods {
               .get(0);
           logger.debug("Subscribe block stream with observer {}", observer);
 
-          final Context.CancellableContext cancellableContext = Context.current()
+          final Context.CancellableContext cancellableContext = Context.current().fork()
               .withCancellation();
           final Rpc.Empty blockStreamRequest = Rpc.Empty.newBuilder().build();
           final io.grpc.stub.StreamObserver<Blockchain.Block> adaptor =
-              new GrpcStreamObserverAdaptor<>(cancellableContext, observer, blockConverter);
+              newStreamObserver(cancellableContext, observer, blockConverter);
           cancellableContext.run(new Runnable() {
             @Override
             public void run() {
@@ -6,6 +6,7 @@ package hera.client;
 
 import hera.Context;
 import hera.ContextStorage;
+import hera.api.AsyncBlockOperation;
 import hera.api.BlockOperation;
 import hera.api.model.Block;
 import hera.api.model.BlockHash;
@@ -13,14 +14,19 @@ import hera.api.model.BlockMetadata;
 import hera.api.model.StreamObserver;
 import hera.api.model.Subscription;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 class BlockTemplate extends AbstractTemplate implements BlockOperation {
 
   protected final BlockMethods blockMethods = new BlockMethods();
 
+  // not final for test
+  protected AsyncBlockOperation asyncBlockOperation;
+
   BlockTemplate(final ContextStorage<Context> contextStorage) {
     super(contextStorage);
+    this.asyncBlockOperation = new AsyncBlockTemplate(contextStorage);
   }
 
   @Override
@@ -55,6 +61,13 @@ class BlockTemplate extends AbstractTemplate implements BlockOperation {
     return request(blockMethods.getBlockByHeight(), Arrays.<Object>asList(height));
   }
 
+  @Override
+  public Iterator<Block> getBlocks(final long fromHeight, final long toHeight,
+      final int parallelism, final int prefetch) {
+    return new PrefetchingBlockIterator(asyncBlockOperation, fromHeight, toHeight, parallelism,
+        prefetch);
+  }
+
   @Override
   public Subscription<BlockMetadata> subscribeNewBlockMetadata(
       final StreamObserver<BlockMetadata> observer) {
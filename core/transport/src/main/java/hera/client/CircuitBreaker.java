@@ -0,0 +1,139 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static hera.util.ValidationUtils.assertNotNull;
+
+import lombok.ToString;
+
+/**
+ * A circuit breaker of an endpoint and a method. Outcomes of recent calls are kept in a ring of
+ * {@link CircuitBreakerConfig#getWindowSize()} and a circuit is opened once a failure rate or a
+ * slow call rate reaches its threshold. Times are passed in nanoseconds by a caller.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+class CircuitBreaker {
+
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  protected static final byte FAILURE = 1;
+
+  protected static final byte SLOW = 2;
+
+  protected final CircuitBreakerConfig config;
+
+  protected final long openNanos;
+
+  // guarded by this
+  @ToString.Include
+  protected State state = State.CLOSED;
+  protected final byte[] window;
+  protected int next = 0;
+  protected int calls = 0;
+  protected int failures = 0;
+  protected int slows = 0;
+  protected long changedAt = 0L;
+  protected int permits = 0;
+  protected int probed = 0;
+  protected int probeFailures = 0;
+  protected int probeSlows = 0;
+
+  CircuitBreaker(final CircuitBreakerConfig config) {
+    assertNotNull(config, "Circuit breaker config must not null");
+    this.config = config;
+    this.openNanos = config.getOpenDuration().toMilliseconds() * 1000000L;
+    this.window = new byte[config.getWindowSize()];
+  }
+
+  synchronized State getState() {
+    return state;
+  }
+
+  /**
+   * Check if a call is permitted. A call permitted must be recorded by
+   * {@link #record(boolean, boolean, long)}.
+   *
+   * @param now a current time in nanoseconds
+   * @return true if a call is permitted
+   */
+  synchronized boolean tryAcquire(final long now) {
+    if (State.CLOSED == state) {
+      return true;
+    }
+    // reopen probing if probes are lost
+    if (now - changedAt >= openNanos) {
+      transit(State.HALF_OPEN, now);
+    }
+    if (State.HALF_OPEN == state && 0 < permits) {
+      --permits;
+      return true;
+    }
+    return false;
+  }
+
+  synchronized void record(final boolean failure, final boolean slow, final long now) {
+    if (State.HALF_OPEN == state) {
+      ++probed;
+      if (failure) {
+        ++probeFailures;
+      }
+      if (slow) {
+        ++probeSlows;
+      }
+      if (probed >= config.getHalfOpenCalls()) {
+        final boolean stillBad = exceeds(probeFailures, probeSlows, probed);
+        transit(stillBad ? State.OPEN : State.CLOSED, now);
+      }
+      return;
+    }
+    if (State.OPEN == state) {
+      // late result of a call permitted before opened
+      return;
+    }
+
+    final byte outcome = (byte) ((failure ? FAILURE : 0) | (slow ? SLOW : 0));
+    if (calls == window.length) {
+      final byte evicted = window[next];
+      failures -= evicted & FAILURE;
+      slows -= (evicted & SLOW) >> 1;
+    } else {
+      ++calls;
+    }
+    window[next] = outcome;
+    next = (next + 1) % window.length;
+    failures += outcome & FAILURE;
+    slows += (outcome & SLOW) >> 1;
+
+    if (calls >= config.getMinimumCalls() && exceeds(failures, slows, calls)) {
+      transit(State.OPEN, now);
+    }
+  }
+
+  protected boolean exceeds(final int failures, final int slows, final int total) {
+    return failures >= config.getFailureRateThreshold() * total
+        || slows >= config.getSlowCallRateThreshold() * total;
+  }
+
+  // must be called with this
+  protected void transit(final State to, final long now) {
+    state = to;
+    changedAt = now;
+    permits = State.HALF_OPEN == to ? config.getHalfOpenCalls() : 0;
+    probed = 0;
+    probeFailures = 0;
+    probeSlows = 0;
+    if (State.CLOSED == to) {
+      next = 0;
+      calls = 0;
+      failures = 0;
+      slows = 0;
+    }
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.api.model.Time;
+import java.util.concurrent.TimeUnit;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A configuration of circuit breakers kept per endpoint and method. A circuit is opened when a
+ * failure rate or a slow call rate over the last {@code windowSize} calls reaches its threshold,
+ * and it's half-opened after {@code openDuration} to let {@code halfOpenCalls} calls probe it.
+ */
+@ApiAudience.Public
+@ApiStability.Unstable
+@Getter
+@ToString
+@EqualsAndHashCode
+@Builder(builderMethodName = "newBuilder")
+public class CircuitBreakerConfig {
+
+  public static final CircuitBreakerConfig DEFAULT = CircuitBreakerConfig.newBuilder().build();
+
+  /**
+   * The number of recent calls rates are calculated over.
+   */
+  @Default
+  protected final int windowSize = 20;
+
+  /**
+   * The minimum number of calls in a window before a circuit can be opened.
+   */
+  @Default
+  protected final int minimumCalls = 10;
+
+  @Default
+  protected final double failureRateThreshold = 0.5;
+
+  @Default
+  protected final double slowCallRateThreshold = 0.8;
+
+  /**
+   * A call taking longer than this is a slow one.
+   */
+  @NonNull
+  @Default
+  protected final Time slowCallDuration = Time.of(5000L, TimeUnit.MILLISECONDS);
+
+  /**
+   * A duration a circuit stays open before it's half-opened.
+   */
+  @NonNull
+  @Default
+  protected final Time openDuration = Time.of(10000L, TimeUnit.MILLISECONDS);
+
+  /**
+   * The number of calls permitted while a circuit is half-open.
+   */
+  @Default
+  protected final int halfOpenCalls = 3;
+
+}
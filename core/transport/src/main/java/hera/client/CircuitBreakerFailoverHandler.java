@@ -0,0 +1,253 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.catchingAsync;
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.util.ValidationUtils.assertNotNull;
+import static hera.util.ValidationUtils.assertTrue;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.Invocation;
+import hera.Response;
+import hera.api.model.HostnameAndPort;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.slf4j.Logger;
+
+/**
+ * A failover handler with circuit breakers kept per endpoint and grpc method. Breakers are
+ * applied by an interceptor of each endpoint made by {@link #interceptorFor(HostnameAndPort)},
+ * which fails a unary call fast without sending it while its circuit is open. With multiple
+ * endpoints, a call failed by an open circuit is retried on another endpoint whose circuit isn't
+ * known to be open.
+ */
+@ToString
+class CircuitBreakerFailoverHandler extends ComparableFailoverHandler {
+
+  /**
+   * Endpoints excluded from balancing for a retry. It's read by {@link BalancingGrpcClient}.
+   */
+  static final io.grpc.Context.Key<Set<HostnameAndPort>> EXCLUDED_ENDPOINTS = io.grpc.Context
+      .key("heraj-excluded-endpoints");
+
+  @ToString.Exclude
+  protected final transient Logger logger = getLogger(getClass());
+
+  @Getter
+  protected final int priority = 2;
+
+  protected final CircuitBreakerConfig config;
+
+  protected final int count;
+
+  protected final long slowNanos;
+
+  @ToString.Exclude
+  protected final ConcurrentMap<String, CircuitBreaker> key2Breaker = new ConcurrentHashMap<>();
+
+  /**
+   * CircuitBreakerFailoverHandler constructor.
+   *
+   * @param config a circuit breaker config
+   * @param count a max number of other endpoints to try. 0 if there is only one endpoint
+   */
+  CircuitBreakerFailoverHandler(final CircuitBreakerConfig config, final int count) {
+    assertNotNull(config, "Circuit breaker config must not null");
+    assertTrue(0 <= count, "Switch count must not negative");
+    this.config = config;
+    this.count = count;
+    this.slowNanos = config.getSlowCallDuration().toMilliseconds() * 1000000L;
+  }
+
+  /**
+   * Make an interceptor applying circuit breakers to calls on {@code endpoint}. It should be the
+   * outermost one not to let other interceptors see a call failed fast.
+   *
+   * @param endpoint an endpoint
+   * @return an interceptor
+   */
+  ClientInterceptor interceptorFor(final HostnameAndPort endpoint) {
+    assertNotNull(endpoint, "Endpoint must not null");
+    return new BreakingInterceptor(endpoint);
+  }
+
+  CircuitBreaker breakerOf(final HostnameAndPort endpoint, final String methodName) {
+    final String key = endpoint + "/" + methodName;
+    final CircuitBreaker breaker = key2Breaker.get(key);
+    if (null != breaker) {
+      return breaker;
+    }
+    final CircuitBreaker created = new CircuitBreaker(config);
+    final CircuitBreaker existing = key2Breaker.putIfAbsent(key, created);
+    return null != existing ? existing : created;
+  }
+
+  @Override
+  public <T> Response<T> handle(final Invocation<T> invocation, final Response<T> response) {
+    logger.debug("Handle {} with {}", response.getError(), this);
+
+    Response<T> next = response;
+    final Set<HostnameAndPort> excluded = new HashSet<>();
+    int countDown = this.count;
+    HostnameAndPort open = openEndpointOf(next.getError());
+    while (null != open && 0 < countDown) {
+      excluded.add(open);
+      logger.debug("Retry {} excluding endpoints with open circuits: {}", invocation, excluded);
+      final io.grpc.Context context = io.grpc.Context.current()
+          .withValue(EXCLUDED_ENDPOINTS, Collections.unmodifiableSet(new HashSet<>(excluded)));
+      final io.grpc.Context previous = context.attach();
+      try {
+        final T ret = invocation.invoke();
+        next = Response.success(ret);
+      } catch (Exception e) {
+        next = Response.fail(e);
+      } finally {
+        context.detach(previous);
+      }
+      open = openEndpointOf(next.getError());
+      --countDown;
+    }
+    return next;
+  }
+
+  @Override
+  protected <T> ListenableFuture<T> handleAsync(final Invocation<ListenableFuture<T>> invocation,
+      final Throwable error, final ScheduledExecutorService scheduler) {
+    logger.debug("Handle {} asynchronously with {}", error, this);
+    return retryAsync(invocation, error, new HashSet<HostnameAndPort>(), this.count);
+  }
+
+  protected <T> ListenableFuture<T> retryAsync(final Invocation<ListenableFuture<T>> invocation,
+      final Throwable error, final Set<HostnameAndPort> excluded, final int countDown) {
+    final HostnameAndPort open = openEndpointOf(error);
+    if (null == open || 0 >= countDown) {
+      return immediateFailedFuture(error);
+    }
+    final Set<HostnameAndPort> nextExcluded = new HashSet<>(excluded);
+    nextExcluded.add(open);
+    logger.debug("Retry {} excluding endpoints with open circuits: {}", invocation, nextExcluded);
+    // an endpoint is chosen when a call is made
+    final io.grpc.Context context = io.grpc.Context.current()
+        .withValue(EXCLUDED_ENDPOINTS, Collections.unmodifiableSet(nextExcluded));
+    final io.grpc.Context previous = context.attach();
+    final ListenableFuture<T> retried;
+    try {
+      retried = invokeAsync(invocation);
+    } finally {
+      context.detach(previous);
+    }
+    return catchingAsync(retried, Throwable.class, new AsyncFunction<Throwable, T>() {
+      @Override
+      public ListenableFuture<T> apply(final Throwable next) {
+        return retryAsync(invocation, next, nextExcluded, countDown - 1);
+      }
+    }, directExecutor());
+  }
+
+  protected HostnameAndPort openEndpointOf(final Throwable error) {
+    if (!(error instanceof StatusRuntimeException)) {
+      return null;
+    }
+    final Throwable cause = ((StatusRuntimeException) error).getStatus().getCause();
+    if (!(cause instanceof CircuitOpenException)) {
+      return null;
+    }
+    return ((CircuitOpenException) cause).getEndpoint();
+  }
+
+  @RequiredArgsConstructor
+  private class BreakingInterceptor implements ClientInterceptor {
+
+    protected final HostnameAndPort endpoint;
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+        final MethodDescriptor<ReqT, RespT> method, final CallOptions callOptions,
+        final Channel next) {
+      // a stream is long-lived by nature
+      if (MethodDescriptor.MethodType.UNARY != method.getType()) {
+        return next.newCall(method, callOptions);
+      }
+
+      final CircuitBreaker breaker = breakerOf(endpoint, method.getFullMethodName());
+      if (!breaker.tryAcquire(System.nanoTime())) {
+        logger.debug("Fail fast {} on {} by an open circuit", method.getFullMethodName(),
+            endpoint);
+        final CircuitOpenException cause = new CircuitOpenException(endpoint,
+            method.getFullMethodName());
+        return new FailingCall<>(Status.UNAVAILABLE.withDescription(cause.getMessage())
+            .withCause(cause));
+      }
+
+      final long start = System.nanoTime();
+      return new SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+        @Override
+        public void start(final Listener<RespT> responseListener, final Metadata headers) {
+          super.start(new SimpleForwardingClientCallListener<RespT>(responseListener) {
+            @Override
+            public void onClose(final Status status, final Metadata trailers) {
+              final long now = System.nanoTime();
+              breaker.record(GrpcNode.isNodeFailure(status), now - start > slowNanos, now);
+              super.onClose(status, trailers);
+            }
+          }, headers);
+        }
+      };
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class FailingCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+
+    protected final Status status;
+
+    @Override
+    public void start(final Listener<RespT> responseListener, final Metadata headers) {
+      responseListener.onClose(status, new Metadata());
+    }
+
+    @Override
+    public void request(final int numMessages) {
+      // nothing to request
+    }
+
+    @Override
+    public void cancel(final String message, final Throwable cause) {
+      // already closed
+    }
+
+    @Override
+    public void halfClose() {
+      // already closed
+    }
+
+    @Override
+    public void sendMessage(final ReqT message) {
+      // never sent
+    }
+  }
+
+}
@@ -0,0 +1,26 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import hera.api.model.HostnameAndPort;
+import hera.exception.HerajException;
+import lombok.Getter;
+
+/**
+ * A cause of a call failed fast by an open circuit. It's carried by a grpc status of the call.
+ */
+class CircuitOpenException extends HerajException {
+
+  private static final long serialVersionUID = 4012713395482150137L;
+
+  @Getter
+  protected final transient HostnameAndPort endpoint;
+
+  CircuitOpenException(final HostnameAndPort endpoint, final String methodName) {
+    super("Circuit is open for " + methodName + " on " + endpoint);
+    this.endpoint = endpoint;
+  }
+
+}
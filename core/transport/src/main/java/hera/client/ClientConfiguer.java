@@ -4,8 +4,11 @@
 
 package hera.client;
 
+import hera.strategy.BalancingStrategy;
 import hera.strategy.ConnectStrategy;
+import hera.strategy.MetricsRegistry;
 import java.io.InputStream;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 public interface ClientConfiguer<ConfiguerT> {
@@ -27,6 +30,28 @@ public interface ClientConfiguer<ConfiguerT> {
    */
   ConfiguerT withEndpoint(String endpoint);
 
+  /**
+   * Provide endpoints of aergo servers. eg. {@code localhost:7845}. If more than one endpoint is
+   * provided, requests are spread over them by a {@link BalancingStrategy} and a read-only request
+   * failed by an unavailable or slow node is retried on another node. A state-changing one like
+   * committing a transaction isn't, since it may be already applied. Unhealthy nodes are ejected
+   * and probed again in the background. If other endpoint is already set, that will be
+   * overridden.
+   *
+   * @param endpoints aergo chain server endpoints
+   * @return an instance of this
+   */
+  ConfiguerT withEndpoints(String... endpoints);
+
+  /**
+   * Use {@code balancingStrategy} to choose a node among multiple endpoints. Default is round
+   * robin. It has no effect with a single endpoint.
+   *
+   * @param balancingStrategy a balancing strategy
+   * @return an instance of this
+   */
+  ConfiguerT withBalancing(BalancingStrategy balancingStrategy);
+
   /**
    * Use non-blocking connection. If other {@link ConnectStrategy} is already set, that will be
    * overridden.
@@ -43,6 +68,38 @@ public interface ClientConfiguer<ConfiguerT> {
    */
   ConfiguerT withBlockingConnect();
 
+  /**
+   * Use non-blocking connection sharing an event loop group and an executor with all the clients
+   * in a jvm. An epoll native transport is used if available. Event loop threads are as many as
+   * processors and executor threads are twice as many. If other {@link ConnectStrategy} is
+   * already set, that will be overridden.
+   *
+   * @return an instance of this
+   */
+  ConfiguerT withSharedEventLoop();
+
+  /**
+   * Use non-blocking connection sharing an event loop group and an executor with all the clients
+   * in a jvm configured with the same sizing. An epoll native transport is used if available. If
+   * other {@link ConnectStrategy} is already set, that will be overridden.
+   *
+   * @param eventLoopThreads a number of event loop threads doing network io
+   * @param executorThreads  a number of threads running grpc callbacks
+   * @return an instance of this
+   */
+  ConfiguerT withSharedEventLoop(int eventLoopThreads, int executorThreads);
+
+  /**
+   * Use {@code size} channels per endpoint. Each channel has its own connection. Unary requests
+   * are spread over them and subscriptions use a separate channel, so long-lived streams don't
+   * compete with requests for concurrent streams and flow-control window of a connection. Default
+   * is a single channel shared by both.
+   *
+   * @param size the number of channels for unary requests. Must be positive
+   * @return an instance of this
+   */
+  ConfiguerT withChannelPool(int size);
+
   /**
    * Use plain text on connection.
    *
@@ -83,6 +140,70 @@ public interface ClientConfiguer<ConfiguerT> {
    */
   ConfiguerT withTimeout(long timeout, TimeUnit unit);
 
+  /**
+   * Cache blocks and block metadatas fetched by hash or height in a bounded cache. Entries are
+   * weighted by their approximate size in bytes and the least recently used ones are evicted
+   * first. A block is found by its height in a cache only if it's at least
+   * {@code confirmationDepth} blocks behind the best height seen, so a reorg on recent heights is
+   * not hidden by a cache.
+   *
+   * @param maximumBytes      a maximum approximate size of a cache in bytes
+   * @param confirmationDepth a number of confirmations after which a block is considered final
+   * @return an instance of this
+   */
+  ConfiguerT withBlockCache(long maximumBytes, int confirmationDepth);
+
+  /**
+   * Cache account states and name owners in a bounded cache. An entry is valid as of the best
+   * block seen from a block metadata stream which a client subscribes on a first lookup, and is
+   * invalidated by {@code invalidation}. Nothing is served until a first block metadata arrives
+   * or while a stream is broken. An owner of a name at a specific block is never cached. A cache
+   * is disabled with multiple endpoints since a stream and a lookup may go to different nodes.
+   *
+   * @param maximumSize  a maximum number of entries per states and name owners
+   * @param invalidation a way to invalidate entries on a new block
+   * @return an instance of this
+   */
+  ConfiguerT withAccountCache(long maximumSize, AccountCacheInvalidation invalidation);
+
+  /**
+   * Buffer at most {@code size} messages per subscription. Once the buffer is full because a
+   * subscriber is slower than a stream, {@code overflowPolicy} is applied. Default is
+   * 32 messages with
+   * {@link OverflowPolicy#BLOCK}.
+   *
+   * @param size           a buffer size. Must be positive
+   * @param overflowPolicy a policy on a full buffer
+   * @return an instance of this
+   */
+  ConfiguerT withStreamBuffer(int size, OverflowPolicy overflowPolicy);
+
+  /**
+   * Convert and deliver subscription messages on {@code executor}. Messages of a subscription are
+   * delivered one at a time in order. Default is delivering on a grpc thread receiving them.
+   *
+   * @param executor an executor delivering subscription messages
+   * @return an instance of this
+   */
+  ConfiguerT withStreamExecutor(Executor executor);
+
+  /**
+   * Record call counts, error counts, in-flight requests and latencies of each request method in
+   * memory. A snapshot of them is provided by {@link AergoClient#getMetrics()}.
+   *
+   * @return an instance of this
+   */
+  ConfiguerT withMetrics();
+
+  /**
+   * Record call counts, error counts, in-flight requests and latencies of each request method
+   * into {@code registry}.
+   *
+   * @param registry a metrics registry
+   * @return an instance of this
+   */
+  ConfiguerT withMetrics(MetricsRegistry registry);
+
   /**
    * If fails with non-connection error, after {@code interval} {@code count} times. Default retry
    * count : 0, default retry interval : 5000 milliseconds.
@@ -94,4 +215,91 @@ public interface ClientConfiguer<ConfiguerT> {
    */
   ConfiguerT withRetry(int count, long interval, TimeUnit unit);
 
+  /**
+   * If a read-only request fails with a retryable grpc status (UNAVAILABLE, RESOURCE_EXHAUSTED or
+   * ABORTED), retry at most {@code count} times. A request changing a state like commit isn't
+   * retried since a failed one may have been applied already. A delay before each retry grows
+   * exponentially from {@code initialBackoff} up to {@code maxBackoff} with a random jitter.
+   * Retries are also limited by a retry budget of a client. See
+   * {@link #withRetryBudget(double, int)}.
+   *
+   * @param count          a retry count. Must be positive
+   * @param initialBackoff an initial delay. Must be positive
+   * @param maxBackoff     a maximum delay. Must not be less than {@code initialBackoff}
+   * @param unit           a delay unit
+   * @return an instance of this
+   */
+  ConfiguerT withBackoffRetry(int count, long initialBackoff, long maxBackoff, TimeUnit unit);
+
+  /**
+   * Limit retries made by {@link #withBackoffRetry(int, long, long, TimeUnit)} to {@code ratio}
+   * of successful requests. At most {@code capacity} retries are allowed in a burst. Default is
+   * 0.1 with capacity 10.
+   *
+   * @param ratio    a ratio of retries to successful requests. Must be positive
+   * @param capacity a maximum number of retries in a burst. Must be positive
+   * @return an instance of this
+   */
+  ConfiguerT withRetryBudget(double ratio, int capacity);
+
+  /**
+   * Apply circuit breakers kept per endpoint and grpc method with a default config. See
+   * {@link #withCircuitBreaker(CircuitBreakerConfig)}.
+   *
+   * @return an instance of this
+   */
+  ConfiguerT withCircuitBreaker();
+
+  /**
+   * Apply circuit breakers kept per endpoint and grpc method. A request to a method failing or
+   * slow on an endpoint fails fast while its circuit is open instead of waiting for a timeout.
+   * With multiple endpoints, it's sent to another endpoint instead.
+   *
+   * @param config a circuit breaker config
+   * @return an instance of this
+   */
+  ConfiguerT withCircuitBreaker(CircuitBreakerConfig config);
+
+  /**
+   * Hedge read-only requests. If a request isn't done within {@code delay}, a duplicate one is
+   * sent to another channel or endpoint and the first success is taken. Hedges are limited to 10%
+   * of hedged requests. Only blocking requests are hedged.
+   *
+   * @param delay       a delay before a hedge
+   * @param unit        a delay unit
+   * @param methodNames names of read-only methods in {@link Methods} to hedge. If empty,
+   *                    {@link Methods#ACCOUNT_STATE}, {@link Methods#BLOCK_BY_HEIGHT},
+   *                    {@link Methods#CONTRACT_QUERY} and {@link Methods#TRANSACTION_TXRECEIPT}
+   * @return an instance of this
+   * @throws hera.exception.HerajException if a method changing a state is given
+   */
+  ConfiguerT withHedging(long delay, TimeUnit unit, String... methodNames);
+
+  /**
+   * Hedge read-only requests with a delay of {@code percentile} of latencies observed per method.
+   * {@code initialDelay} is used until enough latencies are observed. See
+   * {@link #withHedging(long, TimeUnit, String...)}.
+   *
+   * @param percentile   a percentile of latencies used as a delay. Must be in (0, 1)
+   * @param initialDelay a delay used until enough latencies are observed
+   * @param unit         a delay unit
+   * @param methodNames  names of read-only methods to hedge. Defaults if empty
+   * @return an instance of this
+   * @throws hera.exception.HerajException if a method changing a state is given
+   */
+  ConfiguerT withPercentileHedging(double percentile, long initialDelay, TimeUnit unit,
+      String... methodNames);
+
+  /**
+   * Coalesce concurrent identical read-only requests. A request of the same method with equal
+   * parameters as an in-flight one doesn't make its own rpc but shares a result of the in-flight
+   * one. Only blocking requests are coalesced.
+   *
+   * @param methodNames names of read-only methods in {@link Methods} to coalesce. All the
+   *                    read-only methods if empty
+   * @return an instance of this
+   * @throws hera.exception.HerajException if a method changing a state is given
+   */
+  ConfiguerT withCoalescing(String... methodNames);
+
 }
@@ -7,9 +7,13 @@ package hera.client;
 import hera.FailoverHandler;
 import hera.Key;
 import hera.api.model.HostnameAndPort;
+import hera.strategy.BalancingStrategy;
 import hera.strategy.ConnectStrategy;
 import hera.strategy.InvocationStrategy;
+import hera.strategy.MetricsRegistry;
 import hera.strategy.SecurityConfigurationStrategy;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 
 abstract class ClientContextKeys {
 
@@ -25,6 +29,12 @@ abstract class ClientContextKeys {
   public static final Key<SecurityConfigurationStrategy> GRPC_CONNECTION_NEGOTIATION = Key
       .of("GRPC_CONNECTION_NEGOTIATION", SecurityConfigurationStrategy.class);
 
+  public static final Key<Integer> GRPC_CONNECTION_POOL_SIZE = Key
+      .of("GRPC_CONNECTION_POOL_SIZE", Integer.class);
+
+  public static final Key<BalancingStrategy> GRPC_CONNECTION_BALANCING = Key
+      .of("GRPC_CONNECTION_BALANCING", BalancingStrategy.class);
+
   @SuppressWarnings("rawtypes")
   public static final Key<GrpcClient> GRPC_CLIENT = Key.of("GRPC_CLIENT", GrpcClient.class);
 
@@ -35,6 +45,34 @@ abstract class ClientContextKeys {
   public static final Key<InvocationStrategy> GRPC_REQUEST_TIMEOUT = Key
       .of("GRPC_REQUEST_TIMEOUT", InvocationStrategy.class);
 
+  public static final Key<ScheduledExecutorService> GRPC_REQUEST_SCHEDULER = Key
+      .of("GRPC_REQUEST_SCHEDULER", ScheduledExecutorService.class);
+
+  public static final Key<InvocationStrategy> GRPC_REQUEST_HEDGING = Key
+      .of("GRPC_REQUEST_HEDGING", InvocationStrategy.class);
+
+  public static final Key<InvocationStrategy> GRPC_REQUEST_COALESCING = Key
+      .of("GRPC_REQUEST_COALESCING", InvocationStrategy.class);
+
+  public static final Key<InvocationStrategy> GRPC_REQUEST_METRICS = Key
+      .of("GRPC_REQUEST_METRICS", InvocationStrategy.class);
+
+  public static final Key<InvocationStrategy> GRPC_REQUEST_RETRY_BUDGET = Key
+      .of("GRPC_REQUEST_RETRY_BUDGET", InvocationStrategy.class);
+
+
+
+  /* stream */
+
+  public static final Key<Integer> GRPC_STREAM_BUFFER_SIZE = Key
+      .of("GRPC_STREAM_BUFFER_SIZE", Integer.class);
+
+  public static final Key<OverflowPolicy> GRPC_STREAM_OVERFLOW_POLICY = Key
+      .of("GRPC_STREAM_OVERFLOW_POLICY", OverflowPolicy.class);
+
+  public static final Key<Executor> GRPC_STREAM_EXECUTOR = Key
+      .of("GRPC_STREAM_EXECUTOR", Executor.class);
+
 
 
   /* value holders */
@@ -42,6 +80,15 @@ abstract class ClientContextKeys {
   public static final Key<ChainIdHashHolder> GRPC_VALUE_CHAIN_ID_HASH_HOLDER = Key
       .of("GRPC_VALUE_CHAIN_ID_HASH_HOLDER", ChainIdHashHolder.class);
 
+  public static final Key<BlockCache> GRPC_VALUE_BLOCK_CACHE = Key
+      .of("GRPC_VALUE_BLOCK_CACHE", BlockCache.class);
+
+  public static final Key<AccountCache> GRPC_VALUE_ACCOUNT_CACHE = Key
+      .of("GRPC_VALUE_ACCOUNT_CACHE", AccountCache.class);
+
+  public static final Key<MetricsRegistry> GRPC_VALUE_METRICS_REGISTRY = Key
+      .of("GRPC_VALUE_METRICS_REGISTRY", MetricsRegistry.class);
+
 
 
   /* failover */
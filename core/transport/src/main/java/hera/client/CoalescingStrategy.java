@@ -0,0 +1,154 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static hera.client.Methods.READ_ONLY_METHODS;
+import static hera.util.ValidationUtils.assertNotNull;
+import static java.util.Collections.unmodifiableSet;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.util.concurrent.SettableFuture;
+import hera.Invocation;
+import hera.RequestMethod;
+import hera.exception.HerajException;
+import hera.strategy.InvocationStrategy;
+import io.grpc.StatusRuntimeException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.slf4j.Logger;
+
+/**
+ * An invocation strategy coalescing concurrent identical read-only requests. Requests of the same
+ * method with equal parameters made while one of them is in flight wait for it instead of sending
+ * their own, and share its result or its error. A shared error is copied for each waiting
+ * request in the same type if it's a grpc status or a timeout. A result is shared only while in
+ * flight and never cached.
+ */
+@ToString
+class CoalescingStrategy implements InvocationStrategy {
+
+  @ToString.Exclude
+  protected final transient Logger logger = getLogger(getClass());
+
+  protected final Set<String> methodNames;
+
+  @ToString.Exclude
+  protected final ConcurrentMap<Flight, SettableFuture<Object>> inFlight =
+      new ConcurrentHashMap<>();
+
+  /**
+   * CoalescingStrategy constructor.
+   *
+   * @param methodNames names of methods to coalesce. Must be read-only ones
+   */
+  CoalescingStrategy(final Set<String> methodNames) {
+    assertNotNull(methodNames, "Method names must not null");
+    for (final String methodName : methodNames) {
+      if (!READ_ONLY_METHODS.contains(methodName)) {
+        throw new HerajException("Can't coalesce a method changing a state: " + methodName);
+      }
+    }
+    this.methodNames = unmodifiableSet(new HashSet<>(methodNames));
+  }
+
+  @Override
+  public <T> Invocation<T> apply(final Invocation<T> invocation) {
+    assertNotNull(invocation, "Invocation must not null");
+    if (!methodNames.contains(invocation.getRequestMethod().getName())) {
+      return invocation;
+    }
+    return new CoalescedInvocation<>(invocation);
+  }
+
+  @RequiredArgsConstructor
+  @EqualsAndHashCode
+  @ToString
+  private static class Flight {
+
+    protected final String name;
+
+    protected final List<Object> parameters;
+  }
+
+  @RequiredArgsConstructor
+  @ToString
+  private class CoalescedInvocation<T> implements Invocation<T> {
+
+    protected final Invocation<T> delegate;
+
+    @Override
+    public RequestMethod<T> getRequestMethod() {
+      return delegate.getRequestMethod();
+    }
+
+    @Override
+    public List<Object> getParameters() {
+      return delegate.getParameters();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T invoke() throws Exception {
+      final Flight flight = new Flight(delegate.getRequestMethod().getName(),
+          delegate.getParameters());
+      final SettableFuture<Object> created = SettableFuture.create();
+      final SettableFuture<Object> leading = inFlight.putIfAbsent(flight, created);
+      if (null != leading) {
+        logger.trace("Join an in-flight request: {}", flight);
+        try {
+          return (T) leading.get();
+        } catch (ExecutionException e) {
+          throw copyOf(e.getCause());
+        }
+      }
+
+      try {
+        final T value = delegate.invoke();
+        created.set(value);
+        return value;
+      } catch (Exception e) {
+        created.setException(e);
+        throw e;
+      } finally {
+        inFlight.remove(flight, created);
+      }
+    }
+
+    @Override
+    public Invocation<T> withParameters(final List<Object> parameters) {
+      return new CoalescedInvocation<>(delegate.withParameters(parameters));
+    }
+  }
+
+  /**
+   * Copy an error of a leader for a follower not to share a mutable exception across threads. A
+   * copy keeps a type checked by failover handlers and an exception converter, and other types
+   * are wrapped.
+   *
+   * @param error an error of a leader
+   * @return a copy of {@code error}
+   */
+  protected static Exception copyOf(final Throwable error) {
+    if (error instanceof StatusRuntimeException) {
+      final StatusRuntimeException statusError = (StatusRuntimeException) error;
+      return new StatusRuntimeException(statusError.getStatus(), statusError.getTrailers());
+    }
+    if (error instanceof TimeoutException) {
+      final TimeoutException copy = new TimeoutException(error.getMessage());
+      copy.initCause(error);
+      return copy;
+    }
+    return new HerajException(error);
+  }
+
+}
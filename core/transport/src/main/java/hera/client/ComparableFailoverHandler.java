@@ -4,13 +4,34 @@
 
 package hera.client;
 
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+
+import com.google.common.util.concurrent.ListenableFuture;
 import hera.FailoverHandler;
+import hera.Invocation;
+import java.util.concurrent.ScheduledExecutorService;
 
 abstract class ComparableFailoverHandler implements FailoverHandler,
     Comparable<FailoverHandler> {
 
   protected abstract int getPriority();
 
+  /**
+   * Handle {@code error} of an asynchronous invocation without blocking a current thread, which
+   * may be a grpc one completing a future. A delay before a retry is made on {@code scheduler}.
+   * By default, {@link #handle(Invocation, hera.Response)} is run on a dedicated executor.
+   *
+   * @param <T> a type of future value
+   * @param invocation a failed asynchronous invocation
+   * @param error an error of {@code invocation}
+   * @param scheduler a scheduler to delay a retry
+   * @return a future holding a result of failover
+   */
+  protected <T> ListenableFuture<T> handleAsync(final Invocation<ListenableFuture<T>> invocation,
+      final Throwable error, final ScheduledExecutorService scheduler) {
+    return AwaitingInvocation.handleBlocking(this, invocation, error);
+  }
+
   @Override
   public int compareTo(final FailoverHandler o) {
     if (!(o instanceof ComparableFailoverHandler)) {
@@ -24,4 +45,13 @@ abstract class ComparableFailoverHandler implements FailoverHandler,
     return currentPriotity.compareTo(targetPriority);
   }
 
+  protected static <T> ListenableFuture<T> invokeAsync(
+      final Invocation<ListenableFuture<T>> invocation) {
+    try {
+      return invocation.invoke();
+    } catch (Exception e) {
+      return immediateFailedFuture(e);
+    }
+  }
+
 }
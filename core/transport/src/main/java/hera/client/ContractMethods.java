@@ -355,9 +355,9 @@ class ContractMethods extends AbstractMethods {
               .convertToRpcModel(eventFilter);
           logger.trace("Rpc filter: {}", filterInfo);
           Context.CancellableContext cancellableContext =
-              Context.current().withCancellation();
+              Context.current().fork().withCancellation();
           final io.grpc.stub.StreamObserver<Blockchain.Event> adaptor =
-              new GrpcStreamObserverAdaptor<>(cancellableContext, streamObserver, eventConverter);
+              newStreamObserver(cancellableContext, streamObserver, eventConverter);
           cancellableContext.run(new Runnable() {
 
             @Override
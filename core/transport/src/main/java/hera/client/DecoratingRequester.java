@@ -8,6 +8,10 @@ import static hera.client.ClientContextKeys.GRPC_AFTER_FAILURE;
 import static hera.client.ClientContextKeys.GRPC_AFTER_SUCCESS;
 import static hera.client.ClientContextKeys.GRPC_BEFORE_REQUEST;
 import static hera.client.ClientContextKeys.GRPC_FAILOVER_HANDLER_CHAIN;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_COALESCING;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_HEDGING;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_METRICS;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_RETRY_BUDGET;
 import static hera.client.ClientContextKeys.GRPC_REQUEST_TIMEOUT;
 import static hera.util.ValidationUtils.assertNotNull;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -20,18 +24,20 @@ import hera.Requester;
 import hera.Response;
 import hera.exception.HerajException;
 import hera.strategy.InvocationStrategy;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.slf4j.Logger;
 
 class DecoratingRequester implements Requester {
 
   protected static final String ORIGIN_LINE = "------------ caused by ------------";
 
+  protected static final String REQUESTER_NAME = DecoratingRequester.class.getName();
+
   protected final transient Logger logger = getLogger(getClass());
 
-  protected final Map<String, Invocation<?>> method2Invocation = new ConcurrentHashMap<>();
+  protected final ConcurrentMap<String, Invocation<?>> method2Invocation =
+      new ConcurrentHashMap<>();
 
   protected final Object failoverHandlerLock = new Object();
   protected volatile FailoverHandler cached;
@@ -45,28 +51,22 @@ class DecoratingRequester implements Requester {
     assertNotNull(invocation, "Invocation must not null");
     logger.debug("Request with invocation: {}", invocation);
 
-    Response<T> response;
     final Invocation<T> decorated = withDecorated(invocation);
     logger.trace("Decorated: {}", decorated);
     try {
       final T value = decorated.invoke();
       logger.debug("Success: {}", value);
-      response = Response.success(value);
+      return value;
     } catch (Exception e) {
-      logger.debug("Failure: {}", e.toString());
-      response = Response.fail(e);
-      response = handleFailover(decorated, response);
-    }
-
-    if (null != response.getError()) {
-      // need to adjust stacktrace (current stack + origin stack)
-      final Exception error = response.getError();
-      error.setStackTrace(concatStackTrace(new Throwable().getStackTrace(),
-          error.getStackTrace()));
-      throw error;
+      if (logger.isDebugEnabled()) {
+        logger.debug("Failure: {}", e.toString());
+      }
+      final Response<T> response = handleFailover(decorated, Response.<T>fail(e));
+      if (null == response.getError()) {
+        return response.getValue();
+      }
+      throw withCallerStackTrace(response.getError());
     }
-
-    return response.getValue();
   }
 
   @SuppressWarnings("unchecked")
@@ -76,16 +76,20 @@ class DecoratingRequester implements Requester {
       throw new HerajException("Name of invocation must not null");
     }
 
-    if (!method2Invocation.containsKey(name)) {
+    Invocation<R> cached = (Invocation<R>) method2Invocation.get(name);
+    if (null == cached) {
       logger.trace("Decorated method is not cached. Make an new one");
       Invocation<R> decorated = withTimeout(invocation);
+      decorated = withHedging(decorated);
+      decorated = withCoalescing(decorated);
+      decorated = withMetrics(decorated);
+      decorated = withRetryBudget(decorated);
       decorated = withBefore(decorated);
       decorated = withAfterSuccess(decorated);
       decorated = withAtferFailure(decorated);
-      method2Invocation.put(name, decorated);
+      final Invocation<R> raced = (Invocation<R>) method2Invocation.putIfAbsent(name, decorated);
+      cached = null != raced ? raced : decorated;
     }
-
-    final Invocation<R> cached = (Invocation<R>) method2Invocation.get(name);
     return cached.withParameters(invocation.getParameters());
   }
 
@@ -99,6 +103,46 @@ class DecoratingRequester implements Requester {
     return strategy.apply(invocation);
   }
 
+  protected <R> Invocation<R> withHedging(final Invocation<R> invocation) {
+    final Context context = ContextHolder.current();
+    final InvocationStrategy strategy = context.get(GRPC_REQUEST_HEDGING);
+    if (null == strategy) {
+      return invocation;
+    }
+    logger.trace("With hedging: {}", strategy);
+    return strategy.apply(invocation);
+  }
+
+  protected <R> Invocation<R> withCoalescing(final Invocation<R> invocation) {
+    final Context context = ContextHolder.current();
+    final InvocationStrategy strategy = context.get(GRPC_REQUEST_COALESCING);
+    if (null == strategy) {
+      return invocation;
+    }
+    logger.trace("With coalescing: {}", strategy);
+    return strategy.apply(invocation);
+  }
+
+  protected <R> Invocation<R> withMetrics(final Invocation<R> invocation) {
+    final Context context = ContextHolder.current();
+    final InvocationStrategy strategy = context.get(GRPC_REQUEST_METRICS);
+    if (null == strategy) {
+      return invocation;
+    }
+    logger.trace("With metrics: {}", strategy);
+    return strategy.apply(invocation);
+  }
+
+  protected <R> Invocation<R> withRetryBudget(final Invocation<R> invocation) {
+    final Context context = ContextHolder.current();
+    final InvocationStrategy strategy = context.get(GRPC_REQUEST_RETRY_BUDGET);
+    if (null == strategy) {
+      return invocation;
+    }
+    logger.trace("With retry budget: {}", strategy);
+    return strategy.apply(invocation);
+  }
+
   protected <R> Invocation<R> withBefore(final Invocation<R> invocation) {
     final Context context = ContextHolder.current();
     final InvocationStrategy strategy = context.get(GRPC_BEFORE_REQUEST);
@@ -151,6 +195,26 @@ class DecoratingRequester implements Requester {
     return cached;
   }
 
+  /**
+   * Append a stack trace of a caller to {@code error} if it's made on another thread. An error
+   * made on a current thread already has it, so a stack trace isn't taken nor copied.
+   *
+   * @param error an error to throw
+   * @return {@code error}
+   */
+  protected Exception withCallerStackTrace(final Exception error) {
+    final StackTraceElement[] origin = error.getStackTrace();
+    for (final StackTraceElement element : origin) {
+      if (ORIGIN_LINE.equals(element.getMethodName())
+          || (REQUESTER_NAME.equals(element.getClassName())
+          && "request".equals(element.getMethodName()))) {
+        return error;
+      }
+    }
+    error.setStackTrace(concatStackTrace(new Throwable().getStackTrace(), origin));
+    return error;
+  }
+
   protected final StackTraceElement[] concatStackTrace(final StackTraceElement[] current,
       final StackTraceElement[] cause) {
     final StackTraceElement[] concated = new StackTraceElement[current.length + cause.length + 1];
@@ -4,16 +4,25 @@
 
 package hera.client;
 
+import static com.google.common.util.concurrent.Futures.catchingAsync;
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static hera.util.ValidationUtils.assertNotNull;
 import static java.util.Collections.unmodifiableList;
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.Context;
+import hera.ContextHolder;
+import hera.EmptyContext;
 import hera.FailoverHandler;
 import hera.Invocation;
 import hera.Response;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 import org.slf4j.Logger;
 
 class FailoverHandlerChain implements FailoverHandler {
@@ -46,4 +55,45 @@ class FailoverHandlerChain implements FailoverHandler {
     return next;
   }
 
+  /**
+   * Handle {@code error} of an asynchronous invocation without blocking. Each handler is chained
+   * to a future of a previous one and runs only while there is an error, with a context of a
+   * caller attached.
+   *
+   * @param <T> a type of future value
+   * @param invocation a failed asynchronous invocation
+   * @param error an error of {@code invocation}
+   * @param scheduler a scheduler to delay a retry
+   * @return a future holding a result of failover
+   */
+  <T> ListenableFuture<T> handleAsync(final Invocation<ListenableFuture<T>> invocation,
+      final Throwable error, final ScheduledExecutorService scheduler) {
+    logger.debug("Handle {} asynchronously with failover handler chain (handlers: {})", error,
+        this.failoverHandlers);
+    final Context context = ContextHolder.current();
+    ListenableFuture<T> next = immediateFailedFuture(error);
+    for (final ComparableFailoverHandler failoverHandler : this.failoverHandlers) {
+      next = catchingAsync(next, Throwable.class, new AsyncFunction<Throwable, T>() {
+        @Override
+        public ListenableFuture<T> apply(final Throwable cause) {
+          if (!(cause instanceof Exception)) {
+            return immediateFailedFuture(cause);
+          }
+          logger.trace("Handle with {}", failoverHandler);
+          final Context previous = ContextHolder.attach(context);
+          try {
+            return failoverHandler.handleAsync(invocation, cause, scheduler);
+          } finally {
+            if (previous instanceof EmptyContext) {
+              ContextHolder.remove();
+            } else {
+              ContextHolder.attach(previous);
+            }
+          }
+        }
+      }, directExecutor());
+    }
+    return next;
+  }
+
 }
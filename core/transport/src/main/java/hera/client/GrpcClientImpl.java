@@ -6,7 +6,9 @@ package hera.client;
 
 import static hera.client.ClientContextKeys.GRPC_CONNECTION_ENDPOINT;
 import static hera.client.ClientContextKeys.GRPC_CONNECTION_NEGOTIATION;
+import static hera.client.ClientContextKeys.GRPC_CONNECTION_POOL_SIZE;
 import static hera.client.ClientContextKeys.GRPC_CONNECTION_STRATEGY;
+import static java.util.Collections.unmodifiableList;
 import static org.slf4j.LoggerFactory.getLogger;
 import static types.AergoRPCServiceGrpc.newBlockingStub;
 import static types.AergoRPCServiceGrpc.newFutureStub;
@@ -20,12 +22,16 @@ import hera.strategy.ChannelConfigurationStrategy;
 import hera.strategy.ConnectStrategy;
 import hera.strategy.NettyConnectStrategy;
 import hera.strategy.PlainTextChannelStrategy;
+import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import types.AergoRPCServiceGrpc.AergoRPCServiceBlockingStub;
 import types.AergoRPCServiceGrpc.AergoRPCServiceFutureStub;
@@ -35,41 +41,55 @@ class GrpcClientImpl implements GrpcClient, Closeable {
 
   protected final transient Logger logger = getLogger(getClass());
 
+  // null if it follows an endpoint in a context
+  protected final HostnameAndPort endpoint;
+
+  protected final List<ClientInterceptor> interceptors;
+
   protected final Object lock = new Object();
-  protected volatile ManagedChannel channel;
-  protected volatile AergoRPCServiceBlockingStub blockingStub;
-  protected volatile AergoRPCServiceFutureStub futureStub;
+  protected final AtomicInteger index = new AtomicInteger(0);
+  protected volatile List<ManagedChannel> channels;
+  protected volatile AergoRPCServiceBlockingStub[] blockingStubs;
+  protected volatile AergoRPCServiceFutureStub[] futureStubs;
   protected volatile AergoRPCServiceStub streamStub;
 
   GrpcClientImpl() {
+    this(null, Collections.<ClientInterceptor>emptyList());
+  }
+
+  GrpcClientImpl(final HostnameAndPort endpoint, final List<ClientInterceptor> interceptors) {
+    this.endpoint = endpoint;
+    this.interceptors = interceptors;
   }
 
   public AergoRPCServiceBlockingStub getBlockingStub() {
-    if (null == channel) {
+    if (null == channels) {
       synchronized (lock) {
-        if (null == channel) {
+        if (null == channels) {
           initStub();
         }
       }
     }
-    return blockingStub;
+    final AergoRPCServiceBlockingStub[] stubs = this.blockingStubs;
+    return stubs[nextIndex(stubs.length)];
   }
 
   public AergoRPCServiceFutureStub getFutureStub() {
-    if (null == channel) {
+    if (null == channels) {
       synchronized (lock) {
-        if (null == channel) {
+        if (null == channels) {
           initStub();
         }
       }
     }
-    return futureStub;
+    final AergoRPCServiceFutureStub[] stubs = this.futureStubs;
+    return stubs[nextIndex(stubs.length)];
   }
 
   public AergoRPCServiceStub getStreamStub() {
-    if (null == channel) {
+    if (null == channels) {
       synchronized (lock) {
-        if (null == channel) {
+        if (null == channels) {
           initStub();
         }
       }
@@ -77,21 +97,55 @@ class GrpcClientImpl implements GrpcClient, Closeable {
     return streamStub;
   }
 
+  protected int nextIndex(final int size) {
+    if (1 == size) {
+      return 0;
+    }
+    // mask sign bit to keep it non-negative on overflow
+    return (index.getAndIncrement() & Integer.MAX_VALUE) % size;
+  }
+
   protected void initStub() {
     final Context current = ContextHolder.current();
     logger.trace("Context: {}", current);
-    final ManagedChannelBuilder<?> raw = getChannelBuilder(current);
-    final ManagedChannelBuilder<?> configured = configure(raw, current);
-    final ManagedChannel channel = configured.build();
-    this.channel = channel;
-    this.blockingStub = newBlockingStub(channel);
-    this.futureStub = newFutureStub(channel);
-    this.streamStub = newStub(channel);
+    final int poolSize = current.getOrDefault(GRPC_CONNECTION_POOL_SIZE, 1);
+    logger.debug("Channel pool size: {}", poolSize);
+
+    // unary calls are spread over pooled channels
+    final List<ManagedChannel> channels = new ArrayList<>(poolSize + 1);
+    final AergoRPCServiceBlockingStub[] blockingStubs = new AergoRPCServiceBlockingStub[poolSize];
+    final AergoRPCServiceFutureStub[] futureStubs = new AergoRPCServiceFutureStub[poolSize];
+    for (int i = 0; i < poolSize; ++i) {
+      final ManagedChannel channel = newChannel(current);
+      channels.add(channel);
+      blockingStubs[i] = newBlockingStub(channel);
+      futureStubs[i] = newFutureStub(channel);
+    }
+
+    // streams get their own channel not to compete with unary calls
+    final ManagedChannel streamChannel;
+    if (1 < poolSize) {
+      streamChannel = newChannel(current);
+      channels.add(streamChannel);
+    } else {
+      streamChannel = channels.get(0);
+    }
+
+    this.blockingStubs = blockingStubs;
+    this.futureStubs = futureStubs;
+    this.streamStub = newStub(streamChannel);
+    this.channels = unmodifiableList(channels);
+  }
+
+  protected ManagedChannel newChannel(final Context context) {
+    final ManagedChannelBuilder<?> raw = getChannelBuilder(context);
+    final ManagedChannelBuilder<?> configured = configure(raw, context);
+    return configured.build();
   }
 
   protected ManagedChannelBuilder<?> getChannelBuilder(final Context context) {
-    final HostnameAndPort hostnameAndPort = context.getOrDefault(GRPC_CONNECTION_ENDPOINT,
-        HostnameAndPort.of("localhost:7845"));
+    final HostnameAndPort hostnameAndPort = null != endpoint ? endpoint
+        : context.getOrDefault(GRPC_CONNECTION_ENDPOINT, HostnameAndPort.of("localhost:7845"));
     final ConnectStrategy<?> connectStrategy = context.getOrDefault(GRPC_CONNECTION_STRATEGY,
         new NettyConnectStrategy());
     logger.debug("Use connection strategy: {} with endpoint: {}", connectStrategy, hostnameAndPort);
@@ -107,14 +161,23 @@ class GrpcClientImpl implements GrpcClient, Closeable {
       logger.debug("Configure channel with: {}", strategy);
       strategy.configure(builder);
     }
+    if (!interceptors.isEmpty()) {
+      builder.intercept(interceptors);
+    }
     return builder;
   }
 
   @Override
   public void close() {
     try {
-      if (null != this.channel) {
-        this.channel.shutdown().awaitTermination(3, TimeUnit.SECONDS);
+      final List<ManagedChannel> channels = this.channels;
+      if (null != channels) {
+        for (final ManagedChannel channel : channels) {
+          channel.shutdown();
+        }
+        for (final ManagedChannel channel : channels) {
+          channel.awaitTermination(3, TimeUnit.SECONDS);
+        }
       }
     } catch (Throwable e) {
       logger.debug("Fail to close grpc client by {}", e.toString());
@@ -124,7 +187,7 @@ class GrpcClientImpl implements GrpcClient, Closeable {
 
   @Override
   public String toString() {
-    return String.format("GrpcClientImpl(channel=%s)", channel);
+    return String.format("GrpcClientImpl(channels=%s)", channels);
   }
 
 }
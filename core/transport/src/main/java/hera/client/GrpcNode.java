@@ -0,0 +1,137 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import hera.api.model.HostnameAndPort;
+import hera.strategy.BalancingStrategy.Node;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.ToString;
+import org.slf4j.Logger;
+
+/**
+ * An endpoint with its own grpc client. It tracks outstanding requests and ejects itself when a
+ * call on it fails by a node failure.
+ */
+@ToString
+class GrpcNode implements Node, ClientInterceptor {
+
+  @ToString.Exclude
+  protected final transient Logger logger = getLogger(getClass());
+
+  @Getter
+  protected final HostnameAndPort endpoint;
+
+  @ToString.Exclude
+  @Getter
+  protected final GrpcClientImpl client;
+
+  protected final AtomicInteger outstandingRequests = new AtomicInteger(0);
+
+  @Getter
+  protected volatile boolean healthy = true;
+
+  @Getter
+  protected volatile long bestHeight = 0L;
+
+  GrpcNode(final HostnameAndPort endpoint) {
+    this(endpoint, Collections.<ClientInterceptor>emptyList());
+  }
+
+  /**
+   * GrpcNode constructor.
+   *
+   * @param endpoint an endpoint
+   * @param outer interceptors called before this one, the last one first
+   */
+  GrpcNode(final HostnameAndPort endpoint, final List<ClientInterceptor> outer) {
+    this.endpoint = endpoint;
+    final List<ClientInterceptor> interceptors = new ArrayList<>(outer.size() + 1);
+    interceptors.add(this);
+    interceptors.addAll(outer);
+    this.client = new GrpcClientImpl(endpoint, interceptors);
+  }
+
+  /**
+   * Check if an error is caused by a node itself, not by a request.
+   *
+   * @param error an error
+   * @return true if it's a node failure
+   */
+  static boolean isNodeFailure(final Throwable error) {
+    if (error instanceof TimeoutException) {
+      return true;
+    }
+    if (error instanceof StatusRuntimeException) {
+      return isNodeFailure(((StatusRuntimeException) error).getStatus());
+    }
+    return false;
+  }
+
+  static boolean isNodeFailure(final Status status) {
+    return Status.Code.UNAVAILABLE == status.getCode()
+        || Status.Code.DEADLINE_EXCEEDED == status.getCode();
+  }
+
+  @Override
+  public int getOutstandingRequests() {
+    return outstandingRequests.get();
+  }
+
+  void markHealthy(final long bestHeight) {
+    if (!this.healthy) {
+      logger.info("Node {} is back", endpoint);
+    }
+    this.bestHeight = bestHeight;
+    this.healthy = true;
+  }
+
+  void markUnhealthy() {
+    if (this.healthy) {
+      logger.info("Eject node {}", endpoint);
+    }
+    this.healthy = false;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      final MethodDescriptor<ReqT, RespT> method, final CallOptions callOptions,
+      final Channel next) {
+    return new SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+      @Override
+      public void start(final Listener<RespT> responseListener, final Metadata headers) {
+        outstandingRequests.incrementAndGet();
+        super.start(new SimpleForwardingClientCallListener<RespT>(responseListener) {
+          @Override
+          public void onClose(final Status status, final Metadata trailers) {
+            outstandingRequests.decrementAndGet();
+            if (isNodeFailure(status)) {
+              logger.debug("Node failure on {} by {}", endpoint, status);
+              markUnhealthy();
+            }
+            super.onClose(status, trailers);
+          }
+        }, headers);
+      }
+    };
+  }
+
+}
@@ -4,6 +4,9 @@
 
 package hera.client;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.util.ValidationUtils.assertNotNull;
+import static hera.util.ValidationUtils.assertTrue;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import hera.exception.ConnectionException;
@@ -11,51 +14,248 @@ import hera.exception.HerajException;
 import hera.exception.TransportExceptionConverter;
 import hera.transport.ModelConverter;
 import hera.util.ExceptionConverter;
-import lombok.AccessLevel;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import org.slf4j.Logger;
 
-@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+/**
+ * An adaptor passing grpc stream messages to a {@link hera.api.model.StreamObserver} through a
+ * bounded buffer. Messages are converted and delivered in order on {@code executor}, one at a
+ * time. With {@link OverflowPolicy#BLOCK}, inbound flow control is done manually so a server is
+ * asked only for as many messages as the buffer can hold.
+ */
 class GrpcStreamObserverAdaptor<RpcModelT, DomainModelT>
-    implements io.grpc.stub.StreamObserver<RpcModelT> {
+    implements ClientResponseObserver<Object, RpcModelT> {
+
+  public static final int DEFAULT_BUFFER_SIZE = 32;
 
   protected final transient Logger logger = getLogger(getClass());
 
   protected final ExceptionConverter<HerajException> exceptionConverter =
       new TransportExceptionConverter();
 
-  @NonNull
   protected final io.grpc.Context.CancellableContext context;
 
-  @NonNull
   protected final hera.api.model.StreamObserver<DomainModelT> delegate;
 
-  @NonNull
   protected final ModelConverter<DomainModelT, RpcModelT> converter;
 
+  protected final int bufferSize;
+
+  protected final OverflowPolicy overflowPolicy;
+
+  protected final Executor executor;
+
+  protected final Runnable drainer = new Runnable() {
+    @Override
+    public void run() {
+      drain();
+    }
+  };
+
+  protected final Object lock = new Object();
+
+  // guarded by lock
+  protected final Queue<RpcModelT> buffer = new ArrayDeque<>();
+  protected ClientCallStreamObserver<Object> requestStream;
+  protected int requested = 1; // grpc requests one message on start
+  protected boolean draining = false;
+  protected boolean done = false;
+  protected Throwable error;
+  protected boolean terminated = false;
+
+  GrpcStreamObserverAdaptor(final io.grpc.Context.CancellableContext context,
+      final hera.api.model.StreamObserver<DomainModelT> delegate,
+      final ModelConverter<DomainModelT, RpcModelT> converter) {
+    this(context, delegate, converter, DEFAULT_BUFFER_SIZE, OverflowPolicy.BLOCK,
+        directExecutor());
+  }
+
+  GrpcStreamObserverAdaptor(final io.grpc.Context.CancellableContext context,
+      final hera.api.model.StreamObserver<DomainModelT> delegate,
+      final ModelConverter<DomainModelT, RpcModelT> converter, final int bufferSize,
+      final OverflowPolicy overflowPolicy, final Executor executor) {
+    assertNotNull(context, "Context must not null");
+    assertNotNull(delegate, "Delegate must not null");
+    assertNotNull(converter, "Converter must not null");
+    assertTrue(0 < bufferSize, "Buffer size must be positive");
+    assertNotNull(overflowPolicy, "Overflow policy must not null");
+    assertNotNull(executor, "Executor must not null");
+    this.context = context;
+    this.delegate = delegate;
+    this.converter = converter;
+    this.bufferSize = bufferSize;
+    this.overflowPolicy = overflowPolicy;
+    this.executor = executor;
+  }
+
+  @Override
+  public void beforeStart(final ClientCallStreamObserver<Object> requestStream) {
+    synchronized (lock) {
+      this.requestStream = requestStream;
+    }
+    if (OverflowPolicy.BLOCK == overflowPolicy) {
+      requestStream.disableAutoInboundFlowControl();
+    }
+  }
+
   @Override
   public void onNext(final RpcModelT value) {
-    final DomainModelT converted = converter.convertToDomainModel(value);
-    logger.debug("Streaming next: {}", converted);
-    delegate.onNext(converted);
+    Throwable overflowed = null;
+    synchronized (lock) {
+      if (done) {
+        return;
+      }
+      --requested;
+      if (buffer.size() >= bufferSize && OverflowPolicy.DROP_OLDEST == overflowPolicy) {
+        logger.debug("Stream buffer is full, drop the oldest one");
+        buffer.poll();
+      } else if (buffer.size() >= bufferSize && OverflowPolicy.FAIL == overflowPolicy) {
+        logger.debug("Stream buffer overflowed, cancel subscription");
+        buffer.clear();
+        done = true;
+        error = new HerajException("Stream buffer overflowed (size: " + bufferSize + ")");
+        overflowed = error;
+      }
+      if (!done) {
+        buffer.add(value);
+      }
+    }
+    if (null != overflowed) {
+      context.cancel(overflowed);
+    }
+    requestMore();
+    scheduleDrain();
   }
 
   @Override
   public void onError(final Throwable t) {
     final HerajException converted = exceptionConverter.convert(t);
     logger.debug("Streaming failed by {}", converted.toString());
+    synchronized (lock) {
+      if (done) {
+        return;
+      }
+      done = true;
+      error = t;
+    }
     if (converted instanceof ConnectionException) {
       logger.debug("Stop subscription by connection error");
       context.cancel(converted);
     }
-    delegate.onError(t);
+    scheduleDrain();
   }
 
   @Override
   public void onCompleted() {
     logger.debug("Streaming finished successfully");
-    delegate.onCompleted();
+    synchronized (lock) {
+      if (done) {
+        return;
+      }
+      done = true;
+    }
+    scheduleDrain();
+  }
+
+  // ask a server only for what the buffer can hold
+  protected void requestMore() {
+    final ClientCallStreamObserver<Object> target;
+    final int count;
+    synchronized (lock) {
+      if (OverflowPolicy.BLOCK != overflowPolicy || done || null == requestStream) {
+        return;
+      }
+      count = bufferSize - buffer.size() - requested;
+      if (count <= 0) {
+        return;
+      }
+      requested += count;
+      target = requestStream;
+    }
+    logger.trace("Request {} more stream messages", count);
+    target.request(count);
+  }
+
+  protected void scheduleDrain() {
+    synchronized (lock) {
+      if (draining) {
+        return;
+      }
+      draining = true;
+    }
+    try {
+      executor.execute(drainer);
+    } catch (RejectedExecutionException e) {
+      logger.info("Stream executor rejected delivery: {}", e.toString());
+      synchronized (lock) {
+        draining = false;
+      }
+      fail(e);
+    }
+  }
+
+  protected void drain() {
+    while (true) {
+      final RpcModelT next;
+      final boolean finish;
+      final Throwable cause;
+      synchronized (lock) {
+        next = buffer.poll();
+        finish = null == next && done && !terminated;
+        if (finish) {
+          terminated = true;
+        }
+        cause = error;
+        if (null == next) {
+          draining = false;
+          if (!finish) {
+            return;
+          }
+        }
+      }
+
+      if (finish) {
+        if (null != cause) {
+          delegate.onError(cause);
+        } else {
+          delegate.onCompleted();
+        }
+        return;
+      }
+
+      requestMore();
+      try {
+        final DomainModelT converted = converter.convertToDomainModel(next);
+        logger.debug("Streaming next: {}", converted);
+        delegate.onNext(converted);
+      } catch (RuntimeException e) {
+        logger.info("Delivering stream message failed: {}", e.toString());
+        synchronized (lock) {
+          draining = false;
+        }
+        fail(e);
+        return;
+      }
+    }
+  }
+
+  protected void fail(final Throwable cause) {
+    synchronized (lock) {
+      if (terminated) {
+        return;
+      }
+      buffer.clear();
+      done = true;
+      terminated = true;
+      error = cause;
+    }
+    context.cancel(cause);
+    delegate.onError(cause);
   }
 
 }
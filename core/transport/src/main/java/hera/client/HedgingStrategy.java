@@ -0,0 +1,322 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static hera.client.Methods.ACCOUNT_STATE;
+import static hera.client.Methods.BLOCK_BY_HEIGHT;
+import static hera.client.Methods.CONTRACT_QUERY;
+import static hera.client.Methods.READ_ONLY_METHODS;
+import static hera.client.Methods.TRANSACTION_TXRECEIPT;
+import static hera.util.ValidationUtils.assertNotNull;
+import static hera.util.ValidationUtils.assertTrue;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableSet;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import hera.Context;
+import hera.ContextHolder;
+import hera.Invocation;
+import hera.RequestMethod;
+import hera.api.model.Time;
+import hera.exception.HerajException;
+import hera.strategy.InvocationStrategy;
+import hera.strategy.LatencyHistogram;
+import hera.strategy.TimeoutStrategy;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.slf4j.Logger;
+
+/**
+ * An invocation strategy hedging a read-only request. If a request isn't done within a delay, a
+ * duplicate one is sent on another thread, which goes to another channel or endpoint by a grpc
+ * client. The first success wins and the other one is cancelled by its grpc context. A delay is
+ * either a fixed one or a percentile of latencies observed per method. Hedges are limited by a
+ * budget to a fraction of hedged requests and run on a bounded executor owned by a strategy, which
+ * drops a hedge if all of its threads are busy.
+ */
+@ToString
+class HedgingStrategy implements InvocationStrategy {
+
+  public static final Set<String> DEFAULT_METHODS = unmodifiableSet(new HashSet<>(asList(
+      ACCOUNT_STATE, BLOCK_BY_HEIGHT, CONTRACT_QUERY, TRANSACTION_TXRECEIPT)));
+
+  // a percentile delay is used once this many latencies are observed
+  protected static final int MIN_SAMPLES = 100;
+
+  // a percentile delay is estimated again after this many latencies
+  protected static final int REFRESH_INTERVAL = 64;
+
+  protected static final int MAX_HEDGES = 4 * Runtime.getRuntime().availableProcessors();
+
+  protected static ExecutorService newExecutor() {
+    return new ThreadPoolExecutor(0, MAX_HEDGES, 60L, TimeUnit.SECONDS,
+        new SynchronousQueue<Runnable>(),
+        new ThreadFactoryBuilder().setNameFormat("heraj-hedge-%d").setDaemon(true).build());
+  }
+
+  @ToString.Exclude
+  protected final transient Logger logger = getLogger(getClass());
+
+  protected final Set<String> methodNames;
+
+  protected final Time delay;
+
+  // 0 if a fixed delay is used
+  protected final double percentile;
+
+  protected final RetryBudget budget;
+
+  @ToString.Exclude
+  protected final ScheduledExecutorService scheduler;
+
+  @ToString.Exclude
+  protected final ExecutorService executor;
+
+  /**
+   * HedgingStrategy constructor. A delay is tracked by a scheduler shared in the process.
+   *
+   * @param methodNames names of methods to hedge. Must be read-only ones
+   * @param delay a fixed delay. An initial one if {@code percentile} is positive
+   * @param percentile a percentile of observed latencies used as a delay. 0 to use a fixed one
+   * @param budget a budget of hedges
+   */
+  HedgingStrategy(final Set<String> methodNames, final Time delay, final double percentile,
+      final RetryBudget budget) {
+    this(methodNames, delay, percentile, budget, TimeoutStrategy.sharedScheduler());
+  }
+
+  /**
+   * HedgingStrategy constructor.
+   *
+   * @param methodNames names of methods to hedge. Must be read-only ones
+   * @param delay a fixed delay. An initial one if {@code percentile} is positive
+   * @param percentile a percentile of observed latencies used as a delay. 0 to use a fixed one
+   * @param budget a budget of hedges
+   * @param scheduler a scheduler to track a delay, usually owned by a client
+   */
+  HedgingStrategy(final Set<String> methodNames, final Time delay, final double percentile,
+      final RetryBudget budget, final ScheduledExecutorService scheduler) {
+    this(methodNames, delay, percentile, budget, scheduler, newExecutor());
+  }
+
+  HedgingStrategy(final Set<String> methodNames, final Time delay, final double percentile,
+      final RetryBudget budget, final ScheduledExecutorService scheduler,
+      final ExecutorService executor) {
+    assertNotNull(methodNames, "Method names must not null");
+    assertNotNull(delay, "Delay must not null");
+    assertTrue(0.0 <= percentile && percentile < 1.0, "Percentile must be in [0, 1)");
+    assertNotNull(budget, "Budget must not null");
+    assertNotNull(scheduler, "Scheduler must not null");
+    assertNotNull(executor, "Executor must not null");
+    for (final String methodName : methodNames) {
+      if (!READ_ONLY_METHODS.contains(methodName)) {
+        throw new HerajException("Can't hedge a method changing a state: " + methodName);
+      }
+    }
+    this.methodNames = unmodifiableSet(new HashSet<>(methodNames));
+    this.delay = delay;
+    this.percentile = percentile;
+    this.budget = budget;
+    this.scheduler = scheduler;
+    this.executor = executor;
+  }
+
+  @Override
+  public <T> Invocation<T> apply(final Invocation<T> invocation) {
+    assertNotNull(invocation, "Invocation must not null");
+    if (!methodNames.contains(invocation.getRequestMethod().getName())) {
+      return invocation;
+    }
+    return new HedgedInvocation<>(invocation, new DelayEstimator());
+  }
+
+  /**
+   * Stop running hedges. A scheduler isn't shut down since it's not owned by a strategy.
+   */
+  void close() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * A delay of a method. It's shared by invocations of the same method.
+   */
+  private class DelayEstimator {
+
+    protected final LatencyHistogram histogram = new LatencyHistogram();
+
+    protected final AtomicLong samples = new AtomicLong(0L);
+
+    protected volatile long delayNanos = delay.toMilliseconds() * 1000000L;
+
+    long get() {
+      return delayNanos;
+    }
+
+    void record(final long latency) {
+      if (0.0 == percentile) {
+        return;
+      }
+      histogram.record(latency);
+      final long count = samples.incrementAndGet();
+      if (MIN_SAMPLES <= count && 0 == count % REFRESH_INTERVAL) {
+        delayNanos = histogram.estimate(percentile)[0];
+      }
+    }
+  }
+
+  @RequiredArgsConstructor
+  @ToString
+  private class HedgedInvocation<T> implements Invocation<T> {
+
+    protected final Invocation<T> delegate;
+
+    @ToString.Exclude
+    protected final DelayEstimator delayEstimator;
+
+    @Override
+    public RequestMethod<T> getRequestMethod() {
+      return delegate.getRequestMethod();
+    }
+
+    @Override
+    public List<Object> getParameters() {
+      return delegate.getParameters();
+    }
+
+    @Override
+    public T invoke() throws Exception {
+      budget.deposit();
+      final SettableFuture<T> winner = SettableFuture.create();
+      final io.grpc.Context.CancellableContext primary = io.grpc.Context.current()
+          .withCancellation();
+      final Hedge<T> hedge = new Hedge<>(delegate, ContextHolder.current(), winner, primary);
+      final ScheduledFuture<?> scheduled;
+      try {
+        scheduled = scheduler.schedule(hedge, delayEstimator.get(), TimeUnit.NANOSECONDS);
+      } catch (RejectedExecutionException e) {
+        logger.debug("Scheduling a hedge rejected: {}", e.toString());
+        return delegate.invoke();
+      }
+
+      final long start = System.nanoTime();
+      T value = null;
+      Exception error = null;
+      final io.grpc.Context previous = primary.attach();
+      try {
+        value = delegate.invoke();
+      } catch (Exception e) {
+        error = e;
+      } finally {
+        primary.detach(previous);
+      }
+      final boolean hedged = !scheduled.cancel(false);
+
+      if (null == error) {
+        delayEstimator.record(System.nanoTime() - start);
+        primary.cancel(null);
+        if (winner.set(value)) {
+          hedge.cancel();
+          return value;
+        }
+        return winner.get();
+      }
+      primary.cancel(null);
+      if (!hedged) {
+        throw error;
+      }
+
+      // a hedge may have won and cancelled this or still be running
+      final T hedgedValue;
+      try {
+        hedgedValue = hedge.outcome.get();
+      } catch (ExecutionException e) {
+        throw error;
+      }
+      // a latency of a winning hedge is taken since the primary one is cancelled by it
+      delayEstimator.record(System.nanoTime() - start);
+      return hedgedValue;
+    }
+
+    @Override
+    public Invocation<T> withParameters(final List<Object> parameters) {
+      return new HedgedInvocation<>(delegate.withParameters(parameters), delayEstimator);
+    }
+  }
+
+  @RequiredArgsConstructor
+  private class Hedge<T> implements Runnable {
+
+    protected final Invocation<T> delegate;
+
+    protected final Context context;
+
+    protected final SettableFuture<T> winner;
+
+    protected final io.grpc.Context.CancellableContext primary;
+
+    protected final SettableFuture<T> outcome = SettableFuture.create();
+
+    protected final io.grpc.Context.CancellableContext self = io.grpc.Context.current()
+        .withCancellation();
+
+    @Override
+    public void run() {
+      if (winner.isDone() || !budget.tryWithdraw()) {
+        outcome.setException(new HerajException("Not hedged"));
+        return;
+      }
+      logger.debug("Hedge {}", delegate);
+      try {
+        executor.execute(new Runnable() {
+          @Override
+          public void run() {
+            attempt();
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        outcome.setException(e);
+      }
+    }
+
+    protected void attempt() {
+      ContextHolder.attach(context);
+      final io.grpc.Context previous = self.attach();
+      try {
+        final T value = delegate.invoke();
+        outcome.set(value);
+        if (winner.set(value)) {
+          logger.debug("Hedge won, cancel the primary one");
+          primary.cancel(null);
+        }
+      } catch (Exception e) {
+        logger.debug("Hedge failed by {}", e.toString());
+        outcome.setException(e);
+      } finally {
+        self.detach(previous);
+        self.cancel(null);
+        ContextHolder.remove();
+      }
+    }
+
+    void cancel() {
+      self.cancel(null);
+    }
+  }
+
+}
@@ -4,13 +4,22 @@
 
 package hera.client;
 
+import static com.google.common.util.concurrent.Futures.catchingAsync;
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.Futures.scheduleAsync;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static hera.util.ValidationUtils.assertTrue;
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.google.common.util.concurrent.AsyncCallable;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.ListenableFuture;
 import hera.Invocation;
 import hera.Response;
 import hera.api.model.Time;
 import hera.exception.HerajException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import lombok.ToString;
 import org.slf4j.Logger;
@@ -22,7 +31,7 @@ class JustRetryFailoverHandler extends ComparableFailoverHandler {
   protected final transient Logger logger = getLogger(getClass());
 
   @Getter
-  protected final int priority = 2;
+  protected final int priority = 3;
 
   protected final int count;
 
@@ -60,4 +69,32 @@ class JustRetryFailoverHandler extends ComparableFailoverHandler {
     return next;
   }
 
+  @Override
+  protected <T> ListenableFuture<T> handleAsync(final Invocation<ListenableFuture<T>> invocation,
+      final Throwable error, final ScheduledExecutorService scheduler) {
+    logger.debug("Handle {} asynchronously with {}", error, this);
+    return retryAsync(invocation, error, scheduler, this.count);
+  }
+
+  protected <T> ListenableFuture<T> retryAsync(final Invocation<ListenableFuture<T>> invocation,
+      final Throwable error, final ScheduledExecutorService scheduler, final int countDown) {
+    if (0 >= countDown) {
+      return immediateFailedFuture(error);
+    }
+    logger.debug("Just retry with {} after {}ms (count left: {})", invocation, this.interval,
+        countDown);
+    final ListenableFuture<T> retried = scheduleAsync(new AsyncCallable<T>() {
+      @Override
+      public ListenableFuture<T> call() {
+        return invokeAsync(invocation);
+      }
+    }, this.interval, TimeUnit.MILLISECONDS, scheduler);
+    return catchingAsync(retried, Throwable.class, new AsyncFunction<Throwable, T>() {
+      @Override
+      public ListenableFuture<T> apply(final Throwable next) {
+        return retryAsync(invocation, next, scheduler, countDown - 1);
+      }
+    }, directExecutor());
+  }
+
 }
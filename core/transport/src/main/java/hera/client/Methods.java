@@ -4,8 +4,13 @@
 
 package hera.client;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableSet;
+
 import hera.annotation.ApiAudience;
 import hera.annotation.ApiStability;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Heraj methods. Naming rule : heraj.{operation}.xx.yy = OPERATION_XX_YY.
@@ -57,6 +62,7 @@ public abstract class Methods {
   static final String TRANSACTION_IN_BLOCK = "heraj.transaction.in.block";
   public static final String TRANSACTION_TXRECEIPT = "heraj.transaction.txreceipt";
   public static final String TRANSACTION_COMMIT = "heraj.transaction.commit";
+  public static final String TRANSACTION_COMMIT_BATCH = "heraj.transaction.commit.batch";
   public static final String TRANSACTION_SENDTX_BY_ADDRESS = "heraj.transaction.sendtx.by.address";
   public static final String TRANSACTION_SENDTX_BY_NAME = "heraj.transaction.sendtx.by.name";
 
@@ -69,4 +75,13 @@ public abstract class Methods {
   public static final String CONTRACT_LIST_EVENT = "heraj.contract.list.event";
   public static final String CONTRACT_SUBSCRIBE_EVENT = "heraj.contract.subscribe.event";
 
+  /**
+   * Methods not changing any state. Only these can be hedged or coalesced.
+   */
+  static final Set<String> READ_ONLY_METHODS = unmodifiableSet(new HashSet<>(asList(
+      ACCOUNT_STATE, ACCOUNT_NAMEOWNER, ACCOUNT_STAKEINFO, ACCOUNT_VOTESOF,
+      BLOCK_METADATA_BY_HASH, BLOCK_METADATA_BY_HEIGHT, BLOCK_BY_HASH, BLOCK_BY_HEIGHT,
+      BLOCKCHAIN_BLOCKCHAINSTATUS, TRANSACTION_TX, TRANSACTION_TXRECEIPT, CONTRACT_TXRECEIPT,
+      CONTRACT_INTERFACE, CONTRACT_QUERY)));
+
 }
@@ -0,0 +1,33 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+
+/**
+ * A policy on a subscription whose buffer is full because a subscriber is slower than a stream.
+ */
+@ApiAudience.Public
+@ApiStability.Unstable
+public enum OverflowPolicy {
+
+  /**
+   * Stop requesting messages from a server until a subscriber catches up. No message is lost.
+   */
+  BLOCK,
+
+  /**
+   * Keep receiving and drop the oldest buffered message. Fit for a subscriber interested only in
+   * recent messages.
+   */
+  DROP_OLDEST,
+
+  /**
+   * Keep receiving and cancel a subscription with an error once the buffer overflows.
+   */
+  FAIL
+
+}
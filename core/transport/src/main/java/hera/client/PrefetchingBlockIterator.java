@@ -0,0 +1,146 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.util.ValidationUtils.assertNotNull;
+import static hera.util.ValidationUtils.assertTrue;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.api.AsyncBlockOperation;
+import hera.api.model.Block;
+import hera.exception.HerajException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import org.slf4j.Logger;
+
+/**
+ * An iterator of blocks in height order fetching blocks ahead with non-blocking requests. A new
+ * request is sent only if there are less than {@code parallelism} requests in flight and less
+ * than {@code prefetch} blocks waiting for the consumer, so a slow consumer holds back fetching.
+ */
+class PrefetchingBlockIterator implements Iterator<Block> {
+
+  protected final transient Logger logger = getLogger(getClass());
+
+  protected final AsyncBlockOperation blockOperation;
+
+  protected final long toHeight;
+
+  protected final int parallelism;
+
+  protected final int prefetch;
+
+  protected final Object lock = new Object();
+
+  // guarded by lock
+  protected final Deque<ListenableFuture<Block>> window = new ArrayDeque<>();
+  protected long nextHeight;
+  protected int inFlight = 0;
+
+  protected final Runnable onDone = new Runnable() {
+    @Override
+    public void run() {
+      final List<ListenableFuture<Block>> requested;
+      synchronized (lock) {
+        --inFlight;
+        requested = fill();
+      }
+      listen(requested);
+    }
+  };
+
+  PrefetchingBlockIterator(final AsyncBlockOperation blockOperation, final long fromHeight,
+      final long toHeight, final int parallelism, final int prefetch) {
+    assertNotNull(blockOperation, "Block operation must not null");
+    assertTrue(0 <= fromHeight, "From height must >= 0");
+    assertTrue(fromHeight <= toHeight, "From height must <= to height");
+    assertTrue(0 < parallelism, "Parallelism must be positive");
+    assertTrue(parallelism <= prefetch, "Prefetch must >= parallelism");
+    this.blockOperation = blockOperation;
+    this.nextHeight = fromHeight;
+    this.toHeight = toHeight;
+    this.parallelism = parallelism;
+    this.prefetch = prefetch;
+  }
+
+  @Override
+  public boolean hasNext() {
+    synchronized (lock) {
+      return !window.isEmpty() || nextHeight <= toHeight;
+    }
+  }
+
+  @Override
+  public Block next() {
+    final ListenableFuture<Block> head;
+    final List<ListenableFuture<Block>> requested;
+    synchronized (lock) {
+      requested = fill();
+      head = window.poll();
+    }
+    listen(requested);
+    if (null == head) {
+      throw new NoSuchElementException();
+    }
+
+    try {
+      return head.get();
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof HerajException) {
+        throw (HerajException) cause;
+      }
+      throw new HerajException(cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HerajException(e);
+    } finally {
+      // a slot in the window is released
+      final List<ListenableFuture<Block>> refilled;
+      synchronized (lock) {
+        refilled = fill();
+      }
+      listen(refilled);
+    }
+  }
+
+  // must be called with lock
+  protected List<ListenableFuture<Block>> fill() {
+    if (nextHeight > toHeight || window.size() >= prefetch || inFlight >= parallelism) {
+      return Collections.emptyList();
+    }
+    final List<ListenableFuture<Block>> requested = new LinkedList<>();
+    while (nextHeight <= toHeight && window.size() < prefetch && inFlight < parallelism) {
+      logger.trace("Prefetch block of height: {}", nextHeight);
+      final ListenableFuture<Block> future = blockOperation.getBlock(nextHeight);
+      window.add(future);
+      requested.add(future);
+      ++inFlight;
+      ++nextHeight;
+    }
+    return requested;
+  }
+
+  // listen outside of lock since a listener runs immediately on a completed future
+  protected void listen(final List<ListenableFuture<Block>> requested) {
+    for (final ListenableFuture<Block> future : requested) {
+      future.addListener(onDone, directExecutor());
+    }
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException();
+  }
+
+}
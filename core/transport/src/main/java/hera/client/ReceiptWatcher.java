@@ -0,0 +1,507 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.util.ValidationUtils.assertNotNull;
+import static hera.util.ValidationUtils.assertTrue;
+import static java.util.Collections.emptyList;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import hera.api.AsyncBlockOperation;
+import hera.api.AsyncTransactionOperation;
+import hera.api.BlockOperation;
+import hera.api.model.Block;
+import hera.api.model.BlockMetadata;
+import hera.api.model.StreamObserver;
+import hera.api.model.Subscription;
+import hera.api.model.Transaction;
+import hera.api.model.TxHash;
+import hera.api.model.TxReceipt;
+import hera.exception.HerajException;
+import hera.strategy.TimeoutStrategy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+
+/**
+ * A watcher waiting receipts of many transactions with a single block metadata subscription. A
+ * receipt is fetched once when its transaction hash is registered, so a transaction included long
+ * before waiting is found. If not found, a receipt is fetched again only if its transaction hash
+ * appears in a block. A block is fetched only if it has any transaction, and the latest {@code
+ * lookback} blocks are also scanned so a transaction included while registering isn't missed. The
+ * subscription is closed when there is no transaction to wait. A closed subscription is made
+ * again after a backoff growing exponentially, and a receipt failed to be fetched is fetched again
+ * on a next block.
+ */
+class ReceiptWatcher {
+
+  public static final int DEFAULT_LOOKBACK = 10;
+
+  protected static final long INITIAL_RESUBSCRIBE_BACKOFF = 100L; // milliseconds
+
+  protected static final long MAX_RESUBSCRIBE_BACKOFF = 5000L; // milliseconds
+
+  protected final transient Logger logger = getLogger(getClass());
+
+  protected final BlockOperation blockOperation;
+
+  protected final AsyncBlockOperation asyncBlockOperation;
+
+  protected final AsyncTransactionOperation asyncTransactionOperation;
+
+  protected final int lookback;
+
+  protected final ScheduledExecutorService scheduler;
+
+  protected final Object lock = new Object();
+
+  // guarded by lock
+  protected final Map<TxHash, Waiting> pending = new HashMap<>();
+  protected final NavigableMap<Long, Set<TxHash>> scanned = new TreeMap<>();
+  protected final Set<Long> fetching = new HashSet<>();
+  protected final Set<Waiting> unresolved = new HashSet<>();
+  protected Subscription<BlockMetadata> subscription;
+  protected long bestHeight = 0L;
+  protected long epoch = 0L;
+  protected long resubscribeBackoff = INITIAL_RESUBSCRIBE_BACKOFF;
+  protected boolean subscribing = false;
+
+  ReceiptWatcher(final BlockOperation blockOperation,
+      final AsyncBlockOperation asyncBlockOperation,
+      final AsyncTransactionOperation asyncTransactionOperation) {
+    this(blockOperation, asyncBlockOperation, asyncTransactionOperation, DEFAULT_LOOKBACK);
+  }
+
+  ReceiptWatcher(final BlockOperation blockOperation,
+      final AsyncBlockOperation asyncBlockOperation,
+      final AsyncTransactionOperation asyncTransactionOperation, final int lookback) {
+    this(blockOperation, asyncBlockOperation, asyncTransactionOperation, lookback,
+        TimeoutStrategy.sharedScheduler());
+  }
+
+  ReceiptWatcher(final BlockOperation blockOperation,
+      final AsyncBlockOperation asyncBlockOperation,
+      final AsyncTransactionOperation asyncTransactionOperation, final int lookback,
+      final ScheduledExecutorService scheduler) {
+    assertNotNull(blockOperation, "Block operation must not null");
+    assertNotNull(asyncBlockOperation, "Async block operation must not null");
+    assertNotNull(asyncTransactionOperation, "Async transaction operation must not null");
+    assertTrue(0 < lookback, "Lookback must be positive");
+    assertNotNull(scheduler, "Scheduler must not null");
+    this.blockOperation = blockOperation;
+    this.asyncBlockOperation = asyncBlockOperation;
+    this.asyncTransactionOperation = asyncTransactionOperation;
+    this.lookback = lookback;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Wait receipts of transactions.
+   *
+   * @param txHashes transaction hashes to wait
+   * @param timeout a time to wait for all the receipts
+   * @param unit a unit of {@code timeout}
+   * @return receipts in the same order as {@code txHashes}. null for one not arrived in time.
+   */
+  public List<TxReceipt> await(final List<TxHash> txHashes, final long timeout,
+      final TimeUnit unit) {
+    assertNotNull(txHashes, "Tx hashes must not null");
+    assertTrue(0 <= timeout, "Timeout must >= 0");
+    assertNotNull(unit, "Time unit must not null");
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+    final List<Waiting> waitings = new ArrayList<>(txHashes.size());
+    try {
+      final List<Waiting> registered = new LinkedList<>();
+      final List<Waiting> matched = new LinkedList<>();
+      final List<Long> toFetch;
+      final long current;
+      final boolean subscribeNow;
+      synchronized (lock) {
+        for (final TxHash txHash : txHashes) {
+          assertNotNull(txHash, "Tx hash must not null");
+          Waiting waiting = pending.get(txHash);
+          if (null == waiting) {
+            waiting = new Waiting(txHash);
+            waiting.requested = true;
+            pending.put(txHash, waiting);
+            registered.add(waiting);
+          }
+          ++waiting.waiters;
+          waitings.add(waiting);
+          if (!waiting.requested && isScanned(txHash)) {
+            waiting.requested = true;
+            matched.add(waiting);
+          }
+        }
+        subscribeNow = startSubscribing();
+        toFetch = collectMissing();
+        current = epoch;
+      }
+      if (subscribeNow) {
+        subscribeWithoutLock(current);
+      }
+      requestReceipts(registered, true);
+      requestReceipts(matched, false);
+      fetch(toFetch, current);
+
+      final List<TxReceipt> receipts = new ArrayList<>(waitings.size());
+      for (final Waiting waiting : waitings) {
+        receipts.add(waiting.get(deadline - System.nanoTime()));
+      }
+      return receipts;
+    } finally {
+      release(waitings);
+    }
+  }
+
+  protected void release(final List<Waiting> waitings) {
+    synchronized (lock) {
+      for (final Waiting waiting : waitings) {
+        if (0 == --waiting.waiters && waiting == pending.get(waiting.txHash)) {
+          pending.remove(waiting.txHash);
+        }
+      }
+      if (pending.isEmpty()) {
+        unresolved.clear();
+        if (null != subscription) {
+          logger.debug("No transaction to wait, unsubscribe block metadata");
+          subscription.unsubscribe();
+          reset();
+        }
+      }
+    }
+  }
+
+  // must be called with lock
+  protected boolean startSubscribing() {
+    if (null != subscription || subscribing || pending.isEmpty()) {
+      return false;
+    }
+    subscribing = true;
+    return true;
+  }
+
+  protected Subscription<BlockMetadata> subscribe(final long current) {
+    logger.debug("Subscribe block metadata to wait receipts");
+    return blockOperation.subscribeBlockMetadata(new StreamObserver<BlockMetadata>() {
+
+      @Override
+      public void onNext(final BlockMetadata value) {
+        onBlockMetadata(current, value);
+      }
+
+      @Override
+      public void onError(final Throwable t) {
+        logger.info("Block metadata subscription failed: {}", t.toString());
+        onClosed(current);
+      }
+
+      @Override
+      public void onCompleted() {
+        onClosed(current);
+      }
+    });
+  }
+
+  // must be called with lock
+  protected void reset() {
+    subscription = null;
+    subscribing = false;
+    scanned.clear();
+    fetching.clear();
+    bestHeight = 0L;
+    ++epoch;
+  }
+
+  // must be called with lock
+  protected boolean isScanned(final TxHash txHash) {
+    for (final Set<TxHash> txHashes : scanned.values()) {
+      if (txHashes.contains(txHash)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // must be called with lock
+  protected List<Long> collectMissing() {
+    if (0L == bestHeight) {
+      return emptyList();
+    }
+    final long from = Math.max(1L, bestHeight - lookback + 1);
+    scanned.headMap(from).clear();
+    final List<Long> missing = new LinkedList<>();
+    for (long height = from; height <= bestHeight; ++height) {
+      if (!scanned.containsKey(height) && fetching.add(height)) {
+        missing.add(height);
+      }
+    }
+    return missing;
+  }
+
+  // must be called with lock
+  protected List<Waiting> collectUnresolved() {
+    final List<Waiting> retrying = new LinkedList<>();
+    for (final Waiting waiting : unresolved) {
+      if (waiting == pending.get(waiting.txHash)) {
+        retrying.add(waiting);
+      }
+    }
+    unresolved.clear();
+    return retrying;
+  }
+
+  protected void onBlockMetadata(final long expected, final BlockMetadata blockMetadata) {
+    final List<Long> toFetch;
+    final List<Waiting> retrying;
+    synchronized (lock) {
+      if (expected != epoch) {
+        return;
+      }
+      resubscribeBackoff = INITIAL_RESUBSCRIBE_BACKOFF;
+      final long height = blockMetadata.getBlockHeader().getBlockNumber();
+      logger.trace("New block metadata of height: {}", height);
+      bestHeight = Math.max(bestHeight, height);
+      if (0 == blockMetadata.getTxCount()) {
+        scanned.put(height, Collections.<TxHash>emptySet());
+      }
+      toFetch = collectMissing();
+      retrying = collectUnresolved();
+    }
+    requestReceipts(retrying, false);
+    fetch(toFetch, expected);
+  }
+
+  protected void onClosed(final long expected) {
+    final long current;
+    final long backoff;
+    synchronized (lock) {
+      if (expected != epoch) {
+        return;
+      }
+      reset();
+      if (pending.isEmpty()) {
+        return;
+      }
+      current = epoch;
+      backoff = resubscribeBackoff;
+      resubscribeBackoff = Math.min(MAX_RESUBSCRIBE_BACKOFF, 2 * resubscribeBackoff);
+    }
+    scheduleResubscribe(current, backoff);
+  }
+
+  protected void scheduleResubscribe(final long expected, final long backoff) {
+    logger.debug("Resubscribe block metadata after backoff {}ms", backoff);
+    try {
+      scheduler.schedule(new Runnable() {
+        @Override
+        public void run() {
+          resubscribe(expected);
+        }
+      }, backoff, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      logger.info("Scheduling resubscription of block metadata failed: {}", e.toString());
+    }
+  }
+
+  protected void resubscribe(final long expected) {
+    synchronized (lock) {
+      // subscribed again by a new waiter or nothing to wait
+      if (expected != epoch || !startSubscribing()) {
+        return;
+      }
+    }
+    subscribeWithoutLock(expected);
+  }
+
+  // not to hold a lock while making a subscription, started by startSubscribing
+  protected void subscribeWithoutLock(final long expected) {
+    Subscription<BlockMetadata> subscribed = null;
+    try {
+      subscribed = subscribe(expected);
+    } catch (Exception e) {
+      logger.info("Subscribing block metadata failed: {}", e.toString());
+    }
+
+    final long backoff;
+    synchronized (lock) {
+      if (expected == epoch) {
+        subscribing = false;
+      }
+      if (expected != epoch || pending.isEmpty()) {
+        // closed already or nothing to wait
+        if (null != subscribed) {
+          subscribed.unsubscribe();
+        }
+        return;
+      }
+      if (null != subscribed) {
+        subscription = subscribed;
+        return;
+      }
+      backoff = resubscribeBackoff;
+      resubscribeBackoff = Math.min(MAX_RESUBSCRIBE_BACKOFF, 2 * resubscribeBackoff);
+    }
+    scheduleResubscribe(expected, backoff);
+  }
+
+  protected void fetch(final List<Long> heights, final long expected) {
+    for (final Long height : heights) {
+      logger.trace("Fetch block of height: {} to find transactions", height);
+      Futures.addCallback(asyncBlockOperation.getBlock(height), new FutureCallback<Block>() {
+
+        @Override
+        public void onSuccess(final Block block) {
+          onBlock(expected, height, block);
+        }
+
+        @Override
+        public void onFailure(final Throwable t) {
+          logger.debug("Fetching block of height: {} failed: {}", height, t.toString());
+          synchronized (lock) {
+            if (expected == epoch) {
+              // fetched again on a next block
+              fetching.remove(height);
+            }
+          }
+        }
+      }, directExecutor());
+    }
+  }
+
+  protected void onBlock(final long expected, final long height, final Block block) {
+    final List<Waiting> matched = new LinkedList<>();
+    synchronized (lock) {
+      if (expected != epoch) {
+        return;
+      }
+      fetching.remove(height);
+      if (null == block) {
+        return;
+      }
+      final Set<TxHash> txHashes = new HashSet<>();
+      for (final Transaction transaction : block.getTransactions()) {
+        txHashes.add(transaction.getHash());
+        final Waiting waiting = pending.get(transaction.getHash());
+        if (null != waiting && !waiting.requested) {
+          waiting.requested = true;
+          matched.add(waiting);
+        }
+      }
+      if (height >= bestHeight - lookback + 1) {
+        scanned.put(height, txHashes);
+      }
+    }
+    requestReceipts(matched, false);
+  }
+
+  /**
+   * Fetch receipts of {@code waitings}.
+   *
+   * @param waitings waitings to fetch receipts of
+   * @param registered if {@code waitings} are just registered, not found in any block yet
+   */
+  protected void requestReceipts(final List<Waiting> waitings, final boolean registered) {
+    for (final Waiting waiting : waitings) {
+      logger.trace("Fetch receipt of tx hash: {}", waiting.txHash);
+      Futures.addCallback(asyncTransactionOperation.getTxReceipt(waiting.txHash),
+          new FutureCallback<TxReceipt>() {
+
+            @Override
+            public void onSuccess(final TxReceipt receipt) {
+              if (null != receipt) {
+                waiting.future.set(receipt);
+              } else if (registered) {
+                awaitBlock(waiting);
+              } else {
+                retryReceipt(waiting);
+              }
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+              logger.debug("Fetching receipt of tx hash: {} failed: {}", waiting.txHash,
+                  t.toString());
+              retryReceipt(waiting);
+            }
+          }, directExecutor());
+    }
+  }
+
+  protected void awaitBlock(final Waiting waiting) {
+    synchronized (lock) {
+      if (waiting != pending.get(waiting.txHash)) {
+        return;
+      }
+      if (!isScanned(waiting.txHash)) {
+        // fetched when it appears in a block
+        waiting.requested = false;
+        return;
+      }
+    }
+    // appeared in a block while fetching
+    requestReceipts(Collections.singletonList(waiting), false);
+  }
+
+  protected void retryReceipt(final Waiting waiting) {
+    synchronized (lock) {
+      // fetched again on a next block
+      if (waiting == pending.get(waiting.txHash)) {
+        unresolved.add(waiting);
+      }
+    }
+  }
+
+  protected static class Waiting {
+
+    protected final TxHash txHash;
+
+    protected final SettableFuture<TxReceipt> future = SettableFuture.create();
+
+    // guarded by lock of the watcher
+    protected int waiters = 0;
+    protected boolean requested = false;
+
+    Waiting(final TxHash txHash) {
+      this.txHash = txHash;
+    }
+
+    TxReceipt get(final long timeoutNanos) {
+      try {
+        return future.get(Math.max(0L, timeoutNanos), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        return null;
+      } catch (ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof HerajException) {
+          throw (HerajException) cause;
+        }
+        throw new HerajException(cause);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new HerajException(e);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.addCallback;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.util.ValidationUtils.assertNotNull;
+import static hera.util.ValidationUtils.assertTrue;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.Invocation;
+import hera.RequestMethod;
+import hera.strategy.InvocationStrategy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A token bucket limiting retries to a fraction of successful requests of a client. Each success
+ * deposits {@code ratio} tokens and each retry withdraws one. The bucket starts full so a client
+ * can retry before any success, and it never holds more than {@code capacity} tokens. When a node
+ * is failing, no token is deposited and retries stop once the bucket is empty instead of
+ * amplifying the outage.
+ */
+@ToString
+class RetryBudget implements InvocationStrategy {
+
+  public static final double DEFAULT_RATIO = 0.1;
+
+  public static final int DEFAULT_CAPACITY = 10;
+
+  // tokens are kept in fixed point to deposit a fraction atomically
+  protected static final long SCALE = 1000L;
+
+  protected final long deposit;
+
+  protected final long capacity;
+
+  @ToString.Exclude
+  protected final AtomicLong balance;
+
+  RetryBudget(final double ratio, final int capacity) {
+    assertTrue(0.0 < ratio, "Retry budget ratio must be positive");
+    assertTrue(0 < capacity, "Retry budget capacity must be positive");
+    this.deposit = Math.max(1L, (long) (ratio * SCALE));
+    this.capacity = capacity * SCALE;
+    this.balance = new AtomicLong(this.capacity);
+  }
+
+  void deposit() {
+    long current = balance.get();
+    while (current < capacity
+        && !balance.compareAndSet(current, Math.min(capacity, current + deposit))) {
+      current = balance.get();
+    }
+  }
+
+  /**
+   * Withdraw a token for a retry.
+   *
+   * @return true if a retry is allowed
+   */
+  boolean tryWithdraw() {
+    long current = balance.get();
+    while (SCALE <= current) {
+      if (balance.compareAndSet(current, current - SCALE)) {
+        return true;
+      }
+      current = balance.get();
+    }
+    return false;
+  }
+
+  @Override
+  public <T> Invocation<T> apply(final Invocation<T> invocation) {
+    assertNotNull(invocation, "Invocation must not null");
+    return new DepositingInvocation<>(invocation);
+  }
+
+  @RequiredArgsConstructor
+  @ToString
+  private class DepositingInvocation<T> implements Invocation<T> {
+
+    protected final Invocation<T> delegate;
+
+    @Override
+    public RequestMethod<T> getRequestMethod() {
+      return delegate.getRequestMethod();
+    }
+
+    @Override
+    public List<Object> getParameters() {
+      return delegate.getParameters();
+    }
+
+    @Override
+    public T invoke() throws Exception {
+      final T ret = delegate.invoke();
+      if (ret instanceof ListenableFuture) {
+        addCallback((ListenableFuture<?>) ret, new FutureCallback<Object>() {
+          @Override
+          public void onSuccess(final Object value) {
+            deposit();
+          }
+
+          @Override
+          public void onFailure(final Throwable error) {
+            // nothing to deposit
+          }
+        }, directExecutor());
+      } else {
+        deposit();
+      }
+      return ret;
+    }
+
+    @Override
+    public Invocation<T> withParameters(final List<Object> parameters) {
+      return new DepositingInvocation<>(delegate.withParameters(parameters));
+    }
+  }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static hera.util.ValidationUtils.assertNotNull;
+
+import hera.Context;
+import hera.ContextStorage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Contexts scoped to each request method. A scoped context is made once per method and made
+ * again only if a context in a storage is changed, so a request doesn't make its own context.
+ */
+class ScopedContexts {
+
+  protected final ContextStorage<Context> contextStorage;
+
+  protected final Map<String, ScopedContext> method2Context = new ConcurrentHashMap<>();
+
+  ScopedContexts(final ContextStorage<Context> contextStorage) {
+    assertNotNull(contextStorage, "ContextStorage must not null");
+    this.contextStorage = contextStorage;
+  }
+
+  /**
+   * Get a context of a storage scoped to {@code name}.
+   *
+   * @param name a name of a request method
+   * @return a scoped context
+   */
+  public Context get(final String name) {
+    final Context parent = contextStorage.get();
+    final ScopedContext cached = method2Context.get(name);
+    if (null != cached && parent == cached.parent) {
+      return cached.context;
+    }
+    final Context scoped = parent.withScope(name);
+    method2Context.put(name, new ScopedContext(parent, scoped));
+    return scoped;
+  }
+
+  @RequiredArgsConstructor
+  private static class ScopedContext {
+
+    protected final Context parent;
+
+    protected final Context context;
+  }
+
+}
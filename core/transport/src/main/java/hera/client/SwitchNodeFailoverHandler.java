@@ -0,0 +1,102 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.catchingAsync;
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.client.Methods.READ_ONLY_METHODS;
+import static hera.util.ValidationUtils.assertTrue;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.Invocation;
+import hera.Response;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.Getter;
+import lombok.ToString;
+import org.slf4j.Logger;
+
+/**
+ * A failover handler retrying a request failed by a node failure. The failed node is already
+ * ejected by {@link GrpcNode}, so a retry goes to another node. Only a read-only request is
+ * retried. A node failure doesn't tell if a request is already sent, so retrying a state-changing
+ * one like committing a transaction may apply it twice.
+ */
+@ToString
+class SwitchNodeFailoverHandler extends ComparableFailoverHandler {
+
+  @ToString.Exclude
+  protected final transient Logger logger = getLogger(getClass());
+
+  @Getter
+  protected final int priority = 2;
+
+  protected final int count;
+
+  SwitchNodeFailoverHandler(final int count) {
+    assertTrue(0 < count, "Switch count must be positive");
+    this.count = count;
+  }
+
+  @Override
+  public <T> Response<T> handle(final Invocation<T> invocation, final Response<T> response) {
+    logger.debug("Handle {} with {}", response.getError(), this);
+
+    if (!isRetryable(invocation)) {
+      return response;
+    }
+
+    Response<T> next = response;
+    int countDown = this.count;
+    while (null != next.getError() && GrpcNode.isNodeFailure(next.getError()) && 0 < countDown) {
+      logger.debug("Retry {} on another node (count left: {})", invocation, countDown);
+      try {
+        final T ret = invocation.invoke();
+        next = Response.success(ret);
+      } catch (Exception e) {
+        next = Response.fail(e);
+      }
+      --countDown;
+    }
+    return next;
+  }
+
+  @Override
+  protected <T> ListenableFuture<T> handleAsync(final Invocation<ListenableFuture<T>> invocation,
+      final Throwable error, final ScheduledExecutorService scheduler) {
+    logger.debug("Handle {} asynchronously with {}", error, this);
+    if (!isRetryable(invocation)) {
+      return immediateFailedFuture(error);
+    }
+    return switchAsync(invocation, error, this.count);
+  }
+
+  protected <T> ListenableFuture<T> switchAsync(final Invocation<ListenableFuture<T>> invocation,
+      final Throwable error, final int countDown) {
+    if (!GrpcNode.isNodeFailure(error) || 0 >= countDown) {
+      return immediateFailedFuture(error);
+    }
+    logger.debug("Retry {} on another node (count left: {})", invocation, countDown);
+    return catchingAsync(invokeAsync(invocation), Throwable.class,
+        new AsyncFunction<Throwable, T>() {
+          @Override
+          public ListenableFuture<T> apply(final Throwable next) {
+            return switchAsync(invocation, next, countDown - 1);
+          }
+        }, directExecutor());
+  }
+
+  protected boolean isRetryable(final Invocation<?> invocation) {
+    final String methodName = invocation.getRequestMethod().getName();
+    if (!READ_ONLY_METHODS.contains(methodName)) {
+      logger.debug("Method {} isn't read-only, not to retry on another node", methodName);
+      return false;
+    }
+    return true;
+  }
+
+}
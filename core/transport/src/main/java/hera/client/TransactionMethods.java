@@ -6,6 +6,7 @@ package hera.client;
 
 import static hera.api.model.BytesValue.of;
 import static hera.client.Methods.TRANSACTION_COMMIT;
+import static hera.client.Methods.TRANSACTION_COMMIT_BATCH;
 import static hera.client.Methods.TRANSACTION_IN_BLOCK;
 import static hera.client.Methods.TRANSACTION_IN_MEMPOOL;
 import static hera.client.Methods.TRANSACTION_SENDTX_BY_ADDRESS;
@@ -18,6 +19,7 @@ import hera.RequestMethod;
 import hera.api.model.AccountAddress;
 import hera.api.model.Aer;
 import hera.api.model.BytesValue;
+import hera.api.model.CommitResult;
 import hera.api.model.Fee;
 import hera.api.model.Name;
 import hera.api.model.RawTransaction;
@@ -27,11 +29,13 @@ import hera.api.model.TxReceipt;
 import hera.api.transaction.PlainTransactionBuilder;
 import hera.exception.CommitException;
 import hera.key.Signer;
+import hera.transport.CommitResultConverterFactory;
 import hera.transport.ModelConverter;
 import hera.transport.TransactionConverterFactory;
 import hera.transport.TransactionInBlockConverterFactory;
 import hera.transport.TxReceiptConverterFactory;
 import io.grpc.StatusRuntimeException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import lombok.Getter;
@@ -52,6 +56,9 @@ class TransactionMethods extends AbstractMethods {
   protected final ModelConverter<TxReceipt, Blockchain.Receipt> txReceiptConverter =
       new TxReceiptConverterFactory().create();
 
+  protected final ModelConverter<CommitResult, Rpc.CommitResult> commitResultConverter =
+      new CommitResultConverterFactory().create();
+
   @Getter
   private final RequestMethod<Transaction> transactionInMemPool = new RequestMethod<Transaction>() {
 
@@ -187,6 +194,49 @@ class TransactionMethods extends AbstractMethods {
 
   };
 
+  @Getter
+  private final RequestMethod<List<CommitResult>> batchCommit =
+      new RequestMethod<List<CommitResult>>() {
+
+        @Getter
+        protected final String name = TRANSACTION_COMMIT_BATCH;
+
+        @Override
+        protected void validate(final List<Object> parameters) {
+          validateType(parameters, 0, List.class);
+          final List<?> transactions = (List<?>) parameters.get(0);
+          validateValue(!transactions.isEmpty(), "Transactions must not empty");
+          for (final Object transaction : transactions) {
+            validateValue(transaction instanceof Transaction,
+                "Transactions must consist of Transaction");
+          }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected List<CommitResult> runInternal(final List<Object> parameters)
+            throws Exception {
+          final List<Transaction> transactions = (List<Transaction>) parameters.get(0);
+          logger.debug("Commit {} transactions in a batch", transactions.size());
+
+          final Blockchain.TxList.Builder rpcTxListBuilder = Blockchain.TxList.newBuilder();
+          for (final Transaction transaction : transactions) {
+            rpcTxListBuilder.addTxs(transactionConverter.convertToRpcModel(transaction));
+          }
+          final Blockchain.TxList rpcTxList = rpcTxListBuilder.build();
+          logger.trace("AergoService commitTX arg: {}", rpcTxList);
+
+          final Rpc.CommitResultList rpcCommitResultList = getBlockingStub().commitTX(rpcTxList);
+          final List<CommitResult> commitResults =
+              new ArrayList<>(rpcCommitResultList.getResultsCount());
+          for (final Rpc.CommitResult rpcCommitResult : rpcCommitResultList.getResultsList()) {
+            commitResults.add(commitResultConverter.convertToDomainModel(rpcCommitResult));
+          }
+          return commitResults;
+        }
+
+      };
+
   @Getter
   private final RequestMethod<TxHash> sendTxByAddress = new RequestMethod<TxHash>() {
 
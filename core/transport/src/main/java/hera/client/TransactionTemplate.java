@@ -4,7 +4,10 @@
 
 package hera.client;
 
+import static hera.client.ClientContextKeys.GRPC_REQUEST_SCHEDULER;
 import static hera.client.Methods.TRANSACTION_TX;
+import static hera.util.ValidationUtils.assertNotNull;
+import static java.util.Collections.singletonList;
 
 import hera.Context;
 import hera.ContextStorage;
@@ -13,14 +16,18 @@ import hera.api.TransactionOperation;
 import hera.api.model.AccountAddress;
 import hera.api.model.Aer;
 import hera.api.model.BytesValue;
+import hera.api.model.CommitResult;
 import hera.api.model.Fee;
 import hera.api.model.Name;
 import hera.api.model.Transaction;
 import hera.api.model.TxHash;
 import hera.api.model.TxReceipt;
 import hera.key.Signer;
+import hera.strategy.TimeoutStrategy;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 
 class TransactionTemplate extends AbstractTemplate implements TransactionOperation {
@@ -44,8 +51,17 @@ class TransactionTemplate extends AbstractTemplate implements TransactionOperati
         }
       };
 
+  // not final for test
+  protected ReceiptWatcher receiptWatcher;
+
   TransactionTemplate(final ContextStorage<Context> contextStorage) {
     super(contextStorage);
+    final ScheduledExecutorService scheduler = contextStorage.get()
+        .get(GRPC_REQUEST_SCHEDULER);
+    this.receiptWatcher = new ReceiptWatcher(new BlockTemplate(contextStorage),
+        new AsyncBlockTemplate(contextStorage), new AsyncTransactionTemplate(contextStorage),
+        ReceiptWatcher.DEFAULT_LOOKBACK,
+        null != scheduler ? scheduler : TimeoutStrategy.sharedScheduler());
   }
 
   @Override
@@ -58,11 +74,28 @@ class TransactionTemplate extends AbstractTemplate implements TransactionOperati
     return request(transactionMethods.getTxReceipt(), Arrays.<Object>asList(txHash));
   }
 
+  @Override
+  public TxReceipt awaitReceipt(final TxHash txHash, final long timeout, final TimeUnit unit) {
+    assertNotNull(txHash, "Tx hash must not null");
+    return receiptWatcher.await(singletonList(txHash), timeout, unit).get(0);
+  }
+
+  @Override
+  public List<TxReceipt> awaitReceipts(final List<TxHash> txHashes, final long timeout,
+      final TimeUnit unit) {
+    return receiptWatcher.await(txHashes, timeout, unit);
+  }
+
   @Override
   public TxHash commit(final Transaction transaction) {
     return request(transactionMethods.getCommit(), Arrays.<Object>asList(transaction));
   }
 
+  @Override
+  public List<CommitResult> commit(final List<Transaction> transactions) {
+    return request(transactionMethods.getBatchCommit(), Arrays.<Object>asList(transactions));
+  }
+
   @Override
   public TxHash sendTx(final Signer signer, final AccountAddress recipient, final Aer amount,
       final long nonce, final Fee fee, final BytesValue payload) {
@@ -0,0 +1,37 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import java.util.List;
+import lombok.ToString;
+
+/**
+ * A balancing strategy preferring nodes with the highest best block height. Nodes on the same
+ * height are balanced by outstanding requests.
+ */
+@ApiAudience.Public
+@ApiStability.Unstable
+@ToString
+public class BestHeightBalancingStrategy implements BalancingStrategy {
+
+  @ToString.Exclude
+  protected final RoundRobinBalancingStrategy tieBreaker = new RoundRobinBalancingStrategy();
+
+  @Override
+  public Node select(final List<? extends Node> candidates) {
+    Node selected = tieBreaker.select(candidates);
+    for (final Node candidate : candidates) {
+      final long height = candidate.getBestHeight();
+      if (height > selected.getBestHeight() || (height == selected.getBestHeight()
+          && candidate.getOutstandingRequests() < selected.getOutstandingRequests())) {
+        selected = candidate;
+      }
+    }
+    return selected;
+  }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import static java.util.Collections.unmodifiableMap;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.api.model.RequestMetrics;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.ToString;
+
+/**
+ * A metrics registry keeping counters, an in-flight gauge and a latency histogram per request
+ * method in memory. Recording takes a few atomic updates and allocates nothing once a method is
+ * seen.
+ */
+@ApiAudience.Public
+@ApiStability.Unstable
+@ToString
+public class HistogramMetricsRegistry implements MetricsRegistry {
+
+  @ToString.Exclude
+  protected final ConcurrentMap<String, MethodMetrics> name2Metrics = new ConcurrentHashMap<>();
+
+  @Override
+  public void onStart(final String methodName) {
+    final MethodMetrics metrics = metricsOf(methodName);
+    metrics.calls.incrementAndGet();
+    metrics.inFlight.incrementAndGet();
+  }
+
+  @Override
+  public void onSuccess(final String methodName, final long elapsedNanos) {
+    metricsOf(methodName).finish(elapsedNanos);
+  }
+
+  @Override
+  public void onFailure(final String methodName, final String reason,
+      final long elapsedNanos) {
+    final MethodMetrics metrics = metricsOf(methodName);
+    metrics.errors.incrementAndGet();
+    AtomicLong counter = metrics.reason2Count.get(reason);
+    if (null == counter) {
+      final AtomicLong created = new AtomicLong();
+      counter = metrics.reason2Count.putIfAbsent(reason, created);
+      if (null == counter) {
+        counter = created;
+      }
+    }
+    counter.incrementAndGet();
+    metrics.finish(elapsedNanos);
+  }
+
+  @Override
+  public Map<String, RequestMetrics> snapshot() {
+    final Map<String, RequestMetrics> snapshot = new TreeMap<>();
+    for (final Map.Entry<String, MethodMetrics> entry : name2Metrics.entrySet()) {
+      snapshot.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+    }
+    return unmodifiableMap(snapshot);
+  }
+
+  protected MethodMetrics metricsOf(final String methodName) {
+    final MethodMetrics metrics = name2Metrics.get(methodName);
+    if (null != metrics) {
+      return metrics;
+    }
+    final MethodMetrics created = new MethodMetrics();
+    final MethodMetrics existing = name2Metrics.putIfAbsent(methodName, created);
+    return null != existing ? existing : created;
+  }
+
+  private static class MethodMetrics {
+
+    protected final AtomicLong calls = new AtomicLong();
+
+    protected final AtomicLong errors = new AtomicLong();
+
+    protected final AtomicLong inFlight = new AtomicLong();
+
+    protected final AtomicLong totalLatency = new AtomicLong();
+
+    protected final AtomicLong maxLatency = new AtomicLong();
+
+    protected final ConcurrentMap<String, AtomicLong> reason2Count = new ConcurrentHashMap<>();
+
+    protected final LatencyHistogram histogram = new LatencyHistogram();
+
+    void finish(final long elapsedNanos) {
+      inFlight.decrementAndGet();
+      totalLatency.addAndGet(elapsedNanos);
+      histogram.record(elapsedNanos);
+      long max = maxLatency.get();
+      while (elapsedNanos > max && !maxLatency.compareAndSet(max, elapsedNanos)) {
+        max = maxLatency.get();
+      }
+    }
+
+    RequestMetrics snapshot(final String methodName) {
+      final Map<String, Long> errorCounts = new HashMap<>();
+      for (final Map.Entry<String, AtomicLong> entry : reason2Count.entrySet()) {
+        errorCounts.put(entry.getKey(), entry.getValue().get());
+      }
+      final long[] percentiles = histogram.estimate(0.5, 0.9, 0.99);
+      final long max = maxLatency.get();
+      return RequestMetrics.newBuilder()
+          .methodName(methodName)
+          .callCount(calls.get())
+          .errorCount(errors.get())
+          .errorCounts(unmodifiableMap(errorCounts))
+          .inFlight(inFlight.get())
+          .totalLatency(totalLatency.get())
+          .maxLatency(max)
+          .p50Latency(Math.min(percentiles[0], max))
+          .p90Latency(Math.min(percentiles[1], max))
+          .p99Latency(Math.min(percentiles[2], max))
+          .build();
+    }
+  }
+
+}
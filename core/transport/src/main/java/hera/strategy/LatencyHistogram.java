@@ -0,0 +1,86 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds. Each power of two is split into 4 buckets, so
+ * a recorded value is off by at most 25% from an estimated one. Recording is a single atomic
+ * increment without any allocation.
+ */
+@ApiAudience.Private
+@ApiStability.Unstable
+public class LatencyHistogram {
+
+  protected static final int SUB_BUCKET_BITS = 2;
+
+  protected static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  protected static final int BUCKET_COUNT = 64 * SUB_BUCKET_COUNT;
+
+  protected final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+  static int indexOf(final long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) Math.max(0L, value);
+    }
+    final int magnitude = 63 - Long.numberOfLeadingZeros(value);
+    final int sub = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + sub;
+  }
+
+  static long upperBoundOf(final int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    final int shift = index / SUB_BUCKET_COUNT - 1;
+    final long lower = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    return lower + (1L << shift) - 1L;
+  }
+
+  /**
+   * Record a value.
+   *
+   * @param value a value in nanoseconds
+   */
+  public void record(final long value) {
+    counts.incrementAndGet(indexOf(value));
+  }
+
+  /**
+   * Estimate values at percentiles. Counts are read one by one, so concurrent records may be
+   * partially reflected.
+   *
+   * @param percentiles percentiles in ascending order, each in (0, 1]
+   * @return estimated upper bounds of values at {@code percentiles}. 0 if nothing recorded
+   */
+  public long[] estimate(final double... percentiles) {
+    final long[] snapshot = new long[BUCKET_COUNT];
+    long total = 0L;
+    for (int i = 0; i < BUCKET_COUNT; ++i) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+
+    final long[] estimated = new long[percentiles.length];
+    if (0L == total) {
+      return estimated;
+    }
+    int next = 0;
+    long accumulated = 0L;
+    for (int i = 0; i < BUCKET_COUNT && next < percentiles.length; ++i) {
+      accumulated += snapshot[i];
+      while (next < percentiles.length
+          && accumulated >= (long) Math.ceil(percentiles[next] * total)) {
+        estimated[next++] = upperBoundOf(i);
+      }
+    }
+    return estimated;
+  }
+
+}
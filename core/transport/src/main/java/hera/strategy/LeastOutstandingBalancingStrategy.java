@@ -0,0 +1,31 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import java.util.List;
+import lombok.ToString;
+
+@ApiAudience.Public
+@ApiStability.Unstable
+@ToString
+public class LeastOutstandingBalancingStrategy implements BalancingStrategy {
+
+  @ToString.Exclude
+  protected final RoundRobinBalancingStrategy tieBreaker = new RoundRobinBalancingStrategy();
+
+  @Override
+  public Node select(final List<? extends Node> candidates) {
+    Node selected = tieBreaker.select(candidates);
+    for (final Node candidate : candidates) {
+      if (candidate.getOutstandingRequests() < selected.getOutstandingRequests()) {
+        selected = candidate;
+      }
+    }
+    return selected;
+  }
+
+}
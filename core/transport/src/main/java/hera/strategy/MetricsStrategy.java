@@ -0,0 +1,131 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import static com.google.common.util.concurrent.Futures.addCallback;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.util.ValidationUtils.assertNotNull;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.Invocation;
+import hera.RequestMethod;
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.exception.CommitException;
+import io.grpc.StatusException;
+import io.grpc.StatusRuntimeException;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * An invocation strategy recording metrics of each request into a {@link MetricsRegistry}. A
+ * request returning a {@link ListenableFuture} is recorded when the future is done, so
+ * asynchronous requests are measured by their actual latencies.
+ */
+@ApiAudience.Private
+@ApiStability.Unstable
+@ToString
+public class MetricsStrategy implements InvocationStrategy {
+
+  protected static final int MAX_CAUSE_DEPTH = 8;
+
+  /**
+   * Get a reason of a failure to be recorded. It's a name of a grpc status code or a commit status
+   * in a cause chain if any, a simple name of an exception otherwise.
+   *
+   * @param error an error
+   * @return a reason of a failure
+   */
+  public static String reasonOf(final Throwable error) {
+    Throwable cause = error;
+    for (int i = 0; null != cause && i < MAX_CAUSE_DEPTH; ++i) {
+      if (cause instanceof StatusRuntimeException) {
+        return ((StatusRuntimeException) cause).getStatus().getCode().name();
+      } else if (cause instanceof StatusException) {
+        return ((StatusException) cause).getStatus().getCode().name();
+      } else if (cause instanceof CommitException) {
+        return ((CommitException) cause).getCommitStatus().name();
+      }
+      cause = cause.getCause();
+    }
+    return error.getClass().getSimpleName();
+  }
+
+  @Getter
+  protected final MetricsRegistry registry;
+
+  /**
+   * MetricsStrategy constructor.
+   *
+   * @param registry a registry to record metrics
+   */
+  public MetricsStrategy(final MetricsRegistry registry) {
+    assertNotNull(registry, "Metrics registry must not null");
+    this.registry = registry;
+  }
+
+  @Override
+  public <T> Invocation<T> apply(final Invocation<T> invocation) {
+    assertNotNull(invocation, "Invocation must not null");
+    return new MetricsInvocation<>(invocation);
+  }
+
+  @RequiredArgsConstructor
+  @ToString
+  private class MetricsInvocation<T> implements Invocation<T> {
+
+    protected final Invocation<T> delegate;
+
+    @Override
+    public RequestMethod<T> getRequestMethod() {
+      return delegate.getRequestMethod();
+    }
+
+    @Override
+    public List<Object> getParameters() {
+      return delegate.getParameters();
+    }
+
+    @Override
+    public T invoke() throws Exception {
+      final String name = delegate.getRequestMethod().getName();
+      final long start = System.nanoTime();
+      registry.onStart(name);
+      final T ret;
+      try {
+        ret = delegate.invoke();
+      } catch (Exception e) {
+        registry.onFailure(name, reasonOf(e), System.nanoTime() - start);
+        throw e;
+      }
+
+      if (ret instanceof ListenableFuture) {
+        addCallback((ListenableFuture<?>) ret, new FutureCallback<Object>() {
+          @Override
+          public void onSuccess(final Object value) {
+            registry.onSuccess(name, System.nanoTime() - start);
+          }
+
+          @Override
+          public void onFailure(final Throwable error) {
+            registry.onFailure(name, reasonOf(error), System.nanoTime() - start);
+          }
+        }, directExecutor());
+      } else {
+        registry.onSuccess(name, System.nanoTime() - start);
+      }
+      return ret;
+    }
+
+    @Override
+    public Invocation<T> withParameters(final List<Object> parameters) {
+      return new MetricsInvocation<>(delegate.withParameters(parameters));
+    }
+  }
+
+}
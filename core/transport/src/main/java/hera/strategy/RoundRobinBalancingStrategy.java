@@ -0,0 +1,28 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.ToString;
+
+@ApiAudience.Public
+@ApiStability.Unstable
+@ToString
+public class RoundRobinBalancingStrategy implements BalancingStrategy {
+
+  @ToString.Exclude
+  protected final AtomicInteger index = new AtomicInteger(0);
+
+  @Override
+  public Node select(final List<? extends Node> candidates) {
+    // mask sign bit to keep it non-negative on overflow
+    final int next = index.getAndIncrement() & Integer.MAX_VALUE;
+    return candidates.get(next % candidates.size());
+  }
+
+}
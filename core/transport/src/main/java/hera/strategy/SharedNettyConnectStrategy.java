@@ -0,0 +1,138 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import static hera.util.ValidationUtils.assertTrue;
+import static java.util.Arrays.asList;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.api.model.HostnameAndPort;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.channel.Channel;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.slf4j.Logger;
+
+/**
+ * A netty connect strategy sharing an event loop group and an executor among all the channels
+ * in a jvm made with the same sizing. An epoll native transport is used if it's available,
+ * otherwise a nio one is used. Shared threads are daemons and live as long as a jvm.
+ */
+@ApiAudience.Private
+@ApiStability.Unstable
+@ToString
+public class SharedNettyConnectStrategy implements ConnectStrategy<NettyChannelBuilder> {
+
+  public static final int DEFAULT_EVENT_LOOP_THREADS = Runtime.getRuntime()
+      .availableProcessors();
+
+  public static final int DEFAULT_EXECUTOR_THREADS = 2 * Runtime.getRuntime()
+      .availableProcessors();
+
+  protected static final Logger logger = getLogger(SharedNettyConnectStrategy.class);
+
+  // guarded by class
+  protected static final Map<List<Integer>, EventLoopResources> sizing2Resources =
+      new HashMap<>();
+
+  protected final int eventLoopThreads;
+
+  protected final int executorThreads;
+
+  public SharedNettyConnectStrategy() {
+    this(DEFAULT_EVENT_LOOP_THREADS, DEFAULT_EXECUTOR_THREADS);
+  }
+
+  /**
+   * SharedNettyConnectStrategy constructor.
+   *
+   * @param eventLoopThreads a number of event loop threads doing network io
+   * @param executorThreads a number of threads running grpc callbacks
+   */
+  public SharedNettyConnectStrategy(final int eventLoopThreads, final int executorThreads) {
+    assertTrue(0 < eventLoopThreads, "Event loop threads must be positive");
+    assertTrue(0 < executorThreads, "Executor threads must be positive");
+    this.eventLoopThreads = eventLoopThreads;
+    this.executorThreads = executorThreads;
+  }
+
+  protected static synchronized EventLoopResources resourcesOf(final int eventLoopThreads,
+      final int executorThreads) {
+    final List<Integer> sizing = asList(eventLoopThreads, executorThreads);
+    EventLoopResources resources = sizing2Resources.get(sizing);
+    if (null == resources) {
+      resources = newResources(eventLoopThreads, executorThreads);
+      sizing2Resources.put(sizing, resources);
+    }
+    return resources;
+  }
+
+  protected static EventLoopResources newResources(final int eventLoopThreads,
+      final int executorThreads) {
+    final ThreadFactory eventLoopFactory = new DefaultThreadFactory("aergo-event-loop", true);
+    final ExecutorService executor = Executors.newFixedThreadPool(executorThreads,
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("aergo-grpc-executor-%d")
+            .build());
+    if (isEpollAvailable()) {
+      logger.debug("Use epoll transport with {} event loop threads", eventLoopThreads);
+      return new EventLoopResources(new EpollEventLoopGroup(eventLoopThreads, eventLoopFactory),
+          EpollSocketChannel.class, executor);
+    }
+    logger.debug("Use nio transport with {} event loop threads", eventLoopThreads);
+    return new EventLoopResources(new NioEventLoopGroup(eventLoopThreads, eventLoopFactory),
+        NioSocketChannel.class, executor);
+  }
+
+  protected static boolean isEpollAvailable() {
+    try {
+      return Epoll.isAvailable();
+    } catch (Throwable e) {
+      // no native library for a platform
+      logger.debug("Epoll is unavailable: {}", e.toString());
+      return false;
+    }
+  }
+
+  @Override
+  public NettyChannelBuilder connect(final HostnameAndPort hostnameAndPort) {
+    final EventLoopResources resources = resourcesOf(eventLoopThreads, executorThreads);
+    return NettyChannelBuilder.forAddress(hostnameAndPort.getHostname(), hostnameAndPort.getPort())
+        .eventLoopGroup(resources.eventLoopGroup)
+        .channelType(resources.channelType)
+        .executor(resources.executor)
+        .keepAliveTime(300L, TimeUnit.SECONDS)
+        .keepAliveWithoutCalls(true);
+  }
+
+  @RequiredArgsConstructor
+  protected static class EventLoopResources {
+
+    protected final EventLoopGroup eventLoopGroup;
+
+    protected final Class<? extends Channel> channelType;
+
+    protected final ExecutorService executor;
+  }
+
+}
@@ -4,22 +4,21 @@
 
 package hera.strategy;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static hera.util.ValidationUtils.assertNotNull;
 import static org.slf4j.LoggerFactory.getLogger;
 
-import hera.Context;
-import hera.ContextHolder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import hera.Invocation;
 import hera.RequestMethod;
 import hera.annotation.ApiAudience;
 import hera.annotation.ApiStability;
 import hera.api.model.Time;
+import io.grpc.Context;
+import io.grpc.Context.CancellableContext;
 import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeoutException;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -28,17 +27,86 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.slf4j.Logger;
 
+/**
+ * An invocation strategy bounding a request with a deadline. The request runs on the caller
+ * thread within a grpc {@link Context} carrying the deadline, so grpc calls made by the request
+ * are cancelled by grpc itself. The deadline is tracked by a shared scheduler, which also
+ * interrupts the caller thread if the request is still running when the deadline expires.
+ */
 @ApiAudience.Private
 @ApiStability.Unstable
 @ToString
-@RequiredArgsConstructor
 public class TimeoutStrategy implements InvocationStrategy {
 
+  /**
+   * Create a bounded scheduler tracking request deadlines. Its thread is a daemon one and
+   * cancelled deadlines are removed from its queue immediately.
+   *
+   * @return a scheduler for request deadlines
+   */
+  public static ScheduledExecutorService newScheduler() {
+    final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+        new ThreadFactoryBuilder().setNameFormat("heraj-deadline-%d").setDaemon(true).build());
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
+  private static class DefaultSchedulerHolder {
+    private static final ScheduledExecutorService INSTANCE = newScheduler();
+  }
+
+  /**
+   * Get a scheduler shared in the process. It's used for a request made without a client, which
+   * owns its own one.
+   *
+   * @return a shared scheduler
+   */
+  public static ScheduledExecutorService sharedScheduler() {
+    return DefaultSchedulerHolder.INSTANCE;
+  }
+
   @ToString.Exclude
   protected final transient Logger logger = getLogger(getClass());
 
+  @Getter
   protected final Time timeout;
 
+  @ToString.Exclude
+  @Getter
+  protected final ScheduledExecutorService scheduler;
+
+  /**
+   * TimeoutStrategy constructor. A scheduler shared in the process is used to track deadlines.
+   *
+   * @param timeout a request timeout
+   */
+  public TimeoutStrategy(final Time timeout) {
+    this(timeout, DefaultSchedulerHolder.INSTANCE);
+  }
+
+  /**
+   * TimeoutStrategy constructor.
+   *
+   * @param timeout a request timeout
+   * @param scheduler a scheduler to track deadlines
+   */
+  public TimeoutStrategy(final Time timeout, final ScheduledExecutorService scheduler) {
+    assertNotNull(timeout, "Timeout must not null");
+    assertNotNull(scheduler, "Scheduler must not null");
+    this.timeout = timeout;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Get a strategy with the same timeout tracking deadlines with the provided scheduler.
+   *
+   * @param scheduler a scheduler to track deadlines
+   * @return a timeout strategy using {@code scheduler}
+   */
+  public TimeoutStrategy withScheduler(final ScheduledExecutorService scheduler) {
+    return new TimeoutStrategy(timeout, scheduler);
+  }
+
   @Override
   public <T> Invocation<T> apply(final Invocation<T> invocation) {
     assertNotNull(invocation, "Invocation must not null");
@@ -61,32 +129,36 @@ public class TimeoutStrategy implements InvocationStrategy {
 
     @Override
     public T invoke() throws Exception {
+      final CancellableContext deadlineContext = Context.current()
+          .withDeadlineAfter(timeout.getValue(), timeout.getUnit(), scheduler);
+      final Interrupter interrupter = new Interrupter(Thread.currentThread(),
+          Thread.currentThread().isInterrupted());
+      deadlineContext.addListener(interrupter, directExecutor());
+      final Context previous = deadlineContext.attach();
+      T ret = null;
+      Exception error = null;
       try {
-        final ExecutorService executorService = Executors.newSingleThreadExecutor();
-        final Context context = ContextHolder.current();
-        final Future<T> future = executorService.submit(new Callable<T>() {
-          @Override
-          public T call() throws Exception {
-            try {
-              // need to attach
-              ContextHolder.attach(context);
-              return requestMethod.invoke(parameters);
-            } finally {
-              ContextHolder.remove();
-            }
-          }
-        });
-        return future.get(timeout.getValue(), timeout.getUnit());
+        ret = requestMethod.invoke(parameters);
       } catch (Exception e) {
-        if (e instanceof TimeoutException) {
-          logger.debug("Request timed out within {}", timeout);
-          throw e;
-        } else if (e instanceof ExecutionException) {
-          throw (Exception) e.getCause();
-        } else {
-          throw e;
-        }
+        error = e;
+      } finally {
+        deadlineContext.detach(previous);
+        interrupter.disarm();
+        deadlineContext.cancel(null);
+      }
+
+      if (null == error) {
+        // a result arrived is never discarded even if a deadline fired just after
+        return ret;
       }
+      if (interrupter.isFired()) {
+        logger.debug("Request timed out within {}", timeout);
+        final TimeoutException timeoutException = new TimeoutException(
+            "Request timed out within " + timeout);
+        timeoutException.initCause(error);
+        throw timeoutException;
+      }
+      throw error;
     }
 
     @Override
@@ -96,4 +168,40 @@ public class TimeoutStrategy implements InvocationStrategy {
     }
   }
 
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class Interrupter implements Context.CancellationListener {
+
+    protected final Thread target;
+
+    protected final boolean interruptedOnEntry;
+
+    protected boolean armed = true;
+
+    protected boolean fired = false;
+
+    @Override
+    public synchronized void cancelled(final Context context) {
+      // only the deadline of this is of interest, not a cancellation of the enclosing one
+      if (armed && context.cancellationCause() instanceof TimeoutException) {
+        fired = true;
+        target.interrupt();
+      }
+    }
+
+    public synchronized void disarm() {
+      armed = false;
+      if (fired) {
+        // clear the interrupt made by this, keeping one made by others before
+        Thread.interrupted();
+        if (interruptedOnEntry) {
+          target.interrupt();
+        }
+      }
+    }
+
+    public synchronized boolean isFired() {
+      return fired;
+    }
+  }
+
 }
@@ -4,8 +4,7 @@
 
 package hera.transport;
 
-import static hera.api.model.BytesValue.of;
-import static hera.util.TransportUtils.copyFrom;
+import static hera.util.TransportUtils.parseToBytesValue;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import hera.annotation.ApiAudience;
@@ -15,9 +14,7 @@ import hera.api.model.Block;
 import hera.api.model.BlockHash;
 import hera.api.model.BlockHeader;
 import hera.api.model.Transaction;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import types.Blockchain;
 
@@ -27,8 +24,8 @@ public class BlockConverterFactory {
 
   protected final transient Logger logger = getLogger(getClass());
 
-  protected final ModelConverter<Transaction, Blockchain.TxInBlock> transactionInBlockConverter =
-      new TransactionInBlockConverterFactory().create();
+  protected final TransactionInBlockConverterFactory transactionInBlockConverterFactory =
+      new TransactionInBlockConverterFactory();
 
   protected final ModelConverter<BlockHeader, Blockchain.BlockHeader> blockHeaderConverter =
       new BlockHeaderConverterFactory().create();
@@ -52,20 +49,10 @@ public class BlockConverterFactory {
           final Blockchain.BlockHeader rpcBlockHeader = rpcBlock.getHeader();
           final Blockchain.BlockBody rpcBlockBody = rpcBlock.getBody();
 
-          final BlockHash blockHash = new BlockHash(of(rpcBlock.getHash().toByteArray()));
-          final AtomicInteger index = new AtomicInteger(0);
-          final List<Transaction> transactions = new ArrayList<Transaction>();
-          for (final Blockchain.Tx rpcTx : rpcBlockBody.getTxsList()) {
-            final Blockchain.TxIdx rpcTxIdx = Blockchain.TxIdx.newBuilder()
-                .setBlockHash(copyFrom(blockHash.getBytesValue()))
-                .setIdx(index.getAndIncrement())
-                .build();
-            final Blockchain.TxInBlock rpcTxInBlock = Blockchain.TxInBlock.newBuilder()
-                .setTxIdx(rpcTxIdx)
-                .setTx(rpcTx)
-                .build();
-            transactions.add(transactionInBlockConverter.convertToDomainModel(rpcTxInBlock));
-          }
+          final BlockHash blockHash = new BlockHash(parseToBytesValue(rpcBlock.getHash()));
+          // transactions are decoded on access, so reading a header doesn't decode them
+          final List<Transaction> transactions = new LazyTransactionList(
+              rpcBlockBody.getTxsList(), blockHash, transactionInBlockConverterFactory);
 
           final Block domainBlock = Block.newBuilder()
               .hash(blockHash)
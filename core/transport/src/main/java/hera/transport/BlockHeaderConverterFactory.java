@@ -4,7 +4,7 @@
 
 package hera.transport;
 
-import static hera.api.model.BytesValue.of;
+import static hera.util.TransportUtils.parseToBytesValue;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import hera.annotation.ApiAudience;
@@ -13,7 +13,6 @@ import hera.api.function.Function1;
 import hera.api.model.AccountAddress;
 import hera.api.model.BlockHash;
 import hera.api.model.BlockHeader;
-import hera.api.model.BytesValue;
 import hera.api.model.Hash;
 import hera.api.model.Signature;
 import org.slf4j.Logger;
@@ -44,19 +43,19 @@ public class BlockHeaderConverterFactory {
         public BlockHeader apply(final Blockchain.BlockHeader rpcBlockHeader) {
           logger.trace("Rpc block header to convert: {}", rpcBlockHeader);
           final BlockHeader domainBlockHeader = BlockHeader.newBuilder()
-              .chainId(of(rpcBlockHeader.getChainID().toByteArray()))
-              .previousHash(new BlockHash(of(rpcBlockHeader.getPrevBlockHash().toByteArray())))
+              .chainId(parseToBytesValue(rpcBlockHeader.getChainID()))
+              .previousHash(new BlockHash(parseToBytesValue(rpcBlockHeader.getPrevBlockHash())))
               .blockNumber(rpcBlockHeader.getBlockNo())
               .timestamp(rpcBlockHeader.getTimestamp())
-              .rootHash(new BlockHash(of(rpcBlockHeader.getBlocksRootHash().toByteArray())))
-              .txRootHash(new Hash(of(rpcBlockHeader.getTxsRootHash().toByteArray())))
-              .receiptRootHash(new Hash(of(rpcBlockHeader.getReceiptsRootHash().toByteArray())))
+              .rootHash(new BlockHash(parseToBytesValue(rpcBlockHeader.getBlocksRootHash())))
+              .txRootHash(new Hash(parseToBytesValue(rpcBlockHeader.getTxsRootHash())))
+              .receiptRootHash(new Hash(parseToBytesValue(rpcBlockHeader.getReceiptsRootHash())))
               .confirmsCount(rpcBlockHeader.getConfirms())
-              .publicKey(of(rpcBlockHeader.getPubKey().toByteArray()))
+              .publicKey(parseToBytesValue(rpcBlockHeader.getPubKey()))
               .coinbaseAccount(
                   addressConverter.convertToDomainModel(rpcBlockHeader.getCoinbaseAccount()))
               .sign(Signature.newBuilder()
-                  .sign(BytesValue.of(rpcBlockHeader.getSign().toByteArray())).build())
+                  .sign(parseToBytesValue(rpcBlockHeader.getSign())).build())
               .build();
           logger.trace("Domain block header converted: {}", domainBlockHeader);
           return domainBlockHeader;
@@ -0,0 +1,53 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.transport;
+
+import static hera.util.TransportUtils.parseToTxHash;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import hera.annotation.ApiAudience;
+import hera.annotation.ApiStability;
+import hera.api.function.Function1;
+import hera.api.model.CommitResult;
+import org.slf4j.Logger;
+import types.Rpc;
+
+@ApiAudience.Private
+@ApiStability.Unstable
+public class CommitResultConverterFactory {
+
+  protected final transient Logger logger = getLogger(getClass());
+
+  protected final Function1<CommitResult, Rpc.CommitResult> domainConverter =
+      new Function1<CommitResult, Rpc.CommitResult>() {
+
+        @Override
+        public Rpc.CommitResult apply(final CommitResult domainCommitResult) {
+          throw new UnsupportedOperationException();
+        }
+      };
+
+  protected final Function1<Rpc.CommitResult, CommitResult> rpcConverter =
+      new Function1<Rpc.CommitResult, CommitResult>() {
+
+        @Override
+        public CommitResult apply(final Rpc.CommitResult rpcCommitResult) {
+          logger.trace("Rpc commit result to convert: {}", rpcCommitResult);
+          final CommitResult domainCommitResult = CommitResult.newBuilder()
+              .txHash(parseToTxHash(rpcCommitResult.getHash()))
+              .success(Rpc.CommitStatus.TX_OK == rpcCommitResult.getError())
+              .status(rpcCommitResult.getError().name())
+              .message(rpcCommitResult.getDetail())
+              .build();
+          logger.trace("Domain commit result converted: {}", domainCommitResult);
+          return domainCommitResult;
+        }
+      };
+
+  public ModelConverter<CommitResult, Rpc.CommitResult> create() {
+    return new ModelConverter<>(domainConverter, rpcConverter);
+  }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.transport;
+
+import hera.api.model.BlockHash;
+import hera.api.model.Transaction;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import types.Blockchain;
+
+/**
+ * An immutable list of transactions in a block decoded from {@link Blockchain.Tx} on first access
+ * of each element. A decoded transaction is kept, so it's decoded at most once. It's thread-safe.
+ */
+class LazyTransactionList extends AbstractList<Transaction> implements RandomAccess {
+
+  protected final List<Blockchain.Tx> rpcTxs;
+
+  protected final BlockHash blockHash;
+
+  protected final TransactionInBlockConverterFactory converterFactory;
+
+  protected final AtomicReferenceArray<Transaction> decoded;
+
+  LazyTransactionList(final List<Blockchain.Tx> rpcTxs, final BlockHash blockHash,
+      final TransactionInBlockConverterFactory converterFactory) {
+    this.rpcTxs = rpcTxs;
+    this.blockHash = blockHash;
+    this.converterFactory = converterFactory;
+    this.decoded = new AtomicReferenceArray<>(rpcTxs.size());
+  }
+
+  @Override
+  public Transaction get(final int index) {
+    final Transaction cached = decoded.get(index);
+    if (null != cached) {
+      return cached;
+    }
+    final Transaction transaction = converterFactory
+        .convertToDomainModel(rpcTxs.get(index), blockHash, index);
+    // keep the first one decoded if raced
+    if (decoded.compareAndSet(index, null, transaction)) {
+      return transaction;
+    }
+    return decoded.get(index);
+  }
+
+  @Override
+  public int size() {
+    return rpcTxs.size();
+  }
+
+}
@@ -4,7 +4,7 @@
 
 package hera.transport;
 
-import static hera.api.model.BytesValue.of;
+import static hera.util.TransportUtils.parseToBytesValue;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import hera.annotation.ApiAudience;
@@ -42,7 +42,7 @@ public class PeerConverterFactory {
             .port(rpcPeer.getAddress().getPort())
             .peerId(Base58Utils.encode(rpcPeer.getAddress().getPeerID().toByteArray()))
             .bestHeight(rpcPeer.getBestblock().getBlockNo())
-            .bestBlockHash(new BlockHash(of(rpcPeer.getBestblock().getBlockHash().toByteArray())))
+            .bestBlockHash(new BlockHash(parseToBytesValue(rpcPeer.getBestblock().getBlockHash())))
             .state(rpcPeer.getState())
             .hidden(rpcPeer.getHidden())
             .lashCheck(rpcPeer.getLashCheck())
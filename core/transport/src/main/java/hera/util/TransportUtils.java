@@ -8,6 +8,7 @@ import static hera.util.NumberUtils.byteArrayToPositive;
 import static hera.util.NumberUtils.positiveToByteArray;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import hera.annotation.ApiAudience;
 import hera.annotation.ApiStability;
 import hera.api.model.Aer;
@@ -34,17 +35,17 @@ public class TransportUtils {
   }
 
   /**
-   * Transform {@link BytesValue} to {@link ByteString} in protobuf. If either bytesValue or value
-   * of bytesValue is null, return {@link ByteString#EMPTY}
+   * Transform {@link BytesValue} to {@link ByteString} in protobuf. If bytesValue is null or
+   * empty, return {@link ByteString#EMPTY}. A raw bytes isn't copied since both are immutable.
    *
    * @param bytesValue {@link BytesValue}
    * @return protobuf {@link ByteString}
    */
   public static ByteString copyFrom(final BytesValue bytesValue) {
-    if (null == bytesValue || null == bytesValue.getValue()) {
+    if (null == bytesValue || bytesValue.isEmpty()) {
       return ByteString.EMPTY;
     }
-    return ByteString.copyFrom(bytesValue.getValue());
+    return UnsafeByteOperations.unsafeWrap(bytesValue.asReadOnlyBuffer());
   }
 
   /**
@@ -81,16 +82,17 @@ public class TransportUtils {
   }
 
   /**
-   * Parse protobuf {@link ByteString} to {@link BytesValue}.
+   * Parse protobuf {@link ByteString} to {@link BytesValue}. A raw bytes isn't copied since both
+   * are immutable.
    *
    * @param bytesString a protobuf ByteString
    * @return parsed {@link BytesValue}.
    */
   public static BytesValue parseToBytesValue(final ByteString bytesString) {
-    if (null == bytesString || ByteString.EMPTY.equals(bytesString)) {
+    if (null == bytesString || bytesString.isEmpty()) {
       return BytesValue.EMPTY;
     }
-    return BytesValue.of(bytesString.toByteArray());
+    return BytesValue.wrap(bytesString.asReadOnlyByteBuffer());
   }
 
   /**
@@ -126,10 +128,7 @@ public class TransportUtils {
    * @return txHash
    */
   public static TxHash parseToTxHash(final ByteString byteString) {
-    if (null == byteString || ByteString.EMPTY == byteString) {
-      return TxHash.of(BytesValue.EMPTY);
-    }
-    return TxHash.of(BytesValue.of(byteString.toByteArray()));
+    return TxHash.of(parseToBytesValue(byteString));
   }
 
   /**
@@ -139,10 +138,7 @@ public class TransportUtils {
    * @return blockHash
    */
   public static BlockHash parseToBlockHash(final ByteString byteString) {
-    if (null == byteString || ByteString.EMPTY == byteString) {
-      return BlockHash.of(BytesValue.EMPTY);
-    }
-    return BlockHash.of(BytesValue.of(byteString.toByteArray()));
+    return BlockHash.of(parseToBytesValue(byteString));
   }
 
   /**
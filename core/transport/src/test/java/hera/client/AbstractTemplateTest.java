@@ -0,0 +1,65 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import hera.AbstractTestCase;
+import hera.Context;
+import hera.ContextHolder;
+import hera.EmptyContext;
+import hera.Key;
+import hera.RequestMethod;
+import java.util.List;
+import org.junit.Test;
+
+public class AbstractTemplateTest extends AbstractTestCase {
+
+  protected final Key<String> key = Key.of("key", String.class);
+
+  protected final AbstractTemplate template = new AbstractTemplate(
+      new UnmodifiableContextStorage(EmptyContext.getInstance().withValue(key, "value"))) {
+  };
+
+  protected final RequestMethod<String> inner = new RequestMethod<String>() {
+
+    @Override
+    public String getName() {
+      return "inner";
+    }
+
+    @Override
+    protected String runInternal(final List<Object> parameters) {
+      return ContextHolder.current().getScope();
+    }
+  };
+
+  protected final RequestMethod<String> outer = new RequestMethod<String>() {
+
+    @Override
+    public String getName() {
+      return "outer";
+    }
+
+    @Override
+    protected String runInternal(final List<Object> parameters) {
+      final String innerScope = template.request(inner, emptyList());
+      return innerScope + "," + ContextHolder.current().getScope();
+    }
+  };
+
+  @Test
+  public void shouldRestoreContextOfOuterRequest() {
+    final Context before = ContextHolder.current();
+
+    final String scopes = template.request(outer, emptyList());
+
+    assertEquals("inner,outer", scopes);
+    assertSame(before, ContextHolder.current());
+  }
+
+}
@@ -0,0 +1,258 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static hera.client.AccountCache.NOT_SERVING;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.SettableFuture;
+import hera.AbstractTestCase;
+import hera.api.AsyncBlockOperation;
+import hera.api.BlockOperation;
+import hera.api.model.AccountAddress;
+import hera.api.model.AccountState;
+import hera.api.model.Aer;
+import hera.api.model.Block;
+import hera.api.model.BlockHash;
+import hera.api.model.BlockHeader;
+import hera.api.model.BlockMetadata;
+import hera.api.model.BytesValue;
+import hera.api.model.ChainIdHash;
+import hera.api.model.RawTransaction;
+import hera.api.model.StreamObserver;
+import hera.api.model.Subscription;
+import hera.api.model.Transaction;
+import hera.key.AergoKey;
+import hera.key.AergoKeyGenerator;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class AccountCacheTest extends AbstractTestCase {
+
+  protected final BlockOperation blockOperation = mock(BlockOperation.class);
+
+  protected final AsyncBlockOperation asyncBlockOperation = mock(AsyncBlockOperation.class);
+
+  @SuppressWarnings("unchecked")
+  protected final Subscription<BlockMetadata> subscription = mock(Subscription.class);
+
+  protected final AccountAddress other = new AergoKeyGenerator().create().getAddress();
+
+  protected StreamObserver<BlockMetadata> observer;
+
+  @SuppressWarnings("unchecked")
+  protected AccountCache newCache(final AccountCacheInvalidation invalidation) {
+    when(blockOperation.subscribeBlockMetadata(any(StreamObserver.class)))
+        .thenAnswer(new Answer<Subscription<BlockMetadata>>() {
+          @Override
+          public Subscription<BlockMetadata> answer(final InvocationOnMock invocation) {
+            observer = invocation.getArgument(0);
+            return subscription;
+          }
+        });
+    final AccountCache accountCache = new AccountCache(100L, invalidation);
+    accountCache.bind(blockOperation, asyncBlockOperation);
+    return accountCache;
+  }
+
+  protected BlockMetadata newBlockMetadata(final long height, final int txCount) {
+    return BlockMetadata.newBuilder()
+        .blockHash(BlockHash.of(BytesValue.of(("block-" + height).getBytes())))
+        .blockHeader(BlockHeader.newBuilder().blockNumber(height).build())
+        .txCount(txCount)
+        .build();
+  }
+
+  protected AccountState newState(final AccountAddress accountAddress) {
+    return AccountState.newBuilder().address(accountAddress).nonce(1L).balance(Aer.ONE).build();
+  }
+
+  protected Block newBlock(final RawTransaction rawTransaction) {
+    final Transaction transaction = Transaction.newBuilder()
+        .rawTransaction(rawTransaction)
+        .signature(anyTransaction.getSignature())
+        .hash(anyTxHash)
+        .build();
+    return Block.newBuilder().transactions(asList(transaction)).build();
+  }
+
+  protected long serving(final AccountCache accountCache, final long height) {
+    accountCache.begin();
+    observer.onNext(newBlockMetadata(height, 0));
+    return accountCache.begin();
+  }
+
+  @Test
+  public void shouldNotServeBeforeFirstBlock() {
+    // given
+    final AccountCache accountCache = newCache(AccountCacheInvalidation.EVERY_BLOCK);
+
+    // when
+    final long stamp = accountCache.begin();
+    accountCache.put(stamp, newState(anyAccountAddress));
+
+    // then
+    assertEquals(NOT_SERVING, stamp);
+    observer.onNext(newBlockMetadata(1L, 0));
+    final long next = accountCache.begin();
+    assertNotEquals(NOT_SERVING, next);
+    assertNull(accountCache.getState(next, anyAccountAddress));
+    verify(blockOperation, times(1)).subscribeBlockMetadata(any(StreamObserver.class));
+  }
+
+  @Test
+  public void shouldInvalidateAllOnEveryBlock() {
+    // given
+    final AccountCache accountCache = newCache(AccountCacheInvalidation.EVERY_BLOCK);
+    final long stamp = serving(accountCache, 1L);
+    final AccountState state = newState(anyAccountAddress);
+    accountCache.put(stamp, state);
+    accountCache.put(stamp, anyName, anyAccountAddress);
+    assertEquals(state, accountCache.getState(accountCache.begin(), anyAccountAddress));
+
+    // when
+    observer.onNext(newBlockMetadata(2L, 1));
+    accountCache.put(stamp, newState(other));
+
+    // then
+    final long next = accountCache.begin();
+    assertNull(accountCache.getState(next, anyAccountAddress));
+    assertNull(accountCache.getState(next, other));
+    assertNull(accountCache.getNameOwner(next, anyName));
+    verify(asyncBlockOperation, never()).getBlock(any(BlockHash.class));
+  }
+
+  @Test
+  public void shouldInvalidateTouchedAccounts() {
+    // given
+    final AccountCache accountCache = newCache(AccountCacheInvalidation.TOUCHED_ACCOUNTS);
+    final long stamp = serving(accountCache, 1L);
+    final AccountState state = newState(other);
+    accountCache.put(stamp, newState(anyAccountAddress));
+    accountCache.put(stamp, state);
+    accountCache.put(stamp, anyName, other);
+    final SettableFuture<Block> block = SettableFuture.create();
+    when(asyncBlockOperation.getBlock(any(BlockHash.class))).thenReturn(block);
+
+    // when
+    observer.onNext(newBlockMetadata(2L, 1));
+
+    // then
+    assertEquals(NOT_SERVING, accountCache.begin());
+
+    // when
+    final AergoKey sender = new AergoKeyGenerator().create();
+    block.set(newBlock(RawTransaction.newBuilder(ChainIdHash.of(BytesValue.EMPTY))
+        .from(sender.getAddress())
+        .to(anyAccountAddress)
+        .amount(Aer.ONE)
+        .nonce(1L)
+        .build()));
+
+    // then
+    final long next = accountCache.begin();
+    assertNull(accountCache.getState(next, anyAccountAddress));
+    assertEquals(state, accountCache.getState(next, other));
+    assertEquals(other, accountCache.getNameOwner(next, anyName));
+  }
+
+  @Test
+  public void shouldInvalidateAllOnNonTransfer() {
+    // given
+    final AccountCache accountCache = newCache(AccountCacheInvalidation.TOUCHED_ACCOUNTS);
+    final long stamp = serving(accountCache, 1L);
+    accountCache.put(stamp, newState(other));
+    accountCache.put(stamp, anyName, other);
+    final SettableFuture<Block> block = SettableFuture.create();
+    when(asyncBlockOperation.getBlock(any(BlockHash.class))).thenReturn(block);
+
+    // when
+    observer.onNext(newBlockMetadata(2L, 1));
+    block.set(newBlock(RawTransaction.newCreateNameTxBuilder()
+        .chainIdHash(ChainIdHash.of(BytesValue.EMPTY))
+        .from(anyAccountAddress)
+        .name(anyName)
+        .nonce(1L)
+        .build()));
+
+    // then
+    final long next = accountCache.begin();
+    assertNull(accountCache.getState(next, other));
+    assertNull(accountCache.getNameOwner(next, anyName));
+  }
+
+  @Test
+  public void shouldInvalidateAllOnHeightJump() {
+    // given
+    final AccountCache accountCache = newCache(AccountCacheInvalidation.TOUCHED_ACCOUNTS);
+    final long stamp = serving(accountCache, 1L);
+    accountCache.put(stamp, newState(other));
+
+    // when
+    observer.onNext(newBlockMetadata(3L, 0));
+
+    // then
+    assertNull(accountCache.getState(accountCache.begin(), other));
+  }
+
+  @Test
+  public void shouldResubscribeOnStreamError() {
+    // given
+    final AccountCache accountCache = newCache(AccountCacheInvalidation.EVERY_BLOCK);
+    final long stamp = serving(accountCache, 1L);
+    accountCache.put(stamp, newState(other));
+
+    // when
+    observer.onError(new IllegalStateException());
+
+    // then
+    assertEquals(NOT_SERVING, accountCache.begin());
+    assertNull(accountCache.getState(serving(accountCache, 5L), other));
+    verify(blockOperation, times(2)).subscribeBlockMetadata(any(StreamObserver.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldNotServeOnSubscribeFailure() {
+    // given
+    final AccountCache accountCache = new AccountCache(100L, AccountCacheInvalidation.EVERY_BLOCK);
+    accountCache.bind(blockOperation, asyncBlockOperation);
+    when(blockOperation.subscribeBlockMetadata(any(StreamObserver.class)))
+        .thenThrow(new IllegalStateException("Unavailable"));
+
+    // when
+    final long stamp = accountCache.begin();
+
+    // then
+    assertEquals(NOT_SERVING, stamp);
+    assertNull(accountCache.getState(stamp, other));
+  }
+
+  @Test
+  public void shouldUnsubscribeOnClose() {
+    // given
+    final AccountCache accountCache = newCache(AccountCacheInvalidation.EVERY_BLOCK);
+    serving(accountCache, 1L);
+
+    // when
+    accountCache.close();
+
+    // then
+    assertEquals(NOT_SERVING, accountCache.begin());
+    verify(subscription).unsubscribe();
+    verify(blockOperation, times(1)).subscribeBlockMetadata(any(StreamObserver.class));
+  }
+
+}
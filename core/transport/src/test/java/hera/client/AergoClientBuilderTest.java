@@ -4,9 +4,39 @@
 
 package hera.client;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static hera.client.ClientContextKeys.GRPC_AFTER_SUCCESS;
+import static hera.client.ClientContextKeys.GRPC_BEFORE_REQUEST;
+import static hera.client.ClientContextKeys.GRPC_CLIENT;
+import static hera.client.ClientContextKeys.GRPC_CONNECTION_STRATEGY;
+import static hera.client.ClientContextKeys.GRPC_FAILOVER_HANDLER_CHAIN;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_COALESCING;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_HEDGING;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_METRICS;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_RETRY_BUDGET;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_SCHEDULER;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_TIMEOUT;
+import static hera.client.ClientContextKeys.GRPC_STREAM_BUFFER_SIZE;
+import static hera.client.ClientContextKeys.GRPC_STREAM_EXECUTOR;
+import static hera.client.ClientContextKeys.GRPC_STREAM_OVERFLOW_POLICY;
+import static hera.client.ClientContextKeys.GRPC_VALUE_ACCOUNT_CACHE;
+import static hera.client.ClientContextKeys.GRPC_VALUE_METRICS_REGISTRY;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import hera.AbstractTestCase;
+import hera.Context;
+import hera.exception.HerajException;
+import hera.strategy.HistogramMetricsRegistry;
+import hera.strategy.LeastOutstandingBalancingStrategy;
+import hera.strategy.MetricsRegistry;
+import hera.strategy.MetricsStrategy;
+import hera.strategy.SharedNettyConnectStrategy;
+import hera.strategy.TimeoutStrategy;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 
@@ -19,9 +49,144 @@ public class AergoClientBuilderTest extends AbstractTestCase {
         .withPlainText()
         .withNonBlockingConnect()
         .withTimeout(3000L, TimeUnit.MILLISECONDS)
+        .withChannelPool(2)
         .withRetry(3, 1000, TimeUnit.MILLISECONDS)
         .build();
     assertNotNull(aergoClient);
   }
 
+  @Test
+  public void testBuildWithTimeout() {
+    final Context context = new AergoClientBuilder()
+        .withTimeout(3000L, TimeUnit.MILLISECONDS)
+        .initContext();
+    final TimeoutStrategy timeoutStrategy =
+        (TimeoutStrategy) context.get(GRPC_REQUEST_TIMEOUT);
+    assertNotNull(context.get(GRPC_REQUEST_SCHEDULER));
+    assertSame(context.get(GRPC_REQUEST_SCHEDULER), timeoutStrategy.getScheduler());
+    context.get(GRPC_REQUEST_SCHEDULER).shutdownNow();
+  }
+
+  @Test
+  public void testBuildWithEndpoints() {
+    final Context context = new AergoClientBuilder()
+        .withEndpoints("localhost:7845", "localhost:7846")
+        .withBalancing(new LeastOutstandingBalancingStrategy())
+        .initContext();
+    final GrpcClient grpcClient = context.get(GRPC_CLIENT);
+    assertTrue(grpcClient instanceof BalancingGrpcClient);
+    assertTrue(((BalancingGrpcClient) grpcClient).balancingStrategy
+        instanceof LeastOutstandingBalancingStrategy);
+    grpcClient.close();
+  }
+
+  @Test
+  public void testBuildWithStreamBuffer() {
+    final Executor executor = directExecutor();
+    final Context context = new AergoClientBuilder()
+        .withStreamBuffer(16, OverflowPolicy.DROP_OLDEST)
+        .withStreamExecutor(executor)
+        .initContext();
+    assertEquals(Integer.valueOf(16), context.get(GRPC_STREAM_BUFFER_SIZE));
+    assertEquals(OverflowPolicy.DROP_OLDEST, context.get(GRPC_STREAM_OVERFLOW_POLICY));
+    assertSame(executor, context.get(GRPC_STREAM_EXECUTOR));
+  }
+
+  @Test
+  public void testBuildWithMetrics() {
+    final MetricsRegistry registry = new HistogramMetricsRegistry();
+    final Context context = new AergoClientBuilder()
+        .withMetrics(registry)
+        .initContext();
+    assertSame(registry, context.get(GRPC_VALUE_METRICS_REGISTRY));
+    assertTrue(context.get(GRPC_REQUEST_METRICS) instanceof MetricsStrategy);
+    // a generic hook is left to a user
+    assertNull(context.get(GRPC_BEFORE_REQUEST));
+  }
+
+  @Test
+  public void testBuildWithBackoffRetry() {
+    final Context context = new AergoClientBuilder()
+        .withBackoffRetry(3, 100L, 1000L, TimeUnit.MILLISECONDS)
+        .withRetryBudget(0.2, 5)
+        .initContext();
+    assertTrue(context.get(GRPC_REQUEST_RETRY_BUDGET) instanceof RetryBudget);
+    assertNull(context.get(GRPC_AFTER_SUCCESS));
+    final FailoverHandlerChain chain =
+        (FailoverHandlerChain) context.get(GRPC_FAILOVER_HANDLER_CHAIN);
+    boolean found = false;
+    for (final ComparableFailoverHandler handler : chain.failoverHandlers) {
+      found |= handler instanceof BackoffRetryFailoverHandler;
+    }
+    assertTrue(found);
+  }
+
+  @Test
+  public void testBuildWithCircuitBreaker() {
+    final Context context = new AergoClientBuilder()
+        .withEndpoints("localhost:7845", "localhost:7846")
+        .withCircuitBreaker()
+        .initContext();
+    final FailoverHandlerChain chain =
+        (FailoverHandlerChain) context.get(GRPC_FAILOVER_HANDLER_CHAIN);
+    boolean found = false;
+    for (final ComparableFailoverHandler handler : chain.failoverHandlers) {
+      found |= handler instanceof CircuitBreakerFailoverHandler;
+    }
+    assertTrue(found);
+    assertTrue(context.get(GRPC_CLIENT) instanceof BalancingGrpcClient);
+  }
+
+  @Test
+  public void testBuildWithHedging() {
+    final Context context = new AergoClientBuilder()
+        .withHedging(100L, TimeUnit.MILLISECONDS)
+        .initContext();
+    assertTrue(context.get(GRPC_REQUEST_HEDGING) instanceof HedgingStrategy);
+  }
+
+  @Test(expected = HerajException.class)
+  public void shouldNotHedgeCommit() {
+    new AergoClientBuilder().withHedging(100L, TimeUnit.MILLISECONDS, Methods.TRANSACTION_COMMIT);
+  }
+
+  @Test
+  public void testBuildWithCoalescing() {
+    final Context context = new AergoClientBuilder()
+        .withCoalescing(Methods.ACCOUNT_STATE)
+        .initContext();
+    assertTrue(context.get(GRPC_REQUEST_COALESCING) instanceof CoalescingStrategy);
+  }
+
+  @Test(expected = HerajException.class)
+  public void shouldNotCoalesceCommit() {
+    new AergoClientBuilder().withCoalescing(Methods.TRANSACTION_COMMIT);
+  }
+
+  @Test
+  public void testBuildWithAccountCache() {
+    final Context context = new AergoClientBuilder()
+        .withAccountCache(100L, AccountCacheInvalidation.TOUCHED_ACCOUNTS)
+        .initContext();
+    assertTrue(context.get(GRPC_VALUE_ACCOUNT_CACHE) instanceof AccountCache);
+  }
+
+  @Test
+  public void shouldDisableAccountCacheWithMultipleEndpoints() {
+    final Context context = new AergoClientBuilder()
+        .withEndpoints("localhost:7845", "localhost:7846")
+        .withAccountCache(100L, AccountCacheInvalidation.TOUCHED_ACCOUNTS)
+        .initContext();
+    assertNull(context.get(GRPC_VALUE_ACCOUNT_CACHE));
+    context.get(GRPC_CLIENT).close();
+  }
+
+  @Test
+  public void testBuildWithSharedEventLoop() {
+    final Context context = new AergoClientBuilder()
+        .withSharedEventLoop(1, 1)
+        .initContext();
+    assertTrue(context.get(GRPC_CONNECTION_STRATEGY) instanceof SharedNettyConnectStrategy);
+  }
+
 }
@@ -5,9 +5,11 @@
 package hera.client;
 
 import static hera.client.ClientContextKeys.GRPC_CLIENT;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_SCHEDULER;
 import static hera.client.ClientContextKeys.GRPC_VALUE_CHAIN_ID_HASH_HOLDER;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import hera.AbstractTestCase;
 import hera.Context;
@@ -15,6 +17,8 @@ import hera.ContextStorage;
 import hera.EmptyContext;
 import hera.api.model.BytesValue;
 import hera.api.model.ChainIdHash;
+import hera.strategy.TimeoutStrategy;
+import java.util.concurrent.ScheduledExecutorService;
 import org.junit.Test;
 
 public class AergoClientImplTest extends AbstractTestCase {
@@ -55,4 +59,16 @@ public class AergoClientImplTest extends AbstractTestCase {
     aergoClient.close();
   }
 
+  @Test
+  public void testCloseWithScheduler() {
+    final ScheduledExecutorService scheduler = TimeoutStrategy.newScheduler();
+    final Context context = EmptyContext.getInstance()
+        .withValue(GRPC_CLIENT, new GrpcClientImpl())
+        .withValue(GRPC_REQUEST_SCHEDULER, scheduler);
+    final ContextStorage<Context> contextStorage = new UnmodifiableContextStorage(context);
+    final AergoClientImpl aergoClient = new AergoClientImpl(contextStorage);
+    aergoClient.close();
+    assertTrue(scheduler.isShutdown());
+  }
+
 }
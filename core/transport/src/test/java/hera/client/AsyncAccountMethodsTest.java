@@ -0,0 +1,143 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static hera.client.ClientContextKeys.GRPC_CLIENT;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import hera.AbstractTestCase;
+import hera.Context;
+import hera.ContextHolder;
+import hera.EmptyContext;
+import hera.api.model.AccountState;
+import hera.api.model.AccountTotalVote;
+import hera.api.model.ElectedCandidate;
+import hera.api.model.StakeInfo;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import types.AergoRPCServiceGrpc.AergoRPCServiceFutureStub;
+import types.Blockchain;
+import types.Rpc;
+
+@PrepareForTest({AergoRPCServiceFutureStub.class})
+public class AsyncAccountMethodsTest extends AbstractTestCase {
+
+  protected Context withFutureStub(final AergoRPCServiceFutureStub futureStub) {
+    final GrpcClientImpl mockClient = mock(GrpcClientImpl.class);
+    when(mockClient.getFutureStub()).thenReturn(futureStub);
+    return EmptyContext.getInstance().withValue(GRPC_CLIENT, mockClient);
+  }
+
+  @Test
+  public void testAccountState() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          when(mockFutureStub.getState(any(Rpc.SingleBytes.class)))
+              .thenReturn(immediateFuture(Blockchain.State.newBuilder().build()));
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncAccountMethods accountMethods = new AsyncAccountMethods();
+          final AccountState accountState = accountMethods.getAccountState()
+              .invoke(Arrays.<Object>asList(anyAccountAddress)).get();
+          assertNotNull(accountState);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testStakeInfo() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          when(mockFutureStub.getStaking(any(Rpc.AccountAddress.class)))
+              .thenReturn(immediateFuture(Rpc.Staking.newBuilder().build()));
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncAccountMethods accountMethods = new AsyncAccountMethods();
+          final StakeInfo stakeInfo = accountMethods.getStakeInfo()
+              .invoke(Arrays.<Object>asList(anyAccountAddress)).get();
+          assertNotNull(stakeInfo);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testListElected() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          when(mockFutureStub.getVotes(any(Rpc.VoteParams.class)))
+              .thenReturn(immediateFuture(Rpc.VoteList.newBuilder().build()));
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncAccountMethods accountMethods = new AsyncAccountMethods();
+          final List<ElectedCandidate> electedCandidates = accountMethods.getListElected()
+              .invoke(Arrays.<Object>asList("voteBP", 23)).get();
+          assertNotNull(electedCandidates);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testVoteOf() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          when(mockFutureStub.getAccountVotes(any(Rpc.AccountAddress.class)))
+              .thenReturn(immediateFuture(Rpc.AccountVoteInfo.newBuilder().build()));
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncAccountMethods accountMethods = new AsyncAccountMethods();
+          final AccountTotalVote accountTotalVote = accountMethods.getVoteOf()
+              .invoke(Arrays.<Object>asList(anyAccountAddress)).get();
+          assertNotNull(accountTotalVote);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+}
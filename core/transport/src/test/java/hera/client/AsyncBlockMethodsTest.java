@@ -0,0 +1,148 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static hera.client.ClientContextKeys.GRPC_CLIENT;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.AbstractTestCase;
+import hera.Context;
+import hera.ContextHolder;
+import hera.EmptyContext;
+import hera.api.model.Block;
+import hera.api.model.BlockMetadata;
+import io.grpc.Status;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import types.AergoRPCServiceGrpc.AergoRPCServiceFutureStub;
+import types.Blockchain;
+import types.Rpc;
+
+@PrepareForTest({AergoRPCServiceFutureStub.class})
+public class AsyncBlockMethodsTest extends AbstractTestCase {
+
+  protected Context withFutureStub(final AergoRPCServiceFutureStub futureStub) {
+    final GrpcClientImpl mockClient = mock(GrpcClientImpl.class);
+    when(mockClient.getFutureStub()).thenReturn(futureStub);
+    return EmptyContext.getInstance().withValue(GRPC_CLIENT, mockClient);
+  }
+
+  @Test
+  public void testBlockMetadataByHeight() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          when(mockFutureStub.getBlockMetadata(any(Rpc.SingleBytes.class)))
+              .thenReturn(immediateFuture(Rpc.BlockMetadata.newBuilder().build()));
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncBlockMethods blockMethods = new AsyncBlockMethods();
+          final BlockMetadata blockMetadata = blockMethods.getBlockMetadataByHeight()
+              .invoke(Arrays.<Object>asList(1L)).get();
+          assertNotNull(blockMetadata);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testListBlockMetadatasByHashNotFound() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          final ListenableFuture<Rpc.BlockMetadataList> notFound = immediateFailedFuture(
+              Status.UNKNOWN.withDescription("block not found").asRuntimeException());
+          when(mockFutureStub.listBlockMetadata(any(Rpc.ListParams.class))).thenReturn(notFound);
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncBlockMethods blockMethods = new AsyncBlockMethods();
+          final List<BlockMetadata> blockMetadatas = blockMethods.getListBlockMetadatasByHash()
+              .invoke(Arrays.<Object>asList(anyBlockHash, 10)).get();
+          assertTrue(blockMetadatas.isEmpty());
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testBlockByHash() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          when(mockFutureStub.getBlock(any(Rpc.SingleBytes.class)))
+              .thenReturn(immediateFuture(Blockchain.Block.newBuilder().build()));
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncBlockMethods blockMethods = new AsyncBlockMethods();
+          final Block block = blockMethods.getBlockByHash()
+              .invoke(Arrays.<Object>asList(anyBlockHash)).get();
+          assertNotNull(block);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testBlockByHeightNotFound() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          final ListenableFuture<Blockchain.Block> notFound = immediateFailedFuture(
+              Status.UNKNOWN.withDescription("block not found").asRuntimeException());
+          when(mockFutureStub.getBlock(any(Rpc.SingleBytes.class))).thenReturn(notFound);
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncBlockMethods blockMethods = new AsyncBlockMethods();
+          final Block block = blockMethods.getBlockByHeight()
+              .invoke(Arrays.<Object>asList(1L)).get();
+          assertNull(block);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static hera.client.ClientContextKeys.GRPC_CLIENT;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import hera.AbstractTestCase;
+import hera.Context;
+import hera.ContextHolder;
+import hera.EmptyContext;
+import hera.api.model.ContractResult;
+import hera.api.model.ContractTxReceipt;
+import hera.api.model.Event;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import types.AergoRPCServiceGrpc.AergoRPCServiceFutureStub;
+import types.Blockchain;
+import types.Rpc;
+
+@PrepareForTest({AergoRPCServiceFutureStub.class})
+public class AsyncContractMethodsTest extends AbstractTestCase {
+
+  protected Context withFutureStub(final AergoRPCServiceFutureStub futureStub) {
+    final GrpcClientImpl mockClient = mock(GrpcClientImpl.class);
+    when(mockClient.getFutureStub()).thenReturn(futureStub);
+    return EmptyContext.getInstance().withValue(GRPC_CLIENT, mockClient);
+  }
+
+  @Test
+  public void testContractTxReceipt() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          when(mockFutureStub.getReceipt(any(Rpc.SingleBytes.class)))
+              .thenReturn(immediateFuture(Blockchain.Receipt.newBuilder().build()));
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncContractMethods contractMethods = new AsyncContractMethods();
+          final ContractTxReceipt contractTxReceipt = contractMethods.getContractTxReceipt()
+              .invoke(Arrays.<Object>asList(anyTxHash)).get();
+          assertNotNull(contractTxReceipt);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testQuery() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          when(mockFutureStub.queryContract(any(Blockchain.Query.class)))
+              .thenReturn(immediateFuture(Rpc.SingleBytes.newBuilder().build()));
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncContractMethods contractMethods = new AsyncContractMethods();
+          final ContractResult contractResult = contractMethods.getQuery()
+              .invoke(Arrays.<Object>asList(anyInvocation)).get();
+          assertNotNull(contractResult);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testListEvent() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          when(mockFutureStub.listEvents(any(Blockchain.FilterInfo.class)))
+              .thenReturn(immediateFuture(Rpc.EventList.newBuilder().build()));
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncContractMethods contractMethods = new AsyncContractMethods();
+          final List<Event> events = contractMethods.getListEvent()
+              .invoke(Arrays.<Object>asList(anyEventFilter)).get();
+          assertNotNull(events);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+}
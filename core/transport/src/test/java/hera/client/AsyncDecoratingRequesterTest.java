@@ -0,0 +1,181 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static hera.client.ClientContextKeys.GRPC_FAILOVER_HANDLER_CHAIN;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_SCHEDULER;
+import static hera.client.Methods.ACCOUNT_STATE;
+import static java.util.UUID.randomUUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import hera.AbstractTestCase;
+import hera.Context;
+import hera.ContextHolder;
+import hera.EmptyContext;
+import hera.FailoverHandler;
+import hera.Invocation;
+import hera.RequestMethod;
+import hera.Response;
+import hera.api.model.Time;
+import hera.strategy.TimeoutStrategy;
+import io.grpc.Status;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class AsyncDecoratingRequesterTest extends AbstractTestCase {
+
+  @Test
+  public void testSuccessRequest() throws Exception {
+    final AsyncDecoratingRequester requester = new AsyncDecoratingRequester();
+    final String expected = randomUUID().toString();
+    final ListenableFuture<String> future = requester.requestAsync(
+        new TestInvocation<>(TestRequestMethod.success(immediateFuture(expected))));
+    assertEquals(expected, future.get());
+  }
+
+  @Test
+  public void testFailRequest() throws Exception {
+    final AsyncDecoratingRequester requester = new AsyncDecoratingRequester();
+    final Exception expected = new IllegalStateException();
+    final ListenableFuture<String> future = requester.requestAsync(
+        new TestInvocation<>(TestRequestMethod.<ListenableFuture<String>>fail(expected)));
+    try {
+      future.get();
+      fail("Should throw exception");
+    } catch (ExecutionException e) {
+      assertEquals(expected, e.getCause());
+    }
+  }
+
+  @Test
+  public void testFailoverOnFailedFuture() throws Exception {
+    final String expected = randomUUID().toString();
+    final AtomicInteger count = new AtomicInteger(0);
+    final RequestMethod<ListenableFuture<String>> requestMethod =
+        new RequestMethod<ListenableFuture<String>>() {
+          @Override
+          public String getName() {
+            return randomUUID().toString();
+          }
+
+          @Override
+          protected ListenableFuture<String> runInternal(final List<Object> parameters) {
+            if (0 == count.getAndIncrement()) {
+              return immediateFailedFuture(new IllegalStateException());
+            }
+            return immediateFuture(expected);
+          }
+        };
+    final Context context = EmptyContext.getInstance()
+        .withValue(GRPC_FAILOVER_HANDLER_CHAIN, new FailoverHandler() {
+          @Override
+          public <T> Response<T> handle(Invocation<T> invocation, Response<T> response) {
+            try {
+              return Response.success(invocation.invoke());
+            } catch (Exception e) {
+              return Response.fail(e);
+            }
+          }
+        });
+
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          ContextHolder.attach(context);
+          final AsyncDecoratingRequester requester = new AsyncDecoratingRequester();
+          final ListenableFuture<String> future =
+              requester.requestAsync(new TestInvocation<>(requestMethod));
+          assertEquals(expected, future.get());
+          assertEquals(2, count.get());
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void shouldNotBlockThreadCompletingFailedFuture() throws Exception {
+    final String expected = randomUUID().toString();
+    final SettableFuture<String> first = SettableFuture.create();
+    final AtomicInteger count = new AtomicInteger(0);
+    final RequestMethod<ListenableFuture<String>> requestMethod =
+        new RequestMethod<ListenableFuture<String>>() {
+          @Override
+          public String getName() {
+            return ACCOUNT_STATE;
+          }
+
+          @Override
+          protected ListenableFuture<String> runInternal(final List<Object> parameters) {
+            if (0 == count.getAndIncrement()) {
+              return first;
+            }
+            return immediateFuture(expected);
+          }
+        };
+    final long backoff = 500L;
+    final FailoverHandlerChain chain = new FailoverHandlerChain(
+        Collections.<ComparableFailoverHandler>singletonList(new BackoffRetryFailoverHandler(1,
+            Time.of(backoff, TimeUnit.MILLISECONDS), Time.of(backoff, TimeUnit.MILLISECONDS),
+            new RetryBudget(0.1, 10))));
+    final ScheduledExecutorService scheduler = TimeoutStrategy.newScheduler();
+    final Context context = EmptyContext.getInstance()
+        .withValue(GRPC_FAILOVER_HANDLER_CHAIN, chain)
+        .withValue(GRPC_REQUEST_SCHEDULER, scheduler);
+
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          ContextHolder.attach(context);
+          final AsyncDecoratingRequester requester = new AsyncDecoratingRequester();
+          final ListenableFuture<String> future =
+              requester.requestAsync(new TestInvocation<>(requestMethod));
+
+          // a thread completing a future isn't bound to a backoff
+          final long start = System.nanoTime();
+          first.setException(Status.UNAVAILABLE.asRuntimeException());
+          assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(backoff));
+          assertFalse(future.isDone());
+
+          assertEquals(expected, future.get());
+          assertEquals(2, count.get());
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+          scheduler.shutdownNow();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testCancelPropagation() throws Exception {
+    final AsyncDecoratingRequester requester = new AsyncDecoratingRequester();
+    final SettableFuture<String> origin = SettableFuture.create();
+    final ListenableFuture<String> future = requester.requestAsync(
+        new TestInvocation<>(TestRequestMethod.<ListenableFuture<String>>success(origin)));
+    future.cancel(true);
+    assertTrue(origin.isCancelled());
+  }
+
+}
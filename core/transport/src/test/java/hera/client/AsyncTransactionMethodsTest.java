@@ -0,0 +1,161 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static hera.client.ClientContextKeys.GRPC_CLIENT;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.AbstractTestCase;
+import hera.Context;
+import hera.ContextHolder;
+import hera.EmptyContext;
+import hera.api.model.Transaction;
+import hera.api.model.TxHash;
+import hera.api.model.TxReceipt;
+import hera.exception.CommitException;
+import io.grpc.Status;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import types.AergoRPCServiceGrpc.AergoRPCServiceFutureStub;
+import types.Blockchain;
+import types.Rpc;
+import types.Rpc.CommitStatus;
+
+@PrepareForTest({AergoRPCServiceFutureStub.class})
+public class AsyncTransactionMethodsTest extends AbstractTestCase {
+
+  protected Context withFutureStub(final AergoRPCServiceFutureStub futureStub) {
+    final GrpcClientImpl mockClient = mock(GrpcClientImpl.class);
+    when(mockClient.getFutureStub()).thenReturn(futureStub);
+    return EmptyContext.getInstance().withValue(GRPC_CLIENT, mockClient);
+  }
+
+  @Test
+  public void testTransactionInMemPool() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          final ListenableFuture<Blockchain.TxInBlock> notFound = immediateFailedFuture(
+              Status.UNKNOWN.withDescription("tx not found").asRuntimeException());
+          when(mockFutureStub.getBlockTX(any(Rpc.SingleBytes.class))).thenReturn(notFound);
+          when(mockFutureStub.getTX(any(Rpc.SingleBytes.class)))
+              .thenReturn(immediateFuture(Blockchain.Tx.newBuilder().build()));
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncTransactionMethods transactionMethods = new AsyncTransactionMethods();
+          final Transaction transaction = transactionMethods.getTransaction()
+              .invoke(Arrays.<Object>asList(anyTxHash)).get();
+          assertNotNull(transaction);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testTxReceipt() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          when(mockFutureStub.getReceipt(any(Rpc.SingleBytes.class)))
+              .thenReturn(immediateFuture(Blockchain.Receipt.newBuilder().build()));
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncTransactionMethods transactionMethods = new AsyncTransactionMethods();
+          final TxReceipt txReceipt = transactionMethods.getTxReceipt()
+              .invoke(Arrays.<Object>asList(anyTxHash)).get();
+          assertNotNull(txReceipt);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testCommit() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          when(mockFutureStub.commitTX(any(Blockchain.TxList.class)))
+              .thenReturn(immediateFuture(Rpc.CommitResultList.newBuilder()
+                  .addResults(Rpc.CommitResult.newBuilder()
+                      .setError(CommitStatus.TX_OK)
+                      .build())
+                  .build()));
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncTransactionMethods transactionMethods = new AsyncTransactionMethods();
+          final TxHash txHash = transactionMethods.getCommit()
+              .invoke(Arrays.<Object>asList(anyTransaction)).get();
+          assertNotNull(txHash);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testCommitFailure() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceFutureStub mockFutureStub = mock(AergoRPCServiceFutureStub.class);
+          when(mockFutureStub.commitTX(any(Blockchain.TxList.class)))
+              .thenReturn(immediateFuture(Rpc.CommitResultList.newBuilder()
+                  .addResults(Rpc.CommitResult.newBuilder()
+                      .setError(CommitStatus.TX_NONCE_TOO_LOW)
+                      .build())
+                  .build()));
+          ContextHolder.attach(withFutureStub(mockFutureStub));
+
+          // then
+          final AsyncTransactionMethods transactionMethods = new AsyncTransactionMethods();
+          transactionMethods.getCommit().invoke(Arrays.<Object>asList(anyTransaction)).get();
+          fail("Should throw exception");
+        } catch (ExecutionException e) {
+          assertTrue(e.getCause() instanceof CommitException);
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.AbstractTestCase;
+import hera.Context;
+import hera.ContextStorage;
+import hera.EmptyContext;
+import hera.Invocation;
+import hera.api.model.Transaction;
+import hera.api.model.TxHash;
+import hera.api.model.TxReceipt;
+import hera.exception.ConnectionException;
+import io.grpc.Status;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+
+public class AsyncTransactionTemplateTest extends AbstractTestCase {
+
+  protected final ContextStorage<Context> contextStorage = new UnmodifiableContextStorage(
+      EmptyContext.getInstance());
+
+  @Test
+  public void testGetTransaction() throws Exception {
+    // given
+    final AsyncTransactionTemplate transactionTemplate =
+        new AsyncTransactionTemplate(contextStorage);
+    final AsyncDecoratingRequester mockRequester = mock(AsyncDecoratingRequester.class);
+    final ListenableFuture<Transaction> expected = immediateFuture(anyTransaction);
+    when(mockRequester.requestAsync(
+        ArgumentMatchers.<Invocation<ListenableFuture<Transaction>>>any())).thenReturn(expected);
+    transactionTemplate.requester = mockRequester;
+
+    // then
+    assertEquals(anyTransaction, transactionTemplate.getTransaction(anyTxHash).get());
+  }
+
+  @Test
+  public void testGetTxReceipt() throws Exception {
+    // given
+    final AsyncTransactionTemplate transactionTemplate =
+        new AsyncTransactionTemplate(contextStorage);
+    final AsyncDecoratingRequester mockRequester = mock(AsyncDecoratingRequester.class);
+    final TxReceipt txReceipt = TxReceipt.newBuilder().build();
+    final ListenableFuture<TxReceipt> expected = immediateFuture(txReceipt);
+    when(mockRequester.requestAsync(
+        ArgumentMatchers.<Invocation<ListenableFuture<TxReceipt>>>any())).thenReturn(expected);
+    transactionTemplate.requester = mockRequester;
+
+    // then
+    assertEquals(txReceipt, transactionTemplate.getTxReceipt(anyTxHash).get());
+  }
+
+  @Test
+  public void testCommit() throws Exception {
+    // given
+    final AsyncTransactionTemplate transactionTemplate =
+        new AsyncTransactionTemplate(contextStorage);
+    final AsyncDecoratingRequester mockRequester = mock(AsyncDecoratingRequester.class);
+    final ListenableFuture<TxHash> expected = immediateFuture(anyTxHash);
+    when(mockRequester.requestAsync(
+        ArgumentMatchers.<Invocation<ListenableFuture<TxHash>>>any())).thenReturn(expected);
+    transactionTemplate.requester = mockRequester;
+
+    // then
+    assertEquals(anyTxHash, transactionTemplate.commit(anyTransaction).get());
+  }
+
+  @Test
+  public void testFailureConverted() throws Exception {
+    // given
+    final AsyncTransactionTemplate transactionTemplate =
+        new AsyncTransactionTemplate(contextStorage);
+    final AsyncDecoratingRequester mockRequester = mock(AsyncDecoratingRequester.class);
+    final ListenableFuture<TxHash> expected =
+        immediateFailedFuture(Status.UNAVAILABLE.asRuntimeException());
+    when(mockRequester.requestAsync(
+        ArgumentMatchers.<Invocation<ListenableFuture<TxHash>>>any())).thenReturn(expected);
+    transactionTemplate.requester = mockRequester;
+
+    // then
+    try {
+      transactionTemplate.commit(anyTransaction).get();
+      fail("Should throw exception");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof ConnectionException);
+    }
+  }
+
+}
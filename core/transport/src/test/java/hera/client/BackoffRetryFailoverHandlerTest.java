@@ -0,0 +1,188 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static hera.client.Methods.ACCOUNT_STATE;
+import static hera.client.Methods.TRANSACTION_COMMIT;
+import static hera.client.Methods.TRANSACTION_COMMIT_BATCH;
+import static java.util.Arrays.asList;
+import static java.util.UUID.randomUUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import hera.AbstractTestCase;
+import hera.RequestMethod;
+import hera.Response;
+import hera.api.model.Time;
+import hera.strategy.TimeoutStrategy;
+import io.grpc.Status;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import org.junit.Test;
+
+public class BackoffRetryFailoverHandlerTest extends AbstractTestCase {
+
+  protected RequestMethod<Object> newFailingMethod(final AtomicInteger invoked,
+      final int successOn, final Object expected, final Exception error) {
+    return newFailingMethod(ACCOUNT_STATE, invoked, successOn, expected, error);
+  }
+
+  protected RequestMethod<Object> newFailingMethod(final String methodName,
+      final AtomicInteger invoked, final int successOn, final Object expected,
+      final Exception error) {
+    return new RequestMethod<Object>() {
+
+      @Getter
+      protected final String name = methodName;
+
+      @Override
+      protected Object runInternal(List<Object> parameters) throws Exception {
+        if (successOn == invoked.incrementAndGet()) {
+          return expected;
+        }
+        throw error;
+      }
+    };
+  }
+
+  protected BackoffRetryFailoverHandler newHandler(final int count,
+      final RetryBudget retryBudget) {
+    return new BackoffRetryFailoverHandler(count, Time.of(1L, TimeUnit.MILLISECONDS),
+        Time.of(10L, TimeUnit.MILLISECONDS), retryBudget);
+  }
+
+  @Test
+  public void testHandle() {
+    // given
+    final BackoffRetryFailoverHandler handler = newHandler(5, new RetryBudget(0.1, 10));
+    final AtomicInteger invoked = new AtomicInteger(0);
+    final String expected = randomUUID().toString();
+    final RequestMethod<Object> requestMethod = newFailingMethod(invoked, 3, expected,
+        Status.UNAVAILABLE.asRuntimeException());
+
+    // when
+    final Response<Object> response = Response.fail(
+        (Exception) Status.UNAVAILABLE.asRuntimeException());
+    final Response<Object> handled = handler
+        .handle(new TestInvocation<>(requestMethod), response);
+
+    // then
+    assertEquals(expected, handled.getValue());
+    assertEquals(3, invoked.get());
+  }
+
+  @Test
+  public void shouldNotRetryOnNonRetryable() {
+    // given
+    final BackoffRetryFailoverHandler handler = newHandler(5, new RetryBudget(0.1, 10));
+    final AtomicInteger invoked = new AtomicInteger(0);
+    final RequestMethod<Object> requestMethod = newFailingMethod(invoked, 1, null,
+        new UnsupportedOperationException());
+
+    // when
+    final Response<Object> response = Response.fail(
+        (Exception) Status.INVALID_ARGUMENT.asRuntimeException());
+    final Response<Object> handled = handler
+        .handle(new TestInvocation<>(requestMethod), response);
+
+    // then
+    assertNotNull(handled.getError());
+    assertEquals(0, invoked.get());
+  }
+
+  @Test
+  public void shouldStopOnBudgetExhausted() {
+    // given
+    final BackoffRetryFailoverHandler handler = newHandler(5, new RetryBudget(0.1, 2));
+    final AtomicInteger invoked = new AtomicInteger(0);
+    final RequestMethod<Object> requestMethod = newFailingMethod(invoked, -1, null,
+        Status.UNAVAILABLE.asRuntimeException());
+
+    // when
+    final Response<Object> response = Response.fail(
+        (Exception) Status.UNAVAILABLE.asRuntimeException());
+    final Response<Object> handled = handler
+        .handle(new TestInvocation<>(requestMethod), response);
+
+    // then
+    assertNotNull(handled.getError());
+    assertEquals(2, invoked.get());
+  }
+
+  @Test
+  public void shouldNotRetryStateChangingMethod() {
+    for (final String name : asList(TRANSACTION_COMMIT, TRANSACTION_COMMIT_BATCH)) {
+      // given
+      final BackoffRetryFailoverHandler handler = newHandler(5, new RetryBudget(0.1, 10));
+      final AtomicInteger invoked = new AtomicInteger(0);
+      final RequestMethod<Object> requestMethod = newFailingMethod(name, invoked, 1,
+          randomUUID().toString(), Status.UNAVAILABLE.asRuntimeException());
+
+      // when
+      final Response<Object> response = Response.fail(
+          (Exception) Status.UNAVAILABLE.asRuntimeException());
+      final Response<Object> handled = handler
+          .handle(new TestInvocation<>(requestMethod), response);
+
+      // then
+      assertNotNull(handled.getError());
+      assertEquals(0, invoked.get());
+    }
+  }
+
+  @Test
+  public void shouldKeepBackoffInRange() {
+    final BackoffRetryFailoverHandler handler = newHandler(5, new RetryBudget(0.1, 10));
+    long backoff = 1L;
+    for (int i = 0; i < 100; ++i) {
+      backoff = handler.nextBackoff(backoff);
+      assertTrue(1L <= backoff && backoff <= 10L);
+    }
+  }
+
+  @Test
+  public void testHandleAsync() throws Exception {
+    // given
+    final BackoffRetryFailoverHandler handler = newHandler(5, new RetryBudget(0.1, 10));
+    final AtomicInteger invoked = new AtomicInteger(0);
+    final String expected = randomUUID().toString();
+    final RequestMethod<ListenableFuture<String>> requestMethod =
+        new RequestMethod<ListenableFuture<String>>() {
+
+          @Getter
+          protected final String name = ACCOUNT_STATE;
+
+          @Override
+          protected ListenableFuture<String> runInternal(List<Object> parameters) {
+            if (3 == invoked.incrementAndGet()) {
+              return immediateFuture(expected);
+            }
+            return immediateFailedFuture(Status.UNAVAILABLE.asRuntimeException());
+          }
+        };
+    final ScheduledExecutorService scheduler = TimeoutStrategy.newScheduler();
+
+    try {
+      // when
+      final ListenableFuture<String> handled = handler.handleAsync(
+          new TestInvocation<>(requestMethod), Status.UNAVAILABLE.asRuntimeException(),
+          scheduler);
+
+      // then
+      assertEquals(expected, handled.get());
+      assertEquals(3, invoked.get());
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+
+}
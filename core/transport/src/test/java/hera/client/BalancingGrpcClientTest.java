@@ -0,0 +1,130 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import hera.AbstractTestCase;
+import hera.EmptyContext;
+import hera.RequestMethod;
+import hera.api.model.BlockchainStatus;
+import hera.api.model.HostnameAndPort;
+import hera.strategy.RoundRobinBalancingStrategy;
+import io.grpc.Status;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.junit.Test;
+
+public class BalancingGrpcClientTest extends AbstractTestCase {
+
+  protected final List<HostnameAndPort> endpoints = asList(HostnameAndPort.of("localhost:7845"),
+      HostnameAndPort.of("localhost:7846"));
+
+  @Test
+  public void shouldSelectHealthyNode() {
+    final BalancingGrpcClient grpcClient = new BalancingGrpcClient(endpoints,
+        new RoundRobinBalancingStrategy());
+    try {
+      final GrpcNode unhealthy = grpcClient.getNodes().get(0);
+      final GrpcNode healthy = grpcClient.getNodes().get(1);
+      unhealthy.markUnhealthy();
+      for (int i = 0; i < 4; ++i) {
+        assertEquals(healthy, grpcClient.select());
+      }
+    } finally {
+      grpcClient.close();
+    }
+  }
+
+  @Test
+  public void shouldSelectAnyOnNoHealthyNode() {
+    final BalancingGrpcClient grpcClient = new BalancingGrpcClient(endpoints,
+        new RoundRobinBalancingStrategy());
+    try {
+      for (final GrpcNode node : grpcClient.getNodes()) {
+        node.markUnhealthy();
+      }
+      assertNotNull(grpcClient.select());
+      assertNotNull(grpcClient.getBlockingStub());
+      assertNotNull(grpcClient.getFutureStub());
+      assertNotNull(grpcClient.getStreamStub());
+    } finally {
+      grpcClient.close();
+    }
+  }
+
+  @Test
+  public void shouldSelectExcludingEndpoints() throws Exception {
+    final BalancingGrpcClient grpcClient = new BalancingGrpcClient(endpoints,
+        new RoundRobinBalancingStrategy());
+    try {
+      final GrpcNode excluded = grpcClient.getNodes().get(0);
+      final GrpcNode other = grpcClient.getNodes().get(1);
+      final io.grpc.Context context = io.grpc.Context.current().withValue(
+          CircuitBreakerFailoverHandler.EXCLUDED_ENDPOINTS, singleton(excluded.getEndpoint()));
+      final List<GrpcNode> selected = context.call(new Callable<List<GrpcNode>>() {
+        @Override
+        public List<GrpcNode> call() {
+          return asList(grpcClient.select(), grpcClient.select());
+        }
+      });
+      assertEquals(asList(other, other), selected);
+    } finally {
+      grpcClient.close();
+    }
+  }
+
+  @Test
+  public void testProbe() {
+    final BalancingGrpcClient grpcClient = new BalancingGrpcClient(endpoints,
+        new RoundRobinBalancingStrategy());
+    try {
+      final BlockchainMethods mockBlockchainMethods = mock(BlockchainMethods.class);
+      final RequestMethod<BlockchainStatus> blockchainStatusRequestMethod = TestRequestMethod
+          .success(BlockchainStatus.newBuilder().bestHeight(10L).build());
+      when(mockBlockchainMethods.getBlockchainStatus()).thenReturn(blockchainStatusRequestMethod);
+      grpcClient.blockchainMethods = mockBlockchainMethods;
+
+      for (final GrpcNode node : grpcClient.getNodes()) {
+        node.markUnhealthy();
+      }
+      grpcClient.probe(EmptyContext.getInstance());
+      for (final GrpcNode node : grpcClient.getNodes()) {
+        assertTrue(node.isHealthy());
+        assertEquals(10L, node.getBestHeight());
+      }
+    } finally {
+      grpcClient.close();
+    }
+  }
+
+  @Test
+  public void shouldEjectOnProbeFailure() {
+    final BalancingGrpcClient grpcClient = new BalancingGrpcClient(endpoints,
+        new RoundRobinBalancingStrategy());
+    try {
+      final BlockchainMethods mockBlockchainMethods = mock(BlockchainMethods.class);
+      final RequestMethod<BlockchainStatus> blockchainStatusRequestMethod = TestRequestMethod
+          .fail(Status.UNAVAILABLE.asRuntimeException());
+      when(mockBlockchainMethods.getBlockchainStatus()).thenReturn(blockchainStatusRequestMethod);
+      grpcClient.blockchainMethods = mockBlockchainMethods;
+
+      grpcClient.probe(EmptyContext.getInstance());
+      for (final GrpcNode node : grpcClient.getNodes()) {
+        assertFalse(node.isHealthy());
+      }
+    } finally {
+      grpcClient.close();
+    }
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static java.util.UUID.randomUUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import hera.AbstractTestCase;
+import hera.api.model.Block;
+import hera.api.model.BlockHash;
+import hera.api.model.BlockHeader;
+import hera.api.model.BlockMetadata;
+import hera.api.model.BytesValue;
+import org.junit.Test;
+
+public class BlockCacheTest extends AbstractTestCase {
+
+  protected Block blockOf(final long height) {
+    return Block.newBuilder()
+        .hash(BlockHash.of(BytesValue.of(randomUUID().toString().getBytes())))
+        .blockHeader(BlockHeader.newBuilder().blockNumber(height).build())
+        .build();
+  }
+
+  protected BlockMetadata blockMetadataOf(final long height) {
+    return BlockMetadata.newBuilder()
+        .blockHash(BlockHash.of(BytesValue.of(randomUUID().toString().getBytes())))
+        .blockHeader(BlockHeader.newBuilder().blockNumber(height).build())
+        .build();
+  }
+
+  @Test
+  public void shouldFindByHash() {
+    final BlockCache blockCache = new BlockCache(1024L * 1024L, 10);
+    final Block block = blockOf(100L);
+    final BlockMetadata blockMetadata = blockMetadataOf(100L);
+    blockCache.put(block);
+    blockCache.put(blockMetadata);
+    assertEquals(block, blockCache.getBlock(block.getHash()));
+    assertEquals(blockMetadata, blockCache.getBlockMetadata(blockMetadata.getBlockHash()));
+  }
+
+  @Test
+  public void shouldFindByHeightOnlyIfFinal() {
+    final BlockCache blockCache = new BlockCache(1024L * 1024L, 10);
+    final Block best = blockOf(100L);
+    final Block recent = blockOf(95L);
+    final Block confirmed = blockOf(90L);
+    blockCache.put(best);
+    blockCache.put(recent);
+    blockCache.put(confirmed);
+
+    assertNull(blockCache.getBlock(100L));
+    assertNull(blockCache.getBlock(95L));
+    assertEquals(confirmed, blockCache.getBlock(90L));
+
+    final BlockMetadata confirmedMetadata = blockMetadataOf(80L);
+    blockCache.put(confirmedMetadata);
+    assertEquals(confirmedMetadata, blockCache.getBlockMetadata(80L));
+  }
+
+  @Test
+  public void shouldEvictByWeight() {
+    final int capacity = 4;
+    final BlockCache blockCache = new BlockCache(capacity * BlockCache.BLOCK_OVERHEAD, 0);
+    final Block first = blockOf(1L);
+    blockCache.put(first);
+    for (long height = 2L; height < 100L; ++height) {
+      blockCache.put(blockOf(height));
+    }
+    assertNull(blockCache.getBlock(first.getHash()));
+  }
+
+  @Test
+  public void shouldWeighBySizeProvided() {
+    final BlockCache blockCache = new BlockCache(64 * BlockCache.BLOCK_OVERHEAD, 0);
+    final Block small = blockOf(1L);
+    final Block large = blockOf(2L);
+    blockCache.put(small, 0L);
+    blockCache.put(large, 128 * BlockCache.BLOCK_OVERHEAD);
+    assertEquals(small, blockCache.getBlock(small.getHash()));
+    assertNull(blockCache.getBlock(large.getHash()));
+  }
+
+}
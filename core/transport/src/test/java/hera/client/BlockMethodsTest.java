@@ -5,12 +5,15 @@
 package hera.client;
 
 import static hera.client.ClientContextKeys.GRPC_CLIENT;
+import static hera.client.ClientContextKeys.GRPC_VALUE_BLOCK_CACHE;
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import hera.AbstractTestCase;
@@ -417,6 +420,41 @@ public class BlockMethodsTest extends AbstractTestCase {
     });
   }
 
+  @Test
+  public void shouldBlockByHashHitCache() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceBlockingStub mockBlockingStub = mock(
+              AergoRPCServiceBlockingStub.class);
+          when(mockBlockingStub.getBlock(any(Rpc.SingleBytes.class)))
+              .thenReturn(Blockchain.Block.newBuilder().build());
+          final GrpcClientImpl mockClient = mock(GrpcClientImpl.class);
+          when(mockClient.getBlockingStub()).thenReturn(mockBlockingStub);
+          final Context context = EmptyContext.getInstance()
+              .withValue(GRPC_CLIENT, mockClient)
+              .withValue(GRPC_VALUE_BLOCK_CACHE, new BlockCache(1024L * 1024L, 0));
+          ContextHolder.attach(context);
+
+          // then
+          final BlockMethods blockMethods = new BlockMethods();
+          final Block block = blockMethods.getBlockByHash()
+              .invoke(Arrays.<Object>asList(anyBlockHash));
+          final Block cached = blockMethods.getBlockByHash()
+              .invoke(Arrays.<Object>asList(block.getHash()));
+          assertEquals(block, cached);
+          verify(mockBlockingStub, times(1)).getBlock(any(Rpc.SingleBytes.class));
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
   @Test
   public void testSubscribeBlockMetadata() {
     runOnOtherThread(new Runnable() {
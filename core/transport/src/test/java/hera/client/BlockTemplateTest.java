@@ -6,19 +6,23 @@ package hera.client;
 
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.Futures;
 import hera.AbstractTestCase;
 import hera.Context;
 import hera.ContextStorage;
 import hera.EmptyContext;
 import hera.Invocation;
 import hera.Requester;
+import hera.api.AsyncBlockOperation;
 import hera.api.model.Block;
 import hera.api.model.BlockMetadata;
 import hera.api.model.StreamObserver;
 import hera.api.model.Subscription;
+import java.util.Iterator;
 import java.util.List;
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
@@ -118,6 +122,25 @@ public class BlockTemplateTest extends AbstractTestCase {
     assertEquals(expected, actual);
   }
 
+  @Test
+  public void testGetBlocks() throws Exception {
+    // given
+    final BlockTemplate blockTemplate = new BlockTemplate(contextStorage);
+    final AsyncBlockOperation mockOperation = mock(AsyncBlockOperation.class);
+    final Block expected = Block.newBuilder().build();
+    when(mockOperation.getBlock(anyLong())).thenReturn(Futures.immediateFuture(expected));
+    blockTemplate.asyncBlockOperation = mockOperation;
+
+    // then
+    final Iterator<Block> iterator = blockTemplate.getBlocks(anyHeight, anyHeight + 2, 2, 2);
+    int count = 0;
+    while (iterator.hasNext()) {
+      assertEquals(expected, iterator.next());
+      ++count;
+    }
+    assertEquals(3, count);
+  }
+
   @Test
   public void testSubscribeBlockMetadata() throws Exception {
     // given
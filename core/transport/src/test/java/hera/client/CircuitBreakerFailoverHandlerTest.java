@@ -0,0 +1,162 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static java.util.UUID.randomUUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import hera.AbstractTestCase;
+import hera.RequestMethod;
+import hera.Response;
+import hera.api.model.HostnameAndPort;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import types.AergoRPCServiceGrpc;
+import types.Blockchain;
+import types.Rpc;
+
+public class CircuitBreakerFailoverHandlerTest extends AbstractTestCase {
+
+  protected final HostnameAndPort endpoint = HostnameAndPort.of("localhost:7845");
+
+  protected final CircuitBreakerConfig config = CircuitBreakerConfig.newBuilder()
+      .windowSize(2)
+      .minimumCalls(2)
+      .build();
+
+  protected final MethodDescriptor<Rpc.Empty, Rpc.BlockchainStatus> method =
+      AergoRPCServiceGrpc.getBlockchainMethod();
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldFailFastOnOpenCircuit() {
+    // given
+    final CircuitBreakerFailoverHandler handler = new CircuitBreakerFailoverHandler(config, 0);
+    final ClientInterceptor interceptor = handler.interceptorFor(endpoint);
+    final Channel channel = mock(Channel.class);
+    final ClientCall<Rpc.Empty, Rpc.BlockchainStatus> call = mock(ClientCall.class);
+    when(channel.newCall(any(MethodDescriptor.class), any(CallOptions.class))).thenReturn(call);
+
+    // when : fail twice on a node
+    for (int i = 0; i < 2; ++i) {
+      final ClientCall.Listener<Rpc.BlockchainStatus> listener = mock(ClientCall.Listener.class);
+      interceptor.interceptCall(method, CallOptions.DEFAULT, channel)
+          .start(listener, new Metadata());
+      final ArgumentCaptor<ClientCall.Listener<Rpc.BlockchainStatus>> captor =
+          ArgumentCaptor.forClass(ClientCall.Listener.class);
+      verify(call, times(i + 1)).start(captor.capture(),
+          any(Metadata.class));
+      captor.getValue().onClose(Status.UNAVAILABLE, new Metadata());
+    }
+
+    // then
+    final ClientCall.Listener<Rpc.BlockchainStatus> listener = mock(ClientCall.Listener.class);
+    interceptor.interceptCall(method, CallOptions.DEFAULT, channel)
+        .start(listener, new Metadata());
+    final ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+    verify(listener).onClose(status.capture(), any(Metadata.class));
+    assertEquals(Status.Code.UNAVAILABLE, status.getValue().getCode());
+    assertTrue(status.getValue().getCause() instanceof CircuitOpenException);
+    verify(channel, times(2))
+        .newCall(any(MethodDescriptor.class), any(CallOptions.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldNotBreakStream() {
+    // given
+    final CircuitBreakerFailoverHandler handler = new CircuitBreakerFailoverHandler(config, 0);
+    final ClientInterceptor interceptor = handler.interceptorFor(endpoint);
+    final Channel channel = mock(Channel.class);
+    final MethodDescriptor<Rpc.Empty, Blockchain.Block> stream =
+        AergoRPCServiceGrpc.getListBlockStreamMethod();
+
+    // when
+    interceptor.interceptCall(stream, CallOptions.DEFAULT, channel);
+
+    // then
+    verify(channel).newCall(stream, CallOptions.DEFAULT);
+    verify(channel, never()).newCall(method, CallOptions.DEFAULT);
+  }
+
+  @Test
+  public void shouldRetryExcludingOpenEndpoint() {
+    // given
+    final CircuitBreakerFailoverHandler handler = new CircuitBreakerFailoverHandler(config, 1);
+    final String expected = randomUUID().toString();
+    final List<Set<HostnameAndPort>> seen = new ArrayList<>();
+    final RequestMethod<Object> requestMethod = new RequestMethod<Object>() {
+
+      @Getter
+      protected final String name = randomUUID().toString();
+
+      @Override
+      protected Object runInternal(List<Object> parameters) throws Exception {
+        seen.add(CircuitBreakerFailoverHandler.EXCLUDED_ENDPOINTS.get());
+        return expected;
+      }
+    };
+    final Exception open = Status.UNAVAILABLE
+        .withCause(new CircuitOpenException(endpoint, method.getFullMethodName()))
+        .asRuntimeException();
+
+    // when
+    final Response<Object> handled = handler.handle(new TestInvocation<>(requestMethod),
+        Response.fail(open));
+
+    // then
+    assertEquals(expected, handled.getValue());
+    assertEquals(1, seen.size());
+    assertTrue(seen.get(0).contains(endpoint));
+    assertNull(CircuitBreakerFailoverHandler.EXCLUDED_ENDPOINTS.get());
+  }
+
+  @Test
+  public void shouldNotHandleOtherError() {
+    // given
+    final CircuitBreakerFailoverHandler handler = new CircuitBreakerFailoverHandler(config, 1);
+    final RequestMethod<Object> requestMethod = new RequestMethod<Object>() {
+
+      @Getter
+      protected final String name = randomUUID().toString();
+
+      @Override
+      protected Object runInternal(List<Object> parameters) throws Exception {
+        throw new UnsupportedOperationException();
+      }
+    };
+
+    // when
+    final Response<Object> handled = handler.handle(new TestInvocation<>(requestMethod),
+        Response.fail((Exception) Status.UNAVAILABLE.asRuntimeException()));
+
+    // then
+    assertNotNull(handled.getError());
+    assertEquals(Status.UNAVAILABLE.getCode(),
+        ((StatusRuntimeException) handled.getError()).getStatus().getCode());
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import hera.AbstractTestCase;
+import hera.api.model.Time;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class CircuitBreakerTest extends AbstractTestCase {
+
+  protected static final long SECOND = 1000000000L;
+
+  protected final CircuitBreakerConfig config = CircuitBreakerConfig.newBuilder()
+      .windowSize(4)
+      .minimumCalls(4)
+      .failureRateThreshold(0.5)
+      .slowCallRateThreshold(1.0)
+      .openDuration(Time.of(1L, TimeUnit.SECONDS))
+      .halfOpenCalls(2)
+      .build();
+
+  @Test
+  public void shouldOpenOnFailureRate() {
+    final CircuitBreaker breaker = new CircuitBreaker(config);
+    breaker.record(false, false, 0L);
+    breaker.record(true, false, 0L);
+    breaker.record(false, false, 0L);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+    breaker.record(true, false, 0L);
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    assertFalse(breaker.tryAcquire(SECOND / 2));
+  }
+
+  @Test
+  public void shouldOpenOnSlowCallRate() {
+    final CircuitBreaker breaker = new CircuitBreaker(config);
+    for (int i = 0; i < 4; ++i) {
+      breaker.record(false, true, 0L);
+    }
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+  }
+
+  @Test
+  public void shouldSlideWindow() {
+    final CircuitBreaker breaker = new CircuitBreaker(config);
+    breaker.record(true, false, 0L);
+    for (int i = 0; i < 8; ++i) {
+      breaker.record(false, false, 0L);
+    }
+    breaker.record(true, false, 0L);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  public void shouldCloseAfterHalfOpenSuccess() {
+    final CircuitBreaker breaker = new CircuitBreaker(config);
+    for (int i = 0; i < 4; ++i) {
+      breaker.record(true, false, 0L);
+    }
+    assertTrue(breaker.tryAcquire(SECOND));
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    assertTrue(breaker.tryAcquire(SECOND));
+    assertFalse(breaker.tryAcquire(SECOND));
+
+    breaker.record(false, false, SECOND);
+    breaker.record(false, false, SECOND);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    assertTrue(breaker.tryAcquire(SECOND));
+  }
+
+  @Test
+  public void shouldReopenAfterHalfOpenFailure() {
+    final CircuitBreaker breaker = new CircuitBreaker(config);
+    for (int i = 0; i < 4; ++i) {
+      breaker.record(true, false, 0L);
+    }
+    assertTrue(breaker.tryAcquire(SECOND));
+    assertTrue(breaker.tryAcquire(SECOND));
+    breaker.record(true, false, SECOND);
+    breaker.record(false, false, SECOND);
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    assertFalse(breaker.tryAcquire(SECOND + 1L));
+  }
+
+  @Test
+  public void shouldJudgeHalfOpenSlowCallsBySlowCallRate() {
+    final CircuitBreaker breaker = new CircuitBreaker(config);
+    for (int i = 0; i < 4; ++i) {
+      breaker.record(true, false, 0L);
+    }
+    assertTrue(breaker.tryAcquire(SECOND));
+    assertTrue(breaker.tryAcquire(SECOND));
+    // a slow probe isn't a failure and a slow call rate is under its threshold
+    breaker.record(false, true, SECOND);
+    breaker.record(false, false, SECOND);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static hera.client.Methods.ACCOUNT_STATE;
+import static hera.client.Methods.BLOCK_BY_HEIGHT;
+import static hera.client.Methods.TRANSACTION_COMMIT;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import hera.AbstractTestCase;
+import hera.Invocation;
+import hera.RequestMethod;
+import hera.exception.HerajException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+public class CoalescingStrategyTest extends AbstractTestCase {
+
+  protected final ExecutorService executor = Executors.newCachedThreadPool();
+
+  protected final AtomicInteger calls = new AtomicInteger(0);
+
+  protected final CountDownLatch release = new CountDownLatch(1);
+
+  protected RequestMethod<String> newMethod(final String name, final boolean failing) {
+    return newMethod(name, failing ? new IllegalStateException("Failed") : null);
+  }
+
+  // blocks until released and throws error if any
+  protected RequestMethod<String> newMethod(final String name, final RuntimeException error) {
+    return new RequestMethod<String>() {
+
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      protected String runInternal(final List<Object> parameters) throws Exception {
+        calls.incrementAndGet();
+        release.await(5L, TimeUnit.SECONDS);
+        if (null != error) {
+          throw error;
+        }
+        return "result-" + parameters;
+      }
+    };
+  }
+
+  protected Future<String> submit(final Invocation<String> invocation) {
+    return executor.submit(new Callable<String>() {
+      @Override
+      public String call() throws Exception {
+        return invocation.invoke();
+      }
+    });
+  }
+
+  protected void awaitInFlight(final CoalescingStrategy strategy, final int expected)
+      throws InterruptedException {
+    while (strategy.inFlight.size() != expected || calls.get() != expected) {
+      Thread.sleep(10L);
+    }
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void shouldShareInFlightResult() throws Exception {
+    final CoalescingStrategy strategy = new CoalescingStrategy(singleton(ACCOUNT_STATE));
+    final RequestMethod<String> method = newMethod(ACCOUNT_STATE, false);
+
+    final Future<String> first = submit(strategy.apply(method.toInvocation(asList((Object) 1))));
+    awaitInFlight(strategy, 1);
+    final Future<String> second = submit(strategy.apply(method.toInvocation(asList((Object) 1))));
+    Thread.sleep(50L);
+    release.countDown();
+
+    assertEquals("result-[1]", first.get());
+    assertEquals("result-[1]", second.get());
+    assertEquals(1, calls.get());
+    assertTrue(strategy.inFlight.isEmpty());
+  }
+
+  @Test
+  public void shouldNotShareOnDifferentParameters() throws Exception {
+    final CoalescingStrategy strategy = new CoalescingStrategy(singleton(ACCOUNT_STATE));
+    final RequestMethod<String> method = newMethod(ACCOUNT_STATE, false);
+
+    final Future<String> first = submit(strategy.apply(method.toInvocation(asList((Object) 1))));
+    final Future<String> second = submit(strategy.apply(method.toInvocation(asList((Object) 2))));
+    awaitInFlight(strategy, 2);
+    release.countDown();
+
+    assertEquals("result-[1]", first.get());
+    assertEquals("result-[2]", second.get());
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void shouldShareInFlightError() throws Exception {
+    final CoalescingStrategy strategy = new CoalescingStrategy(singleton(ACCOUNT_STATE));
+    final RequestMethod<String> method = newMethod(ACCOUNT_STATE, true);
+
+    final Future<String> first = submit(strategy.apply(method.toInvocation()));
+    awaitInFlight(strategy, 1);
+    final Future<String> second = submit(strategy.apply(method.toInvocation()));
+    Thread.sleep(50L);
+    release.countDown();
+
+    Throwable leaderError = null;
+    try {
+      first.get();
+      fail();
+    } catch (ExecutionException e) {
+      leaderError = e.getCause();
+      assertTrue(leaderError instanceof IllegalStateException);
+    }
+    try {
+      second.get();
+      fail();
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof HerajException);
+      assertSame(leaderError, e.getCause().getCause());
+    }
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void shouldShareInFlightNodeFailureInSameType() throws Exception {
+    final CoalescingStrategy strategy = new CoalescingStrategy(singleton(ACCOUNT_STATE));
+    final RequestMethod<String> method = newMethod(ACCOUNT_STATE,
+        Status.UNAVAILABLE.withDescription("Unavailable").asRuntimeException());
+
+    final Future<String> first = submit(strategy.apply(method.toInvocation()));
+    awaitInFlight(strategy, 1);
+    final Future<String> second = submit(strategy.apply(method.toInvocation()));
+    Thread.sleep(50L);
+    release.countDown();
+
+    Throwable leaderError = null;
+    try {
+      first.get();
+      fail();
+    } catch (ExecutionException e) {
+      leaderError = e.getCause();
+    }
+    try {
+      second.get();
+      fail();
+    } catch (ExecutionException e) {
+      final Throwable followerError = e.getCause();
+      assertNotSame(leaderError, followerError);
+      assertTrue(followerError instanceof StatusRuntimeException);
+      assertEquals(Status.Code.UNAVAILABLE,
+          ((StatusRuntimeException) followerError).getStatus().getCode());
+      assertTrue(GrpcNode.isNodeFailure(followerError));
+    }
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void shouldNotCoalesceOtherMethod() {
+    final CoalescingStrategy strategy = new CoalescingStrategy(singleton(ACCOUNT_STATE));
+    final Invocation<String> invocation = newMethod(BLOCK_BY_HEIGHT, false).toInvocation();
+    assertSame(invocation, strategy.apply(invocation));
+  }
+
+  @Test(expected = HerajException.class)
+  public void shouldNotCoalesceCommit() {
+    new CoalescingStrategy(singleton(TRANSACTION_COMMIT));
+  }
+
+}
@@ -8,9 +8,13 @@ import static hera.client.ClientContextKeys.GRPC_AFTER_FAILURE;
 import static hera.client.ClientContextKeys.GRPC_AFTER_SUCCESS;
 import static hera.client.ClientContextKeys.GRPC_BEFORE_REQUEST;
 import static hera.client.ClientContextKeys.GRPC_FAILOVER_HANDLER_CHAIN;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_METRICS;
+import static hera.client.ClientContextKeys.GRPC_REQUEST_RETRY_BUDGET;
 import static hera.client.ClientContextKeys.GRPC_REQUEST_TIMEOUT;
 import static java.util.UUID.randomUUID;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import hera.AbstractTestCase;
@@ -23,6 +27,7 @@ import hera.RequestMethod;
 import hera.Requester;
 import hera.Response;
 import hera.strategy.InvocationStrategy;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.Test;
 
@@ -171,4 +176,102 @@ public class DecoratingRequesterTest extends AbstractTestCase {
     });
   }
 
+  @Test
+  public void shouldKeepStackTraceOfErrorOnCallerThread() throws Exception {
+    final Requester requester = new DecoratingRequester();
+    final TestInvocation<String> invocation = new TestInvocation<>(new RequestMethod<String>() {
+      @Override
+      public String getName() {
+        return randomUUID().toString();
+      }
+
+      @Override
+      protected String runInternal(final List<Object> parameters) throws Exception {
+        throw new IllegalStateException();
+      }
+    });
+
+    try {
+      requester.request(invocation);
+      fail("Should throw exception");
+    } catch (Exception actual) {
+      for (final StackTraceElement element : actual.getStackTrace()) {
+        assertNotEquals(DecoratingRequester.ORIGIN_LINE, element.getMethodName());
+      }
+    }
+  }
+
+  @Test
+  public void shouldAppendCallerStackTraceOfErrorOnOtherThread() throws Exception {
+    final Requester requester = new DecoratingRequester();
+    final Exception expected = new IllegalStateException();
+    final int originLength = expected.getStackTrace().length;
+    final TestInvocation<String> invocation = new TestInvocation<>(new RequestMethod<String>() {
+      @Override
+      public String getName() {
+        return randomUUID().toString();
+      }
+
+      @Override
+      protected String runInternal(final List<Object> parameters) throws Exception {
+        throw expected;
+      }
+    });
+
+    try {
+      requester.request(invocation);
+      fail("Should throw exception");
+    } catch (Exception actual) {
+      assertTrue(originLength < actual.getStackTrace().length);
+    }
+  }
+
+  @Test
+  public void shouldApplyMetricsAndRetryBudgetWithGenericHooks() throws Exception {
+    final List<String> applied = new ArrayList<>();
+    final Context hooked = EmptyContext.getInstance()
+        .withValue(GRPC_REQUEST_METRICS, new RecordingStrategy("metrics", applied))
+        .withValue(GRPC_REQUEST_RETRY_BUDGET, new RecordingStrategy("retry budget", applied))
+        .withValue(GRPC_BEFORE_REQUEST, new RecordingStrategy("before", applied))
+        .withValue(GRPC_AFTER_SUCCESS, new RecordingStrategy("after success", applied));
+
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          ContextHolder.attach(hooked);
+          final Requester requester = new DecoratingRequester();
+          requester.request(new TestInvocation<>(TestRequestMethod.success("value")));
+          assertEquals(4, applied.size());
+          assertTrue(applied.contains("metrics"));
+          assertTrue(applied.contains("retry budget"));
+          assertTrue(applied.contains("before"));
+          assertTrue(applied.contains("after success"));
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
+  private static class RecordingStrategy implements InvocationStrategy {
+
+    protected final String name;
+
+    protected final List<String> applied;
+
+    RecordingStrategy(final String name, final List<String> applied) {
+      this.name = name;
+      this.applied = applied;
+    }
+
+    @Override
+    public <T> Invocation<T> apply(final Invocation<T> invocation) {
+      applied.add(name);
+      return invocation;
+    }
+  }
+
 }
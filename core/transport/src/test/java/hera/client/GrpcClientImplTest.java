@@ -4,12 +4,19 @@
 
 package hera.client;
 
+import static hera.client.ClientContextKeys.GRPC_CONNECTION_POOL_SIZE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import hera.AbstractTestCase;
+import hera.Context;
+import hera.ContextHolder;
+import hera.EmptyContext;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -53,6 +60,33 @@ public class GrpcClientImplTest extends AbstractTestCase {
         streamStubMap.size());
   }
 
+  @Test
+  public void shouldSpreadUnaryCallsOverChannelPool() throws Throwable {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        final int poolSize = 3;
+        final Context context = EmptyContext.getInstance()
+            .withValue(GRPC_CONNECTION_POOL_SIZE, poolSize);
+        ContextHolder.attach(context);
+        final GrpcClientImpl grpcClient = new GrpcClientImpl();
+        try {
+          final Set<Object> unaryChannels = new HashSet<>();
+          for (int i = 0; i < 2 * poolSize; ++i) {
+            unaryChannels.add(grpcClient.getBlockingStub().getChannel());
+            unaryChannels.add(grpcClient.getFutureStub().getChannel());
+          }
+          assertEquals(poolSize, unaryChannels.size());
+          assertFalse(unaryChannels.contains(grpcClient.getStreamStub().getChannel()));
+          assertEquals(poolSize + 1, grpcClient.channels.size());
+        } finally {
+          grpcClient.close();
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
   @Test
   public void testClose() {
     final GrpcClientImpl grpcClient = new GrpcClientImpl();
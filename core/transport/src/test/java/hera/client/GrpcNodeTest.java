@@ -0,0 +1,68 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import hera.AbstractTestCase;
+import hera.api.model.HostnameAndPort;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import types.AergoRPCServiceGrpc;
+
+public class GrpcNodeTest extends AbstractTestCase {
+
+  @Test
+  public void testIsNodeFailure() {
+    assertTrue(GrpcNode.isNodeFailure(Status.UNAVAILABLE.asRuntimeException()));
+    assertTrue(GrpcNode.isNodeFailure(Status.DEADLINE_EXCEEDED.asRuntimeException()));
+    assertTrue(GrpcNode.isNodeFailure(new TimeoutException()));
+    assertFalse(GrpcNode.isNodeFailure(Status.INVALID_ARGUMENT.asRuntimeException()));
+    assertFalse(GrpcNode.isNodeFailure(new UnsupportedOperationException()));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Test
+  public void shouldTrackOutstandingAndEject() {
+    // given
+    final GrpcNode node = new GrpcNode(HostnameAndPort.of("localhost:7845"));
+    final Channel channel = mock(Channel.class);
+    final ClientCall<Object, Object> call = mock(ClientCall.class);
+    when(channel.newCall(any(MethodDescriptor.class), any(CallOptions.class)))
+        .thenReturn((ClientCall) call);
+
+    // when
+    final ClientCall<Object, Object> intercepted = (ClientCall) node.interceptCall(
+        AergoRPCServiceGrpc.getBlockchainMethod(), CallOptions.DEFAULT, channel);
+    intercepted.start(mock(ClientCall.Listener.class), new Metadata());
+    assertEquals(1, node.getOutstandingRequests());
+
+    // then
+    final ArgumentCaptor<ClientCall.Listener> captor =
+        ArgumentCaptor.forClass(ClientCall.Listener.class);
+    Mockito.verify(call).start(captor.capture(), any(Metadata.class));
+    captor.getValue().onClose(Status.UNAVAILABLE, new Metadata());
+    assertEquals(0, node.getOutstandingRequests());
+    assertFalse(node.isHealthy());
+
+    node.markHealthy(3L);
+    assertTrue(node.isHealthy());
+    assertEquals(3L, node.getBestHeight());
+  }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import hera.AbstractTestCase;
+import hera.api.function.Function1;
+import hera.api.model.StreamObserver;
+import hera.exception.HerajException;
+import hera.transport.ModelConverter;
+import io.grpc.stub.ClientCallStreamObserver;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import org.junit.Test;
+
+public class GrpcStreamObserverAdaptorTest extends AbstractTestCase {
+
+  private static class ManualExecutor implements Executor {
+
+    protected final Queue<Runnable> tasks = new LinkedList<>();
+
+    @Override
+    public void execute(final Runnable command) {
+      tasks.add(command);
+    }
+
+    void runAll() {
+      while (!tasks.isEmpty()) {
+        tasks.poll().run();
+      }
+    }
+  }
+
+  private static class RecordingObserver implements StreamObserver<String> {
+
+    protected final List<String> received = new ArrayList<>();
+
+    protected Throwable error;
+
+    protected boolean completed = false;
+
+    @Override
+    public void onNext(final String value) {
+      received.add(value);
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      this.error = t;
+    }
+
+    @Override
+    public void onCompleted() {
+      this.completed = true;
+    }
+  }
+
+  protected final ModelConverter<String, String> converter = new ModelConverter<>(
+      new Function1<String, String>() {
+        @Override
+        public String apply(final String s) {
+          return s;
+        }
+      },
+      new Function1<String, String>() {
+        @Override
+        public String apply(final String s) {
+          return s;
+        }
+      });
+
+  protected final io.grpc.Context.CancellableContext context = io.grpc.Context.current()
+      .withCancellation();
+
+  protected final ManualExecutor executor = new ManualExecutor();
+
+  protected final RecordingObserver observer = new RecordingObserver();
+
+  @SuppressWarnings("unchecked")
+  protected final ClientCallStreamObserver<Object> requestStream =
+      mock(ClientCallStreamObserver.class);
+
+  @Test
+  public void shouldRequestOnlyWhatBufferHolds() {
+    // given
+    final GrpcStreamObserverAdaptor<String, String> adaptor = new GrpcStreamObserverAdaptor<>(
+        context, observer, converter, 2, OverflowPolicy.BLOCK, executor);
+
+    // when
+    adaptor.beforeStart(requestStream);
+    adaptor.onNext("1");
+    adaptor.onNext("2");
+
+    // then
+    verify(requestStream).disableAutoInboundFlowControl();
+    verify(requestStream).request(1);
+    assertEquals(0, adaptor.requested);
+
+    // when
+    executor.runAll();
+
+    // then
+    assertEquals(asList("1", "2"), observer.received);
+    assertEquals(2, adaptor.requested);
+  }
+
+  @Test
+  public void shouldDropOldestOnOverflow() {
+    // given
+    final GrpcStreamObserverAdaptor<String, String> adaptor = new GrpcStreamObserverAdaptor<>(
+        context, observer, converter, 2, OverflowPolicy.DROP_OLDEST, executor);
+
+    // when
+    adaptor.beforeStart(requestStream);
+    adaptor.onNext("1");
+    adaptor.onNext("2");
+    adaptor.onNext("3");
+    adaptor.onCompleted();
+    executor.runAll();
+
+    // then
+    verify(requestStream, never()).disableAutoInboundFlowControl();
+    verify(requestStream, never()).request(anyInt());
+    assertEquals(asList("2", "3"), observer.received);
+    assertTrue(observer.completed);
+  }
+
+  @Test
+  public void shouldFailOnOverflow() {
+    // given
+    final GrpcStreamObserverAdaptor<String, String> adaptor = new GrpcStreamObserverAdaptor<>(
+        context, observer, converter, 2, OverflowPolicy.FAIL, executor);
+
+    // when
+    adaptor.beforeStart(requestStream);
+    adaptor.onNext("1");
+    adaptor.onNext("2");
+    adaptor.onNext("3");
+    adaptor.onError(new IllegalStateException("Cancelled by overflow"));
+    executor.runAll();
+
+    // then
+    assertTrue(context.isCancelled());
+    assertEquals(0, observer.received.size());
+    assertTrue(observer.error instanceof HerajException);
+  }
+
+  @Test
+  public void shouldFailOnObserverError() {
+    // given
+    final StreamObserver<String> failing = new RecordingObserver() {
+      @Override
+      public void onNext(final String value) {
+        throw new UnsupportedOperationException();
+      }
+    };
+    final GrpcStreamObserverAdaptor<String, String> adaptor = new GrpcStreamObserverAdaptor<>(
+        context, failing, converter, 2, OverflowPolicy.BLOCK, executor);
+
+    // when
+    adaptor.beforeStart(requestStream);
+    adaptor.onNext("1");
+    executor.runAll();
+
+    // then
+    assertTrue(context.isCancelled());
+    assertTrue(((RecordingObserver) failing).error instanceof UnsupportedOperationException);
+  }
+
+}
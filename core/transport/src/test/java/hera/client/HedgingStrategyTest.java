@@ -0,0 +1,118 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static hera.client.Methods.ACCOUNT_STATE;
+import static hera.client.Methods.TRANSACTION_COMMIT;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import hera.AbstractTestCase;
+import hera.Invocation;
+import hera.RequestMethod;
+import hera.api.model.Time;
+import hera.exception.HerajException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class HedgingStrategyTest extends AbstractTestCase {
+
+  protected final AtomicInteger attempts = new AtomicInteger(0);
+
+  protected final AtomicInteger cancelled = new AtomicInteger(0);
+
+  // the first attempt hangs until cancelled
+  protected RequestMethod<String> newMethod(final String name, final boolean slowFirst) {
+    return new RequestMethod<String>() {
+
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      protected String runInternal(final List<Object> parameters) throws Exception {
+        final int attempt = attempts.incrementAndGet();
+        if (slowFirst && 1 == attempt) {
+          final long deadline = System.currentTimeMillis() + 5000L;
+          while (System.currentTimeMillis() < deadline) {
+            if (io.grpc.Context.current().isCancelled()) {
+              cancelled.incrementAndGet();
+              throw new IllegalStateException("Cancelled");
+            }
+            Thread.sleep(10L);
+          }
+          return "primary";
+        }
+        return "attempt-" + attempt;
+      }
+    };
+  }
+
+  protected HedgingStrategy newStrategy(final int budget) {
+    return new HedgingStrategy(singleton(ACCOUNT_STATE), Time.of(50L, TimeUnit.MILLISECONDS),
+        0.0, new RetryBudget(0.1, budget));
+  }
+
+  @Test
+  public void shouldNotHedgeFastRequest() throws Exception {
+    final Invocation<String> invocation = newStrategy(10)
+        .apply(newMethod(ACCOUNT_STATE, false).toInvocation());
+    assertEquals("attempt-1", invocation.invoke());
+    Thread.sleep(100L);
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  public void shouldTakeHedgeAndCancelPrimary() throws Exception {
+    final Invocation<String> invocation = newStrategy(10)
+        .apply(newMethod(ACCOUNT_STATE, true).toInvocation());
+    final long start = System.currentTimeMillis();
+    assertEquals("attempt-2", invocation.invoke());
+    assertTrue(System.currentTimeMillis() - start < 3000L);
+    assertEquals(1, cancelled.get());
+  }
+
+  @Test
+  public void shouldNotHedgeOverBudget() throws Exception {
+    final HedgingStrategy strategy = newStrategy(1);
+    strategy.budget.tryWithdraw();
+    final Invocation<String> invocation = strategy
+        .apply(newMethod(ACCOUNT_STATE, true).toInvocation());
+    assertEquals("primary", invocation.invoke());
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  public void shouldNotHedgeAfterClosed() throws Exception {
+    final HedgingStrategy strategy = newStrategy(10);
+    strategy.close();
+    final Invocation<String> invocation = strategy
+        .apply(newMethod(ACCOUNT_STATE, true).toInvocation());
+    assertEquals("primary", invocation.invoke());
+    assertEquals(1, attempts.get());
+    assertTrue(strategy.executor.isShutdown());
+  }
+
+  @Test
+  public void shouldNotHedgeStateChangingMethod() {
+    try {
+      new HedgingStrategy(singleton(TRANSACTION_COMMIT), Time.of(50L, TimeUnit.MILLISECONDS),
+          0.0, new RetryBudget(0.1, 10));
+      fail();
+    } catch (HerajException e) {
+      // good we expected this
+    }
+
+    final Invocation<String> invocation = newMethod(TRANSACTION_COMMIT, false).toInvocation();
+    assertSame(invocation, newStrategy(10).apply(invocation));
+  }
+
+}
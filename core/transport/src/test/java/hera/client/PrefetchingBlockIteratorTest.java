@@ -0,0 +1,163 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import hera.AbstractTestCase;
+import hera.api.AsyncBlockOperation;
+import hera.api.model.Block;
+import hera.api.model.BlockHash;
+import hera.api.model.BlockHeader;
+import hera.api.model.BlockMetadata;
+import hera.exception.HerajException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.Test;
+
+public class PrefetchingBlockIteratorTest extends AbstractTestCase {
+
+  private static class TestBlockOperation implements AsyncBlockOperation {
+
+    protected final Map<Long, SettableFuture<Block>> requested = new ConcurrentHashMap<>();
+
+    @Override
+    public ListenableFuture<Block> getBlock(final long height) {
+      final SettableFuture<Block> future = SettableFuture.create();
+      requested.put(height, future);
+      return future;
+    }
+
+    @Override
+    public ListenableFuture<Block> getBlock(final BlockHash blockHash) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ListenableFuture<BlockMetadata> getBlockMetadata(final BlockHash blockHash) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ListenableFuture<BlockMetadata> getBlockMetadata(final long height) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ListenableFuture<List<BlockMetadata>> listBlockMetadatas(final BlockHash blockHash,
+        final int size) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ListenableFuture<List<BlockMetadata>> listBlockMetadatas(final long height,
+        final int size) {
+      throw new UnsupportedOperationException();
+    }
+
+    void complete(final long height) {
+      requested.get(height).set(Block.newBuilder()
+          .blockHeader(BlockHeader.newBuilder().blockNumber(height).build())
+          .build());
+    }
+  }
+
+  @Test
+  public void shouldReturnInHeightOrder() {
+    // given
+    final TestBlockOperation blockOperation = new TestBlockOperation();
+    final PrefetchingBlockIterator iterator = new PrefetchingBlockIterator(blockOperation, 10L,
+        19L, 3, 5);
+    synchronized (iterator.lock) {
+      iterator.listen(iterator.fill());
+    }
+
+    // then : complete in reverse order every time
+    for (long height = 10L; height <= 19L; ++height) {
+      assertTrue(iterator.hasNext());
+      final List<Long> pending = new ArrayList<>();
+      for (final Entry<Long, SettableFuture<Block>> entry : blockOperation.requested.entrySet()) {
+        if (!entry.getValue().isDone()) {
+          pending.add(entry.getKey());
+        }
+      }
+      Collections.sort(pending, Collections.reverseOrder());
+      for (final Long pendingHeight : pending) {
+        blockOperation.complete(pendingHeight);
+      }
+      assertEquals(height, iterator.next().getBlockNumber());
+    }
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void shouldBoundRequestsByParallelismAndPrefetch() {
+    // given
+    final TestBlockOperation blockOperation = new TestBlockOperation();
+    final PrefetchingBlockIterator iterator = new PrefetchingBlockIterator(blockOperation, 0L,
+        100L, 2, 4);
+
+    // when : nothing is completed
+    synchronized (iterator.lock) {
+      iterator.listen(iterator.fill());
+    }
+
+    // then : only parallelism requests are in flight
+    assertEquals(2, blockOperation.requested.size());
+
+    // when : requests are completed but not consumed
+    blockOperation.complete(0L);
+    blockOperation.complete(1L);
+    blockOperation.complete(2L);
+    blockOperation.complete(3L);
+
+    // then : no more than prefetch are fetched ahead
+    assertEquals(4, blockOperation.requested.size());
+
+    // when : consume one
+    assertEquals(0L, iterator.next().getBlockNumber());
+
+    // then : a slot is released
+    assertEquals(5, blockOperation.requested.size());
+  }
+
+  @Test
+  public void shouldThrowErrorOfFailedRequest() {
+    // given
+    final TestBlockOperation blockOperation = new TestBlockOperation();
+    final PrefetchingBlockIterator iterator = new PrefetchingBlockIterator(blockOperation, 0L,
+        0L, 1, 1);
+    final HerajException expected = new HerajException("fail");
+    synchronized (iterator.lock) {
+      iterator.listen(iterator.fill());
+    }
+    blockOperation.requested.get(0L).setException(expected);
+
+    // then
+    try {
+      iterator.next();
+      fail();
+    } catch (HerajException e) {
+      assertEquals(expected, e);
+    }
+    try {
+      iterator.next();
+      fail();
+    } catch (NoSuchElementException e) {
+      // good we expected this
+    }
+  }
+
+}
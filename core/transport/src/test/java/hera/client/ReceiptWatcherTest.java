@@ -0,0 +1,346 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static java.util.Arrays.asList;
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.Futures;
+import hera.AbstractTestCase;
+import hera.api.AsyncBlockOperation;
+import hera.api.AsyncTransactionOperation;
+import hera.api.BlockOperation;
+import hera.api.model.Block;
+import hera.api.model.BlockHeader;
+import hera.api.model.BlockMetadata;
+import hera.api.model.BytesValue;
+import hera.api.model.StreamObserver;
+import hera.api.model.Subscription;
+import hera.api.model.Transaction;
+import hera.api.model.TxHash;
+import hera.api.model.TxReceipt;
+import io.grpc.Status;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class ReceiptWatcherTest extends AbstractTestCase {
+
+  protected final ExecutorService executor = Executors.newCachedThreadPool();
+
+  protected final BlockOperation blockOperation = mock(BlockOperation.class);
+
+  protected final AsyncBlockOperation asyncBlockOperation = mock(AsyncBlockOperation.class);
+
+  protected final AsyncTransactionOperation asyncTransactionOperation =
+      mock(AsyncTransactionOperation.class);
+
+  @SuppressWarnings("unchecked")
+  protected final Subscription<BlockMetadata> subscription = mock(Subscription.class);
+
+  protected final CountDownLatch subscribed = new CountDownLatch(1);
+
+  protected final AtomicInteger subscriptions = new AtomicInteger(0);
+
+  protected volatile StreamObserver<BlockMetadata> observer;
+
+  @SuppressWarnings("unchecked")
+  protected void givenSubscription() {
+    when(blockOperation.subscribeBlockMetadata(any(StreamObserver.class)))
+        .thenAnswer(new Answer<Subscription<BlockMetadata>>() {
+          @Override
+          public Subscription<BlockMetadata> answer(final InvocationOnMock invocation) {
+            observer = invocation.getArgument(0);
+            subscriptions.incrementAndGet();
+            subscribed.countDown();
+            return subscription;
+          }
+        });
+  }
+
+  protected BlockMetadata newBlockMetadata(final long height, final int txCount) {
+    return BlockMetadata.newBuilder()
+        .blockHeader(BlockHeader.newBuilder().blockNumber(height).build())
+        .txCount(txCount)
+        .build();
+  }
+
+  protected Block newBlock(final long height, final TxHash... txHashes) {
+    final Block.BlockBuilder builder = Block.newBuilder()
+        .blockHeader(BlockHeader.newBuilder().blockNumber(height).build());
+    final Transaction[] transactions = new Transaction[txHashes.length];
+    for (int i = 0; i < txHashes.length; ++i) {
+      transactions[i] = Transaction.newBuilder()
+          .rawTransaction(anyTransaction.getRawTransaction())
+          .signature(anyTransaction.getSignature())
+          .hash(txHashes[i])
+          .build();
+    }
+    return builder.transactions(asList(transactions)).build();
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void shouldFetchReceiptOnlyIfTxAppearsInBlock() throws Exception {
+    // given
+    givenSubscription();
+    final TxHash other = TxHash.of(BytesValue.of(randomUUID().toString().getBytes()));
+    final TxReceipt expected = TxReceipt.newBuilder().build();
+    when(asyncBlockOperation.getBlock(2L)).thenReturn(immediateFuture(newBlock(2L, other)));
+    when(asyncBlockOperation.getBlock(3L)).thenReturn(immediateFuture(newBlock(3L, anyTxHash)));
+    when(asyncTransactionOperation.getTxReceipt(anyTxHash))
+        .thenReturn(immediateFuture((TxReceipt) null), immediateFuture(expected));
+    final ReceiptWatcher watcher = new ReceiptWatcher(blockOperation, asyncBlockOperation,
+        asyncTransactionOperation, 1);
+
+    // when
+    final Future<List<TxReceipt>> future = executor.submit(new Callable<List<TxReceipt>>() {
+      @Override
+      public List<TxReceipt> call() {
+        return watcher.await(asList(anyTxHash), 10L, SECONDS);
+      }
+    });
+    subscribed.await();
+    observer.onNext(newBlockMetadata(1L, 0));
+    observer.onNext(newBlockMetadata(2L, 1));
+    observer.onNext(newBlockMetadata(3L, 1));
+
+    // then
+    assertEquals(asList(expected), future.get());
+    verify(asyncBlockOperation, never()).getBlock(1L);
+    verify(asyncTransactionOperation, never()).getTxReceipt(other);
+    verify(asyncTransactionOperation, times(2)).getTxReceipt(anyTxHash);
+    verify(subscription).unsubscribe();
+  }
+
+  @Test
+  public void shouldShareSubscription() throws Exception {
+    // given
+    givenSubscription();
+    final TxHash another = TxHash.of(BytesValue.of(randomUUID().toString().getBytes()));
+    final TxReceipt expected = TxReceipt.newBuilder().build();
+    when(asyncBlockOperation.getBlock(1L))
+        .thenReturn(immediateFuture(newBlock(1L, anyTxHash, another)));
+    when(asyncTransactionOperation.getTxReceipt(anyTxHash))
+        .thenReturn(immediateFuture((TxReceipt) null), immediateFuture(expected));
+    when(asyncTransactionOperation.getTxReceipt(another))
+        .thenReturn(immediateFuture((TxReceipt) null), immediateFuture(expected));
+    final ReceiptWatcher watcher = new ReceiptWatcher(blockOperation, asyncBlockOperation,
+        asyncTransactionOperation, 1);
+
+    // when
+    final Future<List<TxReceipt>> first = executor.submit(new Callable<List<TxReceipt>>() {
+      @Override
+      public List<TxReceipt> call() {
+        return watcher.await(asList(anyTxHash, another), 10L, SECONDS);
+      }
+    });
+    subscribed.await();
+    final Future<List<TxReceipt>> second = executor.submit(new Callable<List<TxReceipt>>() {
+      @Override
+      public List<TxReceipt> call() {
+        return watcher.await(asList(another), 10L, SECONDS);
+      }
+    });
+    while (2 != waitersOf(watcher, another)) {
+      Thread.sleep(10L);
+    }
+    observer.onNext(newBlockMetadata(1L, 2));
+
+    // then
+    assertEquals(asList(expected, expected), first.get());
+    assertEquals(asList(expected), second.get());
+    verify(blockOperation, times(1)).subscribeBlockMetadata(any(StreamObserver.class));
+    verify(asyncTransactionOperation, times(2)).getTxReceipt(another);
+    verify(subscription).unsubscribe();
+  }
+
+  @Test
+  public void shouldReturnNullIfNotArrived() {
+    // given
+    givenSubscription();
+    when(asyncBlockOperation.getBlock(anyLong()))
+        .thenReturn(immediateFuture(newBlock(1L)));
+    when(asyncTransactionOperation.getTxReceipt(anyTxHash))
+        .thenReturn(immediateFuture((TxReceipt) null));
+    final ReceiptWatcher watcher = new ReceiptWatcher(blockOperation, asyncBlockOperation,
+        asyncTransactionOperation, 1);
+
+    // when
+    final List<TxReceipt> receipts = watcher.await(asList(anyTxHash), 100L, MILLISECONDS);
+
+    // then
+    assertEquals(1, receipts.size());
+    assertNull(receipts.get(0));
+    assertEquals(Collections.emptyMap(), watcher.pending);
+    verify(subscription).unsubscribe();
+  }
+
+  @Test
+  public void shouldResubscribeAfterBackoff() throws Exception {
+    // given
+    givenSubscription();
+    final TxReceipt expected = TxReceipt.newBuilder().build();
+    when(asyncBlockOperation.getBlock(1L)).thenReturn(immediateFuture(newBlock(1L, anyTxHash)));
+    when(asyncTransactionOperation.getTxReceipt(anyTxHash))
+        .thenReturn(immediateFuture((TxReceipt) null), immediateFuture(expected));
+    final ReceiptWatcher watcher = new ReceiptWatcher(blockOperation, asyncBlockOperation,
+        asyncTransactionOperation, 1);
+
+    // when
+    final Future<List<TxReceipt>> future = executor.submit(new Callable<List<TxReceipt>>() {
+      @Override
+      public List<TxReceipt> call() {
+        return watcher.await(asList(anyTxHash), 10L, SECONDS);
+      }
+    });
+    subscribed.await();
+    final StreamObserver<BlockMetadata> closed = observer;
+    closed.onError(Status.UNAVAILABLE.asRuntimeException());
+
+    // then
+    assertEquals(1, subscriptions.get());
+    while (closed == observer) {
+      Thread.sleep(10L);
+    }
+    observer.onNext(newBlockMetadata(1L, 1));
+    assertEquals(asList(expected), future.get());
+    assertEquals(2, subscriptions.get());
+  }
+
+  @Test
+  public void shouldFetchReceiptAgainOnNextBlock() throws Exception {
+    // given
+    givenSubscription();
+    final TxReceipt expected = TxReceipt.newBuilder().build();
+    when(asyncBlockOperation.getBlock(1L)).thenReturn(immediateFuture(newBlock(1L, anyTxHash)));
+    when(asyncTransactionOperation.getTxReceipt(anyTxHash))
+        .thenReturn(
+            immediateFuture((TxReceipt) null),
+            Futures.<TxReceipt>immediateFailedFuture(Status.UNAVAILABLE.asRuntimeException()),
+            immediateFuture((TxReceipt) null),
+            immediateFuture(expected));
+    final ReceiptWatcher watcher = new ReceiptWatcher(blockOperation, asyncBlockOperation,
+        asyncTransactionOperation, 1);
+
+    // when
+    final Future<List<TxReceipt>> future = executor.submit(new Callable<List<TxReceipt>>() {
+      @Override
+      public List<TxReceipt> call() {
+        return watcher.await(asList(anyTxHash), 10L, SECONDS);
+      }
+    });
+    subscribed.await();
+    // not found on registration
+    while (isRequested(watcher, anyTxHash)) {
+      Thread.sleep(10L);
+    }
+    observer.onNext(newBlockMetadata(1L, 1));
+    observer.onNext(newBlockMetadata(2L, 0));
+    observer.onNext(newBlockMetadata(3L, 0));
+
+    // then
+    assertEquals(asList(expected), future.get());
+    verify(asyncTransactionOperation, times(4)).getTxReceipt(anyTxHash);
+  }
+
+  @Test
+  public void shouldFetchReceiptIncludedBeforeLookback() throws Exception {
+    // given
+    givenSubscription();
+    final TxReceipt expected = TxReceipt.newBuilder().build();
+    when(asyncTransactionOperation.getTxReceipt(anyTxHash)).thenReturn(immediateFuture(expected));
+    final ReceiptWatcher watcher = new ReceiptWatcher(blockOperation, asyncBlockOperation,
+        asyncTransactionOperation, 1);
+
+    // when
+    final List<TxReceipt> receipts = watcher.await(asList(anyTxHash), 10L, SECONDS);
+
+    // then
+    assertEquals(asList(expected), receipts);
+    verify(asyncBlockOperation, never()).getBlock(anyLong());
+    verify(asyncTransactionOperation, times(1)).getTxReceipt(anyTxHash);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldNotHoldLockWhileSubscribing() throws Exception {
+    // given
+    final CountDownLatch subscribing = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    when(blockOperation.subscribeBlockMetadata(any(StreamObserver.class)))
+        .thenAnswer(new Answer<Subscription<BlockMetadata>>() {
+          @Override
+          public Subscription<BlockMetadata> answer(final InvocationOnMock invocation)
+              throws InterruptedException {
+            subscribing.countDown();
+            release.await();
+            return subscription;
+          }
+        });
+    when(asyncTransactionOperation.getTxReceipt(any(TxHash.class)))
+        .thenReturn(immediateFuture((TxReceipt) null));
+    final ReceiptWatcher watcher = new ReceiptWatcher(blockOperation, asyncBlockOperation,
+        asyncTransactionOperation, 1);
+
+    // when
+    final Future<List<TxReceipt>> future = executor.submit(new Callable<List<TxReceipt>>() {
+      @Override
+      public List<TxReceipt> call() {
+        return watcher.await(asList(anyTxHash), 100L, MILLISECONDS);
+      }
+    });
+    subscribing.await();
+
+    // then
+    try {
+      final TxHash other = TxHash.of(BytesValue.of(randomUUID().toString().getBytes()));
+      assertEquals(asList((TxReceipt) null), watcher.await(asList(other), 0L, MILLISECONDS));
+    } finally {
+      release.countDown();
+    }
+    assertEquals(asList((TxReceipt) null), future.get());
+    verify(blockOperation, times(1)).subscribeBlockMetadata(any(StreamObserver.class));
+  }
+
+  protected int waitersOf(final ReceiptWatcher watcher, final TxHash txHash) {
+    synchronized (watcher.lock) {
+      return watcher.pending.get(txHash).waiters;
+    }
+  }
+
+  protected boolean isRequested(final ReceiptWatcher watcher, final TxHash txHash) {
+    synchronized (watcher.lock) {
+      final ReceiptWatcher.Waiting waiting = watcher.pending.get(txHash);
+      return null == waiting || waiting.requested;
+    }
+  }
+
+}
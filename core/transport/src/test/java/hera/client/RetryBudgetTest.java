@@ -0,0 +1,56 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import hera.AbstractTestCase;
+import hera.Invocation;
+import hera.RequestMethod;
+import java.util.List;
+import org.junit.Test;
+
+public class RetryBudgetTest extends AbstractTestCase {
+
+  @Test
+  public void shouldLimitRetriesToRatioOfSuccesses() throws Exception {
+    // given
+    final RetryBudget retryBudget = new RetryBudget(0.5, 1);
+    final RequestMethod<Integer> requestMethod = new RequestMethod<Integer>() {
+
+      @Override
+      public String getName() {
+        return "method";
+      }
+
+      @Override
+      protected Integer runInternal(List<Object> parameters) throws Exception {
+        return 0;
+      }
+    };
+    final Invocation<Integer> invocation = retryBudget.apply(requestMethod.toInvocation());
+
+    // then
+    assertTrue(retryBudget.tryWithdraw());
+    assertFalse(retryBudget.tryWithdraw());
+
+    // when
+    invocation.invoke();
+
+    // then
+    assertFalse(retryBudget.tryWithdraw());
+
+    // when
+    invocation.invoke();
+    invocation.invoke();
+    invocation.invoke();
+
+    // then : capped by capacity
+    assertTrue(retryBudget.tryWithdraw());
+    assertFalse(retryBudget.tryWithdraw());
+  }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import hera.AbstractTestCase;
+import hera.Context;
+import hera.ContextStorage;
+import hera.EmptyContext;
+import hera.Key;
+import org.junit.Test;
+
+public class ScopedContextsTest extends AbstractTestCase {
+
+  protected final Key<String> key = Key.of("key", String.class);
+
+  @Test
+  public void shouldReuseScopedContext() {
+    final Context context = EmptyContext.getInstance().withValue(key, "value");
+    final ScopedContexts scopedContexts =
+        new ScopedContexts(new UnmodifiableContextStorage(context));
+
+    final Context scoped = scopedContexts.get("method");
+
+    assertEquals("method", scoped.getScope());
+    assertEquals("value", scoped.get(key));
+    assertSame(scoped, scopedContexts.get("method"));
+    assertNotSame(scoped, scopedContexts.get("other"));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldMakeAgainOnChangedStorage() {
+    final ContextStorage<Context> contextStorage = mock(ContextStorage.class);
+    when(contextStorage.get())
+        .thenReturn(EmptyContext.getInstance().withValue(key, "before"))
+        .thenReturn(EmptyContext.getInstance().withValue(key, "after"));
+    final ScopedContexts scopedContexts = new ScopedContexts(contextStorage);
+
+    assertEquals("before", scopedContexts.get("method").get(key));
+    assertEquals("after", scopedContexts.get("method").get(key));
+  }
+
+}
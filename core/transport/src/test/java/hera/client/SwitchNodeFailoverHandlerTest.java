@@ -0,0 +1,127 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.client;
+
+import static hera.client.Methods.ACCOUNT_STATE;
+import static hera.client.Methods.TRANSACTION_COMMIT;
+import static java.util.UUID.randomUUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import hera.AbstractTestCase;
+import hera.RequestMethod;
+import hera.Response;
+import io.grpc.Status;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import org.junit.Test;
+
+public class SwitchNodeFailoverHandlerTest extends AbstractTestCase {
+
+  @Test
+  public void testHandle() {
+    // given
+    final SwitchNodeFailoverHandler failoverHandler = new SwitchNodeFailoverHandler(2);
+    final AtomicInteger invoked = new AtomicInteger(0);
+    final String expected = randomUUID().toString();
+    final RequestMethod<Object> requestMethod = new RequestMethod<Object>() {
+
+      @Getter
+      protected final String name = ACCOUNT_STATE;
+
+      @Override
+      protected Object runInternal(List<Object> parameters) throws Exception {
+        if (2 == invoked.incrementAndGet()) {
+          return expected;
+        }
+        throw Status.UNAVAILABLE.asRuntimeException();
+      }
+    };
+
+    // then
+    final Response<Object> response = Response.fail(Status.UNAVAILABLE.asRuntimeException());
+    final Response<Object> handled = failoverHandler
+        .handle(new TestInvocation<>(requestMethod), response);
+    assertEquals(expected, handled.getValue());
+    assertEquals(2, invoked.get());
+  }
+
+  @Test
+  public void shouldNotRetryOnRequestFailure() {
+    // given
+    final SwitchNodeFailoverHandler failoverHandler = new SwitchNodeFailoverHandler(2);
+    final AtomicInteger invoked = new AtomicInteger(0);
+    final RequestMethod<Object> requestMethod = new RequestMethod<Object>() {
+
+      @Getter
+      protected final String name = ACCOUNT_STATE;
+
+      @Override
+      protected Object runInternal(List<Object> parameters) throws Exception {
+        invoked.incrementAndGet();
+        return null;
+      }
+    };
+
+    // then
+    final Response<Object> response = Response.fail(Status.INVALID_ARGUMENT.asRuntimeException());
+    final Response<Object> handled = failoverHandler
+        .handle(new TestInvocation<>(requestMethod), response);
+    assertNotNull(handled.getError());
+    assertEquals(0, invoked.get());
+  }
+
+  @Test
+  public void shouldKeepErrorOnNoSuccess() {
+    // given
+    final SwitchNodeFailoverHandler failoverHandler = new SwitchNodeFailoverHandler(2);
+    final AtomicInteger invoked = new AtomicInteger(0);
+    final RequestMethod<Object> requestMethod = new RequestMethod<Object>() {
+
+      @Getter
+      protected final String name = ACCOUNT_STATE;
+
+      @Override
+      protected Object runInternal(List<Object> parameters) throws Exception {
+        invoked.incrementAndGet();
+        throw Status.DEADLINE_EXCEEDED.asRuntimeException();
+      }
+    };
+
+    // then
+    final Response<Object> response = Response.fail(Status.UNAVAILABLE.asRuntimeException());
+    final Response<Object> handled = failoverHandler
+        .handle(new TestInvocation<>(requestMethod), response);
+    assertNotNull(handled.getError());
+    assertEquals(2, invoked.get());
+  }
+
+  @Test
+  public void shouldNotRetryStateChangingMethod() {
+    // given
+    final SwitchNodeFailoverHandler failoverHandler = new SwitchNodeFailoverHandler(2);
+    final AtomicInteger invoked = new AtomicInteger(0);
+    final RequestMethod<Object> requestMethod = new RequestMethod<Object>() {
+
+      @Getter
+      protected final String name = TRANSACTION_COMMIT;
+
+      @Override
+      protected Object runInternal(List<Object> parameters) throws Exception {
+        invoked.incrementAndGet();
+        return null;
+      }
+    };
+
+    // then
+    final Response<Object> response = Response.fail(Status.UNAVAILABLE.asRuntimeException());
+    final Response<Object> handled = failoverHandler
+        .handle(new TestInvocation<>(requestMethod), response);
+    assertNotNull(handled.getError());
+    assertEquals(0, invoked.get());
+  }
+
+}
@@ -6,8 +6,11 @@ package hera.client;
 
 import static hera.client.ClientContextKeys.GRPC_CLIENT;
 import static hera.client.ClientContextKeys.GRPC_VALUE_CHAIN_ID_HASH_HOLDER;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -16,6 +19,7 @@ import hera.AbstractTestCase;
 import hera.Context;
 import hera.ContextHolder;
 import hera.EmptyContext;
+import hera.api.model.CommitResult;
 import hera.api.model.Transaction;
 import hera.api.model.TxHash;
 import hera.api.model.TxReceipt;
@@ -259,6 +263,47 @@ public class TransactionMethodsTest extends AbstractTestCase {
     });
   }
 
+  @Test
+  public void testBatchCommit() {
+    runOnOtherThread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          // given
+          final AergoRPCServiceBlockingStub mockBlockingStub = mock(
+              AergoRPCServiceBlockingStub.class);
+          when(mockBlockingStub.commitTX(any(Blockchain.TxList.class)))
+              .thenReturn(Rpc.CommitResultList.newBuilder()
+                  .addResults(Rpc.CommitResult.newBuilder()
+                      .setError(CommitStatus.TX_OK)
+                      .build())
+                  .addResults(Rpc.CommitResult.newBuilder()
+                      .setError(CommitStatus.TX_NONCE_TOO_LOW)
+                      .build())
+                  .build());
+          final GrpcClientImpl mockClient = mock(GrpcClientImpl.class);
+          when(mockClient.getBlockingStub()).thenReturn(mockBlockingStub);
+          final Context context = EmptyContext.getInstance().withValue(GRPC_CLIENT, mockClient);
+          ContextHolder.attach(context);
+
+          // then
+          final TransactionMethods transactionMethods = new TransactionMethods();
+          final List<Object> parameters = Arrays.<Object>asList(
+              Arrays.asList(anyTransaction, anyTransaction));
+          final List<CommitResult> commitResults = transactionMethods.getBatchCommit()
+              .invoke(parameters);
+          assertEquals(2, commitResults.size());
+          assertTrue(commitResults.get(0).isSuccess());
+          assertFalse(commitResults.get(1).isSuccess());
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          ContextHolder.remove();
+        }
+      }
+    });
+  }
+
   @Test
   public void testCommit() {
     runOnOtherThread(new Runnable() {
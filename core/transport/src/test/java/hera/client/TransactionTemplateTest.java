@@ -4,6 +4,7 @@
 
 package hera.client;
 
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -15,10 +16,13 @@ import hera.EmptyContext;
 import hera.Invocation;
 import hera.Requester;
 import hera.api.model.BytesValue;
+import hera.api.model.CommitResult;
 import hera.api.model.Name;
 import hera.api.model.Transaction;
 import hera.api.model.TxHash;
 import hera.api.model.TxReceipt;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
 
@@ -57,6 +61,37 @@ public class TransactionTemplateTest extends AbstractTestCase {
     assertEquals(expected, actual);
   }
 
+  @Test
+  public void testAwaitReceipt() throws Exception {
+    // given
+    final TransactionTemplate transactionTemplate = new TransactionTemplate(contextStorage);
+    final ReceiptWatcher mockWatcher = mock(ReceiptWatcher.class);
+    final TxReceipt expected = TxReceipt.newBuilder().build();
+    when(mockWatcher.await(asList(anyTxHash), 1L, TimeUnit.SECONDS))
+        .thenReturn(asList(expected));
+    transactionTemplate.receiptWatcher = mockWatcher;
+
+    // then
+    final TxReceipt actual = transactionTemplate.awaitReceipt(anyTxHash, 1L, TimeUnit.SECONDS);
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void testAwaitReceipts() throws Exception {
+    // given
+    final TransactionTemplate transactionTemplate = new TransactionTemplate(contextStorage);
+    final ReceiptWatcher mockWatcher = mock(ReceiptWatcher.class);
+    final List<TxReceipt> expected = asList(TxReceipt.newBuilder().build(), null);
+    final List<TxHash> txHashes = asList(anyTxHash, anyTxHash);
+    when(mockWatcher.await(txHashes, 1L, TimeUnit.SECONDS)).thenReturn(expected);
+    transactionTemplate.receiptWatcher = mockWatcher;
+
+    // then
+    final List<TxReceipt> actual = transactionTemplate.awaitReceipts(txHashes, 1L,
+        TimeUnit.SECONDS);
+    assertEquals(expected, actual);
+  }
+
   @Test
   public void testCommit() throws Exception {
     // given
@@ -72,6 +107,21 @@ public class TransactionTemplateTest extends AbstractTestCase {
     assertEquals(expected, actual);
   }
 
+  @Test
+  public void testBatchCommit() throws Exception {
+    // given
+    final TransactionTemplate transactionTemplate = new TransactionTemplate(contextStorage);
+    final Requester mockRequester = mock(Requester.class);
+    final List<CommitResult> expected = asList(CommitResult.newBuilder().build());
+    when(mockRequester.request(ArgumentMatchers.<Invocation<?>>any()))
+        .thenReturn(expected);
+    transactionTemplate.requester = mockRequester;
+
+    // then
+    final List<CommitResult> actual = transactionTemplate.commit(asList(anyTransaction));
+    assertEquals(expected, actual);
+  }
+
   @Test
   public void testSendTxByAddress() throws Exception {
     // given
@@ -0,0 +1,31 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertSame;
+
+import hera.AbstractTestCase;
+import hera.api.model.HostnameAndPort;
+import hera.strategy.BalancingStrategy.Node;
+import java.util.List;
+import org.junit.Test;
+
+public class BestHeightBalancingStrategyTest extends AbstractTestCase {
+
+  @Test
+  public void testSelect() {
+    final Node expected = new TestNode(HostnameAndPort.of("localhost:7847"), 5, 100L);
+    final List<Node> candidates = asList(
+        (Node) new TestNode(HostnameAndPort.of("localhost:7845"), 0, 99L),
+        new TestNode(HostnameAndPort.of("localhost:7846"), 10, 100L),
+        expected);
+    final BestHeightBalancingStrategy strategy = new BestHeightBalancingStrategy();
+    for (int i = 0; i < 2 * candidates.size(); ++i) {
+      assertSame(expected, strategy.select(candidates));
+    }
+  }
+
+}
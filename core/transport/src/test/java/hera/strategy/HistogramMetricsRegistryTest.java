@@ -0,0 +1,59 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import hera.AbstractTestCase;
+import hera.api.model.RequestMetrics;
+import org.junit.Test;
+
+public class HistogramMetricsRegistryTest extends AbstractTestCase {
+
+  @Test
+  public void testSnapshot() {
+    // given
+    final HistogramMetricsRegistry registry = new HistogramMetricsRegistry();
+
+    // when
+    for (int i = 1; i <= 100; ++i) {
+      registry.onStart("method");
+      if (0 == i % 10) {
+        registry.onFailure("method", "UNAVAILABLE", i * 1000L);
+      } else {
+        registry.onSuccess("method", i * 1000L);
+      }
+    }
+    registry.onStart("method");
+
+    // then
+    final RequestMetrics metrics = registry.snapshot().get("method");
+    assertEquals(101L, metrics.getCallCount());
+    assertEquals(10L, metrics.getErrorCount());
+    assertEquals(Long.valueOf(10L), metrics.getErrorCounts().get("UNAVAILABLE"));
+    assertEquals(1L, metrics.getInFlight());
+    assertEquals(100000L, metrics.getMaxLatency());
+    assertEquals(50500L, metrics.getMeanLatency());
+    assertWithin(50000L, metrics.getP50Latency());
+    assertWithin(90000L, metrics.getP90Latency());
+    assertWithin(99000L, metrics.getP99Latency());
+  }
+
+  @Test
+  public void shouldEstimateWithinBucket() {
+    for (long value : new long[] {0L, 1L, 3L, 4L, 7L, 8L, 1000L, 123456789L, Long.MAX_VALUE}) {
+      final int index = LatencyHistogram.indexOf(value);
+      assertTrue(value <= LatencyHistogram.upperBoundOf(index));
+      assertTrue(0 == index || LatencyHistogram.upperBoundOf(index - 1) < value);
+    }
+  }
+
+  protected void assertWithin(final long expected, final long actual) {
+    assertTrue(actual + " isn't close to " + expected,
+        expected <= actual && actual <= expected * 5 / 4);
+  }
+
+}
@@ -0,0 +1,31 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertSame;
+
+import hera.AbstractTestCase;
+import hera.api.model.HostnameAndPort;
+import hera.strategy.BalancingStrategy.Node;
+import java.util.List;
+import org.junit.Test;
+
+public class LeastOutstandingBalancingStrategyTest extends AbstractTestCase {
+
+  @Test
+  public void testSelect() {
+    final Node expected = new TestNode(HostnameAndPort.of("localhost:7846"), 1, 0L);
+    final List<Node> candidates = asList(
+        (Node) new TestNode(HostnameAndPort.of("localhost:7845"), 3, 0L),
+        expected,
+        new TestNode(HostnameAndPort.of("localhost:7847"), 2, 0L));
+    final LeastOutstandingBalancingStrategy strategy = new LeastOutstandingBalancingStrategy();
+    for (int i = 0; i < 2 * candidates.size(); ++i) {
+      assertSame(expected, strategy.select(candidates));
+    }
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import hera.AbstractTestCase;
+import hera.Invocation;
+import hera.RequestMethod;
+import hera.api.model.RequestMetrics;
+import io.grpc.Status;
+import java.util.List;
+import org.junit.Test;
+
+public class MetricsStrategyTest extends AbstractTestCase {
+
+  protected <T> RequestMethod<T> newMethod(final String name, final T value,
+      final Exception error) {
+    return new RequestMethod<T>() {
+
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      protected T runInternal(final List<Object> parameters) throws Exception {
+        if (null != error) {
+          throw error;
+        }
+        return value;
+      }
+    };
+  }
+
+  @Test
+  public void shouldRecordSuccess() throws Exception {
+    // given
+    final HistogramMetricsRegistry registry = new HistogramMetricsRegistry();
+    final MetricsStrategy strategy = new MetricsStrategy(registry);
+    final Invocation<Integer> invocation = strategy
+        .apply(newMethod("success", 1, null).toInvocation());
+
+    // when
+    invocation.invoke();
+    invocation.invoke();
+
+    // then
+    final RequestMetrics metrics = registry.snapshot().get("success");
+    assertEquals(2L, metrics.getCallCount());
+    assertEquals(0L, metrics.getErrorCount());
+    assertEquals(0L, metrics.getInFlight());
+  }
+
+  @Test
+  public void shouldRecordFailureByGrpcStatus() {
+    // given
+    final HistogramMetricsRegistry registry = new HistogramMetricsRegistry();
+    final MetricsStrategy strategy = new MetricsStrategy(registry);
+    final Exception error = new IllegalStateException(Status.UNAVAILABLE.asRuntimeException());
+    final Invocation<Integer> invocation = strategy
+        .apply(newMethod("failure", 1, error).toInvocation());
+
+    // when
+    try {
+      invocation.invoke();
+      fail();
+    } catch (Exception e) {
+      // then
+      final RequestMetrics metrics = registry.snapshot().get("failure");
+      assertEquals(1L, metrics.getCallCount());
+      assertEquals(1L, metrics.getErrorCount());
+      assertEquals(Long.valueOf(1L), metrics.getErrorCounts().get("UNAVAILABLE"));
+    }
+  }
+
+  @Test
+  public void shouldRecordFutureOnDone() throws Exception {
+    // given
+    final HistogramMetricsRegistry registry = new HistogramMetricsRegistry();
+    final MetricsStrategy strategy = new MetricsStrategy(registry);
+    final SettableFuture<Integer> pending = SettableFuture.create();
+    final Invocation<ListenableFuture<Integer>> invocation = strategy
+        .apply(newMethod("async", (ListenableFuture<Integer>) pending, null).toInvocation());
+    final ListenableFuture<Integer> failed =
+        Futures.immediateFailedFuture(new UnsupportedOperationException());
+    final Invocation<ListenableFuture<Integer>> failing = strategy
+        .apply(newMethod("async", failed, null).toInvocation());
+
+    // when
+    invocation.invoke();
+    failing.invoke();
+
+    // then
+    assertEquals(1L, registry.snapshot().get("async").getInFlight());
+    assertEquals(Long.valueOf(1L),
+        registry.snapshot().get("async").getErrorCounts().get("UnsupportedOperationException"));
+
+    // when
+    pending.set(1);
+
+    // then
+    assertEquals(0L, registry.snapshot().get("async").getInFlight());
+    assertEquals(2L, registry.snapshot().get("async").getCallCount());
+  }
+
+}
@@ -0,0 +1,30 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertSame;
+
+import hera.AbstractTestCase;
+import hera.api.model.HostnameAndPort;
+import hera.strategy.BalancingStrategy.Node;
+import java.util.List;
+import org.junit.Test;
+
+public class RoundRobinBalancingStrategyTest extends AbstractTestCase {
+
+  @Test
+  public void testSelect() {
+    final List<Node> candidates = asList(
+        (Node) new TestNode(HostnameAndPort.of("localhost:7845"), 0, 0L),
+        new TestNode(HostnameAndPort.of("localhost:7846"), 0, 0L),
+        new TestNode(HostnameAndPort.of("localhost:7847"), 0, 0L));
+    final RoundRobinBalancingStrategy strategy = new RoundRobinBalancingStrategy();
+    for (int i = 0; i < 2 * candidates.size(); ++i) {
+      assertSame(candidates.get(i % candidates.size()), strategy.select(candidates));
+    }
+  }
+
+}
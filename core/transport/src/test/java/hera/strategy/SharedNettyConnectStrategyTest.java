@@ -0,0 +1,36 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import hera.AbstractTestCase;
+import hera.api.model.HostnameAndPort;
+import hera.strategy.SharedNettyConnectStrategy.EventLoopResources;
+import io.grpc.ManagedChannel;
+import org.junit.Test;
+
+public class SharedNettyConnectStrategyTest extends AbstractTestCase {
+
+  @Test
+  public void testConnect() throws InterruptedException {
+    final SharedNettyConnectStrategy connectStrategy = new SharedNettyConnectStrategy(1, 1);
+    final ManagedChannel channel = connectStrategy.connect(HostnameAndPort.of("localhost:9999"))
+        .build();
+    assertNotNull(channel);
+    channel.shutdown().awaitTermination(1, SECONDS);
+  }
+
+  @Test
+  public void shouldShareResourcesOfSameSizing() {
+    final EventLoopResources resources = SharedNettyConnectStrategy.resourcesOf(1, 2);
+    assertSame(resources, SharedNettyConnectStrategy.resourcesOf(1, 2));
+    assertNotSame(resources, SharedNettyConnectStrategy.resourcesOf(2, 2));
+  }
+
+}
@@ -0,0 +1,31 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.strategy;
+
+import hera.api.model.HostnameAndPort;
+import hera.strategy.BalancingStrategy.Node;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@RequiredArgsConstructor
+@ToString
+class TestNode implements Node {
+
+  @Getter
+  protected final HostnameAndPort endpoint;
+
+  @Getter
+  protected final int outstandingRequests;
+
+  @Getter
+  protected final long bestHeight;
+
+  @Override
+  public boolean isHealthy() {
+    return true;
+  }
+
+}
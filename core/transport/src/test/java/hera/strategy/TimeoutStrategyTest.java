@@ -5,14 +5,22 @@
 package hera.strategy;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import hera.AbstractTestCase;
+import hera.Context;
+import hera.ContextHolder;
+import hera.EmptyContext;
 import hera.Invocation;
+import hera.Key;
 import hera.RequestMethod;
 import hera.api.model.Time;
-import hera.util.ThreadUtils;
+import io.grpc.Deadline;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.junit.Test;
@@ -51,7 +59,7 @@ public class TimeoutStrategyTest extends AbstractTestCase {
 
         @Override
         protected Integer runInternal(List<Object> parameters) throws Exception {
-          ThreadUtils.trySleep(1000L);
+          Thread.sleep(1000L);
           return 0;
         }
       };
@@ -90,4 +98,114 @@ public class TimeoutStrategyTest extends AbstractTestCase {
     }
   }
 
+  @Test
+  public void shouldPropagateDeadlineToGrpcContext() throws Exception {
+    final ScheduledExecutorService scheduler = TimeoutStrategy.newScheduler();
+    try {
+      final TimeoutStrategy strategy = new TimeoutStrategy(Time.of(1000L, TimeUnit.MILLISECONDS))
+          .withScheduler(scheduler);
+      final RequestMethod<Deadline> method = new RequestMethod<Deadline>() {
+
+        @Override
+        public String getName() {
+          return null;
+        }
+
+        @Override
+        protected Deadline runInternal(List<Object> parameters) throws Exception {
+          return io.grpc.Context.current().getDeadline();
+        }
+      };
+      final Deadline deadline = strategy.apply(method.toInvocation()).invoke();
+      assertNotNull(deadline);
+      assertTrue(deadline.timeRemaining(TimeUnit.MILLISECONDS) <= 1000L);
+      assertEquals(null, io.grpc.Context.current().getDeadline());
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldKeepContextOnCallerThread() throws Exception {
+    final Key<String> key = Key.of("key", String.class);
+    final Context context = EmptyContext.getInstance().withValue(key, "value");
+    ContextHolder.attach(context);
+    try {
+      final TimeoutStrategy strategy = new TimeoutStrategy(Time.of(1000L, TimeUnit.MILLISECONDS));
+      final RequestMethod<String> method = new RequestMethod<String>() {
+
+        @Override
+        public String getName() {
+          return null;
+        }
+
+        @Override
+        protected String runInternal(List<Object> parameters) throws Exception {
+          return ContextHolder.current().get(key);
+        }
+      };
+      assertEquals("value", strategy.apply(method.toInvocation()).invoke());
+    } finally {
+      ContextHolder.remove();
+    }
+  }
+
+  @Test
+  public void shouldReturnResultArrivedAfterDeadline() throws Exception {
+    final TimeoutStrategy strategy = new TimeoutStrategy(Time.of(100L, TimeUnit.MILLISECONDS));
+    final RequestMethod<Integer> method = new RequestMethod<Integer>() {
+
+      @Override
+      public String getName() {
+        return null;
+      }
+
+      @Override
+      protected Integer runInternal(List<Object> parameters) throws Exception {
+        // not interruptible
+        final long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300L);
+        while (System.nanoTime() < end) {
+          Thread.yield();
+        }
+        return 1;
+      }
+    };
+
+    // interrupted by a caller before
+    Thread.currentThread().interrupt();
+    final Integer actual;
+    try {
+      actual = strategy.apply(method.toInvocation()).invoke();
+    } finally {
+      assertTrue(Thread.interrupted());
+    }
+    assertEquals(Integer.valueOf(1), actual);
+  }
+
+  @Test
+  public void shouldClearInterruptOnTimedOut() {
+    try {
+      final TimeoutStrategy strategy = new TimeoutStrategy(Time.of(100L, TimeUnit.MILLISECONDS));
+      final RequestMethod<Integer> method = new RequestMethod<Integer>() {
+
+        @Override
+        public String getName() {
+          return null;
+        }
+
+        @Override
+        protected Integer runInternal(List<Object> parameters) throws Exception {
+          Thread.sleep(1000L);
+          return 0;
+        }
+      };
+      strategy.apply(method.toInvocation()).invoke();
+      fail();
+    } catch (TimeoutException e) {
+      assertFalse(Thread.currentThread().isInterrupted());
+    } catch (Exception e) {
+      fail(e.getMessage());
+    }
+  }
+
 }
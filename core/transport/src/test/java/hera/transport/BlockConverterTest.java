@@ -4,8 +4,12 @@
 
 package hera.transport;
 
+import static java.util.UUID.randomUUID;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import com.google.protobuf.ByteString;
 import hera.AbstractTestCase;
 import hera.api.model.Block;
 import org.junit.Test;
@@ -27,4 +31,21 @@ public class BlockConverterTest extends AbstractTestCase {
     assertNotNull(converted);
   }
 
+  @Test
+  public void shouldKeepIndexInBlock() {
+    final ModelConverter<Block, Blockchain.Block> converter = new BlockConverterFactory().create();
+    final Blockchain.Block rpcBlock = Blockchain.Block.newBuilder()
+        .setHash(ByteString.copyFrom(randomUUID().toString().getBytes()))
+        .setBody(BlockBody.newBuilder()
+            .addTxs(Tx.newBuilder().build())
+            .addTxs(Tx.newBuilder().build())
+            .build())
+        .build();
+    final Block converted = converter.convertToDomainModel(rpcBlock);
+    assertEquals(2, converted.getTransactions().size());
+    assertEquals(1, converted.getTransactions().get(1).getIndexInBlock());
+    assertEquals(converted.getHash(), converted.getTransactions().get(1).getBlockHash());
+    assertTrue(converted.getTransactions().get(1).isConfirmed());
+  }
+
 }
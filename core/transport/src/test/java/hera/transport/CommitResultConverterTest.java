@@ -0,0 +1,42 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.protobuf.ByteString;
+import hera.AbstractTestCase;
+import hera.api.model.CommitResult;
+import org.junit.Test;
+import types.Rpc;
+
+public class CommitResultConverterTest extends AbstractTestCase {
+
+  @Test
+  public void testConvert() {
+    final ModelConverter<CommitResult, Rpc.CommitResult> converter =
+        new CommitResultConverterFactory().create();
+
+    final Rpc.CommitResult rpcSuccess = Rpc.CommitResult.newBuilder()
+        .setHash(ByteString.copyFrom(anyTxHash.getBytesValue().getValue()))
+        .setError(Rpc.CommitStatus.TX_OK)
+        .build();
+    final CommitResult success = converter.convertToDomainModel(rpcSuccess);
+    assertTrue(success.isSuccess());
+    assertEquals(anyTxHash, success.getTxHash());
+
+    final Rpc.CommitResult rpcFailure = Rpc.CommitResult.newBuilder()
+        .setError(Rpc.CommitStatus.TX_NONCE_TOO_LOW)
+        .setDetail("nonce too low")
+        .build();
+    final CommitResult failure = converter.convertToDomainModel(rpcFailure);
+    assertFalse(failure.isSuccess());
+    assertEquals(Rpc.CommitStatus.TX_NONCE_TOO_LOW.name(), failure.getStatus());
+    assertEquals("nonce too low", failure.getMessage());
+  }
+
+}
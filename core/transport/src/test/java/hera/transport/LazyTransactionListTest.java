@@ -0,0 +1,57 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.transport;
+
+import static java.util.UUID.randomUUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import hera.AbstractTestCase;
+import hera.api.model.BlockHash;
+import hera.api.model.BytesValue;
+import hera.api.model.Transaction;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import types.Blockchain;
+
+public class LazyTransactionListTest extends AbstractTestCase {
+
+  @Test
+  public void shouldDecodeOnlyAccessedOnce() {
+    // given
+    final TransactionInBlockConverterFactory converterFactory =
+        spy(new TransactionInBlockConverterFactory());
+    final BlockHash blockHash = new BlockHash(BytesValue.of(randomUUID().toString().getBytes()));
+    final List<Blockchain.Tx> rpcTxs = Arrays.asList(Blockchain.Tx.newBuilder().build(),
+        Blockchain.Tx.newBuilder().build(), Blockchain.Tx.newBuilder().build());
+
+    // when
+    final LazyTransactionList transactions =
+        new LazyTransactionList(rpcTxs, blockHash, converterFactory);
+    final Transaction first = transactions.get(1);
+    final Transaction second = transactions.get(1);
+
+    // then
+    assertEquals(3, transactions.size());
+    assertSame(first, second);
+    assertEquals(blockHash, first.getBlockHash());
+    assertEquals(1, first.getIndexInBlock());
+    verify(converterFactory, times(1))
+        .convertToDomainModel(any(Blockchain.Tx.class), eq(blockHash), eq(1));
+    verify(converterFactory, never())
+        .convertToDomainModel(any(Blockchain.Tx.class), eq(blockHash), eq(0));
+    verify(converterFactory, times(1))
+        .convertToDomainModel(any(Blockchain.Tx.class), any(BlockHash.class), anyInt());
+  }
+
+}
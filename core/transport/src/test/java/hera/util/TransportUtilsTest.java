@@ -68,6 +68,16 @@ public class TransportUtilsTest extends AbstractTestCase {
     assertEquals(expected, parseToBytesValue(byteString));
   }
 
+  @Test
+  public void testParseToBytesValueAndBack() {
+    final byte[] rawBytes = randomUUID().toString().getBytes();
+    final ByteString byteString = ByteString.copyFrom(rawBytes);
+    final BytesValue parsed = parseToBytesValue(byteString);
+    assertEquals(BytesValue.of(rawBytes), parsed);
+    assertEquals(byteString, copyFrom(parsed));
+    assertEquals(BytesValue.EMPTY, parseToBytesValue(ByteString.EMPTY));
+  }
+
   @Test
   public void testParseToAerWithRawBytes() {
     final Aer expected = Aer.of("100", Unit.GAER);
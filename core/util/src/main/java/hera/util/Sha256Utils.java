@@ -5,10 +5,33 @@
 package hera.util;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 public class Sha256Utils {
+
+  protected static final String ALGORITHM = "SHA-256";
+
+  // cloning it is cheaper than looking up providers
+  protected static final MessageDigest prototype;
+
+  static {
+    try {
+      prototype = MessageDigest.getInstance(ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // held only until digested by a caller
+  protected static final ThreadLocal<MessageDigest> digests = new ThreadLocal<MessageDigest>() {
+    @Override
+    protected MessageDigest initialValue() {
+      return newDigest();
+    }
+  };
+
   /**
    * Convert str to byte array.
    *
@@ -37,12 +60,7 @@ public class Sha256Utils {
    * @return encoded byte array
    */
   public static byte[] digest(final byte[] raw) {
-    try {
-      final MessageDigest digest = createDigest();
-      return digest.digest(raw);
-    } catch (final NoSuchAlgorithmException e) {
-      throw new IllegalStateException(e);
-    }
+    return getDigest().digest(raw);
   }
 
   /**
@@ -57,19 +75,56 @@ public class Sha256Utils {
    * @return encoded byte array
    */
   public static byte[] digest(final byte[]... raws) {
+    final MessageDigest digest = getDigest();
+    for (final byte[] raw : raws) {
+      digest.update(raw);
+    }
+    return digest.digest();
+  }
+
+  /**
+   * Digest bytes between position and limit of {@code buffer}. Position of {@code buffer} is not
+   * changed.
+   *
+   * @param buffer a buffer to encode
+   *
+   * @return encoded byte array
+   */
+  public static byte[] digest(final ByteBuffer buffer) {
+    final MessageDigest digest = getDigest();
+    digest.update(buffer.duplicate());
+    return digest.digest();
+  }
+
+  /**
+   * Create a new sha-256 digest to update incrementally. It's cloned from a prototype rather than
+   * looked up from security providers. A digest is not thread-safe.
+   *
+   * @return a new sha-256 digest
+   */
+  public static MessageDigest newDigest() {
     try {
-      final MessageDigest digest = createDigest();
-      for (final byte[] raw : raws) {
-        digest.update(raw);
+      return (MessageDigest) prototype.clone();
+    } catch (final CloneNotSupportedException e) {
+      try {
+        return MessageDigest.getInstance(ALGORITHM);
+      } catch (final NoSuchAlgorithmException cause) {
+        throw new IllegalStateException(cause);
       }
-      return digest.digest();
-    } catch (final NoSuchAlgorithmException e) {
-      throw new IllegalStateException(e);
     }
   }
 
-  protected static MessageDigest createDigest() throws NoSuchAlgorithmException {
-    return MessageDigest.getInstance("SHA-256");
+  /**
+   * Get a sha-256 digest of a current thread to update incrementally. It's reset in case of a
+   * digest left by failure. It must be digested before calling other methods of this class on the
+   * same thread and must not be passed to another thread.
+   *
+   * @return a reset sha-256 digest of a current thread
+   */
+  public static MessageDigest getDigest() {
+    final MessageDigest digest = digests.get();
+    digest.reset();
+    return digest;
   }
 
   /**
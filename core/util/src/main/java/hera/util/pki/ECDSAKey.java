@@ -13,14 +13,10 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.params.ECDomainParameters;
-import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
-import org.bouncycastle.crypto.signers.ECDSASigner;
-import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.slf4j.Logger;
 
-@EqualsAndHashCode(exclude = "logger")
+@EqualsAndHashCode(exclude = {"logger", "signingEngine"})
 public class ECDSAKey {
 
   protected final transient Logger logger = getLogger(getClass());
@@ -50,6 +46,8 @@ public class ECDSAKey {
   @Getter
   protected final ECDSAVerifier verifier;
 
+  protected final ECDSASigningEngine signingEngine;
+
   /**
    * ECDSAKey constructor.
    *
@@ -63,6 +61,8 @@ public class ECDSAKey {
     this.publicKey = publicKey;
     this.params = ecParams;
     this.verifier = new ECDSAVerifier(params);
+    this.signingEngine = new ECDSASigningEngine(
+        ((org.bouncycastle.jce.interfaces.ECPrivateKey) privateKey).getD(), params);
   }
 
   /**
@@ -75,7 +75,7 @@ public class ECDSAKey {
   public ECDSASignature sign(final byte[] hashedMessage) {
     try {
       assertEquals(hashedMessage.length, 32, "Sha-256 hashed message should have 32 bytes length");
-      final ECDSASignature signature = sign(this.privateKey, hashedMessage);
+      final ECDSASignature signature = sign(this.signingEngine, hashedMessage);
       if (logger.isTraceEnabled()) {
         logger.trace("Message in hexa: {}", HexUtils.encode(hashedMessage));
         logger.trace("ECDSASignature signature: {}", signature);
@@ -86,13 +86,8 @@ public class ECDSAKey {
     }
   }
 
-  protected ECDSASignature sign(final PrivateKey privateKey, final byte[] message)
-      throws Exception {
-    final ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
-    final BigInteger d = ((org.bouncycastle.jce.interfaces.ECPrivateKey) privateKey).getD();
-    final ECPrivateKeyParameters privKey = new ECPrivateKeyParameters(d, params);
-    signer.init(true, privKey);
-    final BigInteger[] components = signer.generateSignature(message);
+  protected ECDSASignature sign(final ECDSASigningEngine signingEngine, final byte[] message) {
+    final BigInteger[] components = signingEngine.generateSignature(message);
 
     final BigInteger r = components[0];
     final BigInteger s = params.getN().subtract(components[1]);
@@ -0,0 +1,115 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.util.pki;
+
+import static hera.util.ValidationUtils.assertEquals;
+import static hera.util.ValidationUtils.assertNotNull;
+
+import java.math.BigInteger;
+import lombok.Getter;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.math.ec.ECMultiplier;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+
+/**
+ * A reusable ECDSA signing engine bound to a private key. It generates the same RFC6979
+ * deterministic signature as {@link org.bouncycastle.crypto.signers.ECDSASigner} with
+ * {@link HMacDSAKCalculator} over SHA-256, but keeps the key state across signatures and reuses a
+ * k calculator per thread, which saves constructing a signer, key parameters and a k calculator
+ * with its digests per signature. {@code k * G} is computed by the same fixed-point comb
+ * multiplier as the signer, which runs in a regular way regardless of {@code k} not to leak a
+ * nonce by timing or memory access, so a multiplication takes no less time. It's thread-safe.
+ */
+public class ECDSASigningEngine {
+
+  // precomputation is cached on a base point by a curve
+  protected static final ECMultiplier multiplier = new FixedPointCombMultiplier();
+
+  // k calculator is reset on every init
+  protected static final ThreadLocal<HMacDSAKCalculator> kCalculators =
+      new ThreadLocal<HMacDSAKCalculator>() {
+        @Override
+        protected HMacDSAKCalculator initialValue() {
+          return new HMacDSAKCalculator(new SHA256Digest());
+        }
+      };
+
+  @Getter
+  protected final ECDomainParameters params;
+
+  protected final BigInteger d;
+
+  protected final BigInteger n;
+
+  /**
+   * ECDSASigningEngine constructor.
+   *
+   * @param d a private key value
+   * @param params an ec domain parameters
+   */
+  public ECDSASigningEngine(final BigInteger d, final ECDomainParameters params) {
+    assertNotNull(d, "Private key must not null");
+    assertNotNull(params, "Domain parameters must not null");
+    this.d = d;
+    this.params = params;
+    this.n = params.getN();
+  }
+
+  /**
+   * Generate a signature for a sha256-hashed message.
+   *
+   * @param hashedMessage a sha256-hashed message
+   *
+   * @return signature components r and s, the same as
+   *         {@link org.bouncycastle.crypto.signers.ECDSASigner#generateSignature(byte[])}
+   */
+  public BigInteger[] generateSignature(final byte[] hashedMessage) {
+    assertEquals(hashedMessage.length, 32, "Sha-256 hashed message should have 32 bytes length");
+    final BigInteger e = calculateE(hashedMessage);
+    final HMacDSAKCalculator kCalculator = kCalculators.get();
+    kCalculator.init(n, d, hashedMessage);
+
+    BigInteger r;
+    BigInteger s;
+    do {
+      BigInteger k;
+      do {
+        k = kCalculator.nextK();
+        final ECPoint p = multiplyBase(k);
+        r = p.getAffineXCoord().toBigInteger().mod(n);
+      } while (r.signum() == 0);
+      s = k.modInverse(n).multiply(e.add(d.multiply(r))).mod(n);
+    } while (s.signum() == 0);
+
+    return new BigInteger[] {r, s};
+  }
+
+  // the same as ECDSASigner#calculateE
+  protected BigInteger calculateE(final byte[] message) {
+    final int log2n = n.bitLength();
+    final int messageBitLength = message.length * 8;
+    final BigInteger e = new BigInteger(1, message);
+    if (log2n < messageBitLength) {
+      return e.shiftRight(messageBitLength - log2n);
+    }
+    return e;
+  }
+
+  /**
+   * Multiply a base point of domain parameters with a scalar in a regular way, the same as
+   * {@link org.bouncycastle.crypto.signers.ECDSASigner} does.
+   *
+   * @param k a scalar less than an order of a base point
+   *
+   * @return a normalized point of {@code k * G}
+   */
+  protected ECPoint multiplyBase(final BigInteger k) {
+    return multiplier.multiply(params.getG(), k).normalize();
+  }
+
+}
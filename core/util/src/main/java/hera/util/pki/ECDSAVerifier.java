@@ -13,11 +13,9 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
-import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.params.ECDomainParameters;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
 import org.bouncycastle.crypto.signers.ECDSASigner;
-import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.slf4j.Logger;
 
 @ToString
@@ -41,18 +39,38 @@ public class ECDSAVerifier {
    */
   public boolean verify(final PublicKey publicKey, final byte[] hashedMessage,
       final ECDSASignature signature) {
+    final ECPublicKeyParameters publicKeyParameters;
+    try {
+      final org.bouncycastle.jce.interfaces.ECPublicKey ecPublicKey =
+          (org.bouncycastle.jce.interfaces.ECPublicKey) publicKey;
+      publicKeyParameters = new ECPublicKeyParameters(ecPublicKey.getQ(), params);
+    } catch (Exception e) {
+      throw new IllegalArgumentException(e);
+    }
+    return verify(publicKeyParameters, hashedMessage, signature);
+  }
+
+  /**
+   * Verify signature with a message and public key parameters. Reusing the same parameters for a
+   * key saves decoding a public key and keeps a multiplication table of a point.
+   *
+   * @param publicKey a public key parameters
+   * @param hashedMessage a sha256-hashed message
+   * @param signature ECDSA signature
+   *
+   * @return verification result
+   */
+  public boolean verify(final ECPublicKeyParameters publicKey, final byte[] hashedMessage,
+      final ECDSASignature signature) {
     try {
       assertEquals(hashedMessage.length, 32, "Sha-256 hashed message should have 32 byte length");
       if (logger.isTraceEnabled()) {
         logger.trace("Message in hexa: {}", HexUtils.encode(hashedMessage));
         logger.trace("ECDSASignature signature: {}", signature);
       }
-      final org.bouncycastle.jce.interfaces.ECPublicKey ecPublicKey =
-          (org.bouncycastle.jce.interfaces.ECPublicKey) publicKey;
-      final ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
-      final ECPublicKeyParameters privKey =
-          new ECPublicKeyParameters(ecPublicKey.getQ(), params);
-      signer.init(false, privKey);
+      // k calculator is used only for signing
+      final ECDSASigner signer = new ECDSASigner();
+      signer.init(false, publicKey);
       return signer.verifySignature(hashedMessage, signature.getR(), signature.getS());
     } catch (Exception e) {
       throw new IllegalArgumentException(e);
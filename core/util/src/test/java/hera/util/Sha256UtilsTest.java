@@ -6,9 +6,14 @@ package hera.util;
 
 import static java.util.UUID.randomUUID;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import org.junit.Test;
 
@@ -39,6 +44,47 @@ public class Sha256UtilsTest {
     assertEquals(HEXA_ENCODED, HexUtils.encode(encoded));
   }
 
+  @Test
+  public void testByteBuffer() {
+    final ByteBuffer buffer = ByteBuffer.wrap("__hello, world__".getBytes());
+    buffer.position(2);
+    buffer.limit(buffer.limit() - 2);
+    final byte[] encoded = Sha256Utils.digest(buffer);
+    assertEquals(HEXA_ENCODED, HexUtils.encode(encoded));
+    assertEquals(2, buffer.position());
+  }
+
+  @Test
+  public void testNewDigest() {
+    final MessageDigest digest = Sha256Utils.newDigest();
+    digest.update("hello, ".getBytes());
+    digest.update("world".getBytes());
+    assertEquals(HEXA_ENCODED, HexUtils.encode(digest.digest()));
+    assertNotSame(digest, Sha256Utils.newDigest());
+  }
+
+  @Test
+  public void testGetDigest() {
+    final MessageDigest digest = Sha256Utils.getDigest();
+    digest.update("garbage".getBytes());
+    assertSame(digest, Sha256Utils.getDigest());
+    digest.update("hello, ".getBytes());
+    digest.update("world".getBytes());
+    assertEquals(HEXA_ENCODED, HexUtils.encode(digest.digest()));
+  }
+
+  @Test
+  public void testDigestAfterFailure() {
+    try {
+      Sha256Utils.digest("hello, ".getBytes(), null);
+      fail();
+    } catch (NullPointerException e) {
+      // good we expected this
+    }
+    final byte[] encoded = Sha256Utils.digest("hello, world".getBytes());
+    assertEquals(HEXA_ENCODED, HexUtils.encode(encoded));
+  }
+
   @Test
   public void testMask() throws Exception {
     assertNull(Sha256Utils.mask(null));
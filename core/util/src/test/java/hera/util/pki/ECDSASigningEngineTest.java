@@ -0,0 +1,95 @@
+/*
+ * @copyright defined in LICENSE.txt
+ */
+
+package hera.util.pki;
+
+import static hera.util.Sha256Utils.digest;
+import static java.util.UUID.randomUUID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import hera.AbstractTestCase;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.junit.Test;
+
+public class ECDSASigningEngineTest extends AbstractTestCase {
+
+  protected final ECDomainParameters params = ECDSAKeyGenerator.ecParams;
+
+  protected BigInteger[] signWithSigner(final BigInteger d, final byte[] message) {
+    final ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+    signer.init(true, new ECPrivateKeyParameters(d, params));
+    return signer.generateSignature(message);
+  }
+
+  protected BigInteger getD(final ECDSAKey key) {
+    return ((org.bouncycastle.jce.interfaces.ECPrivateKey) key.getPrivateKey()).getD();
+  }
+
+  @Test
+  public void shouldGenerateSameSignatureAsSigner() throws Exception {
+    for (int i = 0; i < N_TEST; ++i) {
+      final BigInteger d = getD(new ECDSAKeyGenerator().create());
+      final ECDSASigningEngine engine = new ECDSASigningEngine(d, params);
+      final byte[] message = digest(randomUUID().toString().getBytes());
+
+      assertArrayEquals(signWithSigner(d, message), engine.generateSignature(message));
+    }
+  }
+
+  @Test
+  public void shouldMultiplyBaseAsGenericMultiplication() {
+    final BigInteger n = params.getN();
+    final BigInteger[] scalars = new BigInteger[] {
+        BigInteger.ONE,
+        BigInteger.valueOf(255L),
+        BigInteger.valueOf(256L),
+        BigInteger.ONE.shiftLeft(248),
+        n.subtract(BigInteger.ONE),
+        new BigInteger(1, digest(randomUUID().toString().getBytes())).mod(n)
+    };
+    final ECDSASigningEngine engine = new ECDSASigningEngine(BigInteger.ONE, params);
+    for (final BigInteger k : scalars) {
+      assertEquals(params.getG().multiply(k).normalize(), engine.multiplyBase(k));
+    }
+  }
+
+  @Test
+  public void shouldGenerateSameSignatureConcurrently() throws Exception {
+    final BigInteger d = getD(new ECDSAKeyGenerator().create());
+    final ECDSASigningEngine engine = new ECDSASigningEngine(d, params);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<byte[]> messages = new ArrayList<>();
+      final List<Future<BigInteger[]>> futures = new ArrayList<>();
+      for (int i = 0; i < 4 * N_TEST; ++i) {
+        final byte[] message = digest(randomUUID().toString().getBytes());
+        messages.add(message);
+        futures.add(executor.submit(new Callable<BigInteger[]>() {
+          @Override
+          public BigInteger[] call() {
+            return engine.generateSignature(message);
+          }
+        }));
+      }
+      for (int i = 0; i < messages.size(); ++i) {
+        assertArrayEquals(signWithSigner(d, messages.get(i)), futures.get(i).get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+}